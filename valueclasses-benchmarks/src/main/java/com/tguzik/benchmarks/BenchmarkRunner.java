@@ -0,0 +1,31 @@
+package com.tguzik.benchmarks;
+
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the same arguments as {@code org.openjdk.jmh.Main}, but always runs the
+ * benchmarks with the GC profiler ({@code -prof gc}), so that every result comes with the number of bytes allocated per
+ * operation - {@code gc.alloc.rate.norm}. The allocation-free paths of the library should report zero there.
+ * <p>
+ * Fields of the benchmark states are not final, so that the JIT cannot constant-fold the benchmarked calls.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main( final String[] args ) throws CommandLineOptionException, RunnerException {
+    final Options options = new OptionsBuilder().parent( new CommandLineOptions( args ) ).addProfiler( GCProfiler.class ).build();
+    new Runner( options ).run();
+  }
+}
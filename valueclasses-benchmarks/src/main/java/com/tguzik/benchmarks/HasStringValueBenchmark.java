@@ -0,0 +1,86 @@
+package com.tguzik.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tguzik.traits.HasStringValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Default methods of {@link HasStringValue}. None of them should allocate, so {@code gc.alloc.rate.norm} is expected to be
+ * zero for every benchmark here, including the ones on a missing value.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@SuppressWarnings( { "PMD.ImmutableField", "PMD.CommentDefaultAccessModifier" } )
+public class HasStringValueBenchmark {
+  private Email email = new Email( "someone@example.com" );
+  private Email missing = new Email( null );
+  private String prefix = "someone@";
+  private String sameEmail = "someone@example.com";
+  private String otherCaseEmail = "SomeOne@Example.com";
+
+  @Benchmark
+  public int length() {
+    return email.length();
+  }
+
+  @Benchmark
+  public boolean isEmpty() {
+    return email.isEmpty();
+  }
+
+  @Benchmark
+  public boolean isEmptyOfMissingValue() {
+    return missing.isEmpty();
+  }
+
+  @Benchmark
+  public boolean isBlank() {
+    return email.isBlank();
+  }
+
+  @Benchmark
+  public char charAt() {
+    return email.charAt( 7 );
+  }
+
+  @Benchmark
+  public boolean startsWith() {
+    return email.startsWith( prefix );
+  }
+
+  @Benchmark
+  public boolean contentEquals() {
+    return email.contentEquals( sameEmail );
+  }
+
+  @Benchmark
+  public boolean equalsIgnoreCase() {
+    return email.equalsIgnoreCase( otherCaseEmail );
+  }
+
+  record Email(@Nullable String value) implements HasStringValue {
+    @Override
+    @Nullable
+    public String get() {
+      return value;
+    }
+  }
+}
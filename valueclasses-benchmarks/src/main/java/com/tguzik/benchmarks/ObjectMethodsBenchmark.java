@@ -0,0 +1,181 @@
+package com.tguzik.benchmarks;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.tguzik.objects.BaseObject;
+import com.tguzik.objects.GenerateObjectMethods;
+import com.tguzik.objects.PerformanceAwareBaseObject;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The same data object implemented four ways: reflective {@link BaseObject}, {@link PerformanceAwareBaseObject} with
+ * handwritten {@code equals} and {@code hashCode}, {@link PerformanceAwareBaseObject} with methods generated from
+ * {@link GenerateObjectMethods}, and a record as the baseline.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@SuppressWarnings( { "PMD.ImmutableField", "PMD.CommentDefaultAccessModifier", "PMD.TooManyMethods" } )
+public class ObjectMethodsBenchmark {
+  private static final String FIRST_NAME = "Jane";
+  private static final String LAST_NAME = "Doe";
+  private static final int AGE = 42;
+
+  private ReflectiveCustomer reflective = new ReflectiveCustomer( FIRST_NAME, LAST_NAME, AGE );
+  private ReflectiveCustomer equalReflective = new ReflectiveCustomer( FIRST_NAME, LAST_NAME, AGE );
+  private HandwrittenCustomer handwritten = new HandwrittenCustomer( FIRST_NAME, LAST_NAME, AGE );
+  private HandwrittenCustomer equalHandwritten = new HandwrittenCustomer( FIRST_NAME, LAST_NAME, AGE );
+  private GeneratedCustomer generated = new GeneratedCustomer( FIRST_NAME, LAST_NAME, AGE );
+  private GeneratedCustomer equalGenerated = new GeneratedCustomer( FIRST_NAME, LAST_NAME, AGE );
+  private RecordCustomer record = new RecordCustomer( FIRST_NAME, LAST_NAME, AGE );
+  private RecordCustomer equalRecord = new RecordCustomer( FIRST_NAME, LAST_NAME, AGE );
+
+  @Benchmark
+  public boolean baseObjectEquals() {
+    return reflective.equals( equalReflective );
+  }
+
+  @Benchmark
+  public int baseObjectHashCode() {
+    return reflective.hashCode();
+  }
+
+  @Benchmark
+  public String baseObjectToString() {
+    return reflective.toString();
+  }
+
+  @Benchmark
+  public boolean performanceAwareBaseObjectEquals() {
+    return handwritten.equals( equalHandwritten );
+  }
+
+  @Benchmark
+  public int performanceAwareBaseObjectHashCode() {
+    return handwritten.hashCode();
+  }
+
+  @Benchmark
+  public String performanceAwareBaseObjectToString() {
+    return handwritten.toString();
+  }
+
+  @Benchmark
+  public boolean generatedObjectMethodsEquals() {
+    return generated.equals( equalGenerated );
+  }
+
+  @Benchmark
+  public int generatedObjectMethodsHashCode() {
+    return generated.hashCode();
+  }
+
+  @Benchmark
+  public String generatedObjectMethodsToString() {
+    return generated.toString();
+  }
+
+  @Benchmark
+  public boolean recordEquals() {
+    return record.equals( equalRecord );
+  }
+
+  @Benchmark
+  public int recordHashCode() {
+    return record.hashCode();
+  }
+
+  @Benchmark
+  public String recordToString() {
+    return record.toString();
+  }
+
+  @SuppressWarnings( "unused" )
+  static final class ReflectiveCustomer extends BaseObject {
+    private final String firstName;
+    private final String lastName;
+    private final int age;
+
+    ReflectiveCustomer( final String firstName, final String lastName, final int age ) {
+      super();
+      this.firstName = firstName;
+      this.lastName = lastName;
+      this.age = age;
+    }
+  }
+
+  static final class HandwrittenCustomer extends PerformanceAwareBaseObject {
+    private final String firstName;
+    private final String lastName;
+    private final int age;
+
+    HandwrittenCustomer( final String firstName, final String lastName, final int age ) {
+      super();
+      this.firstName = firstName;
+      this.lastName = lastName;
+      this.age = age;
+    }
+
+    @Override
+    public boolean equals( @Nullable final Object other ) {
+      return other instanceof HandwrittenCustomer customer
+             && age == customer.age
+             && firstName.equals( customer.firstName )
+             && lastName.equals( customer.lastName );
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash( firstName, lastName, age );
+    }
+  }
+
+  @GenerateObjectMethods
+  static final class GeneratedCustomer extends PerformanceAwareBaseObject {
+    final String firstName;
+    final String lastName;
+    final int age;
+
+    GeneratedCustomer( final String firstName, final String lastName, final int age ) {
+      super();
+      this.firstName = firstName;
+      this.lastName = lastName;
+      this.age = age;
+    }
+
+    @Override
+    public boolean equals( @Nullable final Object other ) {
+      return ObjectMethodsBenchmark_GeneratedCustomerObjectMethods.equals( this, other );
+    }
+
+    @Override
+    public int hashCode() {
+      return ObjectMethodsBenchmark_GeneratedCustomerObjectMethods.hashCode( this );
+    }
+
+    @Override
+    public String toString() {
+      return ObjectMethodsBenchmark_GeneratedCustomerObjectMethods.toString( this );
+    }
+  }
+
+  record RecordCustomer(String firstName, String lastName, int age) {
+  }
+}
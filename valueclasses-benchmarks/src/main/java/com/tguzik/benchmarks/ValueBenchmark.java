@@ -0,0 +1,98 @@
+package com.tguzik.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tguzik.value.LongValue;
+import com.tguzik.value.StringValue;
+import com.tguzik.value.Value;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Methods of {@link com.tguzik.value.Value} and its subclasses, which are called on every map lookup, comparison and log line.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@SuppressWarnings( { "PMD.ImmutableField", "PMD.CommentDefaultAccessModifier" } )
+public class ValueBenchmark {
+  private OrderNumber orderNumber = new OrderNumber( "ORD-2024-000001" );
+  private OrderNumber equalOrderNumber = new OrderNumber( "ORD-2024-000001" );
+  private OrderNumber laterOrderNumber = new OrderNumber( "ORD-2024-000002" );
+  private Amount amount = new Amount( 123_456L );
+  private Amount equalAmount = new Amount( 123_456L );
+  private BoxedAmount boxedAmount = new BoxedAmount( 123_456L );
+  private BoxedAmount equalBoxedAmount = new BoxedAmount( 123_456L );
+
+  @Benchmark
+  public boolean stringValueEquals() {
+    return orderNumber.equals( equalOrderNumber );
+  }
+
+  @Benchmark
+  public int stringValueHashCode() {
+    return orderNumber.hashCode();
+  }
+
+  @Benchmark
+  public String stringValueToString() {
+    return orderNumber.toString();
+  }
+
+  @Benchmark
+  public int stringValueCompareTo() {
+    return orderNumber.compareTo( laterOrderNumber );
+  }
+
+  @Benchmark
+  public boolean longValueEquals() {
+    return amount.equals( equalAmount );
+  }
+
+  @Benchmark
+  public int longValueHashCode() {
+    return amount.hashCode();
+  }
+
+  @Benchmark
+  public boolean boxedLongValueEquals() {
+    return boxedAmount.equals( equalBoxedAmount );
+  }
+
+  @Benchmark
+  public int boxedLongValueHashCode() {
+    return boxedAmount.hashCode();
+  }
+
+  static final class OrderNumber extends StringValue {
+    OrderNumber( final String value ) {
+      super( value );
+    }
+  }
+
+  static final class Amount extends LongValue {
+    Amount( final long value ) {
+      super( value );
+    }
+  }
+
+  static final class BoxedAmount extends Value<Long> {
+    BoxedAmount( final long value ) {
+      super( value );
+    }
+  }
+}
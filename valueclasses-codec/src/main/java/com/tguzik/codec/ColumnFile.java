@@ -0,0 +1,327 @@
+package com.tguzik.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Append-only column of value classes in a memory-mapped file, for handing large sequences of values over between processes
+ * or keeping them across restarts:
+ * <pre>{@code
+ * try ( ColumnFile<UserId> column = ColumnFile.open( path, ValueCodecs.longs( UserId::new ) ) ) {
+ *   column.append( userId );
+ *   UserId first = column.get( 0 );
+ *   for ( UserId each : column ) {
+ *     // [...]
+ *   }
+ * }
+ * }</pre>
+ * The values are written by the {@link ValueCodec} one after another, and next to the file goes another one, with the
+ * {@code .offsets} suffix, holding the end offset of every value as a 4-byte integer. Opening a column maps both files
+ * without reading them, so it takes the same time for any number of values. {@link #get(int)} finds the value through its
+ * offset, and iteration decodes the values in order; either way, the value class is created straight from the mapped
+ * bytes, only for the values that are asked for.
+ * <p>
+ * The files grow in steps as values are appended, and the unused space at their ends is left zeroed - never truncated,
+ * as mapped files cannot be truncated on every platform. Since every value takes at least one byte, the offsets are
+ * positive and the number of values is where the zeroes start, so a column is read back correctly whether or not it was
+ * closed. Use {@link #force()} to make the appended values durable.
+ * <p>
+ * A column holds up to 2 GB of encoded values. Instances are not thread-safe.
+ *
+ * @param <T> type of the value class
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.TooManyMethods" } )
+public final class ColumnFile<T> implements Closeable, Iterable<T> {
+  private static final String OFFSETS_SUFFIX = ".offsets";
+
+  private static final int MIN_CAPACITY = 4096;
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE;
+
+  private final ValueCodec<T> codec;
+  private final FileChannel dataChannel;
+  private final FileChannel offsetsChannel;
+  /**
+   * Positioned at the end of the values, where the next value goes
+   */
+  private MappedByteBuffer data;
+  private MappedByteBuffer offsets;
+  /**
+   * Shares the mapping with {@link #data}, but is positioned by reads
+   */
+  private ByteBuffer reader;
+  private int count;
+  private boolean closed;
+
+  private ColumnFile( final ValueCodec<T> codec, final FileChannel dataChannel, final FileChannel offsetsChannel )
+    throws IOException {
+    super();
+    this.codec = codec;
+    this.dataChannel = dataChannel;
+    this.offsetsChannel = offsetsChannel;
+    this.offsets = map( offsetsChannel, offsetsChannel.size() );
+    this.count = countOffsets( offsets );
+
+    final int end = count == 0 ? 0 : offsets.getInt( ( count - 1 ) * Integer.BYTES );
+    if ( end > dataChannel.size() ) {
+      throw new IOException( "Offsets point past the end of the data file, which holds " + dataChannel.size() + " bytes" );
+    }
+    this.data = map( dataChannel, dataChannel.size() );
+    this.data.position( end );
+    this.reader = data.duplicate();
+  }
+
+  /**
+   * Opens the column stored at the path, or creates an empty one if there is no file there.
+   *
+   * @param path location of the values; the offsets are stored next to it, with the {@code .offsets} suffix
+   * @param codec encoding of the values, the same every time the column is opened
+   * @throws IOException if the files cannot be opened or mapped, or their contents are inconsistent
+   */
+  public static <T> ColumnFile<T> open( final Path path, final ValueCodec<T> codec ) throws IOException {
+    Objects.requireNonNull( path, "Path cannot be null!" );
+    Objects.requireNonNull( codec, "Codec cannot be null!" );
+
+    final FileChannel dataChannel = openChannel( path );
+    try {
+      return open( codec, dataChannel, offsetsPath( path ) );
+    }
+    catch ( final IOException e ) {
+      dataChannel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * @return location of the offsets of the column stored at the path
+   */
+  public static Path offsetsPath( final Path path ) {
+    return path.resolveSibling( path.getFileName() + OFFSETS_SUFFIX );
+  }
+
+  /**
+   * @return number of values in the column
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Decodes the value at the index, straight from the mapped file.
+   *
+   * @throws IndexOutOfBoundsException if there is no value at the index
+   * @throws IllegalStateException if the column is closed
+   */
+  public T get( final int index ) {
+    ensureOpen();
+    Objects.checkIndex( index, count );
+
+    reader.position( index == 0 ? 0 : offsets.getInt( ( index - 1 ) * Integer.BYTES ) );
+    return codec.decode( reader );
+  }
+
+  /**
+   * Appends the value at the end of the column, growing the files if needed. If the codec throws an exception, the column
+   * is left as it was before.
+   *
+   * @throws IOException if the files cannot be grown
+   * @throws IllegalArgumentException if the codec encodes the value as zero bytes
+   * @throws IllegalStateException if the column is closed, or would grow past 2 GB
+   */
+  public void append( final T value ) throws IOException {
+    ensureOpen();
+    final int start = data.position();
+    ensureDataCapacity( codec.encodedSize( value ) );
+    ensureOffsetsCapacity();
+
+    boolean encoded = false;
+    try {
+      codec.encode( value, data );
+      encoded = true;
+    }
+    finally {
+      if ( !encoded ) {
+        discardFrom( start );
+      }
+    }
+    if ( data.position() == start ) {
+      throw new IllegalArgumentException( "Values have to be encoded as at least one byte" );
+    }
+    offsets.putInt( count * Integer.BYTES, data.position() );
+    count++;
+  }
+
+  /**
+   * @see #append(Object)
+   */
+  public void appendAll( final Iterable<? extends T> values ) throws IOException {
+    for ( final T value : values ) {
+      append( value );
+    }
+  }
+
+  /**
+   * Iterates over the values present when the iteration starts, decoding them in order. Values appended afterwards are not
+   * included.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    ensureOpen();
+    return new ValueIterator( data.duplicate().position( 0 ), count );
+  }
+
+  /**
+   * Writes the appended values to the storage device.
+   *
+   * @throws IllegalStateException if the column is closed
+   */
+  public void force() {
+    ensureOpen();
+    data.force();
+    offsets.force();
+  }
+
+  /**
+   * Closes the files. The mappings are released once they become unreachable, as the JDK has no way to release them earlier.
+   */
+  @Override
+  public void close() throws IOException {
+    if ( closed ) {
+      return;
+    }
+    closed = true;
+    try ( dataChannel; offsetsChannel ) {
+      data.force();
+      offsets.force();
+    }
+  }
+
+  private void ensureOpen() {
+    if ( closed ) {
+      throw new IllegalStateException( "Column is closed" );
+    }
+  }
+
+  /**
+   * Zeroes the bytes written by a codec that failed, and moves the end of the values back to where the value started
+   */
+  private void discardFrom( final int start ) {
+    for ( int index = start; index < data.position(); index++ ) {
+      data.put( index, (byte) 0 );
+    }
+    data.position( start );
+  }
+
+  private void ensureDataCapacity( final int length ) throws IOException {
+    if ( data.remaining() >= length ) {
+      return;
+    }
+
+    final int position = data.position();
+    data = map( dataChannel, grow( position, length ) );
+    data.position( position );
+    reader = data.duplicate();
+  }
+
+  private void ensureOffsetsCapacity() throws IOException {
+    final long required = ( (long) count + 1 ) * Integer.BYTES;
+    if ( required > offsets.capacity() ) {
+      offsets = map( offsetsChannel, grow( offsets.capacity(), Integer.BYTES ) );
+    }
+  }
+
+  /**
+   * @return new capacity of a file that has {@code used} bytes and needs {@code length} more: half as much again, at least
+   */
+  private static long grow( final int used, final int length ) {
+    final long required = (long) used + length;
+    if ( required > MAX_CAPACITY ) {
+      throw new IllegalStateException( "Column cannot grow past " + MAX_CAPACITY + " bytes" );
+    }
+    return Math.min( MAX_CAPACITY, Math.max( Math.max( required, MIN_CAPACITY ), used + (long) ( used >> 1 ) ) );
+  }
+
+  /**
+   * @return number of offsets before the zeroed space at the end of the file
+   */
+  private static int countOffsets( final ByteBuffer offsets ) {
+    // Offsets are positive and the unused space is zeroed, so a binary search finds the first zero
+    int low = 0;
+    int high = offsets.capacity() / Integer.BYTES;
+    while ( low < high ) {
+      final int middle = ( low + high ) >>> 1;
+      if ( offsets.getInt( middle * Integer.BYTES ) == 0 ) {
+        high = middle;
+      }
+      else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  private static MappedByteBuffer map( final FileChannel channel, final long capacity ) throws IOException {
+    if ( capacity > MAX_CAPACITY ) {
+      throw new IOException( "Column files cannot be larger than " + MAX_CAPACITY + " bytes" );
+    }
+    // Mapping past the end of the file extends it with zeroes
+    return channel.map( FileChannel.MapMode.READ_WRITE, 0, capacity );
+  }
+
+  private static <T> ColumnFile<T> open( final ValueCodec<T> codec, final FileChannel dataChannel, final Path offsetsPath )
+    throws IOException {
+    final FileChannel offsetsChannel = openChannel( offsetsPath );
+    try {
+      return new ColumnFile<>( codec, dataChannel, offsetsChannel );
+    }
+    catch ( final IOException e ) {
+      offsetsChannel.close();
+      throw e;
+    }
+  }
+
+  private static FileChannel openChannel( final Path path ) throws IOException {
+    return FileChannel.open( path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE );
+  }
+
+  /**
+   * Sequential scan over a view of the mapped values, which needs no offsets
+   */
+  private final class ValueIterator implements Iterator<T> {
+    private final ByteBuffer values;
+    private final int end;
+    private int position;
+
+    ValueIterator( final ByteBuffer values, final int end ) {
+      super();
+      this.values = values;
+      this.end = end;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return position < end;
+    }
+
+    @Override
+    public T next() {
+      if ( position >= end ) {
+        throw new NoSuchElementException();
+      }
+      ensureOpen();
+      position++;
+      return codec.decode( values );
+    }
+  }
+}
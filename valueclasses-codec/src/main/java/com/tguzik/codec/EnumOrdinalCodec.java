@@ -0,0 +1,44 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Unsigned varints of the ordinals, a single byte for enums of up to 128 constants.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+// Encoding ordinals is the whole point of this codec
+@SuppressWarnings( { "EnumOrdinal", "PMD.CommentDefaultAccessModifier" } )
+final class EnumOrdinalCodec<E extends Enum<E>> implements ValueCodec<E> {
+  private final Class<E> type;
+  private final E[] constants;
+
+  EnumOrdinalCodec( final Class<E> type ) {
+    super();
+    this.type = type;
+    this.constants = type.getEnumConstants();
+  }
+
+  @Override
+  public void encode( final E value, final ByteBuffer buffer ) {
+    Varints.writeUnsignedInt( buffer, value.ordinal() );
+  }
+
+  @Override
+  public E decode( final ByteBuffer buffer ) {
+    final int ordinal = Varints.readUnsignedInt( buffer );
+    if ( ordinal < 0 || ordinal >= constants.length ) {
+      throw new IllegalArgumentException( type.getName() + " has no constant with ordinal "
+                                          + Integer.toUnsignedString( ordinal ) );
+    }
+    return constants[ ordinal ];
+  }
+
+  @Override
+  public int encodedSize( final E value ) {
+    return Varints.unsignedSize( value.ordinal() );
+  }
+}
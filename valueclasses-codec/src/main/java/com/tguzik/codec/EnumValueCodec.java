@@ -0,0 +1,88 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+
+import com.tguzik.traits.HasValue;
+import com.tguzik.value.EnumValueIndex;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Values held by the constants: signed varints for integral numbers, which are looked up without boxing, and
+ * length-prefixed strings otherwise.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class EnumValueCodec<E extends Enum<E> & HasValue<?>> implements ValueCodec<E> {
+  private final Class<E> type;
+  private final EnumValueIndex<?, ?> index;
+  private final boolean integral;
+
+  private EnumValueCodec( final Class<E> type, final EnumValueIndex<?, ?> index, final boolean integral ) {
+    super();
+    this.type = type;
+    this.index = index;
+    this.integral = integral;
+  }
+
+  static <E extends Enum<E> & HasValue<?>> EnumValueCodec<E> forEnum( final Class<E> type ) {
+    boolean strings = true;
+    boolean integral = true;
+    for ( final E constant : type.getEnumConstants() ) {
+      final @Nullable Object value = constant.get();
+      strings &= value instanceof String;
+      integral &= value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    if ( !strings && !integral ) {
+      throw new IllegalArgumentException( "Constants of " + type.getName() + " have to hold either strings or integral numbers" );
+    }
+    return new EnumValueCodec<>( type, indexOf( type ), integral );
+  }
+
+  @Override
+  public void encode( final E value, final ByteBuffer buffer ) {
+    if ( integral ) {
+      Varints.writeSigned( buffer, number( value ) );
+    }
+    else {
+      StringEncoding.write( buffer, string( value ) );
+    }
+  }
+
+  @Override
+  public E decode( final ByteBuffer buffer ) {
+    if ( integral ) {
+      final long number = Varints.readSigned( buffer );
+      return found( index.getByLong( number ), number );
+    }
+    final String string = StringEncoding.read( buffer );
+    return found( index.get( string ), string );
+  }
+
+  @Override
+  public int encodedSize( final E value ) {
+    return integral ? Varints.signedSize( number( value ) ) : StringEncoding.encodedSize( string( value ) );
+  }
+
+  private E found( final @Nullable Object constant, final Object value ) {
+    if ( constant == null ) {
+      throw new IllegalArgumentException( type.getName() + " has no constant holding " + value );
+    }
+    return type.cast( constant );
+  }
+
+  private static long number( final HasValue<?> constant ) {
+    return ( (Number) constant.get() ).longValue();
+  }
+
+  private static String string( final HasValue<?> constant ) {
+    return (String) constant.get();
+  }
+
+  @SuppressWarnings( { "unchecked", "rawtypes" } )
+  private static EnumValueIndex<?, ?> indexOf( final Class type ) {
+    return EnumValueIndex.forEnum( type );
+  }
+}
@@ -0,0 +1,40 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Signed varints of at most five bytes.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class IntCodec<T> implements ValueCodec<T> {
+  private final ToIntFunction<? super T> getter;
+  private final IntFunction<? extends T> factory;
+
+  IntCodec( final ToIntFunction<? super T> getter, final IntFunction<? extends T> factory ) {
+    super();
+    this.getter = getter;
+    this.factory = factory;
+  }
+
+  @Override
+  public void encode( final T value, final ByteBuffer buffer ) {
+    Varints.writeSignedInt( buffer, getter.applyAsInt( value ) );
+  }
+
+  @Override
+  public T decode( final ByteBuffer buffer ) {
+    return factory.apply( Varints.readSignedInt( buffer ) );
+  }
+
+  @Override
+  public int encodedSize( final T value ) {
+    return Varints.signedSize( getter.applyAsInt( value ) );
+  }
+}
@@ -0,0 +1,77 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Signed varints, delta-encoded within columns. The differences wrap around on overflow, and so does the decoding.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class LongCodec<T> implements ValueCodec<T> {
+  private final ToLongFunction<? super T> getter;
+  private final LongFunction<? extends T> factory;
+
+  LongCodec( final ToLongFunction<? super T> getter, final LongFunction<? extends T> factory ) {
+    super();
+    this.getter = getter;
+    this.factory = factory;
+  }
+
+  @Override
+  public void encode( final T value, final ByteBuffer buffer ) {
+    Varints.writeSigned( buffer, getter.applyAsLong( value ) );
+  }
+
+  @Override
+  public T decode( final ByteBuffer buffer ) {
+    return factory.apply( Varints.readSigned( buffer ) );
+  }
+
+  @Override
+  public int encodedSize( final T value ) {
+    return Varints.signedSize( getter.applyAsLong( value ) );
+  }
+
+  @Override
+  public void encodeColumn( final List<? extends T> values, final ByteBuffer buffer ) {
+    Varints.writeUnsignedInt( buffer, values.size() );
+    long previous = 0;
+    for ( final T value : values ) {
+      final long current = getter.applyAsLong( value );
+      Varints.writeSigned( buffer, current - previous );
+      previous = current;
+    }
+  }
+
+  @Override
+  public List<T> decodeColumn( final ByteBuffer buffer ) {
+    final int size = ValueCodecs.readColumnSize( buffer );
+    final List<T> result = new ArrayList<>( size );
+    long previous = 0;
+    for ( int i = 0; i < size; i++ ) {
+      previous += Varints.readSigned( buffer );
+      result.add( factory.apply( previous ) );
+    }
+    return result;
+  }
+
+  @Override
+  public int encodedColumnSize( final List<? extends T> values ) {
+    int result = Varints.unsignedSize( values.size() );
+    long previous = 0;
+    for ( final T value : values ) {
+      final long current = getter.applyAsLong( value );
+      result += Varints.signedSize( current - previous );
+      previous = current;
+    }
+    return result;
+  }
+}
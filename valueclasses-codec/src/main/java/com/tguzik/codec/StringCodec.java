@@ -0,0 +1,44 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Length-prefixed Latin-1 or UTF-8, see {@link StringEncoding}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class StringCodec<T> implements ValueCodec<T> {
+  private final Function<? super T, String> getter;
+  private final Function<String, ? extends T> factory;
+
+  StringCodec( final Function<? super T, String> getter, final Function<String, ? extends T> factory ) {
+    super();
+    this.getter = getter;
+    this.factory = factory;
+  }
+
+  @Override
+  public void encode( final T value, final ByteBuffer buffer ) {
+    StringEncoding.write( buffer, read( value ) );
+  }
+
+  @Override
+  public T decode( final ByteBuffer buffer ) {
+    return factory.apply( StringEncoding.read( buffer ) );
+  }
+
+  @Override
+  public int encodedSize( final T value ) {
+    return StringEncoding.encodedSize( read( value ) );
+  }
+
+  private String read( final T value ) {
+    return Objects.requireNonNull( getter.apply( value ), "Value classes holding null cannot be encoded!" );
+  }
+}
@@ -0,0 +1,203 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Length-prefixed strings. The prefix is an unsigned varint of the number of bytes, shifted left by one, with the lowest bit
+ * set for Latin-1. Strings made only of Latin-1 characters take one byte per character, others are encoded in UTF-8 -
+ * byte for byte the same as {@link String#getBytes} with {@link StandardCharsets#UTF_8}, which replaces unpaired surrogates
+ * with {@code ?}.
+ * <p>
+ * The characters are written straight into the buffer. Strings are read from heap buffers by the {@code String}
+ * constructor, which copies the bytes only once; direct buffers are decoded into a {@code char[]} first.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class StringEncoding {
+  private static final int LATIN1_FLAG = 1;
+  private static final char ASCII_LIMIT = 0x80;
+  private static final char LATIN1_LIMIT = 0x100;
+  private static final char TWO_BYTE_LIMIT = 0x800;
+  private static final byte REPLACEMENT = '?';
+
+  private StringEncoding() {
+  }
+
+  static void write( final ByteBuffer buffer, final String value ) {
+    final int length = value.length();
+    if ( isLatin1( value ) ) {
+      Varints.writeUnsigned( buffer, (long) length << 1 | LATIN1_FLAG );
+      for ( int i = 0; i < length; i++ ) {
+        buffer.put( (byte) value.charAt( i ) );
+      }
+      return;
+    }
+
+    Varints.writeUnsigned( buffer, (long) utf8Length( value ) << 1 );
+    writeUtf8( buffer, value );
+  }
+
+  /**
+   * @return number of bytes that {@link #write(ByteBuffer, String)} writes for the value
+   */
+  static int encodedSize( final String value ) {
+    final int length = isLatin1( value ) ? value.length() : utf8Length( value );
+    return Varints.unsignedSize( (long) length << 1 ) + length;
+  }
+
+  /**
+   * Malformed UTF-8 is decoded the same way as by the {@code String} constructor, with replacement characters.
+   *
+   * @throws IllegalArgumentException if the length prefix is longer than the rest of the buffer
+   */
+  static String read( final ByteBuffer buffer ) {
+    final long header = Varints.readUnsigned( buffer );
+    if ( header >>> 1 > buffer.remaining() ) {
+      throw new IllegalArgumentException( "String of " + ( header >>> 1 ) + " bytes is longer than the remaining "
+                                          + buffer.remaining() + " bytes" );
+    }
+    final int length = (int) ( header >>> 1 );
+
+    final boolean latin1 = ( header & LATIN1_FLAG ) != 0;
+    if ( buffer.hasArray() ) {
+      final int offset = buffer.arrayOffset() + buffer.position();
+      buffer.position( buffer.position() + length );
+      return new String( buffer.array(), offset, length, latin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8 );
+    }
+    return latin1 ? readLatin1( buffer, length ) : readUtf8( buffer, length );
+  }
+
+  private static boolean isLatin1( final String value ) {
+    for ( int i = 0; i < value.length(); i++ ) {
+      if ( value.charAt( i ) >= LATIN1_LIMIT ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int utf8Length( final String value ) {
+    int result = 0;
+    int index = 0;
+    while ( index < value.length() ) {
+      final char character = value.charAt( index );
+      if ( character < ASCII_LIMIT ) {
+        result += 1;
+      }
+      else if ( character < TWO_BYTE_LIMIT ) {
+        result += 2;
+      }
+      else if ( isSurrogatePair( value, index ) ) {
+        result += 4;
+        index++;
+      }
+      else {
+        // Unpaired surrogates are replaced by a single byte
+        result += Character.isSurrogate( character ) ? 1 : 3;
+      }
+      index++;
+    }
+    return result;
+  }
+
+  private static void writeUtf8( final ByteBuffer buffer, final String value ) {
+    int index = 0;
+    while ( index < value.length() ) {
+      final char character = value.charAt( index );
+      if ( character < ASCII_LIMIT ) {
+        buffer.put( (byte) character );
+      }
+      else if ( character < TWO_BYTE_LIMIT ) {
+        buffer.put( (byte) ( 0xC0 | character >> 6 ) );
+        buffer.put( (byte) ( 0x80 | ( character & 0x3F ) ) );
+      }
+      else if ( isSurrogatePair( value, index ) ) {
+        final int codePoint = Character.toCodePoint( character, value.charAt( index + 1 ) );
+        buffer.put( (byte) ( 0xF0 | codePoint >> 18 ) );
+        buffer.put( (byte) ( 0x80 | ( codePoint >> 12 & 0x3F ) ) );
+        buffer.put( (byte) ( 0x80 | ( codePoint >> 6 & 0x3F ) ) );
+        buffer.put( (byte) ( 0x80 | ( codePoint & 0x3F ) ) );
+        index++;
+      }
+      else if ( Character.isSurrogate( character ) ) {
+        buffer.put( REPLACEMENT );
+      }
+      else {
+        buffer.put( (byte) ( 0xE0 | character >> 12 ) );
+        buffer.put( (byte) ( 0x80 | ( character >> 6 & 0x3F ) ) );
+        buffer.put( (byte) ( 0x80 | ( character & 0x3F ) ) );
+      }
+      index++;
+    }
+  }
+
+  private static boolean isSurrogatePair( final String value, final int index ) {
+    return Character.isHighSurrogate( value.charAt( index ) ) && index + 1 < value.length()
+           && Character.isLowSurrogate( value.charAt( index + 1 ) );
+  }
+
+  private static String readLatin1( final ByteBuffer buffer, final int length ) {
+    final char[] characters = new char[ length ];
+    for ( int i = 0; i < length; i++ ) {
+      characters[ i ] = (char) ( buffer.get() & 0xFF );
+    }
+    return new String( characters );
+  }
+
+  /**
+   * Decodes well-formed UTF-8 straight from the buffer; anything else is left to the JDK decoder, for the same handling of
+   * malformed input as in {@link #read(ByteBuffer)} of heap buffers.
+   */
+  private static String readUtf8( final ByteBuffer buffer, final int length ) {
+    final int start = buffer.position();
+    final int end = start + length;
+    final char[] characters = new char[ length ];
+    int count = 0;
+    int index = start;
+
+    while ( index < end ) {
+      final int first = buffer.get( index ) & 0xFF;
+      final int size = first < 0x80 ? 1 : first < 0xE0 ? 2 : first < 0xF0 ? 3 : 4;
+      final int codePoint = index + size <= end ? decodeCodePoint( buffer, index, size ) : -1;
+      if ( codePoint < 0 ) {
+        buffer.position( end );
+        return StandardCharsets.UTF_8.decode( buffer.slice( start, length ) ).toString();
+      }
+      count += Character.toChars( codePoint, characters, count );
+      index += size;
+    }
+
+    buffer.position( end );
+    return new String( characters, 0, count );
+  }
+
+  /**
+   * @return the code point, or -1 if the sequence is malformed, overlong or encodes a surrogate
+   */
+  @SuppressWarnings( "PMD.AvoidLiteralsInIfCondition" )
+  private static int decodeCodePoint( final ByteBuffer buffer, final int index, final int size ) {
+    final int first = buffer.get( index ) & 0xFF;
+    if ( size == 1 ) {
+      return first;
+    }
+
+    int codePoint = first & ( 0x7F >> size );
+    for ( int i = 1; i < size; i++ ) {
+      final int next = buffer.get( index + i ) & 0xFF;
+      if ( ( next & 0xC0 ) != 0x80 ) {
+        return -1;
+      }
+      codePoint = ( codePoint << 6 ) | ( next & 0x3F );
+    }
+
+    final int minimum = size == 2 ? 0x80 : size == 3 ? TWO_BYTE_LIMIT : Character.MIN_SUPPLEMENTARY_CODE_POINT;
+    final boolean valid = first >= 0xC0 && first < 0xF8 && codePoint >= minimum && codePoint <= Character.MAX_CODE_POINT
+                          && ( codePoint < Character.MIN_SURROGATE || codePoint > Character.MAX_SURROGATE );
+    return valid ? codePoint : -1;
+  }
+}
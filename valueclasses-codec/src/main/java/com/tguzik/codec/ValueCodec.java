@@ -0,0 +1,69 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Binary encoding of a value class. Values are read and written at the current position of the buffer, which is advanced
+ * past them; heap and direct buffers are handled alike, without intermediate byte arrays. Writing past the limit of the
+ * buffer throws {@link java.nio.BufferOverflowException}, so {@link #encodedSize(Object)} is there to size buffers up front.
+ * <p>
+ * Columns are written as the number of values followed by the values, which codecs may encode differently than one by one -
+ * see {@link ValueCodecs#longs}. The encoding carries no type information, so it has to be read with a codec of the same
+ * kind as the one that wrote it. Values cannot be null. Implementations are immutable and thread-safe.
+ *
+ * @param <T> type of the value class
+ * @see ValueCodecs
+ * @since 2.1.0
+ */
+@NullMarked
+public interface ValueCodec<T> {
+
+  void encode( T value, ByteBuffer buffer );
+
+  /**
+   * @throws IllegalArgumentException if the bytes are malformed, or do not encode a valid value
+   * @throws java.nio.BufferUnderflowException if the buffer ends in the middle of the value
+   */
+  T decode( ByteBuffer buffer );
+
+  /**
+   * @return number of bytes that {@link #encode(Object, ByteBuffer)} writes for the value
+   */
+  int encodedSize( T value );
+
+  default void encodeColumn( final List<? extends T> values, final ByteBuffer buffer ) {
+    Varints.writeUnsignedInt( buffer, values.size() );
+    for ( final T value : values ) {
+      encode( value, buffer );
+    }
+  }
+
+  /**
+   * @return the values, in a new mutable list
+   * @throws IllegalArgumentException if the bytes are malformed, or do not encode valid values
+   * @throws java.nio.BufferUnderflowException if the buffer ends in the middle of the column
+   */
+  default List<T> decodeColumn( final ByteBuffer buffer ) {
+    final int size = ValueCodecs.readColumnSize( buffer );
+    final List<T> result = new ArrayList<>( size );
+    for ( int i = 0; i < size; i++ ) {
+      result.add( decode( buffer ) );
+    }
+    return result;
+  }
+
+  /**
+   * @return number of bytes that {@link #encodeColumn(List, ByteBuffer)} writes for the values
+   */
+  default int encodedColumnSize( final List<? extends T> values ) {
+    int result = Varints.unsignedSize( values.size() );
+    for ( final T value : values ) {
+      result += encodedSize( value );
+    }
+    return result;
+  }
+}
@@ -0,0 +1,127 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.tguzik.traits.HasIntValue;
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Factories of {@link ValueCodec}s:
+ * <pre>{@code
+ * ValueCodec<UserId> codec = ValueCodecs.longs( UserId::new );
+ *
+ * codec.encodeColumn( userIds, buffer );
+ * buffer.flip();
+ * List<UserId> copy = codec.decodeColumn( buffer );
+ * }</pre>
+ * Numbers are written as ZigZag varints, so small numbers take a single byte whatever their sign. Strings are prefixed with
+ * their length in bytes and written in Latin-1 if all their characters fit in it, or in UTF-8 otherwise. Enums are written
+ * either as their ordinals or as the values their constants hold.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+public final class ValueCodecs {
+  private ValueCodecs() {
+  }
+
+  /**
+   * Columns are delta-encoded: every value but the first is written as the difference from the previous one, which makes
+   * sorted or clustered identifiers a byte or two each.
+   *
+   * @param factory creates the value class from the number, e.g. its constructor
+   */
+  public static <T extends HasLongValue> ValueCodec<T> longs( final LongFunction<? extends T> factory ) {
+    return longs( HasLongValue::getAsLong, factory );
+  }
+
+  /**
+   * @param getter reads the number from the value class
+   * @param factory creates the value class from the number
+   * @see #longs(LongFunction)
+   */
+  public static <T> ValueCodec<T> longs( final ToLongFunction<? super T> getter, final LongFunction<? extends T> factory ) {
+    return new LongCodec<>( Objects.requireNonNull( getter, "Getter cannot be null!" ),
+                            Objects.requireNonNull( factory, "Factory cannot be null!" ) );
+  }
+
+  /**
+   * @param factory creates the value class from the number, e.g. its constructor
+   */
+  public static <T extends HasIntValue> ValueCodec<T> ints( final IntFunction<? extends T> factory ) {
+    return ints( HasIntValue::getAsInt, factory );
+  }
+
+  /**
+   * @param getter reads the number from the value class
+   * @param factory creates the value class from the number
+   */
+  public static <T> ValueCodec<T> ints( final ToIntFunction<? super T> getter, final IntFunction<? extends T> factory ) {
+    return new IntCodec<>( Objects.requireNonNull( getter, "Getter cannot be null!" ),
+                           Objects.requireNonNull( factory, "Factory cannot be null!" ) );
+  }
+
+  /**
+   * Value classes holding null strings cannot be encoded.
+   *
+   * @param factory creates the value class from the string, e.g. its constructor
+   */
+  public static <T extends HasStringValue> ValueCodec<T> strings( final Function<String, ? extends T> factory ) {
+    return strings( HasValue::get, factory );
+  }
+
+  /**
+   * @param getter reads the string from the value class
+   * @param factory creates the value class from the string
+   */
+  public static <T> ValueCodec<T> strings( final Function<? super T, String> getter,
+                                           final Function<String, ? extends T> factory ) {
+    return new StringCodec<>( Objects.requireNonNull( getter, "Getter cannot be null!" ),
+                              Objects.requireNonNull( factory, "Factory cannot be null!" ) );
+  }
+
+  /**
+   * The shortest encoding of an enum, but one that changes when constants are reordered, so best kept to data that does
+   * not outlive the code.
+   *
+   * @param type class of the enum
+   */
+  public static <E extends Enum<E>> ValueCodec<E> enumOrdinals( final Class<E> type ) {
+    return new EnumOrdinalCodec<>( Objects.requireNonNull( type, "Type parameter cannot be null!" ) );
+  }
+
+  /**
+   * Encodes enum constants by the codes they hold, which stay valid when constants are added or reordered. The constants have
+   * to hold strings or integral numbers, and are looked up through {@link com.tguzik.value.EnumValueIndex}.
+   *
+   * @param type class of the enum
+   * @throws IllegalArgumentException if a constant holds null or neither a string nor an integral number, or if two
+   *     constants hold equal values
+   */
+  public static <E extends Enum<E> & HasValue<?>> ValueCodec<E> enumValues( final Class<E> type ) {
+    return EnumValueCodec.forEnum( Objects.requireNonNull( type, "Type parameter cannot be null!" ) );
+  }
+
+  /**
+   * Reads the number of values in a column, making sure that the buffer can hold them at least one byte each, so that a
+   * corrupted size doesn't allocate a huge list.
+   */
+  static int readColumnSize( final ByteBuffer buffer ) {
+    final int size = Varints.readUnsignedInt( buffer );
+    if ( size < 0 || size > buffer.remaining() ) {
+      throw new IllegalArgumentException( "Column of " + Integer.toUnsignedString( size ) + " values cannot fit in the remaining "
+                                          + buffer.remaining() + " bytes" );
+    }
+    return size;
+  }
+}
@@ -0,0 +1,138 @@
+package com.tguzik.codec;
+
+import java.nio.ByteBuffer;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Variable-length encoding of integers, as used by Protocol Buffers: seven bits per byte, least significant group first,
+ * with the highest bit of every byte but the last one set. Small numbers take a single byte, a {@code long} up to ten.
+ * Signed numbers are ZigZag-encoded first - {@code 0, -1, 1, -2, 2...} become {@code 0, 1, 2, 3, 4...} - so that small
+ * negative numbers are short too.
+ * <p>
+ * All methods read and write at the current position of the buffer and advance it. Writing past the limit of the buffer
+ * throws {@link java.nio.BufferOverflowException}, reading past it {@link java.nio.BufferUnderflowException}, as usual.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.TooManyMethods" )
+public final class Varints {
+  /**
+   * Maximum number of bytes taken by a {@code long}
+   */
+  public static final int MAX_LONG_SIZE = 10;
+  /**
+   * Maximum number of bytes taken by an {@code int}
+   */
+  public static final int MAX_INT_SIZE = 5;
+
+  private static final int PAYLOAD_BITS = 7;
+  private static final int PAYLOAD_MASK = 0x7F;
+  private static final int CONTINUATION_BIT = 0x80;
+
+  private Varints() {
+  }
+
+  public static long encodeZigZag( final long value ) {
+    return ( value << 1 ) ^ ( value >> ( Long.SIZE - 1 ) );
+  }
+
+  public static long decodeZigZag( final long encoded ) {
+    return ( encoded >>> 1 ) ^ -( encoded & 1 );
+  }
+
+  public static int encodeZigZag( final int value ) {
+    return ( value << 1 ) ^ ( value >> ( Integer.SIZE - 1 ) );
+  }
+
+  public static int decodeZigZag( final int encoded ) {
+    return ( encoded >>> 1 ) ^ -( encoded & 1 );
+  }
+
+  /**
+   * Writes the value as unsigned, so negative numbers take the full ten bytes
+   */
+  public static void writeUnsigned( final ByteBuffer buffer, final long value ) {
+    long remaining = value;
+    while ( ( remaining & ~PAYLOAD_MASK ) != 0 ) {
+      buffer.put( (byte) ( ( remaining & PAYLOAD_MASK ) | CONTINUATION_BIT ) );
+      remaining >>>= PAYLOAD_BITS;
+    }
+    buffer.put( (byte) remaining );
+  }
+
+  /**
+   * @throws IllegalArgumentException if the varint is longer than ten bytes
+   */
+  public static long readUnsigned( final ByteBuffer buffer ) {
+    return readUnsigned( buffer, MAX_LONG_SIZE );
+  }
+
+  /**
+   * Writes the value as unsigned, so negative numbers take the full five bytes
+   */
+  public static void writeUnsignedInt( final ByteBuffer buffer, final int value ) {
+    writeUnsigned( buffer, Integer.toUnsignedLong( value ) );
+  }
+
+  /**
+   * @throws IllegalArgumentException if the varint is longer than five bytes or does not fit in an {@code int}
+   */
+  public static int readUnsignedInt( final ByteBuffer buffer ) {
+    final long result = readUnsigned( buffer, MAX_INT_SIZE );
+    if ( result >>> Integer.SIZE != 0 ) {
+      throw new IllegalArgumentException( "Malformed varint: " + Long.toUnsignedString( result ) + " does not fit in an int" );
+    }
+    return (int) result;
+  }
+
+  public static void writeSigned( final ByteBuffer buffer, final long value ) {
+    writeUnsigned( buffer, encodeZigZag( value ) );
+  }
+
+  /**
+   * @throws IllegalArgumentException if the varint is longer than ten bytes
+   */
+  public static long readSigned( final ByteBuffer buffer ) {
+    return decodeZigZag( readUnsigned( buffer ) );
+  }
+
+  public static void writeSignedInt( final ByteBuffer buffer, final int value ) {
+    writeUnsignedInt( buffer, encodeZigZag( value ) );
+  }
+
+  /**
+   * @throws IllegalArgumentException if the varint is longer than five bytes or does not fit in an {@code int}
+   */
+  public static int readSignedInt( final ByteBuffer buffer ) {
+    return decodeZigZag( readUnsignedInt( buffer ) );
+  }
+
+  private static long readUnsigned( final ByteBuffer buffer, final int maxSize ) {
+    long result = 0;
+    for ( int shift = 0; shift < maxSize * PAYLOAD_BITS; shift += PAYLOAD_BITS ) {
+      final byte current = buffer.get();
+      result |= (long) ( current & PAYLOAD_MASK ) << shift;
+      if ( ( current & CONTINUATION_BIT ) == 0 ) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException( "Malformed varint: longer than " + maxSize + " bytes" );
+  }
+
+  /**
+   * @return number of bytes that {@link #writeUnsigned(ByteBuffer, long)} writes for the value
+   */
+  public static int unsignedSize( final long value ) {
+    // One byte per started group of seven bits, and one byte for zero
+    return ( Long.SIZE - Long.numberOfLeadingZeros( value | 1 ) + PAYLOAD_BITS - 1 ) / PAYLOAD_BITS;
+  }
+
+  /**
+   * @return number of bytes that {@link #writeSigned(ByteBuffer, long)} writes for the value
+   */
+  public static int signedSize( final long value ) {
+    return unsignedSize( encodeZigZag( value ) );
+  }
+}
@@ -0,0 +1,206 @@
+package com.tguzik.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ColumnFileTest {
+  private static final ValueCodec<UserId> USER_IDS = ValueCodecs.longs( UserId::new );
+  private static final ValueCodec<Name> NAMES = ValueCodecs.strings( Name::new );
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void reads_values_back_after_reopening() throws IOException {
+    final Path path = directory.resolve( "names" );
+    final List<Name> values = Stream.of( "first", "Zürich", "日本語", "" ).map( Name::new ).toList();
+    try ( ColumnFile<Name> column = ColumnFile.open( path, NAMES ) ) {
+      assertThat( column.size() ).isZero();
+      column.appendAll( values );
+      assertThat( column ).containsExactlyElementsOf( values );
+    }
+
+    try ( ColumnFile<Name> column = ColumnFile.open( path, NAMES ) ) {
+      assertThat( column.size() ).isEqualTo( 4 );
+      assertThat( column.get( 2 ) ).isEqualTo( new Name( "日本語" ) );
+      assertThat( column.get( 0 ) ).isEqualTo( new Name( "first" ) );
+      assertThat( column ).containsExactlyElementsOf( values );
+
+      column.append( new Name( "appended" ) );
+      assertThat( column.get( 4 ) ).isEqualTo( new Name( "appended" ) );
+    }
+    assertThat( Files.exists( ColumnFile.offsetsPath( path ) ) ).isTrue();
+  }
+
+  @Test
+  void grows_the_files_while_appending() throws IOException {
+    final Path path = directory.resolve( "ids" );
+    final int count = 100_000;
+    try ( ColumnFile<UserId> column = ColumnFile.open( path, USER_IDS ) ) {
+      for ( int i = 0; i < count; i++ ) {
+        column.append( new UserId( (long) i * i - i ) );
+        if ( i % 10_000 == 0 ) {
+          // Reading in between appends has to see the files remapped
+          assertThat( column.get( i / 2 ) ).isEqualTo( new UserId( (long) ( i / 2 ) * ( i / 2 ) - i / 2 ) );
+        }
+      }
+    }
+
+    try ( ColumnFile<UserId> column = ColumnFile.open( path, USER_IDS ) ) {
+      assertThat( column.size() ).isEqualTo( count );
+      assertThat( column.get( count - 1 ) ).isEqualTo( new UserId( (long) ( count - 1 ) * ( count - 1 ) - ( count - 1 ) ) );
+      int index = 0;
+      for ( final UserId value : column ) {
+        assertThat( value.getAsLong() ).isEqualTo( (long) index * index - index );
+        index++;
+      }
+      assertThat( index ).isEqualTo( count );
+    }
+  }
+
+  @Test
+  void reads_columns_that_were_not_closed() throws IOException {
+    final Path path = directory.resolve( "unclosed" );
+    final ColumnFile<UserId> unclosed = ColumnFile.open( path, USER_IDS );
+    unclosed.appendAll( List.of( new UserId( 7 ), new UserId( -7 ) ) );
+    unclosed.force();
+
+    // The files keep the zeroed space they grew by
+    assertThat( Files.size( ColumnFile.offsetsPath( path ) ) ).isGreaterThan( 2 * Integer.BYTES );
+    try ( ColumnFile<UserId> column = ColumnFile.open( path, USER_IDS ) ) {
+      assertThat( column ).containsExactly( new UserId( 7 ), new UserId( -7 ) );
+    }
+    unclosed.close();
+  }
+
+  @Test
+  void iterates_over_values_present_when_the_iteration_starts() throws IOException {
+    try ( ColumnFile<UserId> column = ColumnFile.open( directory.resolve( "snapshot" ), USER_IDS ) ) {
+      column.append( new UserId( 1 ) );
+      final Iterator<UserId> iterator = column.iterator();
+      column.append( new UserId( 2 ) );
+
+      assertThat( iterator ).toIterable().containsExactly( new UserId( 1 ) );
+      assertThat( column ).containsExactly( new UserId( 1 ), new UserId( 2 ) );
+    }
+  }
+
+  @Test
+  void rejects_invalid_use() throws IOException {
+    final ColumnFile<UserId> column = ColumnFile.open( directory.resolve( "closed" ), USER_IDS );
+    column.append( new UserId( 1 ) );
+    final Iterator<UserId> iterator = column.iterator();
+
+    assertThatThrownBy( () -> column.get( 1 ) ).isInstanceOf( IndexOutOfBoundsException.class );
+    assertThatThrownBy( () -> column.get( -1 ) ).isInstanceOf( IndexOutOfBoundsException.class );
+
+    column.close();
+    column.close();
+    assertThatThrownBy( () -> column.get( 0 ) ).isInstanceOf( IllegalStateException.class );
+    assertThatThrownBy( () -> column.append( new UserId( 2 ) ) ).isInstanceOf( IllegalStateException.class );
+    assertThatThrownBy( iterator::next ).isInstanceOf( IllegalStateException.class );
+  }
+
+  @Test
+  void rejects_values_encoded_as_no_bytes() throws IOException {
+    final ValueCodec<UserId> empty = new ValueCodec<>() {
+      @Override
+      public void encode( final UserId value, final ByteBuffer buffer ) {
+        // Nothing to write
+      }
+
+      @Override
+      public UserId decode( final ByteBuffer buffer ) {
+        return new UserId( 0 );
+      }
+
+      @Override
+      public int encodedSize( final UserId value ) {
+        return 0;
+      }
+    };
+
+    try ( ColumnFile<UserId> column = ColumnFile.open( directory.resolve( "empty" ), empty ) ) {
+      assertThatThrownBy( () -> column.append( new UserId( 0 ) ) ).isInstanceOf( IllegalArgumentException.class );
+      assertThat( column.size() ).isZero();
+    }
+  }
+
+  @Test
+  void discards_values_of_codecs_that_fail_while_encoding() throws IOException {
+    final ValueCodec<UserId> failing = new ValueCodec<>() {
+      @Override
+      public void encode( final UserId value, final ByteBuffer buffer ) {
+        if ( value.id() < 0 ) {
+          buffer.put( (byte) 0x7F ).put( (byte) 0x7F );
+          throw new IllegalArgumentException( "Negative id" );
+        }
+        USER_IDS.encode( value, buffer );
+      }
+
+      @Override
+      public UserId decode( final ByteBuffer buffer ) {
+        return USER_IDS.decode( buffer );
+      }
+
+      @Override
+      public int encodedSize( final UserId value ) {
+        return Math.max( 2, USER_IDS.encodedSize( value ) );
+      }
+    };
+
+    final Path path = directory.resolve( "failing" );
+    try ( ColumnFile<UserId> column = ColumnFile.open( path, failing ) ) {
+      column.append( new UserId( 1 ) );
+      assertThatThrownBy( () -> column.append( new UserId( -1 ) ) ).isInstanceOf( IllegalArgumentException.class );
+      column.append( new UserId( 300 ) );
+
+      assertThat( column.size() ).isEqualTo( 2 );
+      assertThat( column.get( 1 ) ).isEqualTo( new UserId( 300 ) );
+      assertThat( column ).containsExactly( new UserId( 1 ), new UserId( 300 ) );
+    }
+
+    try ( ColumnFile<UserId> column = ColumnFile.open( path, USER_IDS ) ) {
+      assertThat( column ).containsExactly( new UserId( 1 ), new UserId( 300 ) );
+    }
+  }
+
+  @Test
+  void rejects_offsets_past_the_end_of_the_data() throws IOException {
+    final Path path = directory.resolve( "corrupted" );
+    try ( ColumnFile<UserId> column = ColumnFile.open( path, USER_IDS ) ) {
+      column.appendAll( IntStream.range( 0, 10 ).mapToObj( UserId::new ).toList() );
+    }
+    Files.write( path, new byte[] { 0 } );
+
+    assertThatThrownBy( () -> ColumnFile.open( path, USER_IDS ) ).isInstanceOf( IOException.class );
+  }
+
+  record UserId(long id) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return id;
+    }
+  }
+
+  record Name(String value) implements HasStringValue {
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+}
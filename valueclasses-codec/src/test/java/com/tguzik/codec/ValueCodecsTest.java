@@ -0,0 +1,234 @@
+package com.tguzik.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import com.tguzik.traits.HasValue;
+import com.tguzik.value.IntValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ValueCodecsTest {
+  private static final ValueCodec<UserId> USER_IDS = ValueCodecs.longs( UserId::new );
+  private static final ValueCodec<Name> NAMES = ValueCodecs.strings( Name::new );
+
+  static Stream<ByteBuffer> buffers() {
+    return Stream.of( ByteBuffer.allocate( 256 ), ByteBuffer.allocateDirect( 256 ),
+                      // Heap buffer with a non-zero array offset
+                      ByteBuffer.allocate( 300 ).position( 44 ).slice() );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "buffers" )
+  void writes_and_reads_longs( final ByteBuffer buffer ) {
+    final List<UserId> values = List.of( new UserId( 0 ), new UserId( -5 ), new UserId( Long.MAX_VALUE ) );
+    for ( final UserId value : values ) {
+      USER_IDS.encode( value, buffer );
+    }
+
+    assertThat( buffer.position() ).isEqualTo( 1 + 1 + Varints.MAX_LONG_SIZE );
+    buffer.flip();
+    assertThat( Stream.generate( () -> USER_IDS.decode( buffer ) ).limit( 3 ) ).containsExactlyElementsOf( values );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "buffers" )
+  void writes_and_reads_ints( final ByteBuffer buffer ) {
+    final ValueCodec<Quantity> codec = ValueCodecs.ints( Quantity::new );
+    codec.encode( new Quantity( -1 ), buffer );
+    codec.encode( new Quantity( Integer.MIN_VALUE ), buffer );
+
+    assertThat( buffer.position() ).isEqualTo( codec.encodedSize( new Quantity( -1 ) ) + Varints.MAX_INT_SIZE );
+    buffer.flip();
+    assertThat( codec.decode( buffer ) ).isEqualTo( new Quantity( -1 ) );
+    assertThat( codec.decode( buffer ) ).isEqualTo( new Quantity( Integer.MIN_VALUE ) );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "buffers" )
+  void writes_and_reads_strings( final ByteBuffer buffer ) {
+    final List<Name> values = Stream.of( "",
+                                         "plain",
+                                         "Zürich",
+                                         "Łódź",
+                                         "日本語",
+                                         "emoji 😀",
+                                         "unpaired \uD800 surrogate" )
+                                    .map( Name::new )
+                                    .toList();
+    NAMES.encodeColumn( values, buffer );
+
+    assertThat( buffer.position() ).isEqualTo( NAMES.encodedColumnSize( values ) );
+    final List<Name> decoded = NAMES.decodeColumn( buffer.flip() );
+    assertThat( decoded.subList( 0, 6 ) ).containsExactlyElementsOf( values.subList( 0, 6 ) );
+    assertThat( decoded.get( 6 ) ).isEqualTo( new Name( "unpaired ? surrogate" ) );
+    assertThat( buffer.hasRemaining() ).isFalse();
+  }
+
+  @Test
+  void writes_latin1_strings_one_byte_per_character() {
+    assertThat( NAMES.encodedSize( new Name( "Zürich" ) ) ).isEqualTo( 1 + 6 );
+    assertThat( NAMES.encodedSize( new Name( "Łódź" ) ) ).isEqualTo( 1 + "Łódź".getBytes( StandardCharsets.UTF_8 ).length );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "buffers" )
+  void writes_utf8_like_the_jdk( final ByteBuffer buffer ) {
+    final String value = "€ \uDBFF\uDFFF \uDC00 x";
+    NAMES.encode( new Name( value ), buffer );
+
+    final byte[] expected = value.getBytes( StandardCharsets.UTF_8 );
+    buffer.flip();
+    assertThat( Varints.readUnsigned( buffer ) ).isEqualTo( (long) expected.length << 1 );
+    final byte[] actual = new byte[ buffer.remaining() ];
+    buffer.get( actual );
+    assertThat( actual ).isEqualTo( expected );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "buffers" )
+  void reads_malformed_utf8_like_the_jdk( final ByteBuffer buffer ) {
+    final byte[] malformed = { 'a', (byte) 0xC0, (byte) 0x80, (byte) 0xED, (byte) 0xA0, (byte) 0x80, (byte) 0xE2, 'b' };
+    Varints.writeUnsigned( buffer, (long) malformed.length << 1 );
+    buffer.put( malformed );
+
+    assertThat( NAMES.decode( buffer.flip() ) ).isEqualTo( new Name( new String( malformed, StandardCharsets.UTF_8 ) ) );
+    assertThat( buffer.hasRemaining() ).isFalse();
+  }
+
+  @Test
+  void delta_encodes_columns_of_longs() {
+    final List<UserId> values = Stream.of( 1_000_000_000L, 1_000_000_001L, 1_000_000_003L, 999_999_990L, Long.MIN_VALUE )
+                                      .map( UserId::new )
+                                      .toList();
+    final ByteBuffer buffer = ByteBuffer.allocateDirect( USER_IDS.encodedColumnSize( values ) );
+    USER_IDS.encodeColumn( values, buffer );
+
+    assertThat( buffer.hasRemaining() ).isFalse();
+    assertThat( USER_IDS.encodedColumnSize( values ) ).isEqualTo( 1 + 5 + 1 + 1 + 1 + Varints.MAX_LONG_SIZE );
+    assertThat( USER_IDS.decodeColumn( buffer.flip() ) ).containsExactlyElementsOf( values );
+  }
+
+  @Test
+  void writes_enums_as_ordinals() {
+    final ValueCodec<Currency> codec = ValueCodecs.enumOrdinals( Currency.class );
+    final ByteBuffer buffer = ByteBuffer.allocate( 8 );
+    codec.encodeColumn( List.of( Currency.ZLOTY, Currency.EURO ), buffer );
+
+    assertThat( buffer.position() ).isEqualTo( 3 );
+    assertThat( codec.decodeColumn( buffer.flip() ) ).containsExactly( Currency.ZLOTY, Currency.EURO );
+    assertThatThrownBy( () -> codec.decode( ByteBuffer.wrap( new byte[] { 2 } ) ) )
+      .isInstanceOf( IllegalArgumentException.class )
+      .hasMessageContaining( "ordinal 2" );
+  }
+
+  @Test
+  void writes_enums_as_the_values_they_hold() {
+    final ValueCodec<Currency> currencies = ValueCodecs.enumValues( Currency.class );
+    final ValueCodec<Status> statuses = ValueCodecs.enumValues( Status.class );
+    final ByteBuffer buffer = ByteBuffer.allocate( 16 );
+    currencies.encode( Currency.ZLOTY, buffer );
+    statuses.encode( Status.GONE, buffer );
+
+    assertThat( buffer.position() ).isEqualTo( 4 + 2 );
+    buffer.flip();
+    assertThat( currencies.decode( buffer ) ).isSameAs( Currency.ZLOTY );
+    assertThat( statuses.decode( buffer ) ).isSameAs( Status.GONE );
+
+    assertThatThrownBy( () -> statuses.decode( ByteBuffer.wrap( new byte[] { 1 } ) ) )
+      .isInstanceOf( IllegalArgumentException.class )
+      .hasMessageContaining( "no constant holding -1" );
+    assertThatThrownBy( () -> ValueCodecs.enumValues( Mixed.class ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+
+  @Test
+  void rejects_truncated_and_corrupted_input() {
+    final ByteBuffer buffer = ByteBuffer.allocate( 16 );
+    NAMES.encode( new Name( "truncated" ), buffer );
+    buffer.flip().limit( 5 );
+    assertThatThrownBy( () -> NAMES.decode( buffer ) ).isInstanceOf( IllegalArgumentException.class );
+
+    // A column of a thousand values in a buffer of two bytes
+    assertThatThrownBy( () -> USER_IDS.decodeColumn( ByteBuffer.wrap( new byte[] { (byte) 0xE8, 0x07, 0 } ) ) )
+      .isInstanceOf( IllegalArgumentException.class );
+    assertThatThrownBy( () -> USER_IDS.decodeColumn( ByteBuffer.wrap( new byte[] { 2, (byte) 0x80, (byte) 0x80 } ) ) )
+      .isInstanceOf( BufferUnderflowException.class );
+    assertThatThrownBy( () -> NAMES.encode( new Name( null ), ByteBuffer.allocate( 4 ) ) )
+      .isInstanceOf( NullPointerException.class );
+  }
+
+  record UserId(long id) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return id;
+    }
+  }
+
+  record Name(String value) implements HasStringValue {
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+
+  static final class Quantity extends IntValue {
+    Quantity( final int value ) {
+      super( value );
+    }
+  }
+
+  enum Currency implements HasStringValue {
+    EURO( "EUR" ), ZLOTY( "PLN" );
+
+    private final String code;
+
+    Currency( final String code ) {
+      this.code = code;
+    }
+
+    @Override
+    public String get() {
+      return code;
+    }
+  }
+
+  enum Status implements HasValue<Integer> {
+    ACTIVE( 200 ), GONE( 410 );
+
+    private final int code;
+
+    Status( final int code ) {
+      this.code = code;
+    }
+
+    @Override
+    public Integer get() {
+      return code;
+    }
+  }
+
+  @SuppressWarnings( "ImmutableEnumChecker" )
+  enum Mixed implements HasValue<Object> {
+    TEXT( "text" ), NUMBER( 1L );
+
+    private final Object value;
+
+    Mixed( final Object value ) {
+      this.value = value;
+    }
+
+    @Override
+    public Object get() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.tguzik.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class VarintsTest {
+  private final ByteBuffer buffer = ByteBuffer.allocate( 64 );
+
+  @Test
+  void zigzag_encodes_small_numbers_as_small_numbers() {
+    assertThat( Varints.encodeZigZag( 0L ) ).isZero();
+    assertThat( Varints.encodeZigZag( -1L ) ).isEqualTo( 1L );
+    assertThat( Varints.encodeZigZag( 1L ) ).isEqualTo( 2L );
+    assertThat( Varints.encodeZigZag( -2L ) ).isEqualTo( 3L );
+    assertThat( Varints.encodeZigZag( Long.MIN_VALUE ) ).isEqualTo( -1L );
+    assertThat( Varints.encodeZigZag( Integer.MAX_VALUE ) ).isEqualTo( -2 );
+  }
+
+  @ParameterizedTest
+  @ValueSource( longs = {
+    0, 1, -1, 63, -64, 64, 300, -300, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE
+  } )
+  void writes_and_reads_signed_longs( final long value ) {
+    Varints.writeSigned( buffer, value );
+
+    assertThat( buffer.position() ).isEqualTo( Varints.signedSize( value ) );
+    assertThat( Varints.readSigned( buffer.flip() ) ).isEqualTo( value );
+    assertThat( buffer.hasRemaining() ).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource( ints = { 0, 1, -1, 127, 128, -129, Integer.MAX_VALUE, Integer.MIN_VALUE } )
+  void writes_and_reads_signed_ints( final int value ) {
+    Varints.writeSignedInt( buffer, value );
+
+    assertThat( buffer.position() ).isEqualTo( Varints.signedSize( value ) ).isLessThanOrEqualTo( Varints.MAX_INT_SIZE );
+    assertThat( Varints.readSignedInt( buffer.flip() ) ).isEqualTo( value );
+  }
+
+  @Test
+  void writes_unsigned_numbers_in_groups_of_seven_bits() {
+    Varints.writeUnsigned( buffer, 300 );
+    Varints.writeUnsigned( buffer, -1L );
+
+    assertThat( buffer.flip().remaining() ).isEqualTo( 2 + Varints.MAX_LONG_SIZE );
+    assertThat( buffer.get( 0 ) ).isEqualTo( (byte) 0xAC );
+    assertThat( buffer.get( 1 ) ).isEqualTo( (byte) 0x02 );
+    assertThat( Varints.unsignedSize( 0 ) ).isEqualTo( 1 );
+    assertThat( Varints.unsignedSize( 127 ) ).isEqualTo( 1 );
+    assertThat( Varints.unsignedSize( 128 ) ).isEqualTo( 2 );
+  }
+
+  @Test
+  void rejects_malformed_varints() {
+    for ( int i = 0; i < 11; i++ ) {
+      buffer.put( (byte) 0x80 );
+    }
+    assertThatThrownBy( () -> Varints.readUnsigned( buffer.flip() ) ).isInstanceOf( IllegalArgumentException.class );
+
+    buffer.clear();
+    Varints.writeUnsigned( buffer, 1L << Integer.SIZE );
+    assertThatThrownBy( () -> Varints.readUnsignedInt( buffer.flip() ) ).isInstanceOf( IllegalArgumentException.class );
+
+    final byte[] paddedZero = { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0 };
+    assertThat( Varints.readUnsigned( ByteBuffer.wrap( paddedZero ) ) ).isZero();
+    assertThatThrownBy( () -> Varints.readUnsignedInt( ByteBuffer.wrap( paddedZero ) ) )
+      .isInstanceOf( IllegalArgumentException.class )
+      .hasMessageContaining( "longer than 5 bytes" );
+
+    assertThatThrownBy( () -> Varints.readUnsigned( ByteBuffer.wrap( new byte[] { (byte) 0x80 } ) ) )
+      .isInstanceOf( BufferUnderflowException.class );
+  }
+}
@@ -0,0 +1,71 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads the held value with the deserializer of its type and passes it to a cached constructor handle. Exceptions thrown by
+ * the constructor, e.g. by validation, are reported as Jackson instantiation problems.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class CreatorDeserializer extends StdDeserializer<Object> {
+  private final JavaType heldType;
+  private final MethodHandle creator;
+  private final @Nullable ValueDeserializer<Object> heldDeserializer;
+
+  CreatorDeserializer( final JavaType type, final JavaType heldType, final MethodHandle creator ) {
+    this( type, heldType, creator, null );
+  }
+
+  private CreatorDeserializer( final JavaType type,
+                               final JavaType heldType,
+                               final MethodHandle creator,
+                               @Nullable final ValueDeserializer<Object> heldDeserializer ) {
+    super( type );
+    this.heldType = heldType;
+    this.creator = creator;
+    this.heldDeserializer = heldDeserializer;
+  }
+
+  @Override
+  public ValueDeserializer<?> createContextual( final DeserializationContext context, @Nullable final BeanProperty property ) {
+    final ValueDeserializer<Object> deserializer = context.findContextualValueDeserializer( heldType, property );
+    return new CreatorDeserializer( getValueType(), heldType, creator, deserializer );
+  }
+
+  @Override
+  @Nullable
+  public Object deserialize( final JsonParser parser, final DeserializationContext context ) {
+    final Object held = heldDeserializer == null ? context.readValue( parser, heldType ) : heldDeserializer.deserialize( parser,
+                                                                                                                        context );
+    return create( held, context );
+  }
+
+  @Override
+  public boolean isCachable() {
+    return true;
+  }
+
+  @Nullable
+  // The cast is required by invokeExact, see ValueClasses
+  @SuppressWarnings( { "PMD.AvoidCatchingThrowable", "PMD.UnnecessaryCast" } )
+  private Object create( @Nullable final Object held, final DeserializationContext context ) {
+    try {
+      return (Object) creator.invokeExact( held );
+    }
+    catch ( final Throwable e ) {
+      return context.handleInstantiationProblem( handledType(), held, e );
+    }
+  }
+}
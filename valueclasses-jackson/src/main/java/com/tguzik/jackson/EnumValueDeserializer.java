@@ -0,0 +1,69 @@
+package com.tguzik.jackson;
+
+import com.tguzik.traits.HasValue;
+import com.tguzik.value.EnumValueIndex;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads the held value and looks up the enum constant holding it in an {@link EnumValueIndex}. Unknown values are
+ * reported as errors, or read as null with {@link EnumFeature#READ_UNKNOWN_ENUM_VALUES_AS_NULL}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class EnumValueDeserializer extends StdDeserializer<Object> {
+  private final JavaType heldType;
+  private final EnumValueIndex<?, ?> index;
+  private final @Nullable ValueDeserializer<Object> heldDeserializer;
+
+  EnumValueDeserializer( final JavaType type, final JavaType heldType ) {
+    this( type, heldType, indexOf( type.getRawClass() ), null );
+  }
+
+  private EnumValueDeserializer( final JavaType type,
+                                 final JavaType heldType,
+                                 final EnumValueIndex<?, ?> index,
+                                 @Nullable final ValueDeserializer<Object> heldDeserializer ) {
+    super( type );
+    this.heldType = heldType;
+    this.index = index;
+    this.heldDeserializer = heldDeserializer;
+  }
+
+  @Override
+  public ValueDeserializer<?> createContextual( final DeserializationContext context, @Nullable final BeanProperty property ) {
+    final ValueDeserializer<Object> deserializer = context.findContextualValueDeserializer( heldType, property );
+    return new EnumValueDeserializer( getValueType(), heldType, index, deserializer );
+  }
+
+  @Override
+  @Nullable
+  public Object deserialize( final JsonParser parser, final DeserializationContext context ) {
+    final Object held = heldDeserializer == null ? context.readValue( parser, heldType ) : heldDeserializer.deserialize( parser,
+                                                                                                                        context );
+    final Object constant = index.get( held );
+    if ( constant != null || context.isEnabled( EnumFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL ) ) {
+      return constant;
+    }
+    return context.reportInputMismatch( this, "No constant of %s holds the value %s", handledType().getName(), held );
+  }
+
+  @Override
+  public boolean isCachable() {
+    return true;
+  }
+
+  @SuppressWarnings( { "unchecked", "rawtypes" } )
+  static EnumValueIndex<?, ?> indexOf( final Class<?> type ) {
+    return EnumValueIndex.forEnum( (Class) type.asSubclass( HasValue.class ) );
+  }
+}
@@ -0,0 +1,65 @@
+package com.tguzik.jackson;
+
+import com.tguzik.value.EnumValueIndex;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.KeyDeserializer;
+import tools.jackson.databind.cfg.EnumFeature;
+
+/**
+ * Reads a map key into the enum constant holding it. Keys of enums holding integral numbers are parsed straight into a
+ * {@code long} and looked up with {@link EnumValueIndex#getByLong(long)}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class EnumValueKeyDeserializer extends KeyDeserializer {
+  private final JavaType heldType;
+  private final EnumValueIndex<?, ?> index;
+  private final boolean integral;
+  private @Nullable KeyDeserializer heldDeserializer;
+
+  EnumValueKeyDeserializer( final JavaType type, final JavaType heldType ) {
+    super();
+    this.heldType = heldType;
+    this.index = EnumValueDeserializer.indexOf( type.getRawClass() );
+    this.integral = heldType.hasRawClass( Long.class ) || heldType.hasRawClass( Integer.class );
+  }
+
+  @Override
+  public void resolve( final DeserializationContext context ) {
+    if ( !integral && !heldType.hasRawClass( String.class ) ) {
+      heldDeserializer = context.findKeyDeserializer( heldType, null );
+    }
+  }
+
+  @Override
+  @Nullable
+  public Object deserializeKey( final String key, final DeserializationContext context ) {
+    final Object constant;
+    if ( integral ) {
+      constant = lookUpNumber( key, context );
+    }
+    else {
+      constant = index.get( heldDeserializer == null ? key : heldDeserializer.deserializeKey( key, context ) );
+    }
+
+    if ( constant != null || context.isEnabled( EnumFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL ) ) {
+      return constant;
+    }
+    return context.handleWeirdKey( index.getType(), key, "no constant holds this value" );
+  }
+
+  @Nullable
+  private Object lookUpNumber( final String key, final DeserializationContext context ) {
+    try {
+      return index.getByLong( Long.parseLong( key ) );
+    }
+    catch ( final NumberFormatException e ) {
+      return context.handleWeirdKey( index.getType(), key, "not a valid " + heldType.getRawClass().getSimpleName() );
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.tguzik.jackson;
+
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a {@link HasValue} as the value it holds. Strings and the common number types go straight to the generator; other
+ * values are written by the serializer that Jackson uses for their type.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "rawtypes" } )
+final class HasValueSerializer extends StdSerializer<HasValue> {
+
+  HasValueSerializer() {
+    super( HasValue.class );
+  }
+
+  @Override
+  public void serialize( final HasValue value, final JsonGenerator generator, final SerializationContext context ) {
+    writeHeld( value.get(), generator, context );
+  }
+
+  @Override
+  public boolean isEmpty( final SerializationContext context, final HasValue value ) {
+    return value.get() == null;
+  }
+
+  static void writeHeld( @Nullable final Object held, final JsonGenerator generator, final SerializationContext context ) {
+    if ( held == null ) {
+      context.defaultSerializeNullValue( generator );
+    }
+    else if ( held instanceof String string ) {
+      generator.writeString( string );
+    }
+    else if ( held instanceof Long number ) {
+      generator.writeNumber( number.longValue() );
+    }
+    else if ( held instanceof Integer number ) {
+      generator.writeNumber( number.intValue() );
+    }
+    else if ( held instanceof Double number ) {
+      generator.writeNumber( number.doubleValue() );
+    }
+    else if ( held instanceof Boolean bool ) {
+      generator.writeBoolean( bool );
+    }
+    else {
+      context.writeValue( generator, held );
+    }
+  }
+}
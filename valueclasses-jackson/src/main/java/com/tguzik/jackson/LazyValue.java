@@ -0,0 +1,105 @@
+package com.tguzik.jackson;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Field type that defers creating a value class until the value is needed, for large documents of which only a few fields
+ * are read:
+ * <pre>{@code
+ * record Order(LazyValue<CustomerName> customerName, LazyValue<OrderId> orderId, ...) {
+ * }
+ * }</pre>
+ * With {@link ValueClassesModule} registered, Jackson keeps the string or the number read from the document and calls the
+ * constructor of the value class, including any normalization and validation it does, on the first call to {@link #get()}.
+ * Exceptions thrown by the constructor are thrown from that call too, every time it is made. Values that the value class is
+ * not created from directly, e.g. held values of other types or coerced tokens, are created while parsing.
+ * <p>
+ * The value is created at most once, even if several threads call {@link #get()} at the same time; afterwards the
+ * instance doesn't refer to the raw value anymore. Instances are written to JSON as the value class, which creates it.
+ * Two instances are equal if their values are equal.
+ *
+ * @param <T> type of the value class
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+public final class LazyValue<T> implements HasValue<T> {
+  /**
+   * Either {@link Pending}, or the value once it has been created. Read without locking once created.
+   */
+  @SuppressWarnings( "PMD.AvoidUsingVolatile" )
+  private volatile Object state;
+
+  private LazyValue( final Object state ) {
+    this.state = state;
+  }
+
+  /**
+   * @return instance holding an already created value
+   */
+  public static <T> LazyValue<T> materialized( final T value ) {
+    return new LazyValue<>( Objects.requireNonNull( value, "Value parameter cannot be null!" ) );
+  }
+
+  /**
+   * @param raw value read from the document
+   * @param materializer function that creates the value class from the raw value
+   */
+  static <T> LazyValue<T> deferred( final Object raw, final Function<Object, ? extends T> materializer ) {
+    return new LazyValue<>( new Pending( raw, materializer ) );
+  }
+
+  /**
+   * @return the value, created on the first call
+   */
+  @Override
+  @SuppressWarnings( "unchecked" )
+  public T get() {
+    final Object current = state;
+    return current instanceof Pending ? materialize() : (T) current;
+  }
+
+  /**
+   * @return true if the value has been created
+   */
+  public boolean isMaterialized() {
+    return !( state instanceof Pending );
+  }
+
+  @Override
+  public int hashCode() {
+    return get().hashCode();
+  }
+
+  @Override
+  public boolean equals( @Nullable final Object obj ) {
+    return obj instanceof LazyValue<?> other && get().equals( other.get() );
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf( get() );
+  }
+
+  // The monitor of the instance costs no memory, unlike a lock object per value
+  @SuppressWarnings( { "unchecked", "PMD.AvoidSynchronizedStatement" } )
+  private T materialize() {
+    synchronized ( this ) {
+      final Object current = state;
+      if ( current instanceof Pending pending ) {
+        final T value = (T) Objects.requireNonNull( pending.materializer().apply( pending.raw() ) );
+        state = value;
+        return value;
+      }
+      return (T) current;
+    }
+  }
+
+  private record Pending(Object raw, Function<Object, ?> materializer) {
+  }
+}
@@ -0,0 +1,148 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.introspect.AnnotatedClass;
+
+/**
+ * Reads a {@link LazyValue}. When the value class has a constructor taking a string, a {@code long}, an {@code int} or a
+ * {@code double} (or their wrappers) and the document has a matching token, the token is kept and the constructor is called
+ * on first use. Otherwise, or if the value class declares {@code @JsonCreator} or {@code @JsonValue}, the value class is
+ * read right away, by its own deserializer, so that coercions and errors are the same as without {@link LazyValue}.
+ * <p>
+ * Jackson reuses its input buffers, so a span of the input can't outlive parsing - strings are kept as the {@code String}
+ * that the parser creates anyway.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class LazyValueDeserializer extends StdDeserializer<LazyValue<?>> {
+  private static final Set<Class<?>> DEFERRED_TYPES = Set.of( String.class, Long.class, Integer.class, Double.class );
+
+  private final JavaType valueType;
+  private final @Nullable Class<?> heldType;
+  private final @Nullable Materializer materializer;
+  private final @Nullable ValueDeserializer<Object> valueDeserializer;
+
+  LazyValueDeserializer( final JavaType type ) {
+    this( type, null, null, null );
+  }
+
+  private LazyValueDeserializer( final JavaType type,
+                                 @Nullable final Class<?> heldType,
+                                 @Nullable final Materializer materializer,
+                                 @Nullable final ValueDeserializer<Object> valueDeserializer ) {
+    super( type );
+    this.valueType = type.containedTypeOrUnknown( 0 );
+    this.heldType = heldType;
+    this.materializer = materializer;
+    this.valueDeserializer = valueDeserializer;
+  }
+
+  @Override
+  public ValueDeserializer<?> createContextual( final DeserializationContext context, @Nullable final BeanProperty property ) {
+    final ValueDeserializer<Object> deserializer = context.findContextualValueDeserializer( valueType, property );
+    final Class<?> rawType = valueType.getRawClass();
+    if ( rawType.isEnum() || !ValueClasses.isValueClass( rawType, false ) || hasJacksonAnnotations( context ) ) {
+      return new LazyValueDeserializer( getValueType(), null, null, deserializer );
+    }
+
+    final Class<?> held = ValueClasses.wrap( ValueClasses.heldType( valueType, context.getTypeFactory() ).getRawClass() );
+    if ( !DEFERRED_TYPES.contains( held ) ) {
+      return new LazyValueDeserializer( getValueType(), null, null, deserializer );
+    }
+
+    return ValueClasses.exactCreator( rawType, held )
+                       .map( creator -> new Materializer( creator.asType( ValueClasses.OBJECT_TO_OBJECT ) ) )
+                       .map( materializer -> new LazyValueDeserializer( getValueType(), held, materializer, deserializer ) )
+                       .orElseGet( () -> new LazyValueDeserializer( getValueType(), null, null, deserializer ) );
+  }
+
+  @Override
+  @Nullable
+  public LazyValue<?> deserialize( final JsonParser parser, final DeserializationContext context ) {
+    final Object raw = materializer == null ? null : raw( parser );
+    if ( raw != null ) {
+      return LazyValue.deferred( raw, materializer );
+    }
+
+    final Object value = valueDeserializer == null
+                         ? context.readValue( parser, valueType )
+                         : valueDeserializer.deserialize( parser, context );
+    return value == null ? null : LazyValue.materialized( value );
+  }
+
+  @Override
+  public boolean isCachable() {
+    return true;
+  }
+
+  /**
+   * @return true if Jackson binds the value class through its annotations, which the constructor of deferred values would
+   *   bypass
+   */
+  private boolean hasJacksonAnnotations( final DeserializationContext context ) {
+    final DeserializationConfig config = context.getConfig();
+    final AnnotatedClass classInfo = config.classIntrospectorInstance().introspectClassAnnotations( valueType );
+    return ValueClasses.hasJacksonAnnotations( config, classInfo );
+  }
+
+  /**
+   * @return the current token as the held type, or null if it has to be coerced to become one
+   */
+  @Nullable
+  private Object raw( final JsonParser parser ) {
+    final JsonToken token = parser.currentToken();
+    if ( heldType == String.class ) {
+      return token == JsonToken.VALUE_STRING ? parser.getString() : null;
+    }
+    if ( token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT ) {
+      return null;
+    }
+    if ( heldType == Double.class ) {
+      return parser.getDoubleValue();
+    }
+    if ( token != JsonToken.VALUE_NUMBER_INT ) {
+      return null;
+    }
+    return heldType == Long.class ? (Object) parser.getLongValue() : (Object) parser.getIntValue();
+  }
+
+  /**
+   * Calls the constructor of the value class. Exceptions thrown by it are rethrown as they are, checked ones wrapped in
+   * {@link IllegalStateException}.
+   */
+  private record Materializer(MethodHandle creator) implements Function<Object, Object> {
+    @Override
+    // The cast is required by invokeExact, see ValueClasses
+    @SuppressWarnings( { "PMD.AvoidCatchingThrowable", "PMD.UnnecessaryCast" } )
+    public Object apply( final Object raw ) {
+      try {
+        return (Object) creator.invokeExact( raw );
+      }
+      catch ( final Throwable e ) {
+        throw unchecked( e );
+      }
+    }
+
+    private static RuntimeException unchecked( final Throwable throwable ) {
+      if ( throwable instanceof Error error ) {
+        throw error;
+      }
+      return throwable instanceof RuntimeException runtime ? runtime : new IllegalStateException( throwable );
+    }
+  }
+}
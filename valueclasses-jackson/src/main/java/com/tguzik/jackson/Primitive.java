@@ -0,0 +1,75 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.tguzik.traits.HasDoubleValue;
+import com.tguzik.traits.HasIntValue;
+import com.tguzik.traits.HasLongValue;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Primitive types that value classes are read and written as without boxing, together with the specialization of
+ * {@link com.tguzik.traits.HasValue} that exposes them.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+enum Primitive {
+  LONG( long.class, HasLongValue.class, "getAsLong" ),
+  INT( int.class, HasIntValue.class, "getAsInt" ),
+  DOUBLE( double.class, HasDoubleValue.class, "getAsDouble" );
+
+  private final Class<?> type;
+  private final Class<?> specialization;
+  private final String getterName;
+
+  Primitive( final Class<?> type, final Class<?> specialization, final String getterName ) {
+    this.type = type;
+    this.specialization = specialization;
+    this.getterName = getterName;
+  }
+
+  static Optional<Primitive> forType( final Class<?> type ) {
+    return Arrays.stream( values() ).filter( primitive -> primitive.type == type ).findFirst();
+  }
+
+  /**
+   * @return the primitive exposed by the specialization of {@code HasValue} that the class implements
+   */
+  static Optional<Primitive> forSpecialization( final Class<?> valueClass ) {
+    return Arrays.stream( values() ).filter( primitive -> primitive.specialization.isAssignableFrom( valueClass ) ).findFirst();
+  }
+
+  /**
+   * @return handle to the getter of the specialization, e.g. {@link HasLongValue#getAsLong()}, of {@link #getterType()}
+   */
+  MethodHandle specializationGetter() {
+    try {
+      return MethodHandles.publicLookup()
+                          .findVirtual( specialization, getterName, MethodType.methodType( type ) )
+                          .asType( getterType() );
+    }
+    catch ( final NoSuchMethodException | IllegalAccessException e ) {
+      throw new IllegalStateException( "Cannot access " + specialization.getName() + "." + getterName, e );
+    }
+  }
+
+  /**
+   * @return signature of a getter that takes the value class as {@code Object} and returns this primitive
+   */
+  MethodType getterType() {
+    return MethodType.methodType( type, Object.class );
+  }
+
+  /**
+   * @return signature of a creator that takes this primitive and returns the value class as {@code Object}
+   */
+  MethodType creatorType() {
+    return MethodType.methodType( Object.class, type );
+  }
+}
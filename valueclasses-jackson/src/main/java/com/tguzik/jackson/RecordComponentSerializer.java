@@ -0,0 +1,51 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a single-component record as the value of its component, read through a cached accessor handle.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class RecordComponentSerializer extends StdSerializer<Object> {
+  private final MethodHandle accessor;
+
+  RecordComponentSerializer( final Class<?> type, final MethodHandle accessor ) {
+    super( type );
+    this.accessor = accessor;
+  }
+
+  @Override
+  public void serialize( final Object value, final JsonGenerator generator, final SerializationContext context ) {
+    HasValueSerializer.writeHeld( read( value, context ), generator, context );
+  }
+
+  @Override
+  public boolean isEmpty( final SerializationContext context, final Object value ) {
+    return read( value, context ) == null;
+  }
+
+  @Nullable
+  // The cast is required by invokeExact, see ValueClasses
+  @SuppressWarnings( { "PMD.AvoidCatchingThrowable", "PMD.UnnecessaryCast" } )
+  private Object read( final Object value, final SerializationContext context ) {
+    try {
+      return (Object) accessor.invokeExact( value );
+    }
+    catch ( final Error e ) {
+      throw e;
+    }
+    catch ( final Throwable e ) {
+      throw DatabindException.from( context, "Cannot read the component of " + handledType().getName(), e );
+    }
+  }
+}
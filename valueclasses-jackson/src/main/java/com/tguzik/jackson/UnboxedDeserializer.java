@@ -0,0 +1,91 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads a value class through a constructor that takes a {@link Primitive}. Numbers are taken straight from the parser,
+ * e.g. with {@link JsonParser#getLongValue()}, and passed to the constructor without boxing. Other tokens, e.g. numbers in
+ * strings, go through the coercion rules that Jackson applies to primitives.
+ * <p>
+ * Like for any other type, Jackson reads JSON nulls as null references without calling this deserializer.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class UnboxedDeserializer extends StdDeserializer<Object> {
+  /**
+   * Signature of the creator once adapted to take any of the primitives as a {@code long}. Ints are widened, doubles are
+   * passed as their bits.
+   */
+  private static final MethodType LONG_CREATOR_TYPE = Primitive.LONG.creatorType();
+
+  private final Primitive primitive;
+  private final MethodHandle creator;
+
+  /**
+   * @param creator handle of {@link Primitive#creatorType()}
+   */
+  UnboxedDeserializer( final JavaType type, final Primitive primitive, final MethodHandle creator ) {
+    super( type );
+    this.primitive = primitive;
+    this.creator = switch ( primitive ) {
+      case LONG -> creator;
+      case INT -> MethodHandles.explicitCastArguments( creator, LONG_CREATOR_TYPE );
+      case DOUBLE -> MethodHandles.filterArguments( creator, 0, longBitsToDouble() );
+    };
+  }
+
+  @Override
+  @Nullable
+  public Object deserialize( final JsonParser parser, final DeserializationContext context ) {
+    final long value = switch ( primitive ) {
+      case LONG -> parser.isExpectedNumberIntToken() ? parser.getLongValue() : _parseLongPrimitive( parser, context );
+      case INT -> parser.isExpectedNumberIntToken() ? parser.getIntValue() : _parseIntPrimitive( parser, context );
+      case DOUBLE -> Double.doubleToRawLongBits( parser.currentToken().isNumeric() ? parser.getDoubleValue()
+                                                                                   : _parseDoublePrimitive( parser, context ) );
+    };
+    return create( value, context );
+  }
+
+  @Override
+  public boolean isCachable() {
+    return true;
+  }
+
+  @Nullable
+  // The cast is required by invokeExact, see ValueClasses
+  @SuppressWarnings( { "PMD.AvoidCatchingThrowable", "PMD.UnnecessaryCast" } )
+  private Object create( final long value, final DeserializationContext context ) {
+    try {
+      return (Object) creator.invokeExact( value );
+    }
+    catch ( final Throwable e ) {
+      final Object held = switch ( primitive ) {
+        case LONG -> value;
+        case INT -> (int) value;
+        case DOUBLE -> Double.longBitsToDouble( value );
+      };
+      return context.handleInstantiationProblem( handledType(), held, e );
+    }
+  }
+
+  private static MethodHandle longBitsToDouble() {
+    try {
+      return MethodHandles.publicLookup()
+                          .findStatic( Double.class, "longBitsToDouble", MethodType.methodType( double.class, long.class ) );
+    }
+    catch ( final NoSuchMethodException | IllegalAccessException e ) {
+      throw new IllegalStateException( "Cannot access " + Double.class.getName() + ".longBitsToDouble", e );
+    }
+  }
+}
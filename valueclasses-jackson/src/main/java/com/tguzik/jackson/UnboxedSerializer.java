@@ -0,0 +1,49 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+
+import org.jspecify.annotations.NullMarked;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a value class holding a {@link Primitive} with {@link JsonGenerator#writeNumber(long)} and its overloads. The
+ * number is read through a getter handle that returns the primitive, so it is never boxed.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class UnboxedSerializer extends StdSerializer<Object> {
+  private final Primitive primitive;
+  private final MethodHandle getter;
+
+  /**
+   * @param getter handle of {@link Primitive#getterType()}
+   */
+  UnboxedSerializer( final Class<?> type, final Primitive primitive, final MethodHandle getter ) {
+    super( type );
+    this.primitive = primitive;
+    this.getter = getter;
+  }
+
+  @Override
+  @SuppressWarnings( "PMD.AvoidCatchingThrowable" )
+  public void serialize( final Object value, final JsonGenerator generator, final SerializationContext context ) {
+    try {
+      switch ( primitive ) {
+        case LONG -> generator.writeNumber( (long) getter.invokeExact( value ) );
+        case INT -> generator.writeNumber( (int) getter.invokeExact( value ) );
+        case DOUBLE -> generator.writeNumber( (double) getter.invokeExact( value ) );
+      }
+    }
+    catch ( final Error | DatabindException e ) {
+      throw e;
+    }
+    catch ( final Throwable e ) {
+      throw DatabindException.from( context, "Cannot read the value of " + handledType().getName(), e );
+    }
+  }
+}
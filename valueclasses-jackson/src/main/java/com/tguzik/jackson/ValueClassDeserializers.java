@@ -0,0 +1,92 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.Deserializers;
+
+/**
+ * Provides deserializers for value classes that have a public constructor taking the held value, and for enums
+ * implementing {@link HasValue}. Constructors taking a {@link Primitive} get it straight from the parser, without boxing.
+ * Other types, e.g. value classes created by factory methods or declaring {@code @JsonCreator} or {@code @JsonValue}, are
+ * left to Jackson.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class ValueClassDeserializers extends Deserializers.Base {
+  private final boolean singleComponentRecords;
+
+  ValueClassDeserializers( final boolean singleComponentRecords ) {
+    super();
+    this.singleComponentRecords = singleComponentRecords;
+  }
+
+  @Override
+  @Nullable
+  public ValueDeserializer<?> findBeanDeserializer( final JavaType type,
+                                                    final DeserializationConfig config,
+                                                    final BeanDescription.Supplier beanDescription ) {
+    final Class<?> rawType = type.getRawClass();
+    if ( rawType == LazyValue.class ) {
+      return new LazyValueDeserializer( type );
+    }
+    if ( !ValueClasses.isValueClass( rawType, singleComponentRecords )
+         || ValueClasses.hasJacksonAnnotations( config, beanDescription.getClassInfo() ) ) {
+      return null;
+    }
+
+    final JavaType heldType = ValueClasses.heldType( type, config.getTypeFactory() );
+    return ValueClasses.creator( rawType, heldType.getRawClass() )
+                       .map( creator -> creatorDeserializer( type, heldType, creator ) )
+                       .orElse( null );
+  }
+
+  @Override
+  @Nullable
+  public ValueDeserializer<?> findEnumDeserializer( final JavaType type,
+                                                    final DeserializationConfig config,
+                                                    final BeanDescription.Supplier beanDescription ) {
+    if ( !HasValue.class.isAssignableFrom( type.getRawClass() )
+         || ValueClasses.hasJacksonAnnotations( config, beanDescription.getClassInfo() ) ) {
+      return null;
+    }
+    return new EnumValueDeserializer( type, ValueClasses.heldType( type, config.getTypeFactory() ) );
+  }
+
+  private static ValueDeserializer<?> creatorDeserializer( final JavaType type,
+                                                          final JavaType heldType,
+                                                          final MethodHandle creator ) {
+    return Primitive.forType( creator.type().parameterType( 0 ) )
+                    .<ValueDeserializer<?>>map( primitive -> new UnboxedDeserializer( type, primitive, creator ) )
+                    .orElseGet( () -> new CreatorDeserializer( type,
+                                                               heldType,
+                                                               creator.asType( ValueClasses.OBJECT_TO_OBJECT ) ) );
+  }
+
+  @Override
+  public boolean hasDeserializerFor( final DeserializationConfig config, final Class<?> valueType ) {
+    if ( valueType == LazyValue.class ) {
+      return true;
+    }
+    final boolean candidate = valueType.isEnum() ? HasValue.class.isAssignableFrom( valueType )
+                                                 : ValueClasses.isValueClass( valueType, singleComponentRecords );
+    if ( !candidate ) {
+      return false;
+    }
+
+    final JavaType type = config.constructType( valueType );
+    if ( ValueClasses.hasJacksonAnnotations( config, config.classIntrospectorInstance().introspectClassAnnotations( type ) ) ) {
+      return false;
+    }
+    return valueType.isEnum()
+           || ValueClasses.creator( valueType, ValueClasses.heldType( type, config.getTypeFactory() ).getRawClass() ).isPresent();
+  }
+}
@@ -0,0 +1,91 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+
+import com.tguzik.value.ValueInterner;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.KeyDeserializer;
+
+/**
+ * Reads a map key into a value class through the constructor that takes the held value. Keys are parsed straight into
+ * {@link Primitive}s, strings are passed as they are, and held values of other types are read by the key deserializer that
+ * Jackson uses for their type. The created instances are optionally canonicalized, since map keys tend to repeat across
+ * messages.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class ValueClassKeyDeserializer extends KeyDeserializer {
+  private final JavaType heldType;
+  private final Class<?> type;
+  private final @Nullable Primitive primitive;
+  private final MethodHandle creator;
+  private final @Nullable ValueInterner<Object> interner;
+  private @Nullable KeyDeserializer heldDeserializer;
+
+  /**
+   * @param primitive primitive taken by the creator, or null if the creator takes an {@code Object}
+   * @param creator handle of {@link Primitive#creatorType()}, or of {@link ValueClasses#OBJECT_TO_OBJECT} without primitive
+   * @param interner interner of the created instances, or null to not canonicalize them
+   */
+  ValueClassKeyDeserializer( final Class<?> type,
+                             final JavaType heldType,
+                             @Nullable final Primitive primitive,
+                             final MethodHandle creator,
+                             @Nullable final ValueInterner<Object> interner ) {
+    super();
+    this.type = type;
+    this.heldType = heldType;
+    this.primitive = primitive;
+    this.creator = creator;
+    this.interner = interner;
+  }
+
+  @Override
+  public void resolve( final DeserializationContext context ) {
+    if ( primitive == null && !heldType.hasRawClass( String.class ) ) {
+      heldDeserializer = context.findKeyDeserializer( heldType, null );
+    }
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings( "PMD.AvoidCatchingThrowable" )
+  public Object deserializeKey( final String key, final DeserializationContext context ) {
+    final Object value;
+    try {
+      value = create( key, context );
+    }
+    catch ( final NumberFormatException e ) {
+      return context.handleWeirdKey( type, key, "not a valid " + heldType.getRawClass().getSimpleName() );
+    }
+    catch ( final Error | JacksonException e ) {
+      throw e;
+    }
+    catch ( final Throwable e ) {
+      return context.handleWeirdKey( type, key, "not a valid representation, problem: %s", e );
+    }
+    return interner == null || value == null ? value : interner.intern( value );
+  }
+
+  // The cast is required by invokeExact, see ValueClasses
+  @Nullable
+  @SuppressWarnings( "PMD.UnnecessaryCast" )
+  private Object create( final String key, final DeserializationContext context ) throws Throwable {
+    if ( primitive == null ) {
+      final Object held = heldDeserializer == null ? key : heldDeserializer.deserializeKey( key, context );
+      return held == null ? null : (Object) creator.invokeExact( held );
+    }
+
+    return switch ( primitive ) {
+      case LONG -> (Object) creator.invokeExact( Long.parseLong( key ) );
+      case INT -> (Object) creator.invokeExact( Integer.parseInt( key ) );
+      case DOUBLE -> (Object) creator.invokeExact( Double.parseDouble( key ) );
+    };
+  }
+}
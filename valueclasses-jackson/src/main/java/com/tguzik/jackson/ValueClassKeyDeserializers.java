@@ -0,0 +1,79 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Optional;
+
+import com.tguzik.traits.HasValue;
+import com.tguzik.value.ValueInterner;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.KeyDeserializer;
+import tools.jackson.databind.deser.KeyDeserializers;
+
+/**
+ * Provides deserializers of map keys for value classes that have a public constructor taking the held value, and for enums
+ * implementing {@link HasValue}. Value classes declaring {@code @JsonCreator}, {@code @JsonValue} or {@code @JsonKey} are
+ * left to Jackson. When canonicalization is on, every value class gets its own bounded
+ * {@link ValueInterner}, shared by all the maps that use it as the key.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class ValueClassKeyDeserializers implements KeyDeserializers {
+  private final boolean singleComponentRecords;
+  private final @Nullable ClassValue<ValueInterner<Object>> interners;
+
+  /**
+   * @param canonicalKeys maximum number of canonical instances per value class, or 0 to not canonicalize the keys
+   */
+  ValueClassKeyDeserializers( final boolean singleComponentRecords, final int canonicalKeys ) {
+    this.singleComponentRecords = singleComponentRecords;
+    this.interners = internersOfSize( canonicalKeys );
+  }
+
+  @Override
+  @Nullable
+  public KeyDeserializer findKeyDeserializer( final JavaType type,
+                                              final DeserializationConfig config,
+                                              final BeanDescription.Supplier beanDescription ) {
+    final Class<?> rawType = type.getRawClass();
+    if ( !ValueClasses.isValueClass( rawType, singleComponentRecords )
+         || ValueClasses.hasJacksonKeyAnnotations( config, beanDescription.getClassInfo() ) ) {
+      return null;
+    }
+    if ( rawType.isEnum() ) {
+      return new EnumValueKeyDeserializer( type, ValueClasses.heldType( type, config.getTypeFactory() ) );
+    }
+
+    final JavaType heldType = ValueClasses.heldType( type, config.getTypeFactory() );
+    return ValueClasses.creator( rawType, heldType.getRawClass() )
+                       .map( creator -> creatorKeyDeserializer( rawType, heldType, creator ) )
+                       .orElse( null );
+  }
+
+  @Nullable
+  private static ClassValue<ValueInterner<Object>> internersOfSize( final int canonicalKeys ) {
+    if ( canonicalKeys == 0 ) {
+      return null;
+    }
+
+    return new ClassValue<>() {
+      @Override
+      protected ValueInterner<Object> computeValue( final Class<?> type ) {
+        return ValueInterner.bounded( canonicalKeys );
+      }
+    };
+  }
+
+  private KeyDeserializer creatorKeyDeserializer( final Class<?> type, final JavaType heldType, final MethodHandle creator ) {
+    final @Nullable ValueInterner<Object> interner = interners == null ? null : interners.get( type );
+    final Optional<Primitive> primitive = Primitive.forType( creator.type().parameterType( 0 ) );
+    return primitive.isPresent()
+           ? new ValueClassKeyDeserializer( type, heldType, primitive.get(), creator, interner )
+           : new ValueClassKeyDeserializer( type, heldType, null, creator.asType( ValueClasses.OBJECT_TO_OBJECT ), interner );
+  }
+}
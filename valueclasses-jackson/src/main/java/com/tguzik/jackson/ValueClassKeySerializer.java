@@ -0,0 +1,73 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a value class used as a map key as the name of the property. Integral numbers are written with
+ * {@link JsonGenerator#writePropertyId(long)}, which lets the generator skip the intermediate {@code String}; held values of
+ * other types are written by the key serializer that Jackson uses for their type.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class ValueClassKeySerializer extends StdSerializer<Object> {
+  private final @Nullable Primitive primitive;
+  private final MethodHandle getter;
+
+  /**
+   * @param primitive primitive returned by the getter, or null if the getter returns an {@code Object}
+   * @param getter handle of {@link Primitive#getterType()}, or of {@link ValueClasses#OBJECT_TO_OBJECT} without primitive
+   */
+  ValueClassKeySerializer( final Class<?> type, @Nullable final Primitive primitive, final MethodHandle getter ) {
+    super( type );
+    this.primitive = primitive;
+    this.getter = getter;
+  }
+
+  @Override
+  // The cast is required by invokeExact, see ValueClasses
+  @SuppressWarnings( { "PMD.AvoidCatchingThrowable", "PMD.UnnecessaryCast" } )
+  public void serialize( final Object value, final JsonGenerator generator, final SerializationContext context ) {
+    try {
+      if ( primitive == null ) {
+        writeHeldName( (Object) getter.invokeExact( value ), generator, context );
+        return;
+      }
+
+      switch ( primitive ) {
+        case LONG -> generator.writePropertyId( (long) getter.invokeExact( value ) );
+        case INT -> generator.writePropertyId( (int) getter.invokeExact( value ) );
+        case DOUBLE -> generator.writeName( Double.toString( (double) getter.invokeExact( value ) ) );
+      }
+    }
+    catch ( final Error | DatabindException e ) {
+      throw e;
+    }
+    catch ( final Throwable e ) {
+      throw DatabindException.from( context, "Cannot read the value of " + handledType().getName(), e );
+    }
+  }
+
+  private void writeHeldName( @Nullable final Object held, final JsonGenerator generator, final SerializationContext context ) {
+    if ( held == null ) {
+      context.findNullKeySerializer( context.constructType( handledType() ), null ).serialize( null, generator, context );
+    }
+    else if ( held instanceof String string ) {
+      generator.writeName( string );
+    }
+    else if ( held instanceof Long || held instanceof Integer ) {
+      generator.writePropertyId( ( (Number) held ).longValue() );
+    }
+    else {
+      context.findKeySerializer( held.getClass(), null ).serialize( held, generator, context );
+    }
+  }
+}
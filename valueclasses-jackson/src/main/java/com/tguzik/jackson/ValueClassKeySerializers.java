@@ -0,0 +1,72 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.Serializers;
+
+/**
+ * Provides serializers of map keys for value classes, including enums implementing {@link HasValue}. Value classes
+ * declaring {@code @JsonKey}, {@code @JsonValue} or {@code @JsonCreator} are left to Jackson.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class ValueClassKeySerializers extends Serializers.Base {
+  private final boolean singleComponentRecords;
+
+  ValueClassKeySerializers( final boolean singleComponentRecords ) {
+    super();
+    this.singleComponentRecords = singleComponentRecords;
+  }
+
+  @Override
+  @Nullable
+  public ValueSerializer<?> findSerializer( final SerializationConfig config,
+                                            final JavaType type,
+                                            final BeanDescription.Supplier beanDescription,
+                                            final JsonFormat.@Nullable Value format ) {
+    final Class<?> rawType = type.getRawClass();
+    final boolean valueClass = HasValue.class.isAssignableFrom( rawType )
+                               || ( singleComponentRecords && ValueClasses.isSingleComponentRecord( rawType ) );
+    if ( !valueClass || ValueClasses.hasJacksonKeyAnnotations( config, beanDescription.getClassInfo() ) ) {
+      return null;
+    }
+    if ( HasValue.class.isAssignableFrom( rawType ) ) {
+      return Primitive.forSpecialization( rawType )
+                      .map( primitive -> new ValueClassKeySerializer( rawType, primitive, primitive.specializationGetter() ) )
+                      .or( () -> ValueClasses.componentAccessor( rawType )
+                                             .filter( accessor -> accessor.type().returnType().isPrimitive() )
+                                             .map( accessor -> componentKeySerializer( rawType, accessor ) ) )
+                      .orElseGet( () -> new ValueClassKeySerializer( rawType, null, ValueClasses.getterOfHasValue() ) );
+    }
+    return ValueClasses.componentAccessor( rawType )
+                       .map( accessor -> componentKeySerializer( rawType, accessor ) )
+                       .orElse( null );
+  }
+
+  @Override
+  @Nullable
+  public ValueSerializer<?> findEnumSerializer( final SerializationConfig config,
+                                                final JavaType type,
+                                                final BeanDescription.Supplier beanDescription,
+                                                final JsonFormat.@Nullable Value format ) {
+    return findSerializer( config, type, beanDescription, format );
+  }
+
+  private static ValueClassKeySerializer componentKeySerializer( final Class<?> type, final MethodHandle accessor ) {
+    final Optional<Primitive> primitive = Primitive.forType( accessor.type().returnType() );
+    return primitive.isPresent()
+           ? new ValueClassKeySerializer( type, primitive.get(), accessor )
+           : new ValueClassKeySerializer( type, null, accessor.asType( ValueClasses.OBJECT_TO_OBJECT ) );
+  }
+}
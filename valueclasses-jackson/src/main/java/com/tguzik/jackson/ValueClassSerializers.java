@@ -0,0 +1,87 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.Serializers;
+
+/**
+ * Provides serializers for value classes, including enums implementing {@link HasValue}. Value classes holding a
+ * {@link Primitive} are written without boxing it. Value classes declaring {@code @JsonValue} or {@code @JsonCreator} are
+ * left to Jackson, so that the JSON matches what they are read from.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class ValueClassSerializers extends Serializers.Base {
+  private static final HasValueSerializer HAS_VALUE_SERIALIZER = new HasValueSerializer();
+
+  private final boolean singleComponentRecords;
+
+  ValueClassSerializers( final boolean singleComponentRecords ) {
+    super();
+    this.singleComponentRecords = singleComponentRecords;
+  }
+
+  @Override
+  @Nullable
+  public ValueSerializer<?> findSerializer( final SerializationConfig config,
+                                            final JavaType type,
+                                            final BeanDescription.Supplier beanDescription,
+                                            final JsonFormat.@Nullable Value format ) {
+    final Class<?> rawType = type.getRawClass();
+    final boolean valueClass = HasValue.class.isAssignableFrom( rawType )
+                               || ( singleComponentRecords && ValueClasses.isSingleComponentRecord( rawType ) );
+    if ( !valueClass || ValueClasses.hasJacksonAnnotations( config, beanDescription.getClassInfo() ) ) {
+      return null;
+    }
+    if ( HasValue.class.isAssignableFrom( rawType ) ) {
+      return serializerOfHasValue( rawType );
+    }
+    return ValueClasses.componentAccessor( rawType ).map( accessor -> componentSerializer( rawType, accessor ) ).orElse( null );
+  }
+
+  @Override
+  @Nullable
+  public ValueSerializer<?> findEnumSerializer( final SerializationConfig config,
+                                                final JavaType type,
+                                                final BeanDescription.Supplier beanDescription,
+                                                final JsonFormat.@Nullable Value format ) {
+    return HasValue.class.isAssignableFrom( type.getRawClass() )
+           && !ValueClasses.hasJacksonAnnotations( config, beanDescription.getClassInfo() )
+           ? serializerOfHasValue( type.getRawClass() )
+           : null;
+  }
+
+  /**
+   * Specializations of {@code HasValue} are read through their primitive getters, and records holding a primitive through
+   * the accessor of the component, to avoid boxing in {@link HasValue#get()}.
+   */
+  private static ValueSerializer<?> serializerOfHasValue( final Class<?> type ) {
+    final Optional<Primitive> specialization = Primitive.forSpecialization( type );
+    if ( specialization.isPresent() ) {
+      final Primitive primitive = specialization.get();
+      return new UnboxedSerializer( type, primitive, primitive.specializationGetter() );
+    }
+
+    return ValueClasses.componentAccessor( type )
+                       .filter( accessor -> accessor.type().returnType().isPrimitive() )
+                       .<ValueSerializer<?>>map( accessor -> componentSerializer( type, accessor ) )
+                       .orElse( HAS_VALUE_SERIALIZER );
+  }
+
+  private static ValueSerializer<?> componentSerializer( final Class<?> type, final MethodHandle accessor ) {
+    return Primitive.forType( accessor.type().returnType() )
+                    .<ValueSerializer<?>>map( primitive -> new UnboxedSerializer( type, primitive, accessor ) )
+                    .orElseGet( () -> new RecordComponentSerializer( type, accessor.asType( ValueClasses.OBJECT_TO_OBJECT ) ) );
+  }
+}
@@ -0,0 +1,176 @@
+package com.tguzik.jackson;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.AnnotationIntrospector;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.cfg.MapperConfig;
+import tools.jackson.databind.introspect.AnnotatedClass;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.introspect.AnnotatedWithParams;
+import tools.jackson.databind.type.TypeFactory;
+
+/**
+ * Discovery of value classes and of the members that Jackson binds them through. Runs once per type and mapper - Jackson
+ * caches the serializers and deserializers that use the results.
+ * <p>
+ * The members are returned as method handles adapted to fixed signatures, such as {@link #OBJECT_TO_OBJECT} or
+ * {@link Primitive#creatorType()}, and are called with {@link MethodHandle#invokeExact(Object...)}. An exact invocation
+ * has to spell out the whole signature at the call site, so the casts of the results to {@code Object} there are not
+ * redundant, even though PMD reports them as such.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class ValueClasses {
+  /**
+   * Signature of the handles that neither take nor return a primitive. Adapting a handle to it converts between primitives
+   * and their wrappers.
+   */
+  static final MethodType OBJECT_TO_OBJECT = MethodType.methodType( Object.class, Object.class );
+
+  private ValueClasses() {
+  }
+
+  /**
+   * @return true for concrete classes that hold a single value: implementations of {@link HasValue} (which include
+   *   {@link com.tguzik.value.Value} subclasses) other than {@link LazyValue} and, if requested, any record with exactly one
+   *   component
+   */
+  static boolean isValueClass( final Class<?> type, final boolean singleComponentRecords ) {
+    return ( HasValue.class.isAssignableFrom( type ) && type != LazyValue.class )
+           || ( singleComponentRecords && isSingleComponentRecord( type ) );
+  }
+
+  static boolean isSingleComponentRecord( final Class<?> type ) {
+    return type.isRecord() && type.getRecordComponents().length == 1;
+  }
+
+  /**
+   * @return true if the class has a {@code @JsonCreator} constructor or factory method, or a {@code @JsonValue} method or
+   *   field, declared on it, its supertypes or their mix-ins. Jackson binds such classes as the annotations say, so the
+   *   module leaves them alone.
+   */
+  static boolean hasJacksonAnnotations( final MapperConfig<?> config, final AnnotatedClass classInfo ) {
+    final AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+    final boolean hasCreator = Stream.<AnnotatedWithParams>concat( classInfo.getConstructors().stream(),
+                                                                   classInfo.getFactoryMethods().stream() )
+                                     .anyMatch( creator -> isCreator( introspector.findCreatorAnnotation( config, creator ) ) );
+    return hasCreator
+           || members( classInfo ).anyMatch( member -> Boolean.TRUE.equals( introspector.hasAsValue( config, member ) ) );
+  }
+
+  /**
+   * @return true if the class has the annotations checked by {@link #hasJacksonAnnotations}, or a {@code @JsonKey} method
+   *   or field, which Jackson writes map keys through
+   */
+  static boolean hasJacksonKeyAnnotations( final MapperConfig<?> config, final AnnotatedClass classInfo ) {
+    final AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+    return hasJacksonAnnotations( config, classInfo )
+           || members( classInfo ).anyMatch( member -> Boolean.TRUE.equals( introspector.hasAsKey( config, member ) ) );
+  }
+
+  private static Stream<AnnotatedMember> members( final AnnotatedClass classInfo ) {
+    return Stream.concat( StreamSupport.stream( classInfo.memberMethods().spliterator(), false ),
+                          StreamSupport.stream( classInfo.fields().spliterator(), false ) );
+  }
+
+  private static boolean isCreator( final JsonCreator.@Nullable Mode mode ) {
+    return mode != null && mode != JsonCreator.Mode.DISABLED;
+  }
+
+  /**
+   * @return type of the value held by a value class: the type argument of {@link HasValue}, or the type of the record
+   *   component
+   */
+  static JavaType heldType( final JavaType type, final TypeFactory typeFactory ) {
+    if ( type.isTypeOrSubTypeOf( HasValue.class ) ) {
+      final JavaType[] parameters = type.findTypeParameters( HasValue.class );
+      return parameters.length == 1 ? parameters[ 0 ] : TypeFactory.unknownType();
+    }
+    return typeFactory.constructType( type.getRawClass().getRecordComponents()[ 0 ].getGenericType() );
+  }
+
+  /**
+   * @return handle to the accessor of the only component of a public single-component record, taking {@code Object} and
+   *   returning the type of the component if it is a primitive, otherwise {@code Object}
+   */
+  static Optional<MethodHandle> componentAccessor( final Class<?> type ) {
+    return isSingleComponentRecord( type ) ? unreflect( type.getRecordComponents()[ 0 ].getAccessor() ) : Optional.empty();
+  }
+
+  /**
+   * @return handle to {@link HasValue#get()}, of {@link #OBJECT_TO_OBJECT}
+   */
+  static MethodHandle getterOfHasValue() {
+    try {
+      return MethodHandles.publicLookup()
+                          .findVirtual( HasValue.class, "get", MethodType.methodType( Object.class ) )
+                          .asType( OBJECT_TO_OBJECT );
+    }
+    catch ( final NoSuchMethodException | IllegalAccessException e ) {
+      throw new IllegalStateException( "Cannot access " + HasValue.class.getName() + ".get", e );
+    }
+  }
+
+  /**
+   * Picks the public constructor that creates instances from the held value: the canonical constructor of a record,
+   * otherwise the single-parameter constructor taking the held type.
+   *
+   * @return handle to the constructor, taking the type of its parameter if it is a primitive, otherwise {@code Object},
+   *   and returning {@code Object}; empty if there is no such constructor or the class is not public
+   */
+  static Optional<MethodHandle> creator( final Class<?> type, final Class<?> heldType ) {
+    return exactCreator( type, type.isRecord() ? type.getRecordComponents()[ 0 ].getType() : heldType );
+  }
+
+  /**
+   * @return handle like {@link #creator}, but to the constructor whose parameter is the given type, or its primitive
+   */
+  static Optional<MethodHandle> exactCreator( final Class<?> type, final Class<?> parameterType ) {
+    if ( type.isInterface() || Modifier.isAbstract( type.getModifiers() ) ) {
+      return Optional.empty();
+    }
+
+    return Arrays.stream( type.getConstructors() )
+                 .filter( constructor -> constructor.getParameterCount() == 1
+                                         && wrap( constructor.getParameterTypes()[ 0 ] ) == wrap( parameterType ) )
+                 .findFirst()
+                 .flatMap( ValueClasses::unreflect );
+  }
+
+  /**
+   * Looks up public members only, so that classes with non-public constructors or accessors keep being bound by Jackson,
+   * under its own visibility rules.
+   */
+  private static Optional<MethodHandle> unreflect( final Executable executable ) {
+    try {
+      final MethodHandle handle = executable instanceof Constructor<?> constructor
+                                  ? MethodHandles.publicLookup().unreflectConstructor( constructor )
+                                  : MethodHandles.publicLookup().unreflect( (Method) executable );
+      return Optional.of( handle.asType( handle.type().erase() ) );
+    }
+    catch ( final IllegalAccessException e ) {
+      return Optional.empty();
+    }
+  }
+
+  static Class<?> wrap( final Class<?> type ) {
+    return MethodType.methodType( type ).wrap().returnType();
+  }
+}
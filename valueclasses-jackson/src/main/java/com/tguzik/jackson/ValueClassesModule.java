@@ -0,0 +1,82 @@
+package com.tguzik.jackson;
+
+import org.jspecify.annotations.NullMarked;
+import tools.jackson.core.Version;
+import tools.jackson.databind.JacksonModule;
+
+/**
+ * Jackson module that reads and writes value classes as the values they hold, without {@code @JsonValue} and
+ * {@code @JsonCreator} on every type:
+ * <pre>
+ * JsonMapper mapper = JsonMapper.builder().addModule( new ValueClassesModule() ).build();
+ * </pre>
+ * Implementations of {@link com.tguzik.traits.HasValue} - {@link com.tguzik.value.Value} subclasses, records and enums
+ * alike - are written as the held value. Strings and the common number types go straight to the generator; value classes
+ * holding a primitive {@code long}, {@code int} or {@code double}, e.g. {@link com.tguzik.traits.HasLongValue}
+ * implementations, are written and read without boxing it. Classes are read through the public constructor that takes the
+ * held value (the canonical constructor of records), called through a method handle that is looked up once per type; enums
+ * are read through an {@link com.tguzik.value.EnumValueIndex}. Value classes without such constructor, e.g. ones created by
+ * factory methods, are left to Jackson, as are value classes that declare {@code @JsonCreator} or {@code @JsonValue} -
+ * their annotations take precedence over the module. The same applies to value classes used as map keys.
+ * <p>
+ * The module is also registered for {@link java.util.ServiceLoader}, so {@code findAndAddModules()} of the mapper builder
+ * picks it up with the default settings.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+public class ValueClassesModule extends JacksonModule {
+  private final boolean singleComponentRecords;
+  private final int canonicalKeys;
+
+  public ValueClassesModule() {
+    this( false, 0 );
+  }
+
+  private ValueClassesModule( final boolean singleComponentRecords, final int canonicalKeys ) {
+    super();
+    this.singleComponentRecords = singleComponentRecords;
+    this.canonicalKeys = canonicalKeys;
+  }
+
+  /**
+   * @return module that additionally treats every record with exactly one component as a value class, whether it implements
+   *   {@link com.tguzik.traits.HasValue} or not. Off by default, as it changes the JSON of records that are not meant to be
+   *   value classes.
+   */
+  public ValueClassesModule includingSingleComponentRecords() {
+    return new ValueClassesModule( true, canonicalKeys );
+  }
+
+  /**
+   * @param maximumSize maximum number of canonical instances kept per value class
+   * @return module that canonicalizes value classes read from map keys through a {@link com.tguzik.value.ValueInterner}
+   *   per value class, which evicts the least recently used instances once it holds more than {@code maximumSize} of them.
+   *   Keys tend to repeat across messages, so this saves memory when the maps are kept around.
+   * @throws IllegalArgumentException if the maximum size is not positive
+   */
+  public ValueClassesModule canonicalizingKeys( final int maximumSize ) {
+    if ( maximumSize <= 0 ) {
+      throw new IllegalArgumentException( "Maximum size has to be positive, got: " + maximumSize );
+    }
+    return new ValueClassesModule( singleComponentRecords, maximumSize );
+  }
+
+  @Override
+  public String getModuleName() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public Version version() {
+    return Version.unknownVersion();
+  }
+
+  @Override
+  public void setupModule( final SetupContext context ) {
+    context.addSerializers( new ValueClassSerializers( singleComponentRecords ) );
+    context.addDeserializers( new ValueClassDeserializers( singleComponentRecords ) );
+    context.addKeySerializers( new ValueClassKeySerializers( singleComponentRecords ) );
+    context.addKeyDeserializers( new ValueClassKeyDeserializers( singleComponentRecords, canonicalKeys ) );
+  }
+}
@@ -0,0 +1,162 @@
+package com.tguzik.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.tguzik.traits.HasStringValue;
+import com.tguzik.value.LongValue;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+class LazyValueTest {
+  private static final AtomicInteger CODES_CREATED = new AtomicInteger();
+  private static final String JSON = """
+                                     {
+                                       "code": "  abc  ",
+                                       "amount": 1500,
+                                       "comment": null
+                                     }
+                                     """;
+
+  private final JsonMapper mapper = JsonMapper.builder().addModule( new ValueClassesModule() ).build();
+
+  @BeforeEach
+  void setUp() {
+    CODES_CREATED.set( 0 );
+  }
+
+  @Test
+  void creates_values_on_first_use() {
+    final Document document = mapper.readValue( JSON, Document.class );
+
+    assertThat( CODES_CREATED ).hasValue( 0 );
+    assertThat( document.code().isMaterialized() ).isFalse();
+    assertThat( document.amount().isMaterialized() ).isFalse();
+    assertThat( document.comment() ).isNull();
+
+    assertThat( document.code().get() ).isEqualTo( new Code( "ABC" ) );
+    assertThat( document.code().get() ).isSameAs( document.code().get() );
+    assertThat( document.code().isMaterialized() ).isTrue();
+    assertThat( document.amount().get() ).isEqualTo( new Amount( 1500 ) );
+  }
+
+  @Test
+  void creates_values_once_when_read_concurrently() throws Exception {
+    final LazyValue<Code> code = mapper.readValue( JSON, Document.class ).code();
+    final int threads = 8;
+    final CountDownLatch start = new CountDownLatch( 1 );
+    final ExecutorService executor = Executors.newFixedThreadPool( threads );
+    try {
+      final List<Future<Code>> results = new ArrayList<>();
+      for ( int i = 0; i < threads; i++ ) {
+        results.add( executor.submit( () -> {
+          start.await();
+          return code.get();
+        } ) );
+      }
+      start.countDown();
+
+      for ( final Future<Code> result : results ) {
+        assertThat( result.get() ).isSameAs( code.get() );
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+    assertThat( CODES_CREATED ).hasValue( 1 );
+  }
+
+  @Test
+  void throws_exceptions_of_constructors_on_use() {
+    final Document document = mapper.readValue( "{\"code\": \"invalid\"}", Document.class );
+
+    assertThatThrownBy( () -> document.code().get() ).isInstanceOf( IllegalArgumentException.class );
+    assertThatThrownBy( () -> document.code().get() ).isInstanceOf( IllegalArgumentException.class );
+    assertThat( document.code().isMaterialized() ).isFalse();
+  }
+
+  @Test
+  void creates_values_from_coerced_tokens_right_away() {
+    final Document document = mapper.readValue( "{\"code\": 42, \"amount\": \"7\"}", Document.class );
+
+    assertThat( document.code().isMaterialized() ).isTrue();
+    assertThat( document.code().get() ).isEqualTo( new Code( "42" ) );
+    assertThat( document.amount().isMaterialized() ).isTrue();
+    assertThat( document.amount().get() ).isEqualTo( new Amount( 7 ) );
+  }
+
+  @Test
+  void creates_values_with_json_creator_right_away() {
+    final LazyValue<Label> label = mapper.readValue( "\" x \"", new TypeReference<LazyValue<Label>>() {} );
+
+    assertThat( label.isMaterialized() ).isTrue();
+    assertThat( label.get() ).isEqualTo( new Label( "X" ) );
+  }
+
+  @Test
+  void writes_values() {
+    final Document document = new Document( LazyValue.materialized( new Code( "xyz" ) ), null, null );
+
+    assertThat( mapper.writeValueAsString( document ) ).isEqualTo( "{\"code\":\"XYZ\",\"amount\":null,\"comment\":null}" );
+    assertThat( mapper.writeValueAsString( mapper.readValue( JSON, Document.class ) ) )
+      .isEqualTo( "{\"code\":\"ABC\",\"amount\":1500,\"comment\":null}" );
+  }
+
+  @Test
+  void compares_by_value() {
+    final LazyValue<Code> deferred = mapper.readValue( JSON, Document.class ).code();
+
+    assertThat( deferred ).isEqualTo( LazyValue.materialized( new Code( "ABC" ) ) )
+                          .hasSameHashCodeAs( LazyValue.materialized( new Code( "ABC" ) ) )
+                          .hasToString( new Code( "ABC" ).toString() );
+  }
+
+  record Document(LazyValue<Code> code, @Nullable LazyValue<Amount> amount, @Nullable LazyValue<Code> comment) {
+  }
+
+  public record Code(String value) implements HasStringValue {
+    public Code( final String value ) {
+      if ( "invalid".equals( value ) ) {
+        throw new IllegalArgumentException( "Invalid code" );
+      }
+      this.value = value.trim().toUpperCase( Locale.ROOT );
+      CODES_CREATED.incrementAndGet();
+    }
+
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+
+  public static final class Amount extends LongValue {
+    public Amount( final long value ) {
+      super( value );
+    }
+  }
+
+  public record Label(String value) implements HasStringValue {
+    @JsonCreator( mode = JsonCreator.Mode.DELEGATING )
+    public static Label normalized( final String value ) {
+      return new Label( value.strip().toUpperCase( Locale.ROOT ) );
+    }
+
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+}
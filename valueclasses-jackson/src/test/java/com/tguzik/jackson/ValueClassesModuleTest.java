@@ -0,0 +1,530 @@
+package com.tguzik.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonKey;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.tguzik.traits.HasIntValue;
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import com.tguzik.traits.HasValue;
+import com.tguzik.value.DoubleValue;
+import com.tguzik.value.EnumValueIndex;
+import com.tguzik.value.LongValue;
+import com.tguzik.value.StringValue;
+import com.tguzik.value.Value;
+import net.javacrumbs.jsonunit.assertj.JsonAssertions;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.exc.InvalidFormatException;
+import tools.jackson.databind.exc.ValueInstantiationException;
+import tools.jackson.databind.json.JsonMapper;
+
+class ValueClassesModuleTest {
+  private static final String CONTAINER_JSON = """
+                                               {
+                                                 "name": "ABC",
+                                                 "orderId": 123,
+                                                 "quantity": 7,
+                                                 "total": 12.5,
+                                                 "currency": "EUR",
+                                                 "priority": 3,
+                                                 "comment": null
+                                               }
+                                               """;
+
+  private final JsonMapper mapper = JsonMapper.builder().addModule( new ValueClassesModule() ).build();
+
+  @Test
+  void writes_value_classes_as_held_values() {
+    final String actual = mapper.writeValueAsString( sampleContainer() );
+
+    assertThat( actual ).asInstanceOf( JsonAssertions.JSON ).isEqualTo( CONTAINER_JSON );
+  }
+
+  @Test
+  void reads_value_classes_from_held_values() {
+    final Container actual = mapper.readValue( CONTAINER_JSON, Container.class );
+
+    assertThat( actual ).isEqualTo( sampleContainer() );
+  }
+
+  @Test
+  void reads_nested_value_classes() {
+    final List<Name> actual = mapper.readValue( "[\"a\", \"b\"]", new TypeReference<List<Name>>() {} );
+
+    assertThat( actual ).containsExactly( new Name( "a" ), new Name( "b" ) );
+  }
+
+  @Test
+  void reads_held_values_of_generic_types() {
+    final Tags actual = mapper.readValue( "[\"x\", \"y\"]", Tags.class );
+
+    assertThat( actual.get() ).containsExactly( "x", "y" );
+  }
+
+  @Test
+  void writes_and_reads_null_held_values() {
+    final Comment comment = new Comment( null );
+
+    assertThat( mapper.writeValueAsString( comment ) ).isEqualTo( "null" );
+    assertThat( mapper.readValue( "{\"comment\": null}", Container.class ).comment() ).isNull();
+  }
+
+  @Test
+  void reports_exceptions_thrown_by_constructors() {
+    assertThatThrownBy( () -> mapper.readValue( "\"\"", Name.class ) ).isInstanceOf( ValueInstantiationException.class )
+                                                                   .hasRootCauseInstanceOf( IllegalArgumentException.class );
+  }
+
+  @Test
+  void reports_unknown_enum_values() {
+    assertThatThrownBy( () -> mapper.readValue( "\"USD\"", Currency.class ) ).isInstanceOf( DatabindException.class )
+                                                                         .hasMessageContaining( "USD" );
+  }
+
+  @Test
+  void reads_unknown_enum_values_as_null_when_enabled() {
+    final JsonMapper lenient = mapper.rebuild().enable( EnumFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL ).build();
+
+    assertThat( lenient.readValue( "\"USD\"", Currency.class ) ).isNull();
+  }
+
+  @Test
+  void reads_value_classes_through_their_json_creator() {
+    assertThat( mapper.readValue( "\" ab-1 \"", Code.class ) ).isEqualTo( new Code( "AB-1" ) );
+  }
+
+  @Test
+  void writes_value_classes_through_their_json_value() {
+    assertThat( mapper.writeValueAsString( new AccountNumber( "12345678" ) ) ).isEqualTo( "\"****5678\"" );
+  }
+
+  @Test
+  void reads_enums_through_their_json_creator() {
+    assertThat( mapper.readValue( "\" kg \"", Unit.class ) ).isEqualTo( Unit.KILOGRAM );
+  }
+
+  @Test
+  void writes_and_reads_enums_through_their_json_value_and_json_creator() {
+    assertThat( mapper.writeValueAsString( Grade.SECOND ) ).isEqualTo( "\"BCD\"" );
+    assertThat( mapper.readValue( "\" bcd \"", Grade.class ) ).isEqualTo( Grade.SECOND );
+    assertThat( mapper.readValue( "\"XYZ\"", Grade.class ) ).isNull();
+  }
+
+  @Test
+  void leaves_single_component_records_alone_by_default() {
+    assertThat( mapper.writeValueAsString( new Sku( "A-1" ) ) ).isEqualTo( "{\"code\":\"A-1\"}" );
+  }
+
+  @Test
+  void writes_and_reads_single_component_records_when_enabled() {
+    final JsonMapper withRecords = JsonMapper.builder()
+                                             .addModule( new ValueClassesModule().includingSingleComponentRecords() )
+                                             .build();
+
+    assertThat( withRecords.writeValueAsString( Map.of( "sku", new Sku( "A-1" ) ) ) ).isEqualTo( "{\"sku\":\"A-1\"}" );
+    assertThat( withRecords.readValue( "\"A-1\"", Sku.class ) ).isEqualTo( new Sku( "A-1" ) );
+  }
+
+  @Test
+  void writes_and_reads_primitive_backed_value_classes() {
+    final Measurements measurements = new Measurements( new Timestamp( 1_700_000_000_000L ),
+                                                        new Offset( 9_000_000_000L ),
+                                                        new Port( 8080 ),
+                                                        new Ratio( 0.25 ),
+                                                        Level.DEBUG );
+    final String json = """
+                        {
+                          "timestamp": 1700000000000,
+                          "offset": 9000000000,
+                          "port": 8080,
+                          "ratio": 0.25,
+                          "level": 2
+                        }
+                        """;
+
+    assertThat( mapper.writeValueAsString( measurements ) ).asInstanceOf( JsonAssertions.JSON ).isEqualTo( json );
+    assertThat( mapper.readValue( json, Measurements.class ) ).isEqualTo( measurements );
+  }
+
+  @Test
+  void reads_primitive_backed_value_classes_from_coercible_tokens() {
+    assertThat( mapper.readValue( "\"42\"", Timestamp.class ) ).isEqualTo( new Timestamp( 42 ) );
+    assertThat( mapper.readValue( "5", Ratio.class ) ).isEqualTo( new Ratio( 5.0 ) );
+  }
+
+  @Test
+  void reports_numbers_out_of_range_of_primitive() {
+    assertThatThrownBy( () -> mapper.readValue( "3000000000", Port.class ) ).isInstanceOf( JacksonException.class )
+                                                                          .hasMessageContaining( "3000000000" );
+  }
+
+  @Test
+  void reports_exceptions_thrown_by_constructors_taking_primitives() {
+    assertThatThrownBy( () -> mapper.readValue( "-1", Port.class ) ).isInstanceOf( ValueInstantiationException.class )
+                                                                  .hasRootCauseInstanceOf( IllegalArgumentException.class );
+  }
+
+  @Test
+  void writes_and_reads_nulls_of_boxed_number_value_classes() {
+    assertThat( mapper.writeValueAsString( new NullableCount( null ) ) ).isEqualTo( "null" );
+    assertThat( mapper.writeValueAsString( new NullableCount( 17L ) ) ).isEqualTo( "17" );
+    assertThat( mapper.readValue( "17", NullableCount.class ) ).isEqualTo( new NullableCount( 17L ) );
+    assertThat( mapper.readValue( "null", NullableCount.class ) ).isNull();
+    assertThat( mapper.readValue( "null", Timestamp.class ) ).isNull();
+  }
+
+  @Test
+  void writes_and_reads_single_component_records_holding_primitives_when_enabled() {
+    final JsonMapper withRecords = JsonMapper.builder()
+                                             .addModule( new ValueClassesModule().includingSingleComponentRecords() )
+                                             .build();
+
+    assertThat( withRecords.writeValueAsString( new Version( 3 ) ) ).isEqualTo( "3" );
+    assertThat( withRecords.readValue( "3", Version.class ) ).isEqualTo( new Version( 3 ) );
+  }
+
+  @Test
+  void writes_and_reads_value_classes_as_map_keys() {
+    final Map<Name, Integer> names = new TreeMap<>( Comparator.comparing( Name::get ) );
+    names.put( new Name( "a" ), 1 );
+    final Map<Timestamp, Integer> timestamps = Map.of( new Timestamp( 17 ), 2 );
+    final Map<Offset, Integer> offsets = Map.of( new Offset( -5 ), 3 );
+    final Map<Ratio, Integer> ratios = Map.of( new Ratio( 0.5 ), 4 );
+    final Map<Currency, Integer> currencies = Map.of( Currency.ZLOTY, 5 );
+    final Map<Level, Integer> levels = Map.of( Level.INFO, 6 );
+    final Map<Total, Integer> totals = Map.of( new Total( 1.5 ), 7 );
+
+    final Keys keys = new Keys( names, timestamps, offsets, ratios, currencies, levels, totals );
+    final String json = """
+                        {
+                          "names": { "a": 1 },
+                          "timestamps": { "17": 2 },
+                          "offsets": { "-5": 3 },
+                          "ratios": { "0.5": 4 },
+                          "currencies": { "PLN": 5 },
+                          "levels": { "1": 6 },
+                          "totals": { "1.5": 7 }
+                        }
+                        """;
+
+    assertThat( mapper.writeValueAsString( keys ) ).asInstanceOf( JsonAssertions.JSON ).isEqualTo( json );
+    assertThat( mapper.readValue( json, Keys.class ) ).isEqualTo( keys );
+  }
+
+  @Test
+  void reports_invalid_map_keys() {
+    final TypeReference<Map<Timestamp, Integer>> timestamps = new TypeReference<>() {};
+    final TypeReference<Map<Name, Integer>> names = new TypeReference<>() {};
+    final TypeReference<Map<Level, Integer>> levels = new TypeReference<>() {};
+
+    assertThatThrownBy( () -> mapper.readValue( "{\"x\": 1}", timestamps ) ).isInstanceOf( InvalidFormatException.class )
+                                                                          .hasMessageContaining( "not a valid Long" );
+    assertThatThrownBy( () -> mapper.readValue( "{\"\": 1}", names ) ).isInstanceOf( InvalidFormatException.class )
+                                                                    .hasMessageContaining( "Name cannot be empty" );
+    assertThatThrownBy( () -> mapper.readValue( "{\"9\": 1}", levels ) ).isInstanceOf( InvalidFormatException.class )
+                                                                      .hasMessageContaining( "no constant holds this value" );
+  }
+
+  @Test
+  void writes_and_reads_map_keys_through_their_json_key_and_json_creator() {
+    final TypeReference<Map<Region, Integer>> type = new TypeReference<>() {};
+
+    assertThat( mapper.writeValueAsString( Map.of( Region.of( "EU" ), 1 ) ) ).isEqualTo( "{\"eu\":1}" );
+    assertThat( mapper.readValue( "{\" eu \": 1}", type ) ).containsExactly( Map.entry( Region.of( "EU" ), 1 ) );
+  }
+
+  @Test
+  void canonicalizes_map_keys_when_enabled() {
+    final JsonMapper canonicalizing = JsonMapper.builder()
+                                                .addModule( new ValueClassesModule().canonicalizingKeys( 100 ) )
+                                                .build();
+    final TypeReference<Map<Name, Integer>> type = new TypeReference<>() {};
+
+    final Name first = canonicalizing.readValue( "{\"abc\": 1}", type ).keySet().iterator().next();
+    final Name second = canonicalizing.readValue( "{\"abc\": 2}", type ).keySet().iterator().next();
+    final Name notCanonicalized = mapper.readValue( "{\"abc\": 3}", type ).keySet().iterator().next();
+
+    assertThat( second ).isSameAs( first );
+    assertThat( notCanonicalized ).isEqualTo( first ).isNotSameAs( first );
+  }
+
+  @Test
+  void rejects_non_positive_sizes_of_canonicalization() {
+    final ValueClassesModule module = new ValueClassesModule();
+
+    assertThatThrownBy( () -> module.canonicalizingKeys( 0 ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+
+  @Test
+  void is_registered_for_service_loader() {
+    assertThat( ServiceLoader.load( JacksonModule.class ) ).hasAtLeastOneElementOfType( ValueClassesModule.class );
+  }
+
+  private static Container sampleContainer() {
+    return new Container( new Name( "ABC" ),
+                          new OrderId( 123 ),
+                          new Quantity( 7 ),
+                          new Total( 12.5 ),
+                          Currency.EURO,
+                          Priority.HIGH,
+                          null );
+  }
+
+  record Container(Name name,
+                   OrderId orderId,
+                   Quantity quantity,
+                   Total total,
+                   Currency currency,
+                   Priority priority,
+                   @Nullable Comment comment) {
+  }
+
+  public record Name(String value) implements HasStringValue {
+    public Name {
+      if ( value.isEmpty() ) {
+        throw new IllegalArgumentException( "Name cannot be empty" );
+      }
+    }
+
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+
+  public static final class OrderId extends LongValue {
+    public OrderId( final long value ) {
+      super( value );
+    }
+  }
+
+  public record Quantity(Integer value) implements HasValue<Integer> {
+    @Override
+    public Integer get() {
+      return value;
+    }
+  }
+
+  public static final class Total extends Value<Double> {
+    public Total( final Double value ) {
+      super( value );
+    }
+  }
+
+  public static final class Comment extends StringValue {
+    public Comment( final @Nullable String value ) {
+      super( value );
+    }
+  }
+
+  public static final class Tags extends Value<List<String>> {
+    public Tags( final List<String> value ) {
+      super( value );
+    }
+  }
+
+  enum Currency implements HasStringValue {
+    EURO( "EUR" ), ZLOTY( "PLN" );
+
+    private final String code;
+
+    Currency( final String code ) {
+      this.code = code;
+    }
+
+    @Override
+    public String get() {
+      return code;
+    }
+  }
+
+  enum Priority implements HasValue<Integer> {
+    LOW( 1 ), HIGH( 3 );
+
+    private final Integer level;
+
+    Priority( final Integer level ) {
+      this.level = level;
+    }
+
+    @Override
+    public Integer get() {
+      return level;
+    }
+  }
+
+  record Keys(Map<Name, Integer> names,
+              Map<Timestamp, Integer> timestamps,
+              Map<Offset, Integer> offsets,
+              Map<Ratio, Integer> ratios,
+              Map<Currency, Integer> currencies,
+              Map<Level, Integer> levels,
+              Map<Total, Integer> totals) {
+  }
+
+  public record Sku(String code) {
+  }
+
+  public record Version(int number) {
+  }
+
+  record Measurements(Timestamp timestamp, Offset offset, Port port, Ratio ratio, Level level) {
+  }
+
+  public record Timestamp(long millis) implements HasValue<Long> {
+    @Override
+    public Long get() {
+      return millis;
+    }
+  }
+
+  public static final class Offset extends LongValue {
+    public Offset( final long value ) {
+      super( value );
+    }
+  }
+
+  public record Port(int number) implements HasIntValue {
+    public Port {
+      if ( number < 0 ) {
+        throw new IllegalArgumentException( "Port cannot be negative" );
+      }
+    }
+
+    @Override
+    public int getAsInt() {
+      return number;
+    }
+  }
+
+  public static final class Ratio extends DoubleValue {
+    public Ratio( final double value ) {
+      super( value );
+    }
+  }
+
+  public record NullableCount(@Nullable Long value) implements HasValue<Long> {
+    @Override
+    @Nullable
+    public Long get() {
+      return value;
+    }
+  }
+
+  enum Level implements HasLongValue {
+    INFO( 1 ), DEBUG( 2 );
+
+    private final long number;
+
+    Level( final long number ) {
+      this.number = number;
+    }
+
+    @Override
+    public long getAsLong() {
+      return number;
+    }
+  }
+
+  public record Code(String value) implements HasStringValue {
+    @JsonCreator( mode = JsonCreator.Mode.DELEGATING )
+    public static Code normalized( final String value ) {
+      return new Code( value.strip().toUpperCase( Locale.ROOT ) );
+    }
+
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+
+  public record AccountNumber(String value) implements HasStringValue {
+    @Override
+    public String get() {
+      return value;
+    }
+
+    @JsonValue
+    public String masked() {
+      return "****" + value.substring( value.length() - 4 );
+    }
+  }
+
+  enum Unit implements HasStringValue {
+    KILOGRAM( "kg" ), METER( "m" );
+
+    private final String symbol;
+
+    Unit( final String symbol ) {
+      this.symbol = symbol;
+    }
+
+    @Override
+    public String get() {
+      return symbol;
+    }
+
+    @JsonCreator
+    public static Unit fromSymbol( final String symbol ) {
+      return EnumValueIndex.forEnum( Unit.class ).get( symbol.strip() );
+    }
+  }
+
+  /**
+   * Same as {@code EnumStringValue} of the Jackson integration tests of the core module
+   */
+  enum Grade implements HasStringValue {
+    FIRST( "ABC" ), SECOND( "BCD" ), THIRD( "DEF" );
+
+    private final String value;
+
+    Grade( final String value ) {
+      this.value = value;
+    }
+
+    @Override
+    @JsonValue
+    public String get() {
+      return value;
+    }
+
+    @Nullable
+    @JsonCreator
+    public static Grade jacksonForValue( @Nullable final String input ) {
+      final String trimmed = input == null ? "" : input.strip().toUpperCase( Locale.ROOT );
+      return EnumValueIndex.forEnum( Grade.class ).find( trimmed ).orElse( null );
+    }
+  }
+
+  public static final class Region extends StringValue {
+    private Region( final String value ) {
+      super( value );
+    }
+
+    @JsonCreator( mode = JsonCreator.Mode.DELEGATING )
+    public static Region of( final String code ) {
+      return new Region( code.strip().toUpperCase( Locale.ROOT ) );
+    }
+
+    @JsonKey
+    public String key() {
+      return get().toLowerCase( Locale.ROOT );
+    }
+  }
+}
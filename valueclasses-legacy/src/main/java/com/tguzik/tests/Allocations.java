@@ -0,0 +1,139 @@
+package com.tguzik.tests;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Unit test utility that measures how many bytes of heap a piece of code allocates per call, once the JIT compiler had the
+ * chance to compile it and to eliminate allocations of objects that do not escape. This is placed in main sources (as
+ * opposed to unit test sources) to allow using this class in projects that depend on this library.
+ * <br>
+ * Example usage:
+ * <pre>
+ * Allocations.calling( () -&gt; orderId.hashCode() ).assertNone();
+ * Allocations.calling( () -&gt; orderId.toString() ).assertAtMost( 64 );
+ * </pre>
+ * The measured code is called in rounds of 10 000 calls on the current thread, until a round fits in the budget or 50
+ * rounds pass. The first rounds double as the warm-up. Bytes per call are rounded down, so an occasional allocation, e.g.
+ * by the JIT compiler or the class loader, does not fail the assertion. Results of the calls are consumed, so that the JIT
+ * compiler cannot drop the calls altogether; objects returned by a {@link Supplier} are not stored anywhere, so they don't
+ * count if they can be eliminated.
+ * <br>
+ * Requires HotSpot or a JVM that implements {@link com.sun.management.ThreadMXBean}. Results are meaningless when the JIT
+ * compiler or escape analysis is turned off, e.g. with {@code -Xint}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+public final class Allocations {
+  private static final int CALLS_PER_ROUND = 10_000;
+  private static final int MAX_ROUNDS = 50;
+
+  private final LongSupplier call;
+  private long sink;
+
+  private Allocations( final LongSupplier call ) {
+    this.call = call;
+  }
+
+  /**
+   * @param action code to measure, e.g. {@code () -> value.hashCode()}
+   */
+  public static Allocations calling( final LongSupplier action ) {
+    return new Allocations( action );
+  }
+
+  /**
+   * @param action code to measure, e.g. {@code () -> value.equals( other )}
+   */
+  public static Allocations calling( final BooleanSupplier action ) {
+    return new Allocations( () -> action.getAsBoolean() ? 1 : 0 );
+  }
+
+  /**
+   * @param action code to measure, e.g. {@code () -> value.get()}
+   */
+  public static Allocations calling( final Supplier<?> action ) {
+    return new Allocations( () -> action.get() == null ? 0 : 1 );
+  }
+
+  /**
+   * @param action code to measure, e.g. {@code () -> list.clear()}
+   */
+  public static Allocations calling( final Runnable action ) {
+    return new Allocations( () -> {
+      action.run();
+      return 0;
+    } );
+  }
+
+  /**
+   * @return the lowest number of bytes allocated per call in any of the rounds
+   */
+  public long bytesPerCall() {
+    return measure( 0 );
+  }
+
+  /**
+   * @throws AssertionError if every round allocated at least one byte per call
+   */
+  public void assertNone() {
+    assertAtMost( 0 );
+  }
+
+  /**
+   * @param budget bytes that each call is allowed to allocate
+   * @throws AssertionError if every round allocated more than the budget per call
+   */
+  public void assertAtMost( final long budget ) {
+    if ( budget < 0 ) {
+      throw new IllegalArgumentException( "Budget cannot be negative: " + budget );
+    }
+
+    final long actual = measure( budget );
+    if ( actual > budget ) {
+      throw new AssertionError( "Expected at most " + budget + " bytes allocated per call, but the lowest of " + MAX_ROUNDS
+                                + " rounds of " + CALLS_PER_ROUND + " calls allocated " + actual + " bytes per call" );
+    }
+  }
+
+  /**
+   * @return bytes per call of the first round within the budget, or the lowest value if no round was
+   */
+  private long measure( final long budget ) {
+    final com.sun.management.ThreadMXBean threads = threadMXBean();
+    long lowest = Long.MAX_VALUE;
+
+    for ( int round = 0; round < MAX_ROUNDS && lowest > budget; round++ ) {
+      final long before = threads.getCurrentThreadAllocatedBytes();
+      sink += callRepeatedly();
+      final long after = threads.getCurrentThreadAllocatedBytes();
+      lowest = Math.min( lowest, ( after - before ) / CALLS_PER_ROUND );
+    }
+    return lowest;
+  }
+
+  private long callRepeatedly() {
+    long results = sink;
+    for ( int i = 0; i < CALLS_PER_ROUND; i++ ) {
+      results += call.getAsLong();
+    }
+    return results;
+  }
+
+  private static com.sun.management.ThreadMXBean threadMXBean() {
+    if ( !( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads )
+         || !threads.isThreadAllocatedMemorySupported() ) {
+      throw new UnsupportedOperationException( "This JVM does not measure memory allocated by threads" );
+    }
+
+    if ( !threads.isThreadAllocatedMemoryEnabled() ) {
+      threads.setThreadAllocatedMemoryEnabled( true );
+    }
+    return threads;
+  }
+}
@@ -0,0 +1,61 @@
+package com.tguzik.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class AllocationsTest {
+  private byte[] retained = new byte[ 0 ];
+
+  @Test
+  void bytesPerCall_returns_zero_for_code_that_does_not_allocate() {
+    final long[] numbers = { 1, 2, 3 };
+
+    final long actual = Allocations.calling( () -> numbers[ 0 ] + numbers[ 1 ] + numbers[ 2 ] ).bytesPerCall();
+
+    assertThat( actual ).isZero();
+  }
+
+  @Test
+  void bytesPerCall_returns_at_least_the_size_of_retained_objects() {
+    final long actual = Allocations.calling( () -> {
+      retained = new byte[ 64 ];
+    } ).bytesPerCall();
+
+    assertThat( actual ).isGreaterThanOrEqualTo( 64 );
+  }
+
+  @Test
+  void assertNone_passes_for_code_that_does_not_allocate() {
+    final String text = "abc";
+
+    Allocations.calling( () -> text.isEmpty() ).assertNone();
+  }
+
+  @Test
+  void assertNone_fails_for_code_that_retains_new_objects() {
+    final var allocations = Allocations.calling( () -> {
+      retained = new byte[ 64 ];
+    } );
+
+    assertThatThrownBy( allocations::assertNone ).isInstanceOf( AssertionError.class )
+                                                 .hasMessageStartingWith( "Expected at most 0 bytes allocated per call" );
+  }
+
+  @Test
+  void assertAtMost_passes_when_allocations_fit_in_the_budget() {
+    Allocations.calling( () -> {
+      retained = new byte[ 64 ];
+    } ).assertAtMost( 1024 );
+
+    assertThat( retained ).hasSize( 64 );
+  }
+
+  @Test
+  void assertAtMost_rejects_negative_budget() {
+    final var allocations = Allocations.calling( () -> 42L );
+
+    assertThatThrownBy( () -> allocations.assertAtMost( -1 ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+}
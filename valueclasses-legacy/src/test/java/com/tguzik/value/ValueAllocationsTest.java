@@ -0,0 +1,66 @@
+package com.tguzik.value;
+
+import com.tguzik.tests.Allocations;
+import com.tguzik.traits.HasStringValue;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Methods that are called on every map lookup or comparison must not allocate.
+ */
+class ValueAllocationsTest {
+  private final Code code = new Code( "ABC-123" );
+  private final Code equalCode = new Code( "ABC-123" );
+  private final Code laterCode = new Code( "ABC-124" );
+  private final Code missingCode = new Code( null );
+  private final Amount amount = new Amount( 123_456L );
+  private final Amount equalAmount = new Amount( 123_456L );
+  private final Email email = new Email( "someone@example.com" );
+  private final Email missingEmail = new Email( null );
+
+  @Test
+  void value_hashCode_does_not_allocate() {
+    Allocations.calling( () -> code.hashCode() ).assertNone();
+    Allocations.calling( () -> missingCode.hashCode() ).assertNone();
+    Allocations.calling( () -> amount.hashCode() ).assertNone();
+  }
+
+  @Test
+  void value_equals_does_not_allocate() {
+    Allocations.calling( () -> code.equals( equalCode ) ).assertNone();
+    Allocations.calling( () -> code.equals( missingCode ) ).assertNone();
+    Allocations.calling( () -> amount.equals( equalAmount ) ).assertNone();
+  }
+
+  @Test
+  void stringValue_compareTo_does_not_allocate() {
+    Allocations.calling( () -> code.compareTo( laterCode ) ).assertNone();
+    Allocations.calling( () -> code.compareTo( missingCode ) ).assertNone();
+  }
+
+  @Test
+  void hasStringValue_isEmpty_does_not_allocate() {
+    Allocations.calling( () -> email.isEmpty() ).assertNone();
+    Allocations.calling( () -> missingEmail.isEmpty() ).assertNone();
+  }
+
+  static final class Code extends StringValue {
+    Code( @Nullable final String value ) {
+      super( value );
+    }
+  }
+
+  static final class Amount extends Value<Long> {
+    Amount( final Long value ) {
+      super( value );
+    }
+  }
+
+  record Email(@Nullable String value) implements HasStringValue {
+    @Override
+    @Nullable
+    public String get() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.tguzik.objects.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Single field of the annotated class, as seen by the generated methods.
+ *
+ * @param owner    class that declares the field, either the annotated class or one of its superclasses
+ * @param name     name of the field
+ * @param type     declared type of the field
+ * @param accessor expression that reads the field from an instance, for example {@code quantity} or {@code getQuantity()}
+ * @param hashed   whether the field is included in {@code hashCode()}
+ * @param compared whether the field is included in {@code equals()}
+ * @param printed  whether the field is included in {@code toString()}
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+record ObjectField(TypeElement owner,
+                   String name,
+                   TypeMirror type,
+                   String accessor,
+                   boolean hashed,
+                   boolean compared,
+                   boolean printed) {
+
+  boolean isPrimitive() {
+    return type.getKind().isPrimitive();
+  }
+
+  boolean isArray() {
+    return type.getKind() == TypeKind.ARRAY;
+  }
+}
@@ -0,0 +1,208 @@
+package com.tguzik.objects.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates reflection-free {@code equals()}, {@code hashCode()} and {@code toString()} for classes annotated with
+ * {@code com.tguzik.objects.GenerateObjectMethods}. See the documentation of that annotation for usage.
+ * <p>
+ * The processor only reads the source model of the compiled classes, so it doesn't depend on the main library.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.AvoidInstantiatingObjectsInLoops" } )
+@SupportedAnnotationTypes( ObjectMethodsProcessor.ANNOTATION )
+public final class ObjectMethodsProcessor extends AbstractProcessor {
+  static final String ANNOTATION = "com.tguzik.objects.GenerateObjectMethods";
+
+  private static final String EQUALS_EXCLUDE = "org.apache.commons.lang3.builder.EqualsExclude";
+  private static final String HASH_CODE_EXCLUDE = "org.apache.commons.lang3.builder.HashCodeExclude";
+  private static final String TO_STRING_EXCLUDE = "org.apache.commons.lang3.builder.ToStringExclude";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process( final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv ) {
+    for ( final TypeElement annotation : annotations ) {
+      for ( final Element element : roundEnv.getElementsAnnotatedWith( annotation ) ) {
+        if ( isSupported( element ) ) {
+          generate( (TypeElement) element );
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean isSupported( final Element element ) {
+    if ( element.getKind() != ElementKind.CLASS ) {
+      return reportError( element, "@GenerateObjectMethods can only be applied to classes" );
+    }
+
+    final TypeElement type = (TypeElement) element;
+    if ( type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER ) {
+      return reportError( element, "@GenerateObjectMethods cannot be applied to local or anonymous classes" );
+    }
+    for ( Element current = type; current instanceof TypeElement; current = current.getEnclosingElement() ) {
+      if ( current.getModifiers().contains( Modifier.PRIVATE ) ) {
+        return reportError( element, "@GenerateObjectMethods cannot be applied to private classes" );
+      }
+    }
+    return true;
+  }
+
+  private void generate( final TypeElement type ) {
+    final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf( type );
+    final Optional<List<ObjectField>> fields = collectFields( type, packageElement );
+    if ( fields.isEmpty() ) {
+      return;
+    }
+
+    final boolean generatedAnnotationAvailable = processingEnv.getElementUtils()
+                                                              .getTypeElement( "javax.annotation.processing.Generated" ) != null;
+    final ObjectMethodsSource source = new ObjectMethodsSource( packageElement.getQualifiedName().toString(),
+                                                                type,
+                                                                fields.get(),
+                                                                generatedAnnotationAvailable );
+
+    try {
+      final JavaFileObject file = processingEnv.getFiler().createSourceFile( source.qualifiedClassName(), type );
+      try ( Writer writer = file.openWriter() ) {
+        writer.write( source.render() );
+      }
+    }
+    catch ( final IOException e ) {
+      reportError( type, "Unable to write " + source.qualifiedClassName() + ": " + e.getMessage() );
+    }
+  }
+
+  /**
+   * Collects fields in the same order as the reflection builders from commons-lang3: fields of the class itself, sorted by
+   * name, then fields of each superclass, also sorted by name.
+   */
+  private Optional<List<ObjectField>> collectFields( final TypeElement type, final PackageElement targetPackage ) {
+    final List<ObjectField> result = new ArrayList<>();
+    boolean valid = true;
+
+    for ( TypeElement current = type; current != null; current = superclassOf( current ) ) {
+      final List<VariableElement> declared = new ArrayList<>( ElementFilter.fieldsIn( current.getEnclosedElements() ) );
+      declared.sort( Comparator.comparing( field -> field.getSimpleName().toString() ) );
+
+      for ( final VariableElement field : declared ) {
+        if ( !isIncluded( field ) ) {
+          continue;
+        }
+
+        final Optional<String> accessor = accessorOf( current, field, targetPackage );
+        if ( accessor.isEmpty() ) {
+          valid = reportError( field,
+                         "Field '" + field.getSimpleName() + "' is not accessible from the generated class. Make it " +
+                         "package-private or add a non-private accessor method" );
+          continue;
+        }
+
+        result.add( new ObjectField( current,
+                                     field.getSimpleName().toString(),
+                                     field.asType(),
+                                     accessor.get(),
+                                     !hasAnnotation( field, HASH_CODE_EXCLUDE ),
+                                     !hasAnnotation( field, EQUALS_EXCLUDE ),
+                                     !hasAnnotation( field, TO_STRING_EXCLUDE ) ) );
+      }
+    }
+
+    return valid ? Optional.of( result ) : Optional.empty();
+  }
+
+  private static boolean isIncluded( final VariableElement field ) {
+    final Set<Modifier> modifiers = field.getModifiers();
+    return !modifiers.contains( Modifier.STATIC ) &&
+           !modifiers.contains( Modifier.TRANSIENT ) &&
+           field.getSimpleName().toString().indexOf( '$' ) < 0;
+  }
+
+  /**
+   * @return expression that reads the field, relative to an instance of the annotated class
+   */
+  private Optional<String> accessorOf( final TypeElement owner, final VariableElement field, final PackageElement target ) {
+    if ( isAccessible( owner, field, target ) ) {
+      return Optional.of( field.getSimpleName().toString() );
+    }
+
+    final String name = field.getSimpleName().toString();
+    final String capitalized = name.substring( 0, 1 ).toUpperCase( Locale.ROOT ) + name.substring( 1 );
+    final Set<String> candidates = Set.of( name, "get" + capitalized, "is" + capitalized );
+
+    for ( final ExecutableElement method : ElementFilter.methodsIn( owner.getEnclosedElements() ) ) {
+      if ( candidates.contains( method.getSimpleName().toString() ) &&
+           method.getParameters().isEmpty() &&
+           !method.getModifiers().contains( Modifier.STATIC ) &&
+           isAccessible( owner, method, target ) &&
+           processingEnv.getTypeUtils().isSameType( method.getReturnType(), field.asType() ) ) {
+        return Optional.of( method.getSimpleName() + "()" );
+      }
+    }
+    return Optional.empty();
+  }
+
+  private boolean isAccessible( final TypeElement owner, final Element member, final PackageElement target ) {
+    final Set<Modifier> modifiers = member.getModifiers();
+    // Protected members are accessible only within the same package, since the generated class is not a subclass.
+    return modifiers.contains( Modifier.PUBLIC ) ||
+           ( !modifiers.contains( Modifier.PRIVATE ) && processingEnv.getElementUtils().getPackageOf( owner ).equals( target ) );
+  }
+
+  private static boolean hasAnnotation( final Element element, final String annotationName ) {
+    return element.getAnnotationMirrors()
+                  .stream()
+                  .map( mirror -> ( (TypeElement) mirror.getAnnotationType().asElement() ).getQualifiedName() )
+                  .anyMatch( name -> name.contentEquals( annotationName ) );
+  }
+
+  @Nullable
+  private static TypeElement superclassOf( final TypeElement type ) {
+    final TypeMirror superclass = type.getSuperclass();
+    if ( superclass.getKind() != TypeKind.DECLARED ) {
+      return null;
+    }
+
+    final TypeElement element = (TypeElement) ( (DeclaredType) superclass ).asElement();
+    return element.getQualifiedName().contentEquals( "java.lang.Object" ) ? null : element;
+  }
+
+  private boolean reportError( final Element element, final String message ) {
+    processingEnv.getMessager().printMessage( Diagnostic.Kind.ERROR, message, element );
+    return false;
+  }
+}
@@ -0,0 +1,358 @@
+package com.tguzik.objects.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Renders the source code of the class holding generated {@code equals()}, {@code hashCode()} and {@code toString()}.
+ * <p>
+ * The rules mirror the reflection builders from commons-lang3 used by {@code BaseObject}, so hash codes are identical to the
+ * ones produced by {@code BaseObject}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.AvoidDuplicateLiterals",
+                     "PMD.AvoidStringBufferField",
+                     "PMD.CommentDefaultAccessModifier",
+                     "PMD.CyclomaticComplexity",
+                     "PMD.GodClass",
+                     "PMD.TooManyMethods" } )
+final class ObjectMethodsSource {
+  private static final String INDENT = "  ";
+  private static final String NULL_TEXT = "\"<null>\"";
+
+  private static final List<TypeKind> PRIMITIVE_KINDS = List.of( TypeKind.BOOLEAN,
+                                                                 TypeKind.BYTE,
+                                                                 TypeKind.SHORT,
+                                                                 TypeKind.INT,
+                                                                 TypeKind.LONG,
+                                                                 TypeKind.CHAR,
+                                                                 TypeKind.FLOAT,
+                                                                 TypeKind.DOUBLE );
+
+  /**
+   * Declared types that may hold an array at runtime, which the reflection builders would handle element by element.
+   */
+  private static final Set<String> MAYBE_ARRAY_TYPES = Set.of( "java.lang.Object",
+                                                                "java.lang.Cloneable",
+                                                                "java.io.Serializable" );
+
+  private final String packageName;
+  private final TypeElement type;
+  private final List<ObjectField> fields;
+  private final boolean generatedAnnotationAvailable;
+  private final StringBuilder source = new StringBuilder( 4096 );
+
+  ObjectMethodsSource( final String packageName,
+                       final TypeElement type,
+                       final List<ObjectField> fields,
+                       final boolean generatedAnnotationAvailable ) {
+    this.packageName = packageName;
+    this.type = type;
+    this.fields = List.copyOf( fields );
+    this.generatedAnnotationAvailable = generatedAnnotationAvailable;
+  }
+
+  /**
+   * @return Name of the generated class, for example {@code Outer_InnerObjectMethods} for class {@code Outer.Inner}.
+   */
+  String simpleClassName() {
+    return String.join( "_", nestedNames( type ) ) + "ObjectMethods";
+  }
+
+  String qualifiedClassName() {
+    return packageName.isEmpty() ? simpleClassName() : packageName + "." + simpleClassName();
+  }
+
+  String render() {
+    source.setLength( 0 );
+
+    if ( !packageName.isEmpty() ) {
+      line( 0, "package " + packageName + ";" );
+      line( 0, "" );
+    }
+    if ( generatedAnnotationAvailable ) {
+      line( 0, "@javax.annotation.processing.Generated( \"" + ObjectMethodsProcessor.class.getName() + "\" )" );
+    }
+    line( 0, "final class " + simpleClassName() + " {" );
+    line( 1, "private " + simpleClassName() + "() {" );
+    line( 1, "}" );
+    line( 0, "" );
+    renderEquals();
+    line( 0, "" );
+    renderHashCode();
+    line( 0, "" );
+    renderToString();
+    line( 0, "}" );
+
+    return source.toString();
+  }
+
+  private void renderEquals() {
+    final String typeName = typeName( type );
+
+    line( 1, "static boolean equals( final " + typeName + " self, final java.lang.Object other ) {" );
+    line( 2, "if ( self == other ) {" );
+    line( 3, "return true;" );
+    line( 2, "}" );
+    line( 2, "if ( other == null || self.getClass() != other.getClass() ) {" );
+    line( 3, "return false;" );
+    line( 2, "}" );
+    line( 0, "" );
+    line( 2, "final " + typeName + " that = (" + typeName + ") other;" );
+
+    for ( final ObjectField field : fields ) {
+      if ( field.compared() ) {
+        line( 2, "if ( " + notEqualCondition( field ) + " ) {" );
+        line( 3, "return false;" );
+        line( 2, "}" );
+      }
+    }
+
+    line( 2, "return true;" );
+    line( 1, "}" );
+  }
+
+  private String notEqualCondition( final ObjectField field ) {
+    final String lhs = read( field, "self" );
+    final String rhs = read( field, "that" );
+
+    return switch ( field.type().getKind() ) {
+      // Same as Float#equals() and Double#equals(), which is what the reflection builders end up calling
+      case FLOAT -> "java.lang.Float.floatToIntBits( " + lhs + " ) != java.lang.Float.floatToIntBits( " + rhs + " )";
+      case DOUBLE -> "java.lang.Double.doubleToLongBits( " + lhs + " ) != java.lang.Double.doubleToLongBits( " + rhs + " )";
+      case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR -> lhs + " != " + rhs;
+      case ARRAY -> isPrimitiveArray( field.type() )
+                    ? "!java.util.Arrays.equals( " + lhs + ", " + rhs + " )"
+                    : "!java.util.Arrays.deepEquals( " + lhs + ", " + rhs + " )";
+      default -> isMaybeArray( field.type() )
+                 ? "!java.util.Objects.deepEquals( " + lhs + ", " + rhs + " )"
+                 : "!java.util.Objects.equals( " + lhs + ", " + rhs + " )";
+    };
+  }
+
+  private void renderHashCode() {
+    line( 1, "static int hashCode( final " + typeName( type ) + " self ) {" );
+    line( 2, "int result = 17;" );
+
+    int index = 0;
+    for ( final ObjectField field : fields ) {
+      if ( field.hashed() ) {
+        renderHashOf( field, "field" + index );
+        index++;
+      }
+    }
+
+    line( 2, "return result;" );
+    line( 1, "}" );
+
+    if ( fields.stream().anyMatch( field -> field.hashed() && needsAppendHash( field.type() ) ) ) {
+      line( 0, "" );
+      renderAppendHash();
+    }
+  }
+
+  private static boolean needsAppendHash( final TypeMirror type ) {
+    return ( type.getKind() == TypeKind.ARRAY && !isPrimitiveArray( type ) ) || isMaybeArray( type );
+  }
+
+  private void renderHashOf( final ObjectField field, final String local ) {
+    final String value = read( field, "self" );
+
+    if ( isPrimitiveArray( field.type() ) ) {
+      // HashCodeBuilder appends every element of the array to the running hash code
+      final TypeKind component = ( (ArrayType) field.type() ).getComponentType().getKind();
+      final String componentName = component.name().toLowerCase( Locale.ROOT );
+      line( 2, "final " + componentName + "[] " + local + " = " + value + ";" );
+      line( 2, "if ( " + local + " == null ) {" );
+      line( 3, "result = result * 37;" );
+      line( 2, "}" );
+      line( 2, "else {" );
+      line( 3, "for ( final " + componentName + " element : " + local + " ) {" );
+      line( 4, "result = result * 37 + " + elementHash( component ) + ";" );
+      line( 3, "}" );
+      line( 2, "}" );
+      return;
+    }
+
+    if ( needsAppendHash( field.type() ) ) {
+      line( 2, "result = appendHash( result, " + value + " );" );
+      return;
+    }
+
+    final String hash = switch ( field.type().getKind() ) {
+      // Same as the hash code of the boxed value, which is what the reflection builders end up calling
+      case BOOLEAN -> "java.lang.Boolean.hashCode( " + value + " )";
+      case BYTE -> "java.lang.Byte.hashCode( " + value + " )";
+      case SHORT -> "java.lang.Short.hashCode( " + value + " )";
+      case INT -> "java.lang.Integer.hashCode( " + value + " )";
+      case LONG -> "java.lang.Long.hashCode( " + value + " )";
+      case CHAR -> "java.lang.Character.hashCode( " + value + " )";
+      case FLOAT -> "java.lang.Float.hashCode( " + value + " )";
+      case DOUBLE -> "java.lang.Double.hashCode( " + value + " )";
+      default -> "java.util.Objects.hashCode( " + value + " )";
+    };
+    line( 2, "result = result * 37 + " + hash + ";" );
+  }
+
+  /**
+   * Same as {@code HashCodeBuilder#append(Object)}, which appends the elements of arrays, including nested ones, one by one.
+   */
+  private void renderAppendHash() {
+    line( 1, "private static int appendHash( final int result, final java.lang.Object value ) {" );
+    line( 2, "if ( value == null ) {" );
+    line( 3, "return result * 37;" );
+    line( 2, "}" );
+    line( 2, "if ( !value.getClass().isArray() ) {" );
+    line( 3, "return result * 37 + value.hashCode();" );
+    line( 2, "}" );
+    line( 0, "" );
+    line( 2, "int hash = result;" );
+    for ( final TypeKind component : PRIMITIVE_KINDS ) {
+      final String componentName = component.name().toLowerCase( Locale.ROOT );
+      line( 2, "if ( value instanceof " + componentName + "[] ) {" );
+      line( 3, "for ( final " + componentName + " element : (" + componentName + "[]) value ) {" );
+      line( 4, "hash = hash * 37 + " + elementHash( component ) + ";" );
+      line( 3, "}" );
+      line( 3, "return hash;" );
+      line( 2, "}" );
+    }
+    line( 2, "for ( final java.lang.Object element : (java.lang.Object[]) value ) {" );
+    line( 3, "hash = appendHash( hash, element );" );
+    line( 2, "}" );
+    line( 2, "return hash;" );
+    line( 1, "}" );
+  }
+
+  /**
+   * Same as the primitive variants of {@code HashCodeBuilder#append()}, which differ from the hash codes of boxed values.
+   */
+  private static String elementHash( final TypeKind component ) {
+    return switch ( component ) {
+      case BOOLEAN -> "( element ? 0 : 1 )";
+      case LONG -> "(int) ( element ^ element >> 32 )";
+      case FLOAT -> "java.lang.Float.floatToIntBits( element )";
+      case DOUBLE -> "(int) ( java.lang.Double.doubleToLongBits( element )"
+                     + " ^ java.lang.Double.doubleToLongBits( element ) >> 32 )";
+      default -> "element";
+    };
+  }
+
+  private void renderToString() {
+    final String prefix = String.join( ".", nestedNames( type ) ) + "[";
+
+    line( 1, "static java.lang.String toString( final " + typeName( type ) + " self ) {" );
+    line( 2, "final java.lang.StringBuilder builder = new java.lang.StringBuilder( " + estimateLength( prefix ) + " );" );
+    line( 2, "builder.append( \"" + prefix + "\" );" );
+
+    int index = 0;
+    for ( final ObjectField field : fields ) {
+      if ( !field.printed() ) {
+        continue;
+      }
+
+      final String separator = index == 0 ? "" : ",";
+      final String local = "field" + index;
+      final String value = read( field, "self" );
+      index++;
+
+      line( 2, "builder.append( \"" + separator + field.name() + "=\" );" );
+      if ( field.isPrimitive() ) {
+        line( 2, "builder.append( " + value + " );" );
+        continue;
+      }
+
+      line( 2, "final java.lang.Object " + local + " = " + value + ";" );
+      if ( field.isArray() ) {
+        line( 2, "builder.append( " + local + " == null ? " + NULL_TEXT + " : " + arrayToString( local ) + " );" );
+      }
+      else if ( isMaybeArray( field.type() ) ) {
+        line( 2, "if ( " + local + " == null ) {" );
+        line( 3, "builder.append( " + NULL_TEXT + " );" );
+        line( 2, "}" );
+        line( 2, "else {" );
+        line( 3, "builder.append( " + local + ".getClass().isArray() ? " + arrayToString( local ) + " : " + local + " );" );
+        line( 2, "}" );
+      }
+      else {
+        line( 2, "builder.append( " + local + " == null ? " + NULL_TEXT + " : " + local + " );" );
+      }
+    }
+
+    line( 2, "return builder.append( ']' ).toString();" );
+    line( 1, "}" );
+  }
+
+  /**
+   * ArrayUtils uses the same array formatting as SHORT_PREFIX_STYLE, for example {@code {1,2,<null>}}.
+   */
+  private static String arrayToString( final String local ) {
+    return "org.apache.commons.lang3.ArrayUtils.toString( " + local + " )";
+  }
+
+  private int estimateLength( final String prefix ) {
+    final int fieldNames = fields.stream().filter( ObjectField::printed ).mapToInt( field -> field.name().length() + 2 ).sum();
+    // Assume 8 characters per value, then round up to the next multiple of 16
+    final int estimate = prefix.length() + fieldNames + 8 * fields.size() + 1;
+    return ( estimate + 15 ) & ~15;
+  }
+
+  private String read( final ObjectField field, final String instance ) {
+    if ( field.owner().equals( type ) ) {
+      return instance + "." + field.accessor();
+    }
+    // Casting to the declaring class avoids picking up a field with the same name declared in a subclass
+    return "( (" + typeName( field.owner() ) + ") " + instance + " )." + field.accessor();
+  }
+
+  private static boolean isPrimitiveArray( final TypeMirror type ) {
+    return type.getKind() == TypeKind.ARRAY && ( (ArrayType) type ).getComponentType().getKind().isPrimitive();
+  }
+
+  private static boolean isMaybeArray( final TypeMirror type ) {
+    if ( type.getKind() == TypeKind.TYPEVAR || type.getKind() == TypeKind.WILDCARD ) {
+      return true;
+    }
+    return type.getKind() == TypeKind.DECLARED &&
+           MAYBE_ARRAY_TYPES.contains( ( (TypeElement) ( (DeclaredType) type ).asElement() ).getQualifiedName().toString() );
+  }
+
+  /**
+   * @return qualified name of the type, with wildcards in place of type parameters
+   */
+  private static String typeName( final TypeElement element ) {
+    final String name = element.getQualifiedName().toString();
+    if ( element.getTypeParameters().isEmpty() ) {
+      return name;
+    }
+    return element.getTypeParameters().stream().map( parameter -> "?" ).collect( Collectors.joining( ", ", name + "<", ">" ) );
+  }
+
+  private static Deque<String> nestedNames( final TypeElement element ) {
+    final Deque<String> names = new ArrayDeque<>();
+    for ( Element current = element; current instanceof TypeElement; current = current.getEnclosingElement() ) {
+      names.addFirst( current.getSimpleName().toString() );
+    }
+    return names;
+  }
+
+  private void line( final int depth, final String text ) {
+    if ( !text.isEmpty() ) {
+      source.append( INDENT.repeat( depth ) );
+    }
+    source.append( text ).append( '\n' );
+  }
+}
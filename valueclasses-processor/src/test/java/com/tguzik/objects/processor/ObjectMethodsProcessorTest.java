@@ -0,0 +1,222 @@
+package com.tguzik.objects.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.testing.EqualsTester;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ObjectMethodsProcessorTest {
+  private static final String PARENT = """
+    package sample;
+
+    import com.tguzik.objects.PerformanceAwareBaseObject;
+
+    public abstract class Parent extends PerformanceAwareBaseObject {
+      protected String inherited = "from parent";
+    }
+    """;
+
+  private static final String ORDER = """
+    package sample;
+
+    import java.util.List;
+
+    import com.tguzik.objects.GenerateObjectMethods;
+    import org.apache.commons.lang3.builder.EqualsExclude;
+    import org.apache.commons.lang3.builder.HashCodeExclude;
+    import org.apache.commons.lang3.builder.ToStringExclude;
+
+    @GenerateObjectMethods
+    public class Order extends Parent {
+      public static String STATIC_FIELD = "static";
+
+      private final String name;
+      int quantity = 3;
+      double price = 1.5;
+      float weight = -0.0f;
+      boolean active = true;
+      char code = 'x';
+      long[] ids = { 1L, -1L, Long.MAX_VALUE };
+      Object[] nested = { "a", null, new int[] { 1, 2 }, new Object[] { new boolean[] { true }, 'c' } };
+      String[] names = { "first", null };
+      Object packed = new Object[] { new long[] { 5L }, new double[] { 0.5 } };
+      List<String> tags = List.of( "first", "second" );
+      Object missing;
+      transient String cached = "transient";
+
+      @EqualsExclude
+      @HashCodeExclude
+      @ToStringExclude
+      String ignored = "ignored";
+
+      public Order( final String name ) {
+        this.name = name;
+      }
+
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public boolean equals( final Object other ) {
+        return OrderObjectMethods.equals( this, other );
+      }
+
+      @Override
+      public int hashCode() {
+        return OrderObjectMethods.hashCode( this );
+      }
+
+      @Override
+      public String toString() {
+        return OrderObjectMethods.toString( this );
+      }
+
+      public static class Line extends Order {
+        public Line( final String name ) {
+          super( name );
+        }
+      }
+    }
+    """;
+
+  private static final String INACCESSIBLE = """
+    package sample;
+
+    import com.tguzik.objects.GenerateObjectMethods;
+
+    @GenerateObjectMethods
+    public class Inaccessible {
+      private final String secret = "secret";
+    }
+    """;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void generated_toString_matches_reflection_based_output() throws Exception {
+    final Object order = newOrder( compile( PARENT, ORDER ), "order" );
+
+    assertThat( order.toString() ).isEqualTo( reflectionToString( order ) )
+                                  .startsWith( "Order[active=true,code=x,ids={1,-1,9223372036854775807}," );
+  }
+
+  @Test
+  void generated_hashCode_matches_reflection_based_hash() throws Exception {
+    final ClassLoader loader = compile( PARENT, ORDER );
+    final Object order = newOrder( loader, "order" );
+    assertThat( order.hashCode() ).isEqualTo( HashCodeBuilder.reflectionHashCode( order, false ) );
+
+    setField( order, "nested", null );
+    setField( order, "packed", "not an array" );
+    assertThat( order.hashCode() ).isEqualTo( HashCodeBuilder.reflectionHashCode( order, false ) );
+  }
+
+  @Test
+  void generated_equals_matches_reflection_based_equals() throws Exception {
+    final ClassLoader loader = compile( PARENT, ORDER );
+    final Object first = newOrder( loader, "order" );
+    final Object second = newOrder( loader, "order" );
+    final Object differentName = newOrder( loader, "different" );
+    final Object differentIgnoredField = newOrder( loader, "order" );
+    setField( differentIgnoredField, "ignored", "changed" );
+
+    assertThat( EqualsBuilder.reflectionEquals( first, second, false, null, "ignored" ) ).isTrue();
+    new EqualsTester().addEqualityGroup( first, second, differentIgnoredField ).addEqualityGroup( differentName ).testEquals();
+  }
+
+  @Test
+  void generated_equals_requires_exact_class_match() throws Exception {
+    final ClassLoader loader = compile( PARENT, ORDER );
+    final Object order = newOrder( loader, "order" );
+    final Object line = loader.loadClass( "sample.Order$Line" ).getConstructor( String.class ).newInstance( "order" );
+
+    assertThat( order ).isNotEqualTo( line );
+    assertThat( line ).isNotEqualTo( order );
+  }
+
+  @Test
+  void processor_reports_private_fields_without_accessors() throws IOException {
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    final boolean success = compile( diagnostics, INACCESSIBLE );
+
+    assertThat( success ).isFalse();
+    assertThat( diagnostics.getDiagnostics() ).anySatisfy( diagnostic -> {
+      assertThat( diagnostic.getKind() ).isEqualTo( Diagnostic.Kind.ERROR );
+      assertThat( diagnostic.getMessage( null ) ).contains( "Field 'secret' is not accessible" );
+    } );
+  }
+
+  private static String reflectionToString( final Object object ) {
+    return new ReflectionToStringBuilder( object, ToStringStyle.SHORT_PREFIX_STYLE ).setExcludeFieldNames( "ignored" )
+                                                                                  .toString();
+  }
+
+  private static Object newOrder( final ClassLoader loader, final String name ) throws ReflectiveOperationException {
+    return loader.loadClass( "sample.Order" ).getConstructor( String.class ).newInstance( name );
+  }
+
+  private static void setField( final Object target, final String name, final Object value ) throws ReflectiveOperationException {
+    final Field field = target.getClass().getDeclaredField( name );
+    field.setAccessible( true );
+    field.set( target, value );
+  }
+
+  private ClassLoader compile( final String... sources ) throws IOException {
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    final boolean success = compile( diagnostics, sources );
+
+    assertThat( success ).as( () -> diagnostics.getDiagnostics()
+                                               .stream()
+                                               .map( Object::toString )
+                                               .collect( Collectors.joining( "\n" ) ) ).isTrue();
+    return new URLClassLoader( new URL[] { directory.resolve( "classes" ).toUri().toURL() }, getClass().getClassLoader() );
+  }
+
+  private boolean compile( final DiagnosticCollector<JavaFileObject> diagnostics, final String... sources ) throws IOException {
+    final Path sourceDirectory = Files.createDirectories( directory.resolve( "sources/sample" ) );
+    final Path classes = Files.createDirectories( directory.resolve( "classes" ) );
+    for ( final String source : sources ) {
+      final String className = source.lines()
+                                     .filter( line -> line.startsWith( "public" ) )
+                                     .findFirst()
+                                     .orElseThrow()
+                                     .replaceAll( ".* class (\\w+) .*", "$1" );
+      Files.writeString( sourceDirectory.resolve( className + ".java" ), source, StandardCharsets.UTF_8 );
+    }
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( diagnostics, null, StandardCharsets.UTF_8 );
+          Stream<Path> sourceFiles = Files.list( sourceDirectory ) ) {
+      final List<String> options = List.of( "-classpath", System.getProperty( "java.class.path" ), "-d", classes.toString() );
+      final Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths( sourceFiles.toList() );
+      final JavaCompiler.CompilationTask task = compiler.getTask( null, fileManager, diagnostics, options, null, units );
+      task.setProcessors( List.of( new ObjectMethodsProcessor() ) );
+      return task.call();
+    }
+  }
+}
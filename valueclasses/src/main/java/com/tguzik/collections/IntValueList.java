@@ -0,0 +1,202 @@
+package com.tguzik.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link ValueList} backed by an {@code int[]}.
+ *
+ * @param <T> type of the elements
+ * @see ValueList#ofInts(Class, ToIntFunction, IntFunction)
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.TooManyMethods", "PMD.LinguisticNaming" } )
+public final class IntValueList<T> extends ValueList<T> {
+  private final ToIntFunction<? super T> getter;
+  private final IntFunction<T> factory;
+  private int[] values = new int[ DEFAULT_CAPACITY ];
+
+  IntValueList( final Class<T> type, final ToIntFunction<? super T> getter, final IntFunction<T> factory ) {
+    super( Objects.requireNonNull( type, "Type parameter cannot be null!" ) );
+    this.getter = Objects.requireNonNull( getter, "Getter parameter cannot be null!" );
+    this.factory = Objects.requireNonNull( factory, "Factory parameter cannot be null!" );
+  }
+
+  /**
+   * @return new element holding the value at the given position
+   */
+  @Override
+  public T get( final int index ) {
+    return factory.apply( getInt( index ) );
+  }
+
+  /**
+   * @return the value at the given position, without creating an element
+   */
+  public int getInt( final int index ) {
+    checkIndex( index );
+    return values[ index ];
+  }
+
+  @Override
+  public T set( final int index, final T element ) {
+    final int previous = setInt( index, getter.applyAsInt( checkElement( element ) ) );
+    return factory.apply( previous );
+  }
+
+  /**
+   * @return the value previously held at the given position
+   */
+  public int setInt( final int index, final int value ) {
+    checkIndex( index );
+    final int previous = values[ index ];
+    values[ index ] = value;
+    return previous;
+  }
+
+  @Override
+  public void add( final int index, final T element ) {
+    addInt( index, getter.applyAsInt( checkElement( element ) ) );
+  }
+
+  /**
+   * Appends the value to the end of this list.
+   */
+  public void addInt( final int value ) {
+    addInt( elementCount, value );
+  }
+
+  /**
+   * Inserts the value at the given position, shifting the following values to the right.
+   */
+  public void addInt( final int index, final int value ) {
+    checkPositionIndex( index );
+    ensureCapacity( elementCount + 1 );
+    System.arraycopy( values, index, values, index + 1, elementCount - index );
+    values[ index ] = value;
+    elementCount++;
+    modCount++;
+  }
+
+  /**
+   * Appends all the values to the end of this list.
+   */
+  public void addAllInts( final int... newValues ) {
+    ensureCapacity( elementCount + newValues.length );
+    System.arraycopy( newValues, 0, values, elementCount, newValues.length );
+    elementCount += newValues.length;
+    modCount++;
+  }
+
+  @Override
+  public T remove( final int index ) {
+    return factory.apply( removeIntAt( index ) );
+  }
+
+  /**
+   * @return the removed value
+   */
+  public int removeIntAt( final int index ) {
+    checkIndex( index );
+    final int removed = values[ index ];
+    System.arraycopy( values, index + 1, values, index, elementCount - index - 1 );
+    elementCount--;
+    modCount++;
+    return removed;
+  }
+
+  @Override
+  protected void removeRange( final int fromIndex, final int toIndex ) {
+    System.arraycopy( values, toIndex, values, fromIndex, elementCount - toIndex );
+    elementCount -= toIndex - fromIndex;
+    modCount++;
+  }
+
+  @Override
+  public void clear() {
+    elementCount = 0;
+    modCount++;
+  }
+
+  @Override
+  public int indexOf( @Nullable final Object element ) {
+    final T candidate = asElement( element );
+    return candidate == null ? -1 : indexOfInt( getter.applyAsInt( candidate ) );
+  }
+
+  @Override
+  public int lastIndexOf( @Nullable final Object element ) {
+    final T candidate = asElement( element );
+    return candidate == null ? -1 : lastIndexOfInt( getter.applyAsInt( candidate ) );
+  }
+
+  /**
+   * @return true if this list contains the value
+   */
+  public boolean containsInt( final int value ) {
+    return indexOfInt( value ) >= 0;
+  }
+
+  /**
+   * @return position of the first occurrence of the value, or -1 if this list doesn't contain it
+   */
+  public int indexOfInt( final int value ) {
+    for ( int i = 0; i < elementCount; i++ ) {
+      if ( values[ i ] == value ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return position of the last occurrence of the value, or -1 if this list doesn't contain it
+   */
+  public int lastIndexOfInt( final int value ) {
+    for ( int i = elementCount - 1; i >= 0; i-- ) {
+      if ( values[ i ] == value ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return copy of the values held by this list
+   */
+  public int[] toIntArray() {
+    return Arrays.copyOf( values, elementCount );
+  }
+
+  /**
+   * @return stream of the values held by this list. The stream is splittable and doesn't create any elements
+   */
+  public IntStream intStream() {
+    return Arrays.stream( values, 0, elementCount );
+  }
+
+  /**
+   * Increases the capacity of this list, if necessary, so that it can hold at least the given number of values.
+   */
+  public void ensureCapacity( final int minCapacity ) {
+    if ( minCapacity > values.length ) {
+      values = Arrays.copyOf( values, newCapacity( values.length, minCapacity ) );
+    }
+  }
+
+  /**
+   * Reduces the capacity of this list to its size.
+   */
+  public void trimToSize() {
+    if ( elementCount < values.length ) {
+      values = Arrays.copyOf( values, elementCount );
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.tguzik.collections;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Least significant digit radix sort of unsigned {@code long} keys, one byte per pass. Passes in which all keys have the same
+ * byte are skipped, so keys that fit in an {@code int} take at most four passes.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.ArrayIsStoredDirectly", "PMD.CommentDefaultAccessModifier", "PMD.UseVarargs" } )
+final class LongRadixSort extends RadixSort {
+  private static final int RADIX = 256;
+
+  private final long[] keys;
+  private final long[] auxKeys;
+
+  LongRadixSort( final long[] keys, final Object[] elements ) {
+    super( elements );
+    this.keys = keys;
+    this.auxKeys = new long[ keys.length ];
+  }
+
+  @Override
+  void sortRange( final int start, final int end ) {
+    final int length = end - start;
+    final int[] counts = new int[ Long.BYTES * RADIX ];
+    for ( int i = start; i < end; i++ ) {
+      final long key = keys[ i ];
+      for ( int pass = 0; pass < Long.BYTES; pass++ ) {
+        counts[ pass * RADIX + digit( key, pass ) ]++;
+      }
+    }
+
+    long[] sourceKeys = keys;
+    long[] targetKeys = auxKeys;
+    Object[] sourceElements = elements;
+    Object[] targetElements = auxElements;
+    boolean swapped = false;
+    for ( int pass = 0; pass < Long.BYTES; pass++ ) {
+      final int base = pass * RADIX;
+      if ( length == 0 || counts[ base + digit( sourceKeys[ start ], pass ) ] == length ) {
+        continue;
+      }
+
+      int offset = start;
+      for ( int digit = 0; digit < RADIX; digit++ ) {
+        final int count = counts[ base + digit ];
+        counts[ base + digit ] = offset;
+        offset += count;
+      }
+      for ( int i = start; i < end; i++ ) {
+        final int bucket = base + digit( sourceKeys[ i ], pass );
+        final int target = counts[ bucket ];
+        counts[ bucket ]++;
+        targetKeys[ target ] = sourceKeys[ i ];
+        targetElements[ target ] = sourceElements[ i ];
+      }
+
+      final long[] swappedKeys = sourceKeys;
+      sourceKeys = targetKeys;
+      targetKeys = swappedKeys;
+      final Object[] swappedElements = sourceElements;
+      sourceElements = targetElements;
+      targetElements = swappedElements;
+      swapped = !swapped;
+    }
+
+    if ( swapped ) {
+      System.arraycopy( sourceKeys, start, keys, start, length );
+      System.arraycopy( sourceElements, start, elements, start, length );
+    }
+  }
+
+  @Override
+  void merge( final int start, final int middle, final int end ) {
+    System.arraycopy( keys, start, auxKeys, start, middle - start );
+    System.arraycopy( elements, start, auxElements, start, middle - start );
+
+    int left = start;
+    int right = middle;
+    int target = start;
+    while ( left < middle && right < end ) {
+      if ( Long.compareUnsigned( auxKeys[ left ], keys[ right ] ) <= 0 ) {
+        keys[ target ] = auxKeys[ left ];
+        elements[ target ] = auxElements[ left ];
+        left++;
+      }
+      else {
+        keys[ target ] = keys[ right ];
+        elements[ target ] = elements[ right ];
+        right++;
+      }
+      target++;
+    }
+    System.arraycopy( auxKeys, left, keys, target, middle - left );
+    System.arraycopy( auxElements, left, elements, target, middle - left );
+  }
+
+  private static int digit( final long key, final int pass ) {
+    return (int) ( key >>> ( pass * Byte.SIZE ) ) & 0xFF;
+  }
+}
@@ -0,0 +1,202 @@
+package com.tguzik.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link ValueList} backed by a {@code long[]}.
+ *
+ * @param <T> type of the elements
+ * @see ValueList#ofLongs(Class, ToLongFunction, LongFunction)
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.TooManyMethods", "PMD.LinguisticNaming" } )
+public final class LongValueList<T> extends ValueList<T> {
+  private final ToLongFunction<? super T> getter;
+  private final LongFunction<T> factory;
+  private long[] values = new long[ DEFAULT_CAPACITY ];
+
+  LongValueList( final Class<T> type, final ToLongFunction<? super T> getter, final LongFunction<T> factory ) {
+    super( Objects.requireNonNull( type, "Type parameter cannot be null!" ) );
+    this.getter = Objects.requireNonNull( getter, "Getter parameter cannot be null!" );
+    this.factory = Objects.requireNonNull( factory, "Factory parameter cannot be null!" );
+  }
+
+  /**
+   * @return new element holding the value at the given position
+   */
+  @Override
+  public T get( final int index ) {
+    return factory.apply( getLong( index ) );
+  }
+
+  /**
+   * @return the value at the given position, without creating an element
+   */
+  public long getLong( final int index ) {
+    checkIndex( index );
+    return values[ index ];
+  }
+
+  @Override
+  public T set( final int index, final T element ) {
+    final long previous = setLong( index, getter.applyAsLong( checkElement( element ) ) );
+    return factory.apply( previous );
+  }
+
+  /**
+   * @return the value previously held at the given position
+   */
+  public long setLong( final int index, final long value ) {
+    checkIndex( index );
+    final long previous = values[ index ];
+    values[ index ] = value;
+    return previous;
+  }
+
+  @Override
+  public void add( final int index, final T element ) {
+    addLong( index, getter.applyAsLong( checkElement( element ) ) );
+  }
+
+  /**
+   * Appends the value to the end of this list.
+   */
+  public void addLong( final long value ) {
+    addLong( elementCount, value );
+  }
+
+  /**
+   * Inserts the value at the given position, shifting the following values to the right.
+   */
+  public void addLong( final int index, final long value ) {
+    checkPositionIndex( index );
+    ensureCapacity( elementCount + 1 );
+    System.arraycopy( values, index, values, index + 1, elementCount - index );
+    values[ index ] = value;
+    elementCount++;
+    modCount++;
+  }
+
+  /**
+   * Appends all the values to the end of this list.
+   */
+  public void addAllLongs( final long... newValues ) {
+    ensureCapacity( elementCount + newValues.length );
+    System.arraycopy( newValues, 0, values, elementCount, newValues.length );
+    elementCount += newValues.length;
+    modCount++;
+  }
+
+  @Override
+  public T remove( final int index ) {
+    return factory.apply( removeLongAt( index ) );
+  }
+
+  /**
+   * @return the removed value
+   */
+  public long removeLongAt( final int index ) {
+    checkIndex( index );
+    final long removed = values[ index ];
+    System.arraycopy( values, index + 1, values, index, elementCount - index - 1 );
+    elementCount--;
+    modCount++;
+    return removed;
+  }
+
+  @Override
+  protected void removeRange( final int fromIndex, final int toIndex ) {
+    System.arraycopy( values, toIndex, values, fromIndex, elementCount - toIndex );
+    elementCount -= toIndex - fromIndex;
+    modCount++;
+  }
+
+  @Override
+  public void clear() {
+    elementCount = 0;
+    modCount++;
+  }
+
+  @Override
+  public int indexOf( @Nullable final Object element ) {
+    final T candidate = asElement( element );
+    return candidate == null ? -1 : indexOfLong( getter.applyAsLong( candidate ) );
+  }
+
+  @Override
+  public int lastIndexOf( @Nullable final Object element ) {
+    final T candidate = asElement( element );
+    return candidate == null ? -1 : lastIndexOfLong( getter.applyAsLong( candidate ) );
+  }
+
+  /**
+   * @return true if this list contains the value
+   */
+  public boolean containsLong( final long value ) {
+    return indexOfLong( value ) >= 0;
+  }
+
+  /**
+   * @return position of the first occurrence of the value, or -1 if this list doesn't contain it
+   */
+  public int indexOfLong( final long value ) {
+    for ( int i = 0; i < elementCount; i++ ) {
+      if ( values[ i ] == value ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return position of the last occurrence of the value, or -1 if this list doesn't contain it
+   */
+  public int lastIndexOfLong( final long value ) {
+    for ( int i = elementCount - 1; i >= 0; i-- ) {
+      if ( values[ i ] == value ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return copy of the values held by this list
+   */
+  public long[] toLongArray() {
+    return Arrays.copyOf( values, elementCount );
+  }
+
+  /**
+   * @return stream of the values held by this list. The stream is splittable and doesn't create any elements
+   */
+  public LongStream longStream() {
+    return Arrays.stream( values, 0, elementCount );
+  }
+
+  /**
+   * Increases the capacity of this list, if necessary, so that it can hold at least the given number of values.
+   */
+  public void ensureCapacity( final int minCapacity ) {
+    if ( minCapacity > values.length ) {
+      values = Arrays.copyOf( values, newCapacity( values.length, minCapacity ) );
+    }
+  }
+
+  /**
+   * Reduces the capacity of this list to its size.
+   */
+  public void trimToSize() {
+    if ( elementCount < values.length ) {
+      values = Arrays.copyOf( values, elementCount );
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.tguzik.collections;
+
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Radix sort of a key array, which moves the elements of a parallel array along with the keys. Subclasses sort ranges of the
+ * keys and merge sorted neighbouring ranges, both stably, using an auxiliary buffer of the same length.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.ArrayIsStoredDirectly", "PMD.CommentDefaultAccessModifier", "PMD.UseVarargs" } )
+abstract class RadixSort {
+  /**
+   * Length of the ranges that are sorted independently by {@link #parallelSort()}, before being merged.
+   */
+  static final int PARALLEL_CHUNK = 1 << 13;
+
+  final Object[] elements;
+  final Object[] auxElements;
+
+  RadixSort( final Object[] elements ) {
+    super();
+    this.elements = elements;
+    this.auxElements = new Object[ elements.length ];
+  }
+
+  /**
+   * Sorts the whole key array.
+   */
+  final void sort() {
+    sortRange( 0, elements.length );
+  }
+
+  /**
+   * Sorts chunks of the key array in parallel, in the common fork/join pool, and merges them pairwise, merging the pairs of
+   * each round in parallel too.
+   */
+  final void parallelSort() {
+    final int length = elements.length;
+    if ( length < 2 * PARALLEL_CHUNK ) {
+      sort();
+      return;
+    }
+
+    final int chunks = ( length + PARALLEL_CHUNK - 1 ) / PARALLEL_CHUNK;
+    IntStream.range( 0, chunks ).parallel().forEach( chunk -> {
+      final int start = chunk * PARALLEL_CHUNK;
+      sortRange( start, Math.min( length, start + PARALLEL_CHUNK ) );
+    } );
+
+    for ( long width = PARALLEL_CHUNK; width < length; width *= 2 ) {
+      final int runLength = (int) width;
+      final int pairs = (int) ( ( length + 2 * width - 1 ) / ( 2 * width ) );
+      IntStream.range( 0, pairs ).parallel().forEach( pair -> {
+        final int start = pair * 2 * runLength;
+        final int middle = (int) Math.min( length, (long) start + runLength );
+        final int end = (int) Math.min( length, (long) middle + runLength );
+        if ( middle < end ) {
+          merge( start, middle, end );
+        }
+      } );
+    }
+  }
+
+  /**
+   * Sorts the keys in the range stably. May use the same range of the auxiliary buffers.
+   */
+  abstract void sortRange( int start, int end );
+
+  /**
+   * Merges two sorted neighbouring ranges stably. May use the same range of the auxiliary buffers.
+   */
+  abstract void merge( int start, int middle, int end );
+}
@@ -0,0 +1,177 @@
+package com.tguzik.collections;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Most significant digit radix sort of {@link String} keys, which orders them exactly like {@link String#compareTo(String)}.
+ * Every character is split into two one-byte digits, high byte first, and a string that ends sorts before all strings that
+ * continue. Ranges that share a digit are sorted further from an explicit stack instead of recursively, so long common
+ * prefixes cannot overflow the call stack, and short ranges are finished with an insertion sort.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.ArrayIsStoredDirectly", "PMD.CommentDefaultAccessModifier", "PMD.UseVarargs" } )
+final class StringRadixSort extends RadixSort {
+  private static final int RADIX = 256;
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  private final String[] keys;
+  private final String[] auxKeys;
+
+  StringRadixSort( final String[] keys, final Object[] elements ) {
+    super( elements );
+    this.keys = keys;
+    this.auxKeys = new String[ keys.length ];
+  }
+
+  @Override
+  void sortRange( final int start, final int end ) {
+    final int[] counts = new int[ RADIX + 2 ];
+    final RangeStack pending = new RangeStack();
+    pending.push( start, end, 0 );
+
+    while ( !pending.isEmpty() ) {
+      final int low = pending.low();
+      final int high = pending.high();
+      final int depth = pending.depth();
+      pending.pop();
+
+      if ( high - low < INSERTION_SORT_THRESHOLD ) {
+        insertionSort( low, high );
+        continue;
+      }
+
+      distribute( low, high, depth, counts );
+      // Bucket zero holds the strings that ended, which are equal and therefore already sorted
+      for ( int bucket = 1; bucket <= RADIX; bucket++ ) {
+        if ( counts[ bucket - 1 ] < counts[ bucket ] ) {
+          pending.push( low + counts[ bucket - 1 ], low + counts[ bucket ], depth + 1 );
+        }
+      }
+    }
+  }
+
+  @Override
+  void merge( final int start, final int middle, final int end ) {
+    System.arraycopy( keys, start, auxKeys, start, middle - start );
+    System.arraycopy( elements, start, auxElements, start, middle - start );
+
+    int left = start;
+    int right = middle;
+    int target = start;
+    while ( left < middle && right < end ) {
+      if ( auxKeys[ left ].compareTo( keys[ right ] ) <= 0 ) {
+        keys[ target ] = auxKeys[ left ];
+        elements[ target ] = auxElements[ left ];
+        left++;
+      }
+      else {
+        keys[ target ] = keys[ right ];
+        elements[ target ] = elements[ right ];
+        right++;
+      }
+      target++;
+    }
+    System.arraycopy( auxKeys, left, keys, target, middle - left );
+    System.arraycopy( auxElements, left, elements, target, middle - left );
+  }
+
+  /**
+   * Moves the keys of the range into buckets by their digit at the depth. Bucket zero holds the strings that ended and bucket
+   * {@code d + 1} the ones with digit {@code d}. Afterwards {@code counts[b]} is the offset of the end of bucket {@code b}.
+   */
+  private void distribute( final int low, final int high, final int depth, final int[] counts ) {
+    Arrays.fill( counts, 0 );
+    for ( int i = low; i < high; i++ ) {
+      counts[ digit( keys[ i ], depth ) + 2 ]++;
+    }
+    final boolean sameDigit = counts[ digit( keys[ low ], depth ) + 2 ] == high - low;
+    for ( int digit = 0; digit <= RADIX; digit++ ) {
+      counts[ digit + 1 ] += counts[ digit ];
+    }
+    if ( sameDigit ) {
+      // Common with high bytes of Latin-1 strings, nothing has to move
+      System.arraycopy( counts, 1, counts, 0, RADIX + 1 );
+      return;
+    }
+
+    for ( int i = low; i < high; i++ ) {
+      final int bucket = digit( keys[ i ], depth ) + 1;
+      final int target = low + counts[ bucket ];
+      counts[ bucket ]++;
+      auxKeys[ target ] = keys[ i ];
+      auxElements[ target ] = elements[ i ];
+    }
+    System.arraycopy( auxKeys, low, keys, low, high - low );
+    System.arraycopy( auxElements, low, elements, low, high - low );
+  }
+
+  private void insertionSort( final int low, final int high ) {
+    for ( int i = low + 1; i < high; i++ ) {
+      final String key = keys[ i ];
+      final Object element = elements[ i ];
+      int position = i;
+      while ( position > low && keys[ position - 1 ].compareTo( key ) > 0 ) {
+        keys[ position ] = keys[ position - 1 ];
+        elements[ position ] = elements[ position - 1 ];
+        position--;
+      }
+      keys[ position ] = key;
+      elements[ position ] = element;
+    }
+  }
+
+  /**
+   * @return byte of the string at the depth, counting two bytes per character and high bytes first, or -1 past the end
+   */
+  private static int digit( final String key, final int depth ) {
+    final int index = depth >>> 1;
+    if ( index >= key.length() ) {
+      return -1;
+    }
+
+    final char character = key.charAt( index );
+    return ( depth & 1 ) == 0 ? character >>> Byte.SIZE : character & 0xFF;
+  }
+
+  /**
+   * Ranges that still have to be sorted, as triples of their bounds and depth.
+   */
+  private static final class RangeStack {
+    private int[] ranges = new int[ 3 * 16 ];
+    private int length;
+
+    void push( final int low, final int high, final int depth ) {
+      if ( length == ranges.length ) {
+        ranges = Arrays.copyOf( ranges, ranges.length * 2 );
+      }
+      ranges[ length ] = low;
+      ranges[ length + 1 ] = high;
+      ranges[ length + 2 ] = depth;
+      length += 3;
+    }
+
+    void pop() {
+      length -= 3;
+    }
+
+    boolean isEmpty() {
+      return length == 0;
+    }
+
+    int low() {
+      return ranges[ length - 3 ];
+    }
+
+    int high() {
+      return ranges[ length - 2 ];
+    }
+
+    int depth() {
+      return ranges[ length - 1 ];
+    }
+  }
+}
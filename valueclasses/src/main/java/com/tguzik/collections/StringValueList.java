@@ -0,0 +1,206 @@
+package com.tguzik.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.tguzik.traits.HasStringValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link ValueList} backed by a {@code String[]}.
+ *
+ * @param <T> type of the elements
+ * @see ValueList#ofStrings(Class, Function)
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.TooManyMethods", "PMD.LinguisticNaming" } )
+public final class StringValueList<T extends HasStringValue> extends ValueList<T> {
+  private final Function<@Nullable String, T> factory;
+  private @Nullable String[] values = new String[ DEFAULT_CAPACITY ];
+
+  StringValueList( final Class<T> type, final Function<@Nullable String, T> factory ) {
+    super( Objects.requireNonNull( type, "Type parameter cannot be null!" ) );
+    this.factory = Objects.requireNonNull( factory, "Factory parameter cannot be null!" );
+  }
+
+  /**
+   * @return new element holding the value at the given position
+   */
+  @Override
+  public T get( final int index ) {
+    return factory.apply( getString( index ) );
+  }
+
+  /**
+   * @return the value at the given position, without creating an element
+   */
+  @Nullable
+  public String getString( final int index ) {
+    checkIndex( index );
+    return values[ index ];
+  }
+
+  @Override
+  public T set( final int index, final T element ) {
+    final String previous = setString( index, checkElement( element ).get() );
+    return factory.apply( previous );
+  }
+
+  /**
+   * @return the value previously held at the given position
+   */
+  @Nullable
+  public String setString( final int index, @Nullable final String value ) {
+    checkIndex( index );
+    final String previous = values[ index ];
+    values[ index ] = value;
+    return previous;
+  }
+
+  @Override
+  public void add( final int index, final T element ) {
+    addString( index, checkElement( element ).get() );
+  }
+
+  /**
+   * Appends the value to the end of this list.
+   */
+  public void addString( @Nullable final String value ) {
+    addString( elementCount, value );
+  }
+
+  /**
+   * Inserts the value at the given position, shifting the following values to the right.
+   */
+  public void addString( final int index, @Nullable final String value ) {
+    checkPositionIndex( index );
+    ensureCapacity( elementCount + 1 );
+    System.arraycopy( values, index, values, index + 1, elementCount - index );
+    values[ index ] = value;
+    elementCount++;
+    modCount++;
+  }
+
+  /**
+   * Appends all the values to the end of this list.
+   */
+  public void addAllStrings( final @Nullable String... newValues ) {
+    ensureCapacity( elementCount + newValues.length );
+    System.arraycopy( newValues, 0, values, elementCount, newValues.length );
+    elementCount += newValues.length;
+    modCount++;
+  }
+
+  @Override
+  public T remove( final int index ) {
+    return factory.apply( removeStringAt( index ) );
+  }
+
+  /**
+   * @return the removed value
+   */
+  @Nullable
+  public String removeStringAt( final int index ) {
+    checkIndex( index );
+    final String removed = values[ index ];
+    System.arraycopy( values, index + 1, values, index, elementCount - index - 1 );
+    elementCount--;
+    Arrays.fill( values, elementCount, elementCount + 1, null );
+    modCount++;
+    return removed;
+  }
+
+  @Override
+  protected void removeRange( final int fromIndex, final int toIndex ) {
+    System.arraycopy( values, toIndex, values, fromIndex, elementCount - toIndex );
+    Arrays.fill( values, elementCount - ( toIndex - fromIndex ), elementCount, null );
+    elementCount -= toIndex - fromIndex;
+    modCount++;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill( values, 0, elementCount, null );
+    elementCount = 0;
+    modCount++;
+  }
+
+  @Override
+  public int indexOf( @Nullable final Object element ) {
+    final T candidate = asElement( element );
+    return candidate == null ? -1 : indexOfString( candidate.get() );
+  }
+
+  @Override
+  public int lastIndexOf( @Nullable final Object element ) {
+    final T candidate = asElement( element );
+    return candidate == null ? -1 : lastIndexOfString( candidate.get() );
+  }
+
+  /**
+   * @return true if this list contains the value
+   */
+  public boolean containsString( @Nullable final String value ) {
+    return indexOfString( value ) >= 0;
+  }
+
+  /**
+   * @return position of the first occurrence of the value, or -1 if this list doesn't contain it
+   */
+  public int indexOfString( @Nullable final String value ) {
+    for ( int i = 0; i < elementCount; i++ ) {
+      if ( Objects.equals( values[ i ], value ) ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return position of the last occurrence of the value, or -1 if this list doesn't contain it
+   */
+  public int lastIndexOfString( @Nullable final String value ) {
+    for ( int i = elementCount - 1; i >= 0; i-- ) {
+      if ( Objects.equals( values[ i ], value ) ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return copy of the values held by this list
+   */
+  public @Nullable String[] toStringArray() {
+    return Arrays.copyOf( values, elementCount );
+  }
+
+  /**
+   * @return stream of the values held by this list. The stream is splittable and doesn't create any elements
+   */
+  public Stream<@Nullable String> stringStream() {
+    return Arrays.stream( values, 0, elementCount );
+  }
+
+  /**
+   * Increases the capacity of this list, if necessary, so that it can hold at least the given number of values.
+   */
+  public void ensureCapacity( final int minCapacity ) {
+    if ( minCapacity > values.length ) {
+      values = Arrays.copyOf( values, newCapacity( values.length, minCapacity ) );
+    }
+  }
+
+  /**
+   * Reduces the capacity of this list to its size.
+   */
+  public void trimToSize() {
+    if ( elementCount < values.length ) {
+      values = Arrays.copyOf( values, elementCount );
+    }
+  }
+}
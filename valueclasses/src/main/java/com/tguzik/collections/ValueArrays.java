@@ -0,0 +1,261 @@
+package com.tguzik.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import com.tguzik.traits.HasIntValue;
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bulk conversions between plain values and value classes, meant for the boundaries of an API where whole arrays or
+ * collections have to be wrapped or unwrapped at once.
+ * <p>
+ * The {@code wrap} methods create one value class instance per input element, using a constructor reference or any other
+ * factory, like {@link com.tguzik.value.ValueCache#valueOf(long)}. The {@code unwrap} methods go the other way, straight into
+ * primitive arrays, so the numbers are never boxed. The results are allocated with their final size up front.
+ * <p>
+ * Inputs of at least {@value #PARALLEL_THRESHOLD} elements are converted in parallel, in the common
+ * {@link java.util.concurrent.ForkJoinPool}. The factories and extractors must therefore be safe to call from multiple
+ * threads, which constructor references and getters are.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.AvoidDuplicateLiterals",
+                     "PMD.CommentDefaultAccessModifier",
+                     "PMD.CouplingBetweenObjects",
+                     "PMD.TooManyMethods" } )
+public final class ValueArrays {
+  /**
+   * Number of elements above which the conversions are split between the threads of the common fork/join pool.
+   */
+  static final int PARALLEL_THRESHOLD = 1 << 13;
+
+  private ValueArrays() {
+  }
+
+  /**
+   * @param values  numbers to wrap
+   * @param factory creates a value class instance out of a number
+   * @return unmodifiable list of value class instances, in the order of the numbers
+   */
+  public static <T> List<T> wrapLongs( final long[] values, final LongFunction<? extends T> factory ) {
+    Objects.requireNonNull( values, "Values parameter cannot be null!" );
+    Objects.requireNonNull( factory, "Factory parameter cannot be null!" );
+
+    final @Nullable Object[] result = new Object[ values.length ];
+    forEachIndex( values.length, i -> {
+      result[ i ] = factory.apply( values[ i ] );
+    } );
+    return asList( result );
+  }
+
+  /**
+   * @param values  numbers to wrap. The stream is consumed by this method
+   * @param factory creates a value class instance out of a number
+   * @return unmodifiable list of value class instances, in the encounter order of the stream
+   */
+  public static <T> List<T> wrapLongs( final LongStream values, final LongFunction<? extends T> factory ) {
+    return wrapLongs( Objects.requireNonNull( values, "Values parameter cannot be null!" ).toArray(), factory );
+  }
+
+  /**
+   * @param values  numbers to wrap
+   * @param factory creates a value class instance out of a number
+   * @return unmodifiable list of value class instances, in the order of the numbers
+   */
+  public static <T> List<T> wrapInts( final int[] values, final IntFunction<? extends T> factory ) {
+    Objects.requireNonNull( values, "Values parameter cannot be null!" );
+    Objects.requireNonNull( factory, "Factory parameter cannot be null!" );
+
+    final @Nullable Object[] result = new Object[ values.length ];
+    forEachIndex( values.length, i -> {
+      result[ i ] = factory.apply( values[ i ] );
+    } );
+    return asList( result );
+  }
+
+  /**
+   * @param values  numbers to wrap. The stream is consumed by this method
+   * @param factory creates a value class instance out of a number
+   * @return unmodifiable list of value class instances, in the encounter order of the stream
+   */
+  public static <T> List<T> wrapInts( final IntStream values, final IntFunction<? extends T> factory ) {
+    return wrapInts( Objects.requireNonNull( values, "Values parameter cannot be null!" ).toArray(), factory );
+  }
+
+  /**
+   * @param values  strings to wrap, possibly including nulls
+   * @param factory creates a value class instance out of a string
+   * @return unmodifiable list of value class instances, in the order of the strings
+   */
+  public static <T> List<T> wrapStrings( final @Nullable String[] values,
+                                         final Function<@Nullable String, ? extends T> factory ) {
+    Objects.requireNonNull( values, "Values parameter cannot be null!" );
+    Objects.requireNonNull( factory, "Factory parameter cannot be null!" );
+
+    final @Nullable Object[] result = new Object[ values.length ];
+    forEachIndex( values.length, i -> {
+      result[ i ] = factory.apply( values[ i ] );
+    } );
+    return asList( result );
+  }
+
+  /**
+   * @param values  strings to wrap, possibly including nulls
+   * @param factory creates a value class instance out of a string
+   * @return unmodifiable list of value class instances, in the iteration order of the collection
+   */
+  public static <T> List<T> wrapStrings( final Collection<? extends @Nullable String> values,
+                                         final Function<@Nullable String, ? extends T> factory ) {
+    Objects.requireNonNull( values, "Values parameter cannot be null!" );
+    return wrapStrings( values.toArray( new String[ 0 ] ), factory );
+  }
+
+  /**
+   * @return numbers held by the elements, in the iteration order of the collection
+   */
+  public static long[] unwrapLongs( final Collection<? extends HasLongValue> elements ) {
+    return unwrapLongs( elements, HasLongValue::getAsLong );
+  }
+
+  /**
+   * @param elements  value class instances to unwrap
+   * @param extractor returns the number held by an element, for example {@code Value::get} for subclasses of
+   *                  {@link com.tguzik.value.Value Value&lt;Long&gt;}
+   * @return numbers held by the elements, in the iteration order of the collection
+   */
+  public static <T> long[] unwrapLongs( final Collection<? extends T> elements, final ToLongFunction<? super T> extractor ) {
+    Objects.requireNonNull( elements, "Elements parameter cannot be null!" );
+    Objects.requireNonNull( extractor, "Extractor parameter cannot be null!" );
+
+    final long[] result = new long[ elements.size() ];
+    if ( result.length < PARALLEL_THRESHOLD ) {
+      final Iterator<? extends T> iterator = elements.iterator();
+      for ( int i = 0; i < result.length; i++ ) {
+        result[ i ] = extractor.applyAsLong( iterator.next() );
+      }
+    }
+    else {
+      final List<? extends T> snapshot = snapshotOf( elements );
+      forEachIndex( result.length, i -> {
+        result[ i ] = extractor.applyAsLong( snapshot.get( i ) );
+      } );
+    }
+    return result;
+  }
+
+  /**
+   * @return numbers held by the elements, in the iteration order of the collection
+   */
+  public static int[] unwrapInts( final Collection<? extends HasIntValue> elements ) {
+    return unwrapInts( elements, HasIntValue::getAsInt );
+  }
+
+  /**
+   * @param elements  value class instances to unwrap
+   * @param extractor returns the number held by an element, for example {@code Value::get} for subclasses of
+   *                  {@link com.tguzik.value.Value Value&lt;Integer&gt;}
+   * @return numbers held by the elements, in the iteration order of the collection
+   */
+  public static <T> int[] unwrapInts( final Collection<? extends T> elements, final ToIntFunction<? super T> extractor ) {
+    Objects.requireNonNull( elements, "Elements parameter cannot be null!" );
+    Objects.requireNonNull( extractor, "Extractor parameter cannot be null!" );
+
+    final int[] result = new int[ elements.size() ];
+    if ( result.length < PARALLEL_THRESHOLD ) {
+      final Iterator<? extends T> iterator = elements.iterator();
+      for ( int i = 0; i < result.length; i++ ) {
+        result[ i ] = extractor.applyAsInt( iterator.next() );
+      }
+    }
+    else {
+      final List<? extends T> snapshot = snapshotOf( elements );
+      forEachIndex( result.length, i -> {
+        result[ i ] = extractor.applyAsInt( snapshot.get( i ) );
+      } );
+    }
+    return result;
+  }
+
+  /**
+   * @return strings held by the elements, possibly including nulls, in the iteration order of the collection
+   */
+  public static @Nullable String[] unwrapStrings( final Collection<? extends HasStringValue> elements ) {
+    return unwrapStrings( elements, HasStringValue::get );
+  }
+
+  /**
+   * @param elements  value class instances to unwrap
+   * @param extractor returns the string held by an element, for example {@code Value::get} for subclasses of
+   *                  {@link com.tguzik.value.StringValue}
+   * @return strings held by the elements, possibly including nulls, in the iteration order of the collection
+   */
+  public static <T> @Nullable String[] unwrapStrings( final Collection<? extends T> elements,
+                                                      final Function<? super T, ? extends @Nullable String> extractor ) {
+    Objects.requireNonNull( elements, "Elements parameter cannot be null!" );
+    Objects.requireNonNull( extractor, "Extractor parameter cannot be null!" );
+
+    final @Nullable String[] result = new String[ elements.size() ];
+    if ( result.length < PARALLEL_THRESHOLD ) {
+      final Iterator<? extends T> iterator = elements.iterator();
+      for ( int i = 0; i < result.length; i++ ) {
+        result[ i ] = extractor.apply( iterator.next() );
+      }
+    }
+    else {
+      final List<? extends T> snapshot = snapshotOf( elements );
+      forEachIndex( result.length, i -> {
+        result[ i ] = extractor.apply( snapshot.get( i ) );
+      } );
+    }
+    return result;
+  }
+
+  /**
+   * Runs the action for every index below the length, splitting the range between the threads of the common fork/join pool
+   * if it's long enough.
+   */
+  private static void forEachIndex( final int length, final IntConsumer action ) {
+    if ( length < PARALLEL_THRESHOLD ) {
+      for ( int i = 0; i < length; i++ ) {
+        action.accept( i );
+      }
+    }
+    else {
+      IntStream.range( 0, length ).parallel().forEach( action );
+    }
+  }
+
+  /**
+   * @return the collection itself if it's a random access list, or a copy of its elements otherwise
+   */
+  @SuppressWarnings( "unchecked" )
+  private static <T> List<? extends T> snapshotOf( final Collection<? extends T> elements ) {
+    if ( elements instanceof List<?> && elements instanceof RandomAccess ) {
+      return (List<? extends T>) elements;
+    }
+    return (List<? extends T>) Arrays.asList( elements.toArray() );
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private static <T> List<T> asList( final @Nullable Object... elements ) {
+    return (List<T>) Collections.unmodifiableList( Arrays.asList( elements ) );
+  }
+}
@@ -0,0 +1,376 @@
+package com.tguzik.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import com.tguzik.traits.HasLongValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Map keyed by value classes that hold a {@code long}, which stores the keys unwrapped. The keys and values are kept in two
+ * parallel arrays of an open-addressing hash table with linear probing, so there are no per-entry objects and the lookups
+ * neither box the keys nor call {@link Object#hashCode()} and {@link Object#equals(Object)} of the value classes.
+ * <p>
+ * The entries can be looked up by the key objects, like in any other map, or directly by the {@code long}s through
+ * {@link #getByLong(long)}, {@link #putLong(long, Object)} and the other primitive methods. The map keeps the exact-type
+ * semantics of {@link com.tguzik.value.Value#equals(Object)}: only keys of the class passed to the factory method are found,
+ * even if an instance of another class holds the same number.
+ * <p>
+ * The keys are created by the registered factory whenever they are read through {@link #entrySet()} or {@link #keySet()}.
+ * These views are read-only, entries can be removed through {@link #remove(Object)} and {@link #removeLong(long)} only. Null
+ * keys and null values are not supported.
+ * <p>
+ * This class is not thread-safe. Iterators are fail-fast.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.GodClass", "PMD.LooseCoupling", "PMD.TooManyMethods" } )
+public final class ValueKeyedMap<K, V> extends AbstractMap<K, V> {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final Class<K> keyType;
+  private final ToLongFunction<? super K> keyExtractor;
+  private final LongFunction<? extends K> keyFactory;
+
+  // A slot is free when its value is null
+  private long[] keys;
+  private @Nullable Object[] values;
+  private int maxFill;
+  private int entryCount;
+  private int modCount;
+
+  private ValueKeyedMap( final Class<K> keyType,
+                         final ToLongFunction<? super K> keyExtractor,
+                         final LongFunction<? extends K> keyFactory,
+                         final int expectedSize ) {
+    super();
+    this.keyType = keyType;
+    this.keyExtractor = keyExtractor;
+    this.keyFactory = keyFactory;
+    allocate( capacityFor( expectedSize ) );
+  }
+
+  /**
+   * @param keyType    class of the keys
+   * @param keyFactory creates keys out of the stored numbers
+   * @return new, empty map
+   */
+  public static <K extends HasLongValue, V> ValueKeyedMap<K, V> forKeys( final Class<K> keyType,
+                                                                         final LongFunction<? extends K> keyFactory ) {
+    return forKeys( keyType, HasLongValue::getAsLong, keyFactory, DEFAULT_CAPACITY / 2 );
+  }
+
+  /**
+   * Creates a map for keys that don't implement {@link HasLongValue}, like subclasses of
+   * {@link com.tguzik.value.Value Value&lt;Long&gt;}.
+   *
+   * @param keyType      class of the keys
+   * @param keyExtractor returns the number held by a key
+   * @param keyFactory   creates keys out of the stored numbers
+   * @param expectedSize number of entries the map should hold without resizing
+   * @return new, empty map
+   */
+  public static <K, V> ValueKeyedMap<K, V> forKeys( final Class<K> keyType,
+                                                    final ToLongFunction<? super K> keyExtractor,
+                                                    final LongFunction<? extends K> keyFactory,
+                                                    final int expectedSize ) {
+    if ( expectedSize < 0 ) {
+      throw new IllegalArgumentException( "Expected size cannot be negative, got: " + expectedSize );
+    }
+    return new ValueKeyedMap<>( Objects.requireNonNull( keyType, "Key type parameter cannot be null!" ),
+                                Objects.requireNonNull( keyExtractor, "Key extractor parameter cannot be null!" ),
+                                Objects.requireNonNull( keyFactory, "Key factory parameter cannot be null!" ),
+                                expectedSize );
+  }
+
+  /**
+   * @return class of the keys of this map
+   */
+  public Class<K> getKeyType() {
+    return keyType;
+  }
+
+  @Override
+  public int size() {
+    return entryCount;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return entryCount == 0;
+  }
+
+  @Override
+  public boolean containsKey( @Nullable final Object key ) {
+    return isKey( key ) && containsLongKey( keyExtractor.applyAsLong( keyType.cast( key ) ) );
+  }
+
+  /**
+   * @return true if this map contains a key holding the number
+   */
+  public boolean containsLongKey( final long key ) {
+    return slotOf( key ) >= 0;
+  }
+
+  @Override
+  @Nullable
+  public V get( @Nullable final Object key ) {
+    return isKey( key ) ? getByLong( keyExtractor.applyAsLong( keyType.cast( key ) ) ) : null;
+  }
+
+  /**
+   * @return the value mapped to the key holding the number, or null if there is no such key
+   */
+  @Nullable
+  public V getByLong( final long key ) {
+    final int slot = slotOf( key );
+    return slot < 0 ? null : valueAt( slot );
+  }
+
+  @Override
+  @Nullable
+  public V put( final K key, final V value ) {
+    Objects.requireNonNull( key, "Key cannot be null!" );
+    if ( key.getClass() != keyType ) {
+      throw new ClassCastException( "Expected key of " + keyType.getName() + ", got " + key.getClass().getName() );
+    }
+    return putLong( keyExtractor.applyAsLong( key ), value );
+  }
+
+  /**
+   * @return the value previously mapped to the key holding the number, or null if there was no such key
+   */
+  @Nullable
+  public V putLong( final long key, final V value ) {
+    Objects.requireNonNull( value, "Value cannot be null!" );
+
+    final int slot = slotOf( key );
+    if ( slot >= 0 ) {
+      final V previous = valueAt( slot );
+      values[ slot ] = value;
+      return previous;
+    }
+
+    final int free = -slot - 1;
+    keys[ free ] = key;
+    values[ free ] = value;
+    entryCount++;
+    modCount++;
+    if ( entryCount > maxFill ) {
+      rehash( keys.length * 2 );
+    }
+    return null;
+  }
+
+  @Override
+  @Nullable
+  public V remove( @Nullable final Object key ) {
+    return isKey( key ) ? removeLong( keyExtractor.applyAsLong( keyType.cast( key ) ) ) : null;
+  }
+
+  /**
+   * @return the value that was mapped to the key holding the number, or null if there was no such key
+   */
+  @Nullable
+  public V removeLong( final long key ) {
+    final int slot = slotOf( key );
+    if ( slot < 0 ) {
+      return null;
+    }
+
+    final V removed = valueAt( slot );
+    removeAt( slot );
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill( values, null );
+    entryCount = 0;
+    modCount++;
+  }
+
+  /**
+   * @return copy of the numbers held by the keys of this map, in no particular order
+   */
+  public long[] toLongKeyArray() {
+    final long[] result = new long[ entryCount ];
+    int index = 0;
+    for ( int slot = 0; slot < values.length; slot++ ) {
+      if ( values[ slot ] != null ) {
+        result[ index ] = keys[ slot ];
+        index++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return read-only view of the entries of this map. The keys are created when the entries are read
+   */
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  private boolean isKey( @Nullable final Object key ) {
+    return key != null && key.getClass() == keyType;
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private V valueAt( final int slot ) {
+    return (V) values[ slot ];
+  }
+
+  /**
+   * @return slot holding the key, or {@code -(free slot) - 1} if this map doesn't contain the key
+   */
+  private int slotOf( final long key ) {
+    final int mask = keys.length - 1;
+    int slot = mix( key ) & mask;
+    while ( values[ slot ] != null ) {
+      if ( keys[ slot ] == key ) {
+        return slot;
+      }
+      slot = ( slot + 1 ) & mask;
+    }
+    return -slot - 1;
+  }
+
+  /**
+   * Removes the entry and shifts the following entries of the same cluster back, so that no tombstones are needed.
+   */
+  private void removeAt( final int slot ) {
+    final int mask = keys.length - 1;
+    int gap = slot;
+    int current = slot;
+    while ( true ) {
+      current = ( current + 1 ) & mask;
+      if ( values[ current ] == null ) {
+        break;
+      }
+
+      final int ideal = mix( keys[ current ] ) & mask;
+      if ( ( ( current - ideal ) & mask ) >= ( ( current - gap ) & mask ) ) {
+        keys[ gap ] = keys[ current ];
+        values[ gap ] = values[ current ];
+        gap = current;
+      }
+    }
+
+    Arrays.fill( values, gap, gap + 1, null );
+    entryCount--;
+    modCount++;
+  }
+
+  private void rehash( final int capacity ) {
+    final long[] oldKeys = keys;
+    final @Nullable Object[] oldValues = values;
+
+    allocate( capacity );
+    final int mask = capacity - 1;
+    for ( int i = 0; i < oldValues.length; i++ ) {
+      if ( oldValues[ i ] != null ) {
+        int slot = mix( oldKeys[ i ] ) & mask;
+        while ( values[ slot ] != null ) {
+          slot = ( slot + 1 ) & mask;
+        }
+        keys[ slot ] = oldKeys[ i ];
+        values[ slot ] = oldValues[ i ];
+      }
+    }
+  }
+
+  private void allocate( final int capacity ) {
+    if ( capacity > MAX_CAPACITY ) {
+      throw new IllegalStateException( "Map cannot hold more than " + MAX_CAPACITY / 4 * 3 + " entries" );
+    }
+    this.keys = new long[ capacity ];
+    this.values = new Object[ capacity ];
+    this.maxFill = capacity - capacity / 4;
+  }
+
+  /**
+   * @return power of two capacity that holds the expected number of entries at load factor of 0.75
+   */
+  private static int capacityFor( final int expectedSize ) {
+    final long needed = Math.max( DEFAULT_CAPACITY, (long) Math.ceil( expectedSize / 0.75 ) + 1 );
+    return needed >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit( (int) needed - 1 ) << 1;
+  }
+
+  /**
+   * Spreads the bits of the key, so that sequential keys don't form long clusters.
+   */
+  private static int mix( final long key ) {
+    final long hash = key * 0x9E37_79B9_7F4A_7C15L;
+    return (int) ( hash ^ ( hash >>> 32 ) );
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return entryCount;
+    }
+
+    @Override
+    public boolean contains( @Nullable final Object element ) {
+      if ( !( element instanceof Map.Entry<?, ?> entry ) || !isKey( entry.getKey() ) ) {
+        return false;
+      }
+
+      final V value = getByLong( keyExtractor.applyAsLong( keyType.cast( entry.getKey() ) ) );
+      return value != null && value.equals( entry.getValue() );
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+    private final int expectedModCount = modCount;
+    private int slot = nextSlot( 0 );
+
+    @Override
+    public boolean hasNext() {
+      return slot < values.length;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      if ( modCount != expectedModCount ) {
+        throw new ConcurrentModificationException();
+      }
+      if ( !hasNext() ) {
+        throw new NoSuchElementException();
+      }
+
+      final Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>( keyFactory.apply( keys[ slot ] ), valueAt( slot ) );
+      slot = nextSlot( slot + 1 );
+      return entry;
+    }
+
+    private int nextSlot( final int from ) {
+      int next = from;
+      while ( next < values.length && values[ next ] == null ) {
+        next++;
+      }
+      return next;
+    }
+  }
+}
@@ -0,0 +1,233 @@
+package com.tguzik.collections;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.tguzik.traits.HasIntValue;
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * List of value classes that stores only the underlying values, in a single primitive (or {@link String}) array. A list of a
+ * million {@link HasLongValue}s takes roughly the memory of a {@code long[]} of a million elements, instead of a reference, a
+ * wrapper and possibly a boxed {@link Long} per element.
+ * <p>
+ * The wrappers are created by the factory registered with the list whenever they are read, for example by {@link #get(int)}
+ * or by the iterator. Code that only needs the values should use the primitive accessors of the subclasses, which don't
+ * allocate. {@link #contains(Object)} and {@link #indexOf(Object)} compare the underlying values without creating any
+ * wrappers, and {@link #spliterator()} splits evenly, so parallel streams work well.
+ * <p>
+ * The lists hold elements of exactly one class - the one passed to the factory method. Elements of other classes are
+ * rejected, even if they hold the same kind of value, same as {@link com.tguzik.value.Value#equals(Object)} treats them as
+ * different. Null elements are not supported.
+ * <p>
+ * The lists are not thread-safe. Iterators and spliterators are fail-fast.
+ *
+ * @param <T> type of the elements
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.LooseCoupling", "PMD.TooManyMethods" } )
+public abstract class ValueList<T> extends AbstractList<T> implements RandomAccess {
+  static final int DEFAULT_CAPACITY = 10;
+
+  private final Class<T> type;
+  int elementCount;
+
+  ValueList( final Class<T> type ) {
+    super();
+    this.type = type;
+  }
+
+  /**
+   * @param type    class of the elements
+   * @param factory creates elements out of the stored values
+   * @return new, empty list of elements that hold {@code long}s
+   */
+  public static <T extends HasLongValue> LongValueList<T> ofLongs( final Class<T> type, final LongFunction<T> factory ) {
+    return ofLongs( type, HasLongValue::getAsLong, factory );
+  }
+
+  /**
+   * Same as {@link #ofLongs(Class, LongFunction)}, for elements that hold {@code long}s without implementing
+   * {@link HasLongValue}, for example subclasses of {@code Value<Long>}.
+   *
+   * @param type    class of the elements
+   * @param getter  extracts the stored values out of the elements
+   * @param factory creates elements out of the stored values
+   * @return new, empty list of elements that hold {@code long}s
+   */
+  public static <T> LongValueList<T> ofLongs( final Class<T> type,
+                                              final ToLongFunction<? super T> getter,
+                                              final LongFunction<T> factory ) {
+    return new LongValueList<>( type, getter, factory );
+  }
+
+  /**
+   * @param type    class of the elements
+   * @param factory creates elements out of the stored values
+   * @return new, empty list of elements that hold {@code int}s
+   */
+  public static <T extends HasIntValue> IntValueList<T> ofInts( final Class<T> type, final IntFunction<T> factory ) {
+    return ofInts( type, HasIntValue::getAsInt, factory );
+  }
+
+  /**
+   * Same as {@link #ofInts(Class, IntFunction)}, for elements that hold {@code int}s without implementing
+   * {@link HasIntValue}, for example subclasses of {@code Value<Integer>}.
+   *
+   * @param type    class of the elements
+   * @param getter  extracts the stored values out of the elements
+   * @param factory creates elements out of the stored values
+   * @return new, empty list of elements that hold {@code int}s
+   */
+  public static <T> IntValueList<T> ofInts( final Class<T> type,
+                                            final ToIntFunction<? super T> getter,
+                                            final IntFunction<T> factory ) {
+    return new IntValueList<>( type, getter, factory );
+  }
+
+  /**
+   * @param type    class of the elements
+   * @param factory creates elements out of the stored values
+   * @return new, empty list of elements that hold {@link String}s
+   */
+  public static <T extends HasStringValue> StringValueList<T> ofStrings( final Class<T> type,
+                                                                         final Function<@Nullable String, T> factory ) {
+    return new StringValueList<>( type, factory );
+  }
+
+  /**
+   * @return class of the elements of this list
+   */
+  public Class<T> getType() {
+    return type;
+  }
+
+  @Override
+  public int size() {
+    return elementCount;
+  }
+
+  @Override
+  public boolean contains( @Nullable final Object element ) {
+    return indexOf( element ) >= 0;
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return new ElementSpliterator<>( this, 0, elementCount, modCount );
+  }
+
+  /**
+   * @return the element cast to the type of this list, or null if it's of a different class
+   */
+  @Nullable
+  final T asElement( @Nullable final Object element ) {
+    return element != null && element.getClass() == type ? type.cast( element ) : null;
+  }
+
+  final T checkElement( final T element ) {
+    Objects.requireNonNull( element, "Element cannot be null!" );
+    if ( element.getClass() != type ) {
+      throw new ClassCastException( "Expected element of " + type.getName() + ", got " + element.getClass().getName() );
+    }
+    return element;
+  }
+
+  final void checkIndex( final int index ) {
+    Objects.checkIndex( index, elementCount );
+  }
+
+  final void checkPositionIndex( final int index ) {
+    Objects.checkIndex( index, elementCount + 1 );
+  }
+
+  /**
+   * @return capacity of an array that can hold at least {@code minCapacity} elements, growing by half of its current length
+   */
+  static int newCapacity( final int currentLength, final int minCapacity ) {
+    final int grown = currentLength + Math.max( currentLength >> 1, 1 );
+    return Math.max( minCapacity, grown < 0 ? Integer.MAX_VALUE - 8 : grown );
+  }
+
+  /**
+   * Splits the index range of the list in halves. The elements are created only when they are consumed.
+   */
+  private static final class ElementSpliterator<T> implements Spliterator<T> {
+    private final ValueList<T> list;
+    private final int expectedModCount;
+    private int index;
+    private final int fence;
+
+    ElementSpliterator( final ValueList<T> list, final int origin, final int fence, final int expectedModCount ) {
+      this.list = list;
+      this.index = origin;
+      this.fence = fence;
+      this.expectedModCount = expectedModCount;
+    }
+
+    @Override
+    public boolean tryAdvance( final Consumer<? super T> action ) {
+      Objects.requireNonNull( action, "Action parameter cannot be null!" );
+      if ( index >= fence ) {
+        return false;
+      }
+
+      checkForComodification();
+      action.accept( list.get( index ) );
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining( final Consumer<? super T> action ) {
+      Objects.requireNonNull( action, "Action parameter cannot be null!" );
+      checkForComodification();
+      for ( ; index < fence; index++ ) {
+        action.accept( list.get( index ) );
+      }
+      checkForComodification();
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+      final int middle = ( index + fence ) >>> 1;
+      if ( middle <= index ) {
+        return null;
+      }
+
+      final Spliterator<T> prefix = new ElementSpliterator<>( list, index, middle, expectedModCount );
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return (long) fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+    private void checkForComodification() {
+      if ( list.modCount != expectedModCount ) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+}
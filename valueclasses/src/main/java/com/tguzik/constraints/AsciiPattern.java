@@ -0,0 +1,194 @@
+package com.tguzik.constraints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Matcher for the subset of regular expressions that format checks of identifiers and codes usually need: a sequence of
+ * ASCII literals and ASCII character classes, each with an optional quantifier, e.g. {@code [A-Z]{2}-\d{4,6}}. The input is
+ * matched in a single greedy pass, without backtracking and without allocating.
+ * <p>
+ * A pattern is compiled only when the greedy pass gives the same answer as {@link java.util.regex.Pattern#matches}. That
+ * holds when every element that can match a varying number of characters cannot match any of the characters that may
+ * follow it. Since every character class is ASCII-only, any other character makes the input not match.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class AsciiPattern {
+  private static final char ESCAPE = '\\';
+  private static final char CLASS_START = '[';
+  private static final char CLASS_END = ']';
+  private static final String UNSUPPORTED_CHARACTERS = "^$.|()*+?{}]";
+  private static final String QUANTIFIERS = "?*+{";
+
+  private final CharSet[] sets;
+  private final int[] minimums;
+  private final int[] maximums;
+
+  private AsciiPattern( final List<Element> elements ) {
+    this.sets = elements.stream().map( Element::set ).toArray( CharSet[]::new );
+    this.minimums = elements.stream().mapToInt( Element::minimum ).toArray();
+    this.maximums = elements.stream().mapToInt( Element::maximum ).toArray();
+  }
+
+  /**
+   * @param regex regular expression, optionally wrapped in {@code ^} and {@code $}
+   * @return the compiled pattern, or empty if the expression is outside the supported subset
+   */
+  static Optional<AsciiPattern> compile( final String regex ) {
+    final int start = regex.startsWith( "^" ) ? 1 : 0;
+    final int end = regex.endsWith( "$" ) && !regex.endsWith( "\\$" ) ? regex.length() - 1 : regex.length();
+    if ( start > end ) {
+      return Optional.empty();
+    }
+
+    try {
+      final List<Element> elements = parse( regex.substring( start, end ) );
+      return isGreedySafe( elements ) ? Optional.of( new AsciiPattern( elements ) ) : Optional.empty();
+    }
+    catch ( final IllegalArgumentException e ) {
+      // Either a construct we don't handle, or an invalid regex that java.util.regex will report better
+      return Optional.empty();
+    }
+  }
+
+  boolean matches( final CharSequence input ) {
+    final int length = input.length();
+    int position = 0;
+
+    for ( int element = 0; element < sets.length; element++ ) {
+      final CharSet set = sets[ element ];
+      final int limit = (int) Math.min( length, (long) position + maximums[ element ] );
+      final int elementStart = position;
+      while ( position < limit && set.contains( input.charAt( position ) ) ) {
+        position++;
+      }
+      if ( position - elementStart < minimums[ element ] ) {
+        return false;
+      }
+    }
+    return position == length;
+  }
+
+  @SuppressWarnings( "PMD.AvoidInstantiatingObjectsInLoops" )
+  private static List<Element> parse( final String regex ) {
+    final List<Element> elements = new ArrayList<>();
+    int position = 0;
+
+    while ( position < regex.length() ) {
+      final char character = regex.charAt( position );
+      final CharSet set;
+      if ( character == CLASS_START ) {
+        final int close = findClosingBracket( regex, position + 1 );
+        final CharSet.Parser parser = new CharSet.Parser( regex, position + 1 );
+        set = parser.parseUntil( close );
+        position = close + 1;
+      }
+      else if ( UNSUPPORTED_CHARACTERS.indexOf( character ) >= 0 ) {
+        throw new IllegalArgumentException( "Unsupported construct: " + character );
+      }
+      else {
+        final CharSet.Parser parser = new CharSet.Parser( regex, position );
+        set = CharSet.ofRanges( parser.parseAtom() );
+        position = parser.nextPosition();
+      }
+
+      if ( !set.isAscii() || set.isEmpty() ) {
+        throw new IllegalArgumentException( "Only non-empty ASCII character classes are supported" );
+      }
+      position = parseQuantifier( regex, position, set, elements );
+    }
+    return elements;
+  }
+
+  /**
+   * @return position after the quantifier
+   */
+  @SuppressWarnings( "PMD.CyclomaticComplexity" )
+  private static int parseQuantifier( final String regex, final int position, final CharSet set, final List<Element> elements ) {
+    final char quantifier = position < regex.length() ? regex.charAt( position ) : 0;
+    final int close = quantifier == '{' ? regex.indexOf( '}', position ) : position;
+    if ( close < 0 ) {
+      throw new IllegalArgumentException( "Unclosed repetition" );
+    }
+
+    final Element element = switch ( quantifier ) {
+      case '?' -> new Element( set, 0, 1 );
+      case '*' -> new Element( set, 0, Integer.MAX_VALUE );
+      case '+' -> new Element( set, 1, Integer.MAX_VALUE );
+      case '{' -> repetition( set, regex.substring( position + 1, close ) );
+      default -> new Element( set, 1, 1 );
+    };
+    elements.add( element );
+
+    final int next = QUANTIFIERS.indexOf( quantifier ) >= 0 ? close + 1 : position;
+    if ( next > position && next < regex.length() && "?+".indexOf( regex.charAt( next ) ) >= 0 ) {
+      throw new IllegalArgumentException( "Lazy and possessive quantifiers are not supported" );
+    }
+    return next;
+  }
+
+  private static Element repetition( final CharSet set, final String bounds ) {
+    final int comma = bounds.indexOf( ',' );
+    if ( comma < 0 ) {
+      final int count = Integer.parseInt( bounds );
+      return new Element( set, count, count );
+    }
+
+    final int minimum = Integer.parseInt( bounds.substring( 0, comma ) );
+    final String maximum = bounds.substring( comma + 1 );
+    return new Element( set, minimum, maximum.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt( maximum ) );
+  }
+
+  @SuppressWarnings( "PMD.CyclomaticComplexity" )
+  private static int findClosingBracket( final String regex, final int start ) {
+    int position = start;
+    while ( position < regex.length() ) {
+      final char character = regex.charAt( position );
+      if ( character == CLASS_START || character == '&' || ( character == '^' && position == start ) ) {
+        // Nested classes, intersections and negation
+        throw new IllegalArgumentException( "Unsupported character class" );
+      }
+      if ( character == CLASS_END && position > start ) {
+        return position;
+      }
+      position += character == ESCAPE ? 2 : 1;
+    }
+    throw new IllegalArgumentException( "Unclosed character class" );
+  }
+
+  /**
+   * Greedy matching of an element is only safe if it cannot take a character that the following elements need. Every
+   * element up to and including the first mandatory one may follow.
+   */
+  private static boolean isGreedySafe( final List<Element> elements ) {
+    for ( int i = 0; i < elements.size(); i++ ) {
+      final Element element = elements.get( i );
+      if ( element.minimum() == element.maximum() ) {
+        continue;
+      }
+      for ( int next = i + 1; next < elements.size(); next++ ) {
+        if ( !element.set().isDisjoint( elements.get( next ).set() ) ) {
+          return false;
+        }
+        if ( elements.get( next ).minimum() > 0 ) {
+          break;
+        }
+      }
+    }
+    return true;
+  }
+
+  private record Element(CharSet set, int minimum, int maximum) {
+    Element {
+      if ( minimum < 0 || maximum < minimum ) {
+        throw new IllegalArgumentException( "Invalid repetition: {" + minimum + "," + maximum + "}" );
+      }
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package com.tguzik.constraints;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Immutable set of characters. ASCII characters are looked up in a 128-bit mask, others in sorted, non-overlapping ranges.
+ * <p>
+ * Sets are parsed from the contents of a regular expression character class, without the brackets: single characters,
+ * ranges like {@code a-z}, the {@code \d}, {@code \w} and {@code \s} shorthands of the default (non-Unicode) mode, and
+ * backslash escapes of any other character, e.g. {@code \-} or {@code \]}. Negation and nested classes are not supported.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.UseVarargs" } )
+final class CharSet {
+  private static final int ASCII_LIMIT = 128;
+  private static final char ESCAPE = '\\';
+
+  private final long lowMask;
+  private final long highMask;
+  private final int[] nonAsciiRanges;
+
+  private CharSet( final long lowMask, final long highMask, final int[] nonAsciiRanges ) {
+    this.lowMask = lowMask;
+    this.highMask = highMask;
+    this.nonAsciiRanges = nonAsciiRanges;
+  }
+
+  /**
+   * @param specification contents of a character class, e.g. {@code A-Z0-9_\-}
+   * @throws IllegalArgumentException if the specification is empty or malformed
+   */
+  static CharSet parse( final String specification ) {
+    final Parser parser = new Parser( specification, 0 );
+    final CharSet result = parser.parseUntil( specification.length() );
+    if ( result.isEmpty() ) {
+      throw new IllegalArgumentException( "Character set cannot be empty" );
+    }
+    return result;
+  }
+
+  /**
+   * @param ranges pairs of inclusive bounds, in any order, possibly overlapping
+   */
+  static CharSet ofRanges( final int[] ranges ) {
+    long low = 0;
+    long high = 0;
+    final int[] nonAscii = new int[ ranges.length ];
+    int nonAsciiLength = 0;
+
+    for ( int i = 0; i < ranges.length; i += 2 ) {
+      for ( int character = ranges[ i ]; character <= Math.min( ranges[ i + 1 ], ASCII_LIMIT - 1 ); character++ ) {
+        if ( character < Long.SIZE ) {
+          low |= 1L << character;
+        }
+        else {
+          high |= 1L << ( character - Long.SIZE );
+        }
+      }
+      if ( ranges[ i + 1 ] >= ASCII_LIMIT ) {
+        nonAscii[ nonAsciiLength ] = Math.max( ranges[ i ], ASCII_LIMIT );
+        nonAscii[ nonAsciiLength + 1 ] = ranges[ i + 1 ];
+        nonAsciiLength += 2;
+      }
+    }
+    return new CharSet( low, high, mergeRanges( Arrays.copyOf( nonAscii, nonAsciiLength ) ) );
+  }
+
+  boolean contains( final char character ) {
+    if ( character < Long.SIZE ) {
+      return ( lowMask & ( 1L << character ) ) != 0;
+    }
+    if ( character < ASCII_LIMIT ) {
+      return ( highMask & ( 1L << ( character - Long.SIZE ) ) ) != 0;
+    }
+    return containsNonAscii( character );
+  }
+
+  /**
+   * @return true if every character in the set is an ASCII character
+   */
+  boolean isAscii() {
+    return nonAsciiRanges.length == 0;
+  }
+
+  boolean isEmpty() {
+    return lowMask == 0 && highMask == 0 && isAscii();
+  }
+
+  /**
+   * @return true if no character belongs to both sets
+   */
+  boolean isDisjoint( final CharSet other ) {
+    if ( ( lowMask & other.lowMask ) != 0 || ( highMask & other.highMask ) != 0 ) {
+      return false;
+    }
+    for ( int i = 0; i < nonAsciiRanges.length; i += 2 ) {
+      for ( int j = 0; j < other.nonAsciiRanges.length; j += 2 ) {
+        if ( nonAsciiRanges[ i ] <= other.nonAsciiRanges[ j + 1 ] && other.nonAsciiRanges[ j ] <= nonAsciiRanges[ i + 1 ] ) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private boolean containsNonAscii( final char character ) {
+    // Binary search over the lower bounds of the ranges
+    int low = 0;
+    int high = nonAsciiRanges.length / 2 - 1;
+    while ( low <= high ) {
+      final int middle = ( low + high ) >>> 1;
+      if ( nonAsciiRanges[ 2 * middle ] > character ) {
+        high = middle - 1;
+      }
+      else if ( nonAsciiRanges[ 2 * middle + 1 ] < character ) {
+        low = middle + 1;
+      }
+      else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int[] mergeRanges( final int[] ranges ) {
+    final int count = ranges.length / 2;
+    final long[] packed = new long[ count ];
+    for ( int i = 0; i < count; i++ ) {
+      packed[ i ] = (long) ranges[ 2 * i ] << Integer.SIZE | ranges[ 2 * i + 1 ];
+    }
+    Arrays.sort( packed );
+
+    final int[] merged = new int[ ranges.length ];
+    int length = 0;
+    for ( final long range : packed ) {
+      final int start = (int) ( range >>> Integer.SIZE );
+      final int end = (int) range;
+      if ( length > 0 && start <= merged[ length - 1 ] + 1 ) {
+        merged[ length - 1 ] = Math.max( merged[ length - 1 ], end );
+      }
+      else {
+        merged[ length ] = start;
+        merged[ length + 1 ] = end;
+        length += 2;
+      }
+    }
+    return Arrays.copyOf( merged, length );
+  }
+
+  /**
+   * Reads the contents of a character class. Shared with {@link AsciiPattern}, which parses whole patterns.
+   */
+  static final class Parser {
+    private final String source;
+    private int position;
+    private boolean shorthand;
+
+    Parser( final String source, final int position ) {
+      this.source = source;
+      this.position = position;
+    }
+
+    int nextPosition() {
+      return position;
+    }
+
+    /**
+     * @param end index of the character that ends the class, e.g. the closing bracket
+     */
+    CharSet parseUntil( final int end ) {
+      final int[] ranges = new int[ 4 * ( end - position ) + 8 ];
+      int length = 0;
+
+      while ( position < end ) {
+        final int[] atom = parseAtom();
+        if ( !shorthand && position + 1 < end && source.charAt( position ) == '-' ) {
+          // A range: the upper bound has to be a single character too
+          position++;
+          final int[] upper = parseAtom();
+          if ( shorthand || upper[ 0 ] < atom[ 0 ] ) {
+            throw new IllegalArgumentException( "Invalid character range ending at index " + position + " of: " + source );
+          }
+          atom[ 1 ] = upper[ 0 ];
+        }
+        System.arraycopy( atom, 0, ranges, length, atom.length );
+        length += atom.length;
+      }
+      return ofRanges( Arrays.copyOf( ranges, length ) );
+    }
+
+    /**
+     * @return pairs of inclusive bounds; a single pair with equal bounds for a single character
+     */
+    int[] parseAtom() {
+      final char character = source.charAt( position );
+      position++;
+      if ( character != ESCAPE ) {
+        shorthand = false;
+        return new int[] { character, character };
+      }
+      if ( position >= source.length() ) {
+        throw new IllegalArgumentException( "Dangling backslash at the end of: " + source );
+      }
+
+      final char escaped = source.charAt( position );
+      position++;
+      shorthand = escaped == 'd' || escaped == 'w' || escaped == 's';
+      return shorthand ? shorthandRanges( escaped ) : escapedCharacter( escaped );
+    }
+
+    private static int[] shorthandRanges( final char letter ) {
+      return switch ( letter ) {
+        case 'd' -> new int[] { '0', '9' };
+        case 'w' -> new int[] { 'a', 'z', 'A', 'Z', '0', '9', '_', '_' };
+        default -> new int[] { '\t', '\r', ' ', ' ' };
+      };
+    }
+
+    private int[] escapedCharacter( final char escaped ) {
+      final char character = switch ( escaped ) {
+        case 't' -> '\t';
+        case 'n' -> '\n';
+        case 'r' -> '\r';
+        default -> {
+          if ( Character.isLetterOrDigit( escaped ) ) {
+            throw new IllegalArgumentException( "Unsupported escape \\" + escaped + " in: " + source );
+          }
+          yield escaped;
+        }
+      };
+      return new int[] { character, character };
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.tguzik.constraints;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Compiled range constraint for the numbers held by value classes, e.g. {@link com.tguzik.traits.HasLongValue} and
+ * {@link com.tguzik.traits.HasIntValue} implementations. Checks do not box and do not allocate:
+ * <pre>
+ * record Quantity(int value) implements HasIntValue {
+ *   private static final LongConstraints CONSTRAINTS = LongConstraints.forType( Quantity.class ).range( 1, 10_000 ).build();
+ *   Quantity {
+ *     CONSTRAINTS.check( value );
+ *   }
+ *   ...
+ * }
+ * </pre>
+ * Columns of numbers are checked with {@link #validateAll(long[])} and {@link #validateAll(int[])}, which report every
+ * invalid number instead of stopping at the first one. Instances are immutable and thread-safe.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.UseVarargs" )
+public final class LongConstraints {
+  private final String typeName;
+  private final long min;
+  private final long max;
+
+  private LongConstraints( final Builder builder ) {
+    this.typeName = builder.typeName;
+    this.min = builder.min;
+    this.max = builder.max;
+  }
+
+  /**
+   * @param type value class that the constraints are for, used in the messages
+   * @return builder of constraints that accept any number
+   */
+  public static Builder forType( final Class<?> type ) {
+    return new Builder( type.getSimpleName() );
+  }
+
+  /**
+   * @return true if the value is within the range
+   */
+  public boolean isValid( final long value ) {
+    return value >= min && value <= max;
+  }
+
+  /**
+   * @return the value, if it is within the range
+   * @throws IllegalArgumentException if the value is out of the range
+   */
+  public long check( final long value ) {
+    if ( !isValid( value ) ) {
+      throw new IllegalArgumentException( describe( value ) );
+    }
+    return value;
+  }
+
+  /**
+   * @return the value, if it is within the range
+   * @throws IllegalArgumentException if the value is out of the range
+   */
+  public int check( final int value ) {
+    check( (long) value );
+    return value;
+  }
+
+  /**
+   * @param column values to check
+   * @return unmodifiable list of violations of the invalid values, in the order of the values; empty if all values are valid
+   */
+  public List<Violation> validateAll( final long[] column ) {
+    List<Violation> violations = List.of();
+    for ( int i = 0; i < column.length; i++ ) {
+      if ( !isValid( column[ i ] ) ) {
+        violations = Violation.add( violations, i, describe( column[ i ] ) );
+      }
+    }
+    return Collections.unmodifiableList( violations );
+  }
+
+  /**
+   * @param column values to check
+   * @return unmodifiable list of violations of the invalid values, in the order of the values; empty if all values are valid
+   */
+  public List<Violation> validateAll( final int[] column ) {
+    List<Violation> violations = List.of();
+    for ( int i = 0; i < column.length; i++ ) {
+      if ( !isValid( column[ i ] ) ) {
+        violations = Violation.add( violations, i, describe( column[ i ] ) );
+      }
+    }
+    return Collections.unmodifiableList( violations );
+  }
+
+  private String describe( final long value ) {
+    return typeName + " has to be between " + min + " and " + max + ", got: " + value;
+  }
+
+  /**
+   * Collects the constraints of a type.
+   *
+   * @since 2.1.0
+   */
+  public static final class Builder {
+    private final String typeName;
+    private long min = Long.MIN_VALUE;
+    private long max = Long.MAX_VALUE;
+
+    private Builder( final String typeName ) {
+      this.typeName = typeName;
+    }
+
+    /**
+     * @param min minimum value, inclusive
+     * @param max maximum value, inclusive
+     * @throws IllegalArgumentException if the minimum is greater than the maximum
+     */
+    public Builder range( final long min, final long max ) {
+      if ( max < min ) {
+        throw new IllegalArgumentException( "Invalid range: " + min + " to " + max );
+      }
+      this.min = min;
+      this.max = max;
+      return this;
+    }
+
+    public LongConstraints build() {
+      return new LongConstraints( this );
+    }
+  }
+}
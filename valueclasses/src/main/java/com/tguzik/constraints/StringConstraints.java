@@ -0,0 +1,247 @@
+package com.tguzik.constraints;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compiled constraints for the strings held by value classes - length bounds, allowed characters and a format pattern. The
+ * rules are declared once per type and compiled into a validator that checks a string without allocating - the length first,
+ * then the allowed characters and the format, each of them in a single pass over the characters:
+ * <pre>
+ * record CountryCode(String value) implements HasStringValue {
+ *   private static final StringConstraints CONSTRAINTS = StringConstraints.forType( CountryCode.class )
+ *                                                                           .length( 2, 2 )
+ *                                                                           .allowedCharacters( "A-Z" )
+ *                                                                           .build();
+ *   CountryCode {
+ *     CONSTRAINTS.check( value );
+ *   }
+ *   ...
+ * }
+ * </pre>
+ * Allowed characters are looked up in a bit mask for ASCII characters. Patterns that consist of ASCII literals and ASCII
+ * character classes with quantifiers, e.g. {@code [A-Z]{2}\d{2}[A-Z0-9]{1,30}}, are matched by the same kind of bit masks
+ * and never reach {@link java.util.regex}, as long as a single greedy pass is enough to match them. Any other pattern is
+ * matched with {@link Pattern}.
+ * <p>
+ * Columns of values, e.g. read from a file or a database, are checked with {@link #validateAll(List)}, which reports every
+ * invalid value instead of stopping at the first one. Instances are immutable and thread-safe.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.UseVarargs" } )
+public final class StringConstraints {
+  private static final int VALID = -1;
+  private static final int NULL = -2;
+  private static final int TOO_SHORT = -3;
+  private static final int TOO_LONG = -4;
+  private static final int PATTERN_MISMATCH = -5;
+
+  private final String typeName;
+  private final boolean nullAllowed;
+  private final int minLength;
+  private final int maxLength;
+  private final @Nullable CharSet allowedCharacters;
+  private final @Nullable AsciiPattern asciiPattern;
+  private final @Nullable Pattern pattern;
+
+  @SuppressWarnings( "PMD.NullAssignment" )
+  private StringConstraints( final Builder builder ) {
+    this.typeName = builder.typeName;
+    this.nullAllowed = builder.nullAllowed;
+    this.minLength = builder.minLength;
+    this.maxLength = builder.maxLength;
+    this.allowedCharacters = builder.characterSet;
+    this.asciiPattern = builder.regex == null ? null : AsciiPattern.compile( builder.regex.pattern() ).orElse( null );
+    this.pattern = asciiPattern == null ? builder.regex : null;
+  }
+
+  /**
+   * @param type value class that the constraints are for, used in the messages
+   * @return builder of constraints that accept any non-null string
+   */
+  public static Builder forType( final Class<?> type ) {
+    return new Builder( type.getSimpleName() );
+  }
+
+  /**
+   * @return true if the value satisfies all constraints
+   */
+  public boolean isValid( @Nullable final CharSequence value ) {
+    return firstViolation( value ) == VALID;
+  }
+
+  /**
+   * @return the value, if it satisfies all constraints
+   * @throws IllegalArgumentException describing the first constraint that the value fails
+   */
+  public <S extends @Nullable CharSequence> S check( final S value ) {
+    final int violation = firstViolation( value );
+    if ( violation != VALID ) {
+      throw new IllegalArgumentException( describe( violation, value ) );
+    }
+    return value;
+  }
+
+  /**
+   * @param column values to check
+   * @return unmodifiable list of violations of the invalid values, in the order of the values; empty if all values are valid
+   */
+  public List<Violation> validateAll( final List<? extends @Nullable CharSequence> column ) {
+    List<Violation> violations = List.of();
+    for ( int i = 0; i < column.size(); i++ ) {
+      final CharSequence value = column.get( i );
+      final int violation = firstViolation( value );
+      if ( violation != VALID ) {
+        violations = Violation.add( violations, i, describe( violation, value ) );
+      }
+    }
+    return Collections.unmodifiableList( violations );
+  }
+
+  /**
+   * @param column values to check
+   * @return unmodifiable list of violations of the invalid values, in the order of the values; empty if all values are valid
+   */
+  public List<Violation> validateAll( final @Nullable CharSequence[] column ) {
+    return validateAll( Arrays.asList( column ) );
+  }
+
+  /**
+   * @return true if the pattern, if any, is matched without {@link java.util.regex}
+   */
+  boolean isRegexFree() {
+    return pattern == null;
+  }
+
+  /**
+   * @return index of the first character that is not allowed, or one of the negative codes
+   */
+  private int firstViolation( @Nullable final CharSequence value ) {
+    if ( value == null ) {
+      return nullAllowed ? VALID : NULL;
+    }
+
+    final int length = value.length();
+    if ( length < minLength ) {
+      return TOO_SHORT;
+    }
+    if ( length > maxLength ) {
+      return TOO_LONG;
+    }
+
+    final int disallowedCharacter = firstDisallowedCharacter( value );
+    if ( disallowedCharacter != VALID ) {
+      return disallowedCharacter;
+    }
+    return matchesPattern( value ) ? VALID : PATTERN_MISMATCH;
+  }
+
+  private int firstDisallowedCharacter( final CharSequence value ) {
+    final CharSet characters = allowedCharacters;
+    if ( characters != null ) {
+      for ( int i = 0; i < value.length(); i++ ) {
+        if ( !characters.contains( value.charAt( i ) ) ) {
+          return i;
+        }
+      }
+    }
+    return VALID;
+  }
+
+  private boolean matchesPattern( final CharSequence value ) {
+    if ( asciiPattern != null ) {
+      return asciiPattern.matches( value );
+    }
+    return pattern == null || pattern.matcher( value ).matches();
+  }
+
+  private String describe( final int violation, @Nullable final CharSequence value ) {
+    return switch ( violation ) {
+      case NULL -> typeName + " cannot hold null";
+      case TOO_SHORT, TOO_LONG -> typeName + " has to be between " + minLength + " and " + maxLength + " characters long, got "
+                                  + length( value ) + ": \"" + value + "\"";
+      case PATTERN_MISMATCH -> typeName + " has to match the required format, got: \"" + value + "\"";
+      default -> typeName + " cannot contain '" + charAt( value, violation ) + "' at index " + violation + ", got: \"" + value
+                 + "\"";
+    };
+  }
+
+  private static int length( @Nullable final CharSequence value ) {
+    return value == null ? 0 : value.length();
+  }
+
+  private static char charAt( @Nullable final CharSequence value, final int index ) {
+    return value == null ? 0 : value.charAt( index );
+  }
+
+  /**
+   * Collects the constraints of a type. Each method replaces the previously declared constraint of the same kind.
+   *
+   * @since 2.1.0
+   */
+  public static final class Builder {
+    private final String typeName;
+    private boolean nullAllowed;
+    private int minLength;
+    private int maxLength = Integer.MAX_VALUE;
+    private @Nullable CharSet characterSet;
+    private @Nullable Pattern regex;
+
+    private Builder( final String typeName ) {
+      this.typeName = typeName;
+    }
+
+    /**
+     * Makes the constraints accept null, without checking any other constraint.
+     */
+    public Builder allowNull() {
+      this.nullAllowed = true;
+      return this;
+    }
+
+    /**
+     * @param min minimum length, inclusive
+     * @param max maximum length, inclusive
+     * @throws IllegalArgumentException if the minimum is negative or greater than the maximum
+     */
+    public Builder length( final int min, final int max ) {
+      if ( min < 0 || max < min ) {
+        throw new IllegalArgumentException( "Invalid length bounds: " + min + " and " + max );
+      }
+      this.minLength = min;
+      this.maxLength = max;
+      return this;
+    }
+
+    /**
+     * @param characterClass contents of a regular expression character class, without the brackets, e.g. {@code A-Z0-9_\-}
+     *                       or {@code \w.}. Supports single characters, ranges, the {@code \d}, {@code \w} and {@code \s}
+     *                       shorthands and backslash escapes; does not support negation and nested classes
+     * @throws IllegalArgumentException if the class is empty or malformed
+     */
+    public Builder allowedCharacters( final String characterClass ) {
+      this.characterSet = CharSet.parse( characterClass );
+      return this;
+    }
+
+    /**
+     * @param regex regular expression that the whole value has to match
+     * @throws java.util.regex.PatternSyntaxException if the expression is malformed
+     */
+    public Builder pattern( final String regex ) {
+      this.regex = Pattern.compile( regex );
+      return this;
+    }
+
+    public StringConstraints build() {
+      return new StringConstraints( this );
+    }
+  }
+}
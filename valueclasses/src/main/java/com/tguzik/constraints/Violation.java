@@ -0,0 +1,29 @@
+package com.tguzik.constraints;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Single value that failed the constraints during batch validation.
+ *
+ * @param index   position of the value in the validated column
+ * @param message description of the first constraint that the value failed
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+public record Violation(int index, String message) {
+
+  /**
+   * Collects violations during batch validation, without allocating while there are none.
+   *
+   * @return the list with a violation added; the list is mutable once it is not empty
+   */
+  static List<Violation> add( final List<Violation> violations, final int index, final String message ) {
+    final List<Violation> result = violations.isEmpty() ? new ArrayList<>() : violations;
+    result.add( new Violation( index, message ) );
+    return result;
+  }
+}
@@ -1,11 +1,10 @@
 package com.tguzik.objects;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -20,17 +19,21 @@ import org.jspecify.annotations.Nullable;
  * @since 0.1
  */
 @NullMarked
+@SuppressWarnings( "PMD.TooManyMethods" )
 public class BaseObject {
 
   protected BaseObject() {
   }
 
   /**
-   * Ignores transient fields
+   * Ignores transient fields. Returns the same value as {@link HashCodeBuilder#reflectionHashCode(Object, boolean)}, but
+   * the fields are discovered only once per class.
+   *
+   * @see ImmutableBaseObject
    */
   @Override
   public int hashCode() {
-    return HashCodeBuilder.reflectionHashCode( this, false );
+    return FieldPlan.forClass( getClass() ).hashCodeOf( this );
   }
 
   /**
@@ -48,7 +51,7 @@ public class BaseObject {
 
     // See the comment in Value#equals() for why we are requiring exact class match
     return Objects.equals( this.getClass(), other.getClass() ) && //
-           EqualsBuilder.reflectionEquals( this, other, false );
+           FieldPlan.forClass( getClass() ).areEqual( this, other );
   }
 
   /**
@@ -83,7 +86,108 @@ public class BaseObject {
       return StringUtils.EMPTY;
     }
 
-    return ReflectionToStringBuilder.toString( object, style, false, false );
+    return ToStringBuffers.render( object, style );
+  }
+
+  /**
+   * Same as {@link #toString()}, but stops rendering once the budget is exhausted. Useful for logging objects that may hold
+   * large collections or deeply nested values.
+   * <p>
+   * Output longer than {@link ToStringBudget#maxLength()} is cut at that length and followed by
+   * {@link ToStringBudget#TRUNCATION_MARKER}. Values nested deeper than {@link ToStringBudget#maxDepth()} are replaced with the
+   * marker. The rendering stops as soon as the budget runs out, so large values are never rendered in full.
+   *
+   * @param budget the limits of the rendering
+   * @return string representation of this object, shortened to fit in the budget
+   * @since 2.1.0
+   */
+  public String toString( final ToStringBudget budget ) {
+    return appendTo( new StringBuilder(), budget ).toString();
+  }
+
+  /**
+   * Appends the same characters as {@link #toString(ToStringBudget)} to the target, without creating an intermediate string.
+   *
+   * @param target the builder that receives the string representation of this object
+   * @param budget the limits of the rendering
+   * @return the target builder
+   * @since 2.1.0
+   */
+  public StringBuilder appendTo( final StringBuilder target, final ToStringBudget budget ) {
+    Objects.requireNonNull( target, "Target parameter cannot be null!" );
+    Objects.requireNonNull( budget, "Budget parameter cannot be null!" );
+
+    return BoundedToString.appendTo( target, this, budget );
+  }
+
+  /**
+   * Appends the same characters as {@link #toString()} to the target, without creating an intermediate string.
+   *
+   * @param target the builder that receives the string representation of this object
+   * @return the target builder
+   * @see #appendTo(StringBuilder, Object, org.apache.commons.lang3.builder.ToStringStyle)
+   * @since 2.1.0
+   */
+  public StringBuilder appendTo( final StringBuilder target ) {
+    return appendTo( target, this, ToStringStyle.SHORT_PREFIX_STYLE );
+  }
+
+  /**
+   * Appends the same characters as {@link #toString(ToStringStyle)} to the target, without creating an intermediate string.
+   *
+   * @param target the builder that receives the string representation of this object
+   * @param style  the style to be used when converting the class to string
+   * @return the target builder
+   * @see #appendTo(StringBuilder, Object, org.apache.commons.lang3.builder.ToStringStyle)
+   * @since 2.1.0
+   */
+  public StringBuilder appendTo( final StringBuilder target, final ToStringStyle style ) {
+    return appendTo( target, this, style );
+  }
+
+  /**
+   * Appends the same characters as {@link #toString(Object, ToStringStyle)} to the target, without creating an intermediate
+   * string. Useful for writing into buffers reused by logging frameworks. Note that overridden {@link #toString()} methods
+   * are not called for the object itself.
+   *
+   * @param target the builder that receives the string representation of the object
+   * @param object the object to be converted to string using reflection
+   * @param style  the style to be used when converting the class to string
+   * @return the target builder, unchanged if object was null
+   * @since 2.1.0
+   */
+  public static StringBuilder appendTo( final StringBuilder target, @Nullable final Object object, final ToStringStyle style ) {
+    Objects.requireNonNull( target, "Target parameter cannot be null!" );
+    Objects.requireNonNull( style, "To string style parameter cannot be null!" );
+
+    if ( object == null ) {
+      return target;
+    }
+
+    return ToStringBuffers.appendTo( target, object, style );
+  }
+
+  /**
+   * Same as {@link #appendTo(StringBuilder, Object, ToStringStyle)}, but accepts any {@link Appendable}.
+   *
+   * @param target the appendable that receives the string representation of the object
+   * @param object the object to be converted to string using reflection
+   * @param style  the style to be used when converting the class to string
+   * @param <A>    type of the target
+   * @return the target appendable, unchanged if object was null
+   * @throws IOException if the target throws it
+   * @since 2.1.0
+   */
+  public static <A extends Appendable> A appendTo( final A target, @Nullable final Object object, final ToStringStyle style )
+  throws IOException {
+    Objects.requireNonNull( target, "Target parameter cannot be null!" );
+    Objects.requireNonNull( style, "To string style parameter cannot be null!" );
+
+    if ( object == null ) {
+      return target;
+    }
+
+    return ToStringBuffers.appendTo( target, object, style );
   }
 }
 
@@ -0,0 +1,383 @@
+package com.tguzik.objects;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Renders objects in the {@link ToStringStyle#SHORT_PREFIX_STYLE} format, stopping as soon as the {@link ToStringBudget} is
+ * exhausted. Within the budget the output is identical to {@link BaseObject#toString()}.
+ * <p>
+ * The output is produced incrementally, so the cost is bounded as well: collections, maps and arrays are iterated only until
+ * the budget runs out, and nested {@link BaseObject}s that don't override {@code toString()} are rendered field by field -
+ * through {@link ToStringPlan}, or through the field access of {@link ReflectionToStringBuilder} for classes that the plans
+ * cannot read.
+ * Collections and maps are assumed to use the format of {@link java.util.AbstractCollection#toString()} and
+ * {@link java.util.AbstractMap#toString()}. Other objects are converted with their own {@code toString()}, which this class
+ * cannot interrupt - only the result is cut to fit the budget.
+ * <p>
+ * The rendering mirrors two contexts of the reflection-based output: values passed to the style (fields and elements of object
+ * arrays), which are subject to cycle detection and summaries, and values converted by {@code toString()} of collections and
+ * maps, which aren't.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "JdkObsolete",
+                     "PMD.CommentDefaultAccessModifier",
+                     "PMD.AvoidStringBufferField",
+                     "PMD.CompareObjectsWithEquals",
+                     "PMD.GodClass",
+                     "PMD.TooManyMethods" } )
+final class BoundedToString {
+  private static final String NULL_TEXT = "<null>";
+
+  /**
+   * Classes whose {@code toString()} is the reflection-based one from {@link BaseObject}.
+   */
+  private static final ClassValue<Boolean> USES_REFLECTION = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue( final Class<?> type ) {
+      try {
+        return BaseObject.class.isAssignableFrom( type ) &&
+               type.getMethod( "toString" ).getDeclaringClass() == BaseObject.class &&
+               type.getMethod( "toString", ToStringStyle.class ).getDeclaringClass() == BaseObject.class;
+      }
+      catch ( final NoSuchMethodException e ) {
+        return false;
+      }
+    }
+  };
+
+  private final StringBuilder target;
+  private final int limit;
+  private final int maxDepth;
+  private @Nullable Object[] rendering = new Object[ 8 ];
+  private int renderingCount;
+  private boolean truncated;
+
+  private BoundedToString( final StringBuilder target, final ToStringBudget budget ) {
+    this.target = target;
+    this.limit = (int) Math.min( Integer.MAX_VALUE, (long) target.length() + budget.maxLength() );
+    this.maxDepth = budget.maxDepth();
+  }
+
+  /**
+   * Appends the string representation of the object to the target, followed by {@link ToStringBudget#TRUNCATION_MARKER} if
+   * the budget was exceeded.
+   */
+  static StringBuilder appendTo( final StringBuilder target, final BaseObject object, final ToStringBudget budget ) {
+    return appendTo( target, object, budget, ToStringPlan.forClass( object.getClass() ).getFieldRenderers() );
+  }
+
+  /**
+   * @param fields renderers of the fields of the object, or null to read the fields through the reflection builder
+   */
+  @SuppressWarnings( "PMD.UseVarargs" )
+  static StringBuilder appendTo( final StringBuilder target,
+                                 final Object object,
+                                 final ToStringBudget budget,
+                                 final ToStringPlan.FieldRenderer @Nullable [] fields ) {
+    final BoundedToString renderer = new BoundedToString( target, budget );
+    renderer.push( object );
+    if ( fields == null ) {
+      renderer.appendReflectively( object, 0 );
+    }
+    else {
+      renderer.appendFields( object, fields, 0 );
+    }
+    renderer.pop();
+
+    if ( renderer.truncated ) {
+      target.append( ToStringBudget.TRUNCATION_MARKER );
+    }
+    return target;
+  }
+
+  private void appendFields( final Object object, final ToStringPlan.FieldRenderer[] fields, final int depth ) {
+    append( ClassUtils.getShortClassName( object.getClass() ) );
+    append( "[" );
+    for ( int i = 0; i < fields.length && !truncated; i++ ) {
+      if ( i > 0 ) {
+        append( "," );
+      }
+      append( fields[ i ].getName() );
+      append( "=" );
+      appendStyled( fields[ i ].read( object ), fields[ i ].isFullDetail(), depth + 1 );
+    }
+    append( "]" );
+  }
+
+  private void appendReflectively( final Object object, final int depth ) {
+    append( ClassUtils.getShortClassName( object.getClass() ) );
+    append( "[" );
+    final FieldWalker walker = new FieldWalker( object, depth );
+    try {
+      walker.appendFields();
+    }
+    finally {
+      // The style registers the object when the walker is created, and only unregisters it at the end
+      walker.getStyle().appendEnd( walker.getStringBuffer(), object );
+    }
+    append( "]" );
+  }
+
+  /**
+   * Same rules as {@code ToStringStyle#appendInternal()} of the short prefix style.
+   */
+  private void appendStyled( @Nullable final Object value, final boolean detail, final int depth ) {
+    if ( value == null ) {
+      append( NULL_TEXT );
+    }
+    else if ( isRendering( value ) && !( value instanceof Number || value instanceof Boolean || value instanceof Character ) ) {
+      append( ObjectUtils.identityToString( value ) );
+    }
+    else if ( detail ) {
+      appendDetail( value, depth );
+    }
+    else {
+      appendSummary( value );
+    }
+  }
+
+  private void appendDetail( final Object value, final int depth ) {
+    if ( value.getClass().isArray() ) {
+      if ( !isTooDeep( depth ) ) {
+        push( value );
+        appendArray( value, depth );
+        pop();
+      }
+    }
+    else {
+      appendPlain( value, depth );
+    }
+  }
+
+  /**
+   * Same as {@link String#valueOf(Object)}, which is how collections and maps convert their elements.
+   */
+  private void appendPlain( @Nullable final Object value, final int depth ) {
+    if ( value == null ) {
+      append( "null" );
+    }
+    else if ( value instanceof CharSequence chars ) {
+      append( chars );
+    }
+    else if ( value instanceof Collection<?> || value instanceof Map<?, ?> || USES_REFLECTION.get( value.getClass() ) ) {
+      if ( isTooDeep( depth ) ) {
+        return;
+      }
+      push( value );
+      appendComposite( value, depth );
+      pop();
+    }
+    else {
+      append( String.valueOf( value ) );
+    }
+  }
+
+  private void appendComposite( final Object value, final int depth ) {
+    if ( value instanceof Collection<?> collection ) {
+      appendCollection( collection, depth );
+      return;
+    }
+    if ( value instanceof Map<?, ?> map ) {
+      appendMap( map, depth );
+      return;
+    }
+
+    final ToStringPlan.FieldRenderer[] fields = ToStringPlan.forClass( value.getClass() ).getFieldRenderers();
+    if ( fields == null ) {
+      appendReflectively( value, depth );
+    }
+    else {
+      appendFields( value, fields, depth );
+    }
+  }
+
+  private void appendCollection( final Collection<?> collection, final int depth ) {
+    append( "[" );
+    boolean first = true;
+    for ( final Object element : collection ) {
+      if ( truncated ) {
+        return;
+      }
+      if ( !first ) {
+        append( ", " );
+      }
+      first = false;
+
+      if ( element == collection ) {
+        append( "(this Collection)" );
+      }
+      else {
+        appendPlain( element, depth + 1 );
+      }
+    }
+    append( "]" );
+  }
+
+  private void appendMap( final Map<?, ?> map, final int depth ) {
+    append( "{" );
+    boolean first = true;
+    for ( final Map.Entry<?, ?> entry : map.entrySet() ) {
+      if ( truncated ) {
+        return;
+      }
+      if ( !first ) {
+        append( ", " );
+      }
+      first = false;
+
+      appendMapElement( map, entry.getKey(), depth );
+      append( "=" );
+      appendMapElement( map, entry.getValue(), depth );
+    }
+    append( "}" );
+  }
+
+  private void appendMapElement( final Map<?, ?> map, @Nullable final Object element, final int depth ) {
+    if ( element == map ) {
+      append( "(this Map)" );
+    }
+    else {
+      appendPlain( element, depth + 1 );
+    }
+  }
+
+  private void appendArray( final Object array, final int depth ) {
+    final boolean primitive = array.getClass().getComponentType().isPrimitive();
+    final int length = Array.getLength( array );
+
+    append( "{" );
+    for ( int i = 0; i < length && !truncated; i++ ) {
+      if ( i > 0 ) {
+        append( "," );
+      }
+      if ( primitive ) {
+        append( String.valueOf( Array.get( array, i ) ) );
+      }
+      else {
+        appendStyled( Array.get( array, i ), true, depth + 1 );
+      }
+    }
+    append( "}" );
+  }
+
+  private void appendSummary( final Object value ) {
+    if ( value instanceof Collection<?> collection ) {
+      appendSize( collection.size() );
+    }
+    else if ( value instanceof Map<?, ?> map ) {
+      appendSize( map.size() );
+    }
+    else if ( value.getClass().isArray() ) {
+      appendSize( Array.getLength( value ) );
+    }
+    else {
+      append( "<" );
+      append( ClassUtils.getShortClassName( value.getClass() ) );
+      append( ">" );
+    }
+  }
+
+  private void appendSize( final int size ) {
+    append( "<size=" );
+    append( Integer.toString( size ) );
+    append( ">" );
+  }
+
+  /**
+   * Replaces the value with the truncation marker if it is nested too deep.
+   */
+  private boolean isTooDeep( final int depth ) {
+    if ( depth <= maxDepth ) {
+      return false;
+    }
+    append( ToStringBudget.TRUNCATION_MARKER );
+    return true;
+  }
+
+  private void append( final CharSequence text ) {
+    if ( truncated ) {
+      return;
+    }
+
+    final int remaining = limit - target.length();
+    if ( text.length() <= remaining ) {
+      target.append( text );
+    }
+    else {
+      target.append( text, 0, remaining );
+      truncated = true;
+    }
+  }
+
+  private boolean isRendering( final Object value ) {
+    for ( int i = 0; i < renderingCount; i++ ) {
+      if ( rendering[ i ] == value ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void push( final Object value ) {
+    if ( renderingCount == rendering.length ) {
+      rendering = Arrays.copyOf( rendering, renderingCount * 2 );
+    }
+    rendering[ renderingCount ] = value;
+    renderingCount++;
+  }
+
+  private void pop() {
+    renderingCount--;
+    Arrays.fill( rendering, renderingCount, renderingCount + 1, null );
+  }
+
+  /**
+   * Lets the reflection builder find and read the fields, in its own order and with its own access checks, but renders their
+   * values within the budget instead of passing them to the style. Once the budget runs out, the remaining fields are only
+   * read.
+   */
+  private final class FieldWalker extends ReflectionToStringBuilder {
+    private final int depth;
+    private boolean first = true;
+
+    FieldWalker( final Object object, final int depth ) {
+      // The buffer only receives the start and the end of the object from the style, which appendReflectively() renders instead
+      super( object, ToStringStyle.SHORT_PREFIX_STYLE, new StringBuffer(), null, false, false );
+      this.depth = depth;
+    }
+
+    void appendFields() {
+      for ( Class<?> type = getObject().getClass(); type != null && !truncated; type = type.getSuperclass() ) {
+        appendFieldsIn( type );
+      }
+    }
+
+    @Override
+    public ToStringBuilder append( final String fieldName, @Nullable final Object value, final boolean fullDetail ) {
+      if ( truncated ) {
+        return this;
+      }
+      if ( !first ) {
+        BoundedToString.this.append( "," );
+      }
+      first = false;
+      BoundedToString.this.append( fieldName );
+      BoundedToString.this.append( "=" );
+      appendStyled( value, fullDetail, depth + 1 );
+      return this;
+    }
+  }
+}
@@ -0,0 +1,431 @@
+package com.tguzik.objects;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.EqualsExclude;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.HashCodeExclude;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Precomputed list of field accessors used by {@link BaseObject#equals(Object)} and {@link BaseObject#hashCode()}.
+ * <p>
+ * The plan is built once per class and follows the same rules as {@link HashCodeBuilder#reflectionHashCode(Object, boolean)}
+ * and {@link EqualsBuilder#reflectionEquals(Object, Object, boolean)}: static, transient and synthetic fields are skipped, and
+ * the fields are hashed in the same order, so the resulting hash codes are identical. Primitive fields are read through
+ * {@link MethodHandle}s of matching primitive type, so they are not boxed.
+ * <p>
+ * Plans are held in a {@link ClassValue}, which means that they do not prevent classes from being unloaded. If the fields of
+ * a class cannot be accessed through method handles (for example, because its module does not open the package), the plan
+ * falls back to the reflection-based builders.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.GodClass", "PMD.TooManyMethods" } )
+final class FieldPlan {
+  private static final int INITIAL_HASH = 17;
+  private static final int MULTIPLIER = 37;
+
+  /**
+   * Types whose instances cannot refer back to the object being compared, so comparing them does not need cycle detection.
+   */
+  private static final Set<Class<?>> TERMINAL_TYPES = Set.of( String.class,
+                                                              Boolean.class,
+                                                              Character.class,
+                                                              Byte.class,
+                                                              Short.class,
+                                                              Integer.class,
+                                                              Long.class,
+                                                              Float.class,
+                                                              Double.class );
+
+  private static final ClassValue<FieldPlan> PLANS = new ClassValue<>() {
+    @Override
+    protected FieldPlan computeValue( final Class<?> type ) {
+      return create( type );
+    }
+  };
+
+  private static final ThreadLocal<VisitedPairs> HASHING = ThreadLocal.withInitial( VisitedPairs::new );
+  private static final ThreadLocal<VisitedPairs> COMPARING = ThreadLocal.withInitial( VisitedPairs::new );
+
+  private final FieldAccessor @Nullable [] hashedFields;
+  private final FieldAccessor @Nullable [] comparedFields;
+  private final boolean detectCycles;
+
+  private FieldPlan( final FieldAccessor @Nullable [] hashedFields,
+                     final FieldAccessor @Nullable [] comparedFields,
+                     final boolean detectCycles ) {
+    this.hashedFields = hashedFields;
+    this.comparedFields = comparedFields;
+    this.detectCycles = detectCycles;
+  }
+
+  static FieldPlan forClass( final Class<?> type ) {
+    return PLANS.get( type );
+  }
+
+  /**
+   * @return the same value as {@code HashCodeBuilder.reflectionHashCode( instance, false )}
+   */
+  int hashCodeOf( final Object instance ) {
+    final FieldAccessor[] fields = hashedFields;
+    if ( fields == null ) {
+      return HashCodeBuilder.reflectionHashCode( instance, false );
+    }
+    if ( !detectCycles ) {
+      return hash( fields, instance );
+    }
+
+    // The reflection builder stops at objects that are already being hashed higher up the stack - do the same.
+    final VisitedPairs visited = HASHING.get();
+    if ( visited.contains( instance, instance ) ) {
+      return INITIAL_HASH;
+    }
+
+    visited.push( instance, instance );
+    try {
+      return hash( fields, instance );
+    }
+    finally {
+      visited.pop();
+    }
+  }
+
+  /**
+   * Assumes that both parameters are of the class this plan was created for.
+   *
+   * @return the same value as {@code EqualsBuilder.reflectionEquals( lhs, rhs, false )}
+   */
+  boolean areEqual( final Object lhs, final Object rhs ) {
+    final FieldAccessor[] fields = comparedFields;
+    if ( fields == null ) {
+      return EqualsBuilder.reflectionEquals( lhs, rhs, false );
+    }
+    if ( !detectCycles ) {
+      return compare( fields, lhs, rhs );
+    }
+
+    final VisitedPairs visited = COMPARING.get();
+    if ( visited.contains( lhs, rhs ) ) {
+      return true;
+    }
+
+    visited.push( lhs, rhs );
+    try {
+      return compare( fields, lhs, rhs );
+    }
+    finally {
+      visited.pop();
+    }
+  }
+
+  private static int hash( final FieldAccessor[] fields, final Object instance ) {
+    int total = INITIAL_HASH;
+    for ( final FieldAccessor field : fields ) {
+      total = field.appendTo( total, instance );
+    }
+    return total;
+  }
+
+  private static boolean compare( final FieldAccessor[] fields, final Object lhs, final Object rhs ) {
+    for ( final FieldAccessor field : fields ) {
+      if ( !field.isEqual( lhs, rhs ) ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static FieldPlan create( final Class<?> type ) {
+    final List<FieldAccessor> hashed = new ArrayList<>();
+    final List<FieldAccessor> compared = new ArrayList<>();
+
+    try {
+      // Same traversal order as the reflection builders: the class itself first, then its superclasses.
+      for ( Class<?> current = type; current != null; current = current.getSuperclass() ) {
+        addFields( current, hashed, compared );
+      }
+    }
+    catch ( final IllegalAccessException | InaccessibleObjectException | SecurityException e ) {
+      return new FieldPlan( null, null, true );
+    }
+
+    final boolean detectCycles = Stream.concat( hashed.stream(), compared.stream() ).anyMatch( FieldAccessor::mayFormCycle );
+    return new FieldPlan( hashed.toArray( new FieldAccessor[ 0 ] ), compared.toArray( new FieldAccessor[ 0 ] ), detectCycles );
+  }
+
+  @SuppressWarnings( "PMD.AvoidInstantiatingObjectsInLoops" )
+  private static void addFields( final Class<?> type, final List<FieldAccessor> hashed, final List<FieldAccessor> compared )
+  throws IllegalAccessException {
+    // Within a single class the fields are sorted by name, same as in the reflection builders
+    final Field[] declared = type.getDeclaredFields();
+    Arrays.sort( declared, Comparator.comparing( Field::getName ) );
+
+    MethodHandles.Lookup lookup = null;
+    for ( final Field field : declared ) {
+      if ( !isIncluded( field ) ) {
+        continue;
+      }
+      if ( lookup == null ) {
+        lookup = MethodHandles.privateLookupIn( type, MethodHandles.lookup() );
+      }
+
+      final FieldAccessor accessor = new FieldAccessor( field, lookup.unreflectGetter( field ) );
+      if ( !field.isAnnotationPresent( HashCodeExclude.class ) ) {
+        hashed.add( accessor );
+      }
+      if ( !field.isAnnotationPresent( EqualsExclude.class ) ) {
+        compared.add( accessor );
+      }
+    }
+  }
+
+  /**
+   * @return true if the reflection builders would process this field, regardless of exclusion annotations
+   */
+  static boolean isIncluded( final Field field ) {
+    final int modifiers = field.getModifiers();
+    return !Modifier.isStatic( modifiers ) && !Modifier.isTransient( modifiers ) && field.getName().indexOf( '$' ) < 0;
+  }
+
+  /**
+   * Field getters cannot throw checked exceptions, but {@link MethodHandle#invokeExact} is declared as if they could.
+   */
+  static RuntimeException propagate( final Throwable throwable ) {
+    if ( throwable instanceof RuntimeException runtimeException ) {
+      return runtimeException;
+    }
+    if ( throwable instanceof Error error ) {
+      throw error;
+    }
+    return new IllegalStateException( "Unable to read field value", throwable );
+  }
+
+  private static boolean isTerminal( final Class<?> type ) {
+    if ( type.isPrimitive() || type.isEnum() || TERMINAL_TYPES.contains( type ) ) {
+      return true;
+    }
+    return type.isArray() && type.getComponentType().isPrimitive();
+  }
+
+  /**
+   * Same as {@link EqualsBuilder#append(Object, Object)}.
+   */
+  private static boolean areEqualValues( @Nullable final Object lhs, @Nullable final Object rhs ) {
+    if ( Objects.equals( lhs, rhs ) ) {
+      return true;
+    }
+    if ( lhs == null || rhs == null || !lhs.getClass().isArray() ) {
+      return false;
+    }
+    // Arrays are compared element by element, which is rare enough to not bother with a specialized implementation
+    return new EqualsBuilder().append( lhs, rhs ).isEquals();
+  }
+
+  /**
+   * Same as {@link HashCodeBuilder#append(Object)}. Note that the rules for arrays don't match Arrays#deepHashCode().
+   */
+  private static int appendObject( final int total, @Nullable final Object value ) {
+    if ( value == null ) {
+      return total * MULTIPLIER;
+    }
+    if ( !value.getClass().isArray() ) {
+      return total * MULTIPLIER + value.hashCode();
+    }
+    if ( value instanceof Object[] array ) {
+      int result = total;
+      for ( final Object element : array ) {
+        result = appendObject( result, element );
+      }
+      return result;
+    }
+    return appendPrimitiveArray( total, value );
+  }
+
+  /**
+   * Same as the array variants of {@link HashCodeBuilder#append}. Elements of primitive arrays are hashed differently than
+   * their boxed counterparts, which is why this can't simply reuse {@code Long#hashCode()} and friends.
+   */
+  @SuppressWarnings( { "PMD.CognitiveComplexity", "PMD.CyclomaticComplexity" } )
+  private static int appendPrimitiveArray( final int total, final Object array ) {
+    int result = total;
+    if ( array instanceof long[] values ) {
+      for ( final long element : values ) {
+        result = result * MULTIPLIER + (int) ( element ^ element >> 32 );
+      }
+    }
+    else if ( array instanceof int[] values ) {
+      for ( final int element : values ) {
+        result = result * MULTIPLIER + element;
+      }
+    }
+    else if ( array instanceof short[] values ) {
+      for ( final short element : values ) {
+        result = result * MULTIPLIER + element;
+      }
+    }
+    else if ( array instanceof char[] values ) {
+      for ( final char element : values ) {
+        result = result * MULTIPLIER + element;
+      }
+    }
+    else if ( array instanceof byte[] values ) {
+      for ( final byte element : values ) {
+        result = result * MULTIPLIER + element;
+      }
+    }
+    else if ( array instanceof double[] values ) {
+      for ( final double element : values ) {
+        final long bits = Double.doubleToLongBits( element );
+        result = result * MULTIPLIER + (int) ( bits ^ bits >> 32 );
+      }
+    }
+    else if ( array instanceof float[] values ) {
+      for ( final float element : values ) {
+        result = result * MULTIPLIER + Float.floatToIntBits( element );
+      }
+    }
+    else if ( array instanceof boolean[] values ) {
+      for ( final boolean element : values ) {
+        result = result * MULTIPLIER + ( element ? 0 : 1 );
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Kinds of fields that need separate handling, so that primitive values are never boxed.
+   */
+  private enum Kind {
+    INT, LONG, DOUBLE, FLOAT, BOOLEAN, CHAR, SHORT, BYTE, REFERENCE;
+
+    static Kind forType( final Class<?> type ) {
+      if ( !type.isPrimitive() ) {
+        return REFERENCE;
+      }
+      return valueOf( type.getName().toUpperCase( Locale.ROOT ) );
+    }
+  }
+
+  /**
+   * Reads a single field and applies the same hashing and comparison rules as the reflection builders. Boxed primitives are
+   * hashed and compared through their own {@code hashCode()} and {@code equals()}, so primitive values get the same treatment.
+   */
+  @SuppressWarnings( { "PMD.AvoidCatchingThrowable", "PMD.UnnecessaryCast", "PMD.CyclomaticComplexity" } )
+  private static final class FieldAccessor {
+    private final Kind kind;
+    private final MethodHandle getter;
+    private final boolean terminal;
+
+    FieldAccessor( final Field field, final MethodHandle getter ) {
+      final Class<?> type = field.getType();
+      this.kind = Kind.forType( type );
+      this.getter = getter.asType( MethodType.methodType( type.isPrimitive() ? type : Object.class, Object.class ) );
+      this.terminal = isTerminal( type );
+    }
+
+    /**
+     * @return true if the value of this field could refer back to the object that contains it
+     */
+    boolean mayFormCycle() {
+      return !terminal;
+    }
+
+    /**
+     * @return the running hash code after appending this field to it, same as {@link HashCodeBuilder#append(Object)}
+     */
+    int appendTo( final int total, final Object instance ) {
+      try {
+        return switch ( kind ) {
+          case INT -> total * MULTIPLIER + Integer.hashCode( (int) getter.invokeExact( instance ) );
+          case LONG -> total * MULTIPLIER + Long.hashCode( (long) getter.invokeExact( instance ) );
+          case DOUBLE -> total * MULTIPLIER + Double.hashCode( (double) getter.invokeExact( instance ) );
+          case FLOAT -> total * MULTIPLIER + Float.hashCode( (float) getter.invokeExact( instance ) );
+          case BOOLEAN -> total * MULTIPLIER + Boolean.hashCode( (boolean) getter.invokeExact( instance ) );
+          case CHAR -> total * MULTIPLIER + Character.hashCode( (char) getter.invokeExact( instance ) );
+          case SHORT -> total * MULTIPLIER + Short.hashCode( (short) getter.invokeExact( instance ) );
+          case BYTE -> total * MULTIPLIER + Byte.hashCode( (byte) getter.invokeExact( instance ) );
+          case REFERENCE -> appendObject( total, (Object) getter.invokeExact( instance ) );
+        };
+      }
+      catch ( final Throwable t ) {
+        throw propagate( t );
+      }
+    }
+
+    boolean isEqual( final Object lhs, final Object rhs ) {
+      try {
+        return switch ( kind ) {
+          case INT -> (int) getter.invokeExact( lhs ) == (int) getter.invokeExact( rhs );
+          case LONG -> (long) getter.invokeExact( lhs ) == (long) getter.invokeExact( rhs );
+          // Same as Double#equals() and Float#equals(): NaN is equal to itself, 0.0 is not equal to -0.0
+          case DOUBLE -> Double.doubleToLongBits( (double) getter.invokeExact( lhs ) )
+                         == Double.doubleToLongBits( (double) getter.invokeExact( rhs ) );
+          case FLOAT -> Float.floatToIntBits( (float) getter.invokeExact( lhs ) )
+                        == Float.floatToIntBits( (float) getter.invokeExact( rhs ) );
+          case BOOLEAN -> (boolean) getter.invokeExact( lhs ) == (boolean) getter.invokeExact( rhs );
+          case CHAR -> (char) getter.invokeExact( lhs ) == (char) getter.invokeExact( rhs );
+          case SHORT -> (short) getter.invokeExact( lhs ) == (short) getter.invokeExact( rhs );
+          case BYTE -> (byte) getter.invokeExact( lhs ) == (byte) getter.invokeExact( rhs );
+          case REFERENCE -> areEqualValues( (Object) getter.invokeExact( lhs ), (Object) getter.invokeExact( rhs ) );
+        };
+      }
+      catch ( final Throwable t ) {
+        throw propagate( t );
+      }
+    }
+  }
+
+  /**
+   * Stack of object pairs that are currently being processed on this thread. Used to stop on cyclic object graphs the same
+   * way the reflection builders do. The stack is expected to be very shallow, so linear search is fine here.
+   */
+  @SuppressWarnings( "PMD.CompareObjectsWithEquals" )
+  private static final class VisitedPairs {
+    private Object[] pairs = new Object[ 16 ];
+    private int size;
+
+    boolean contains( final Object lhs, final Object rhs ) {
+      for ( int i = 0; i < size; i += 2 ) {
+        final Object first = pairs[ i ];
+        final Object second = pairs[ i + 1 ];
+        if ( ( first == lhs && second == rhs ) || ( first == rhs && second == lhs ) ) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    void push( final Object lhs, final Object rhs ) {
+      if ( size == pairs.length ) {
+        pairs = Arrays.copyOf( pairs, size * 2 );
+      }
+      pairs[ size ] = lhs;
+      pairs[ size + 1 ] = rhs;
+      size += 2;
+    }
+
+    void pop() {
+      size -= 2;
+      // Don't keep the objects reachable from the thread-local after they were processed
+      Arrays.fill( pairs, size, size + 2, null );
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.tguzik.objects;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests generation of reflection-free {@code equals()}, {@code hashCode()} and {@code toString()} implementations for the
+ * annotated class. Intended primarily for subclasses of {@link PerformanceAwareBaseObject}.
+ * <p>
+ * The annotation is handled by the processor from the {@code valueclasses-processor} module, which has to be present on the
+ * annotation processor path. For a class named {@code Order} the processor generates a package-private class
+ * {@code OrderObjectMethods} (nested classes are prefixed with names of enclosing classes, separated by underscores) with
+ * static methods that the annotated class delegates to:
+ * <pre>
+ * &#64;GenerateObjectMethods
+ * public final class Order extends PerformanceAwareBaseObject {
+ *   private final String id;
+ *   private final long quantity;
+ *
+ *   // [...]
+ *
+ *   &#64;Override
+ *   public boolean equals( &#64;Nullable final Object other ) {
+ *     return OrderObjectMethods.equals( this, other );
+ *   }
+ *
+ *   &#64;Override
+ *   public int hashCode() {
+ *     return OrderObjectMethods.hashCode( this );
+ *   }
+ *
+ *   &#64;Override
+ *   public String toString() {
+ *     return OrderObjectMethods.toString( this );
+ *   }
+ * }
+ * </pre>
+ * The generated code follows the same rules as {@link BaseObject}: static and transient fields are skipped, fields of
+ * superclasses are included, {@code equals()} requires an exact class match and {@code toString()} produces the same output
+ * as {@link org.apache.commons.lang3.builder.ToStringStyle#SHORT_PREFIX_STYLE}. Fields annotated with
+ * {@link org.apache.commons.lang3.builder.EqualsExclude}, {@link org.apache.commons.lang3.builder.HashCodeExclude} or
+ * {@link org.apache.commons.lang3.builder.ToStringExclude} are skipped by the corresponding method.
+ * <p>
+ * Private fields are read through a non-private accessor method named either {@code field()}, {@code getField()} or
+ * {@code isField()}. If there is no such method, the processor reports a compilation error.
+ *
+ * @since 2.1.0
+ */
+@Documented
+@Retention( RetentionPolicy.SOURCE )
+@Target( ElementType.TYPE )
+public @interface GenerateObjectMethods {
+  // Marker annotation
+}
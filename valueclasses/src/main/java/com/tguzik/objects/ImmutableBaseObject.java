@@ -0,0 +1,45 @@
+package com.tguzik.objects;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * {@link BaseObject} for classes whose instances never change after construction, including every object reachable through
+ * their fields. The hash code is computed on the first call and reused afterwards, the same way {@link String#hashCode()}
+ * does, which saves re-hashing the same instances when they are put into hash-based collections over and over.
+ * <p>
+ * The library cannot verify the immutability: if a field of an instance changes after its hash code was computed, the instance
+ * keeps returning the old hash code. Classes that are not immutable should extend {@link BaseObject}, which doesn't spend
+ * memory on the cache.
+ *
+ * @see com.tguzik.value.ImmutableValue
+ * @since 2.1.0
+ */
+@NullMarked
+public class ImmutableBaseObject extends BaseObject {
+  // Racy single-check caching, same as in String#hashCode(). Transient, so that the field plans skip them.
+  private transient int cachedHashCode;
+  private transient boolean cachedHashCodeIsZero;
+
+  protected ImmutableBaseObject() {
+    super();
+  }
+
+  /**
+   * Same as {@link BaseObject#hashCode()}, but computed only once per instance.
+   */
+  @Override
+  @SuppressWarnings( "PMD.OverrideBothEqualsAndHashcode" ) // The inherited equals() is consistent with the cached hash code
+  public int hashCode() {
+    int hash = cachedHashCode;
+    if ( hash == 0 && !cachedHashCodeIsZero ) {
+      hash = super.hashCode();
+      if ( hash == 0 ) {
+        cachedHashCodeIsZero = true;
+      }
+      else {
+        cachedHashCode = hash;
+      }
+    }
+    return hash;
+  }
+}
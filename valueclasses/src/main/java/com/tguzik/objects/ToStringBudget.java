@@ -0,0 +1,35 @@
+package com.tguzik.objects;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Limits the amount of work done by {@link BaseObject#toString(ToStringBudget)}.
+ *
+ * @param maxLength maximum number of characters rendered before the output is cut short with {@link #TRUNCATION_MARKER}
+ * @param maxDepth  maximum nesting level of objects, collections, maps and arrays that are rendered. Fields of the object
+ *                  itself are on level one. Values nested deeper are replaced with {@link #TRUNCATION_MARKER}
+ * @since 2.1.0
+ */
+@NullMarked
+public record ToStringBudget(int maxLength, int maxDepth) {
+  /**
+   * Appended to the output in place of everything that didn't fit in the budget.
+   */
+  public static final String TRUNCATION_MARKER = "...";
+
+  public ToStringBudget {
+    if ( maxLength < 0 ) {
+      throw new IllegalArgumentException( "Maximum length cannot be negative: " + maxLength );
+    }
+    if ( maxDepth < 0 ) {
+      throw new IllegalArgumentException( "Maximum depth cannot be negative: " + maxDepth );
+    }
+  }
+
+  /**
+   * @return budget limiting the number of rendered characters, but not the nesting level
+   */
+  public static ToStringBudget ofLength( final int maxLength ) {
+    return new ToStringBudget( maxLength, Integer.MAX_VALUE );
+  }
+}
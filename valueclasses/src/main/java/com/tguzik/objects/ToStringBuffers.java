@@ -0,0 +1,105 @@
+package com.tguzik.objects;
+
+import java.io.IOException;
+
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Renders objects through {@link ToStringPlan} into a per-thread buffer that is reused between calls, so that
+ * converting an object to string doesn't allocate a new buffer (and grow it several times) on every call.
+ * <p>
+ * Rendering may be nested - the fields of an object are converted to strings while the object itself is being rendered. The
+ * shared buffer is used only by the outermost call on each thread, nested calls allocate their own buffers. Buffers that
+ * grew beyond {@value #MAX_RETAINED_CAPACITY} characters are not retained, so that a single huge object doesn't pin a lot of
+ * memory for the lifetime of the thread.
+ * <p>
+ * The buffers are {@link StringBuffer}s only because that's what {@link ToStringStyle} operates on.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "JdkObsolete", "PMD.CommentDefaultAccessModifier", "PMD.AvoidStringBufferField" } )
+final class ToStringBuffers {
+  private static final int INITIAL_CAPACITY = 256;
+  private static final int MAX_RETAINED_CAPACITY = 8192;
+
+  private static final ThreadLocal<ToStringBuffers> BUFFERS = ThreadLocal.withInitial( ToStringBuffers::new );
+
+  private StringBuffer buffer = new StringBuffer( INITIAL_CAPACITY );
+  private boolean inUse;
+
+  private ToStringBuffers() {
+  }
+
+  /**
+   * @return the same value as {@code ReflectionToStringBuilder.toString( object, style, false, false )}
+   */
+  static String render( final Object object, final ToStringStyle style ) {
+    final ToStringBuffers buffers = BUFFERS.get();
+    final StringBuffer rendered = buffers.acquire();
+    try {
+      return appendFields( rendered, object, style ).toString();
+    }
+    finally {
+      buffers.release( rendered );
+    }
+  }
+
+  /**
+   * Appends the same characters as {@link #render(Object, ToStringStyle)} would return, without creating the string.
+   */
+  static StringBuilder appendTo( final StringBuilder target, final Object object, final ToStringStyle style ) {
+    final ToStringBuffers buffers = BUFFERS.get();
+    final StringBuffer rendered = buffers.acquire();
+    try {
+      return target.append( appendFields( rendered, object, style ) );
+    }
+    finally {
+      buffers.release( rendered );
+    }
+  }
+
+  /**
+   * Appends the same characters as {@link #render(Object, ToStringStyle)} would return, without creating the string.
+   */
+  static <A extends Appendable> A appendTo( final A target, final Object object, final ToStringStyle style )
+  throws IOException {
+    final ToStringBuffers buffers = BUFFERS.get();
+    final StringBuffer rendered = buffers.acquire();
+    try {
+      target.append( appendFields( rendered, object, style ) );
+      return target;
+    }
+    finally {
+      buffers.release( rendered );
+    }
+  }
+
+  private static StringBuffer appendFields( final StringBuffer target, final Object object, final ToStringStyle style ) {
+    ToStringPlan.forClass( object.getClass() ).appendTo( target, object, style );
+    return target;
+  }
+
+  private StringBuffer acquire() {
+    if ( inUse ) {
+      return new StringBuffer( INITIAL_CAPACITY );
+    }
+
+    inUse = true;
+    buffer.setLength( 0 );
+    return buffer;
+  }
+
+  @SuppressWarnings( "PMD.CompareObjectsWithEquals" )
+  private void release( final StringBuffer used ) {
+    if ( used != buffer ) {
+      return;
+    }
+
+    inUse = false;
+    if ( buffer.capacity() > MAX_RETAINED_CAPACITY ) {
+      buffer = new StringBuffer( INITIAL_CAPACITY );
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.tguzik.objects;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringExclude;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.commons.lang3.builder.ToStringSummary;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Precomputed list of fields rendered by {@link BaseObject#toString(Object, ToStringStyle)}.
+ * <p>
+ * The plan is built once per class and replays the work of {@link ReflectionToStringBuilder#toString()}: the same fields, in
+ * the same order, are passed to the same {@link ToStringStyle} callbacks. That keeps the output identical for every style,
+ * including custom ones, while skipping the per-call field discovery, sorting, access checks and annotation lookups. Field
+ * values are read through {@link MethodHandle}s.
+ * <p>
+ * Plans are held in a {@link ClassValue}, same as {@link FieldPlan}. Arrays, and classes whose fields cannot be accessed
+ * through method handles, are rendered by the reflection builder.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class ToStringPlan {
+  private static final ClassValue<ToStringPlan> PLANS = new ClassValue<>() {
+    @Override
+    protected ToStringPlan computeValue( final Class<?> type ) {
+      return create( type );
+    }
+  };
+
+  private final FieldRenderer @Nullable [] fields;
+
+  @SuppressWarnings( "PMD.UseVarargs" )
+  private ToStringPlan( final FieldRenderer @Nullable [] fields ) {
+    this.fields = fields;
+  }
+
+  static ToStringPlan forClass( final Class<?> type ) {
+    return PLANS.get( type );
+  }
+
+  /**
+   * Appends the same characters as {@code ReflectionToStringBuilder.toString( object, style, false, false )} would return.
+   * Assumes that the object is of the class this plan was created for.
+   */
+  void appendTo( final StringBuffer buffer, final Object object, final ToStringStyle style ) {
+    final FieldRenderer[] renderers = fields;
+    if ( renderers == null ) {
+      new BufferedReflectionToStringBuilder( object, style, buffer ).appendFields();
+      return;
+    }
+
+    style.appendStart( buffer, object );
+    for ( final FieldRenderer renderer : renderers ) {
+      renderer.appendTo( buffer, object, style );
+    }
+    style.appendEnd( buffer, object );
+  }
+
+  /**
+   * @return fields in the order they are rendered, or null if this class has to be rendered by the reflection builder
+   */
+  @SuppressWarnings( "PMD.MethodReturnsInternalArray" )
+  FieldRenderer @Nullable [] getFieldRenderers() {
+    return fields;
+  }
+
+  private static ToStringPlan create( final Class<?> type ) {
+    if ( type.isArray() ) {
+      return new ToStringPlan( null );
+    }
+
+    final List<FieldRenderer> renderers = new ArrayList<>();
+    try {
+      for ( Class<?> current = type; current != null; current = current.getSuperclass() ) {
+        addFields( current, renderers );
+      }
+    }
+    catch ( final IllegalAccessException | InaccessibleObjectException | SecurityException e ) {
+      return new ToStringPlan( null );
+    }
+    return new ToStringPlan( renderers.toArray( new FieldRenderer[ 0 ] ) );
+  }
+
+  private static void addFields( final Class<?> type, final List<FieldRenderer> renderers ) throws IllegalAccessException {
+    final Field[] declared = type.getDeclaredFields();
+    Arrays.sort( declared, Comparator.comparing( Field::getName ) );
+
+    MethodHandles.Lookup lookup = null;
+    for ( final Field field : declared ) {
+      if ( !FieldPlan.isIncluded( field ) || field.isAnnotationPresent( ToStringExclude.class ) ) {
+        continue;
+      }
+      if ( lookup == null ) {
+        lookup = MethodHandles.privateLookupIn( type, MethodHandles.lookup() );
+      }
+
+      final MethodHandle getter = lookup.unreflectGetter( field ).asType( MethodType.methodType( Object.class, Object.class ) );
+      renderers.add( new FieldRenderer( field.getName(), getter, !field.isAnnotationPresent( ToStringSummary.class ) ) );
+    }
+  }
+
+  /**
+   * Passes the value of a single field to the style. Primitive values are boxed, because that's what the styles receive from
+   * the reflection builder as well.
+   */
+  @SuppressWarnings( { "PMD.AvoidCatchingThrowable", "PMD.UnnecessaryCast" } )
+  static final class FieldRenderer {
+    private final String name;
+    private final MethodHandle getter;
+    private final Boolean fullDetail;
+
+    FieldRenderer( final String name, final MethodHandle getter, final boolean fullDetail ) {
+      this.name = name;
+      this.getter = getter;
+      this.fullDetail = fullDetail;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    /**
+     * @return false if the field is annotated with {@link ToStringSummary}
+     */
+    boolean isFullDetail() {
+      return fullDetail;
+    }
+
+    @Nullable
+    Object read( final Object instance ) {
+      try {
+        return (Object) getter.invokeExact( instance );
+      }
+      catch ( final Throwable t ) {
+        throw FieldPlan.propagate( t );
+      }
+    }
+
+    void appendTo( final StringBuffer buffer, final Object instance, final ToStringStyle style ) {
+      style.append( buffer, name, read( instance ), fullDetail );
+    }
+  }
+
+  /**
+   * Does the same work as {@link ReflectionToStringBuilder#toString()}, except for converting the buffer into a string.
+   */
+  private static final class BufferedReflectionToStringBuilder extends ReflectionToStringBuilder {
+    BufferedReflectionToStringBuilder( final Object object, final ToStringStyle style, final StringBuffer buffer ) {
+      super( object, style, buffer, null, false, false );
+    }
+
+    void appendFields() {
+      Class<?> type = getObject().getClass();
+      appendFieldsIn( type );
+      while ( type.getSuperclass() != null ) {
+        type = type.getSuperclass();
+        appendFieldsIn( type );
+      }
+      getStyle().appendEnd( getStringBuffer(), getObject() );
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.tguzik.traits;
+
+import java.util.function.DoubleSupplier;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Specialization of the {@link HasValue} interface for values based on primitive {@code double}s. Implementations store the
+ * primitive directly and expose it through {@link #getAsDouble()}, so reading the value doesn't allocate. The boxed
+ * {@link #get()} is still available for code that works with any {@link HasValue}.
+ * <p>
+ * This interface provides similar functionality as the <em>class</em> {@link com.tguzik.value.DoubleValue}, however it can
+ * be applied to Java Records.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@FunctionalInterface
+public interface HasDoubleValue extends HasValue<Double>, DoubleSupplier, HasHash64 {
+
+  /**
+   * @return the contained value
+   */
+  @Override
+  double getAsDouble();
+
+  /**
+   * @return the contained value, boxed. Prefer {@link #getAsDouble()}, which doesn't allocate
+   */
+  @Override
+  default Double get() {
+    return getAsDouble();
+  }
+
+  /**
+   * Hashes the bits of the value as returned by {@link Double#doubleToLongBits(double)}, so all NaNs produce the same hash,
+   * while {@code 0.0} and {@code -0.0} don't. That's consistent with {@link Double#equals(Object)}.
+   *
+   * @return XXH64 of the bits of the contained value
+   * @see HasHash64
+   */
+  @Override
+  default long hash64( final long seed ) {
+    return HasHash64.hashLong( seed, Double.doubleToLongBits( getAsDouble() ) );
+  }
+}
@@ -0,0 +1,92 @@
+package com.tguzik.traits;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Indicates that the class provides a 64-bit hash of its value, for use in probabilistic data structures, off-heap hash tables
+ * and other places where the 32-bit {@link Object#hashCode()} collides too often.
+ * <p>
+ * Unlike {@link Object#hashCode()}, the hashes are stable: the same value and seed produce the same hash across JVM runs and
+ * library versions, so they can be persisted. The default implementation uses the XXH64 algorithm and supports classes that
+ * implement {@link HasValue} with {@link Long}, {@link Integer}, {@link Double}, {@link String} or enum values, as well as
+ * enums implementing this interface directly:
+ * <ul>
+ *   <li>{@link Long} and {@link Integer} values are hashed as XXH64 of the eight little-endian bytes of the value, so equal
+ *   numbers produce equal hashes regardless of their type,</li>
+ *   <li>{@link Double} values are hashed as {@link Long}s holding the result of {@link Double#doubleToLongBits(double)},</li>
+ *   <li>{@link String} values are hashed as XXH64 of their UTF-16LE representation, without copying the characters,</li>
+ *   <li>enum constants are hashed by their name, which keeps the hash stable when constants are reordered,</li>
+ *   <li>null values are hashed as XXH64 of empty input.</li>
+ * </ul>
+ * Classes holding values of other types have to override {@link #hash64(long)}, typically by combining the results of
+ * {@link #hashLong(long, long)} and {@link #hashChars(long, CharSequence)}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+public interface HasHash64 {
+  /**
+   * Seed used by {@link #hash64()}.
+   */
+  long DEFAULT_SEED = 0L;
+
+  /**
+   * @return the 64-bit hash of this value, using {@link #DEFAULT_SEED}
+   */
+  default long hash64() {
+    return hash64( DEFAULT_SEED );
+  }
+
+  /**
+   * @param seed the seed of the hash function. Different seeds produce unrelated hashes for the same value
+   * @return the 64-bit hash of this value
+   * @throws UnsupportedOperationException if the value is of a type not supported by the default implementation
+   */
+  default long hash64( final long seed ) {
+    if ( this instanceof HasValue<?> hasValue ) {
+      return hashValue( seed, hasValue.get() );
+    }
+    if ( this instanceof Enum<?> constant ) {
+      return hashChars( seed, constant.name() );
+    }
+    throw new UnsupportedOperationException( getClass().getName() + " has to override hash64(long)" );
+  }
+
+  /**
+   * @return the 64-bit hash of the number, stable across JVM runs
+   */
+  static long hashLong( final long seed, final long value ) {
+    return XxHash64.hashLong( seed, value );
+  }
+
+  /**
+   * @return the 64-bit hash of the characters, stable across JVM runs. Null is treated like an empty sequence
+   */
+  static long hashChars( final long seed, @Nullable final CharSequence chars ) {
+    return XxHash64.hashChars( seed, chars == null ? "" : chars );
+  }
+
+  private static long hashValue( final long seed, @Nullable final Object value ) {
+    if ( value == null ) {
+      return hashChars( seed, null );
+    }
+    if ( value instanceof Long number ) {
+      return hashLong( seed, number );
+    }
+    if ( value instanceof Integer number ) {
+      return hashLong( seed, number );
+    }
+    if ( value instanceof Double number ) {
+      return hashLong( seed, Double.doubleToLongBits( number ) );
+    }
+    if ( value instanceof CharSequence chars ) {
+      return hashChars( seed, chars );
+    }
+    if ( value instanceof Enum<?> constant ) {
+      return hashChars( seed, constant.name() );
+    }
+    throw new UnsupportedOperationException( "Values of " + value.getClass().getName() + " are not supported by the default " +
+                                             "implementation of hash64(long)" );
+  }
+}
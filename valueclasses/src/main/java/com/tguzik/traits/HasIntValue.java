@@ -0,0 +1,43 @@
+package com.tguzik.traits;
+
+import java.util.function.IntSupplier;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Specialization of the {@link HasValue} interface for values based on primitive {@code int}s. Implementations store the
+ * primitive directly and expose it through {@link #getAsInt()}, so reading the value doesn't allocate. The boxed
+ * {@link #get()} is still available for code that works with any {@link HasValue}.
+ * <p>
+ * This interface provides similar functionality as the <em>class</em> {@link com.tguzik.value.IntValue}, however it can be
+ * applied to Java Records.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@FunctionalInterface
+public interface HasIntValue extends HasValue<Integer>, IntSupplier, HasHash64 {
+
+  /**
+   * @return the contained value
+   */
+  @Override
+  int getAsInt();
+
+  /**
+   * @return the contained value, boxed. Prefer {@link #getAsInt()}, which doesn't allocate
+   */
+  @Override
+  default Integer get() {
+    return getAsInt();
+  }
+
+  /**
+   * @return XXH64 of the contained value, same as for {@link HasValue} of {@link Integer}
+   * @see HasHash64
+   */
+  @Override
+  default long hash64( final long seed ) {
+    return HasHash64.hashLong( seed, getAsInt() );
+  }
+}
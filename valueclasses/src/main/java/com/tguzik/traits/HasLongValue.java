@@ -0,0 +1,43 @@
+package com.tguzik.traits;
+
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Specialization of the {@link HasValue} interface for values based on primitive {@code long}s. Implementations store the
+ * primitive directly and expose it through {@link #getAsLong()}, so reading the value doesn't allocate. The boxed
+ * {@link #get()} is still available for code that works with any {@link HasValue}.
+ * <p>
+ * This interface provides similar functionality as the <em>class</em> {@link com.tguzik.value.LongValue}, however it can be
+ * applied to Java Records.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@FunctionalInterface
+public interface HasLongValue extends HasValue<Long>, LongSupplier, HasHash64 {
+
+  /**
+   * @return the contained value
+   */
+  @Override
+  long getAsLong();
+
+  /**
+   * @return the contained value, boxed. Prefer {@link #getAsLong()}, which doesn't allocate
+   */
+  @Override
+  default Long get() {
+    return getAsLong();
+  }
+
+  /**
+   * @return XXH64 of the contained value, same as for {@link HasValue} of {@link Long}
+   * @see HasHash64
+   */
+  @Override
+  default long hash64( final long seed ) {
+    return HasHash64.hashLong( seed, getAsLong() );
+  }
+}
@@ -1,37 +1,131 @@
 package com.tguzik.traits;
 
-import java.util.Optional;
-
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Specialization of the {@link HasValue} interface for values based on regular {@link String}s. This interface provides
  * similar functionality as the <em>class</em> {@link com.tguzik.value.StringValue}, however it can be applied to Java Records.
+ * <p>
+ * The default methods mirror the read-only parts of {@link CharSequence} and {@link String}, so that parsers and matchers
+ * can work on the value classes without unwrapping them. A contained null is treated as an empty string, except by the
+ * equality checks, for which null is only equal to null. Apart from {@link #subSequence(int, int)}, none of them allocate.
  *
  * @since 2.0.0
  */
 @NullMarked
 @FunctionalInterface
-public interface HasStringValue extends HasValue<String> {
+@SuppressWarnings( "PMD.TooManyMethods" )
+public interface HasStringValue extends HasValue<String>, HasHash64 {
 
   /**
    * @return the length of the contained string, or zero if the contained string is null
    */
   default int length() {
-    return Optional.ofNullable( get() ).map( String::length ).orElse( 0 );
+    final String value = get();
+    return value == null ? 0 : value.length();
   }
 
   /**
    * @return true if the contained string is null or has length of zero, false otherwise
    */
   default boolean isEmpty() {
-    return Optional.ofNullable( get() ).map( String::isEmpty ).orElse( true );
+    final String value = get();
+    return value == null || value.isEmpty();
   }
 
   /**
    * @return true if the contained string is null or has length of zero after being trimmed, false otherwise
    */
   default boolean isBlank() {
-    return Optional.ofNullable( get() ).map( String::isBlank ).orElse( true );
+    final String value = get();
+    return value == null || value.isBlank();
+  }
+
+  /**
+   * @return the character of the contained string at the given index
+   * @throws IndexOutOfBoundsException if the index is out of bounds, which is always the case if the contained string is null
+   * @see String#charAt(int)
+   * @since 2.1.0
+   */
+  default char charAt( final int index ) {
+    return valueOrEmpty().charAt( index );
+  }
+
+  /**
+   * @return the given range of the contained string, treating null as an empty string
+   * @see String#subSequence(int, int)
+   * @since 2.1.0
+   */
+  default CharSequence subSequence( final int start, final int end ) {
+    return valueOrEmpty().subSequence( start, end );
+  }
+
+  /**
+   * @return true if the contained string starts with the prefix, treating null as an empty string
+   * @see String#startsWith(String)
+   * @since 2.1.0
+   */
+  default boolean startsWith( final String prefix ) {
+    return valueOrEmpty().startsWith( prefix );
+  }
+
+  /**
+   * @return true if the given region of the contained string matches the region of the other string, treating null as an
+   *     empty string
+   * @see String#regionMatches(int, String, int, int)
+   * @since 2.1.0
+   */
+  default boolean regionMatches( final int offset, final String other, final int otherOffset, final int length ) {
+    return valueOrEmpty().regionMatches( offset, other, otherOffset, length );
+  }
+
+  /**
+   * @return true if the given region of the contained string matches the region of the other string, optionally ignoring
+   *     case, treating null as an empty string
+   * @see String#regionMatches(boolean, int, String, int, int)
+   * @since 2.1.0
+   */
+  default boolean regionMatches( final boolean ignoreCase,
+                                 final int offset,
+                                 final String other,
+                                 final int otherOffset,
+                                 final int length ) {
+    return valueOrEmpty().regionMatches( ignoreCase, offset, other, otherOffset, length );
+  }
+
+  /**
+   * @return true if the contained string has the same characters as the other sequence, or if both are null
+   * @see String#contentEquals(CharSequence)
+   * @since 2.1.0
+   */
+  default boolean contentEquals( @Nullable final CharSequence other ) {
+    final String value = get();
+    return value == null ? other == null : other != null && value.contentEquals( other );
+  }
+
+  /**
+   * @return true if the contained string is equal to the other string ignoring case, or if both are null
+   * @see String#equalsIgnoreCase(String)
+   * @since 2.1.0
+   */
+  default boolean equalsIgnoreCase( @Nullable final String other ) {
+    final String value = get();
+    return value == null ? other == null : value.equalsIgnoreCase( other );
+  }
+
+  /**
+   * @return XXH64 of the UTF-16LE representation of the contained string, or of empty input if the contained string is null
+   * @see HasHash64
+   * @since 2.1.0
+   */
+  @Override
+  default long hash64( final long seed ) {
+    return HasHash64.hashChars( seed, get() );
+  }
+
+  private String valueOrEmpty() {
+    final String value = get();
+    return value == null ? "" : value;
   }
 }
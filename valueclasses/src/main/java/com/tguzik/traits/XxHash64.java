@@ -0,0 +1,124 @@
+package com.tguzik.traits;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Implementation of the XXH64 hash function, as specified by the reference implementation at
+ * <a href="https://github.com/Cyan4973/xxHash">github.com/Cyan4973/xxHash</a>. Both methods produce exactly the same value as
+ * the reference implementation would for the little-endian representation of their input, which makes the results stable
+ * across JVM runs, platforms and languages.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.UnnecessaryCast" } )
+enum XxHash64 {
+  ;
+
+  private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME_3 = 0x165667B19E3779F9L;
+  private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+  /**
+   * One stripe is 32 bytes, which is 16 characters.
+   */
+  private static final int STRIPE_CHARS = 16;
+
+  /**
+   * @return XXH64 of the eight bytes of the value, in little-endian order
+   */
+  static long hashLong( final long seed, final long value ) {
+    long hash = seed + PRIME_5 + Long.BYTES;
+    hash ^= round( 0, value );
+    hash = Long.rotateLeft( hash, 27 ) * PRIME_1 + PRIME_4;
+    return avalanche( hash );
+  }
+
+  /**
+   * Reads the characters one by one, without copying them into an intermediate array.
+   *
+   * @return XXH64 of the UTF-16LE representation of the characters
+   */
+  static long hashChars( final long seed, final CharSequence chars ) {
+    final int length = chars.length();
+    int index = 0;
+    long hash;
+
+    if ( length >= STRIPE_CHARS ) {
+      long acc1 = seed + PRIME_1 + PRIME_2;
+      long acc2 = seed + PRIME_2;
+      long acc3 = seed;
+      long acc4 = seed - PRIME_1;
+
+      for ( ; index + STRIPE_CHARS <= length; index += STRIPE_CHARS ) {
+        acc1 = round( acc1, lane( chars, index ) );
+        acc2 = round( acc2, lane( chars, index + 4 ) );
+        acc3 = round( acc3, lane( chars, index + 8 ) );
+        acc4 = round( acc4, lane( chars, index + 12 ) );
+      }
+
+      hash = Long.rotateLeft( acc1, 1 ) + Long.rotateLeft( acc2, 7 ) + Long.rotateLeft( acc3, 12 ) + Long.rotateLeft( acc4, 18 );
+      hash = mergeRound( hash, acc1 );
+      hash = mergeRound( hash, acc2 );
+      hash = mergeRound( hash, acc3 );
+      hash = mergeRound( hash, acc4 );
+    }
+    else {
+      hash = seed + PRIME_5;
+    }
+
+    hash += (long) length * Character.BYTES;
+
+    for ( ; index + 4 <= length; index += 4 ) {
+      hash ^= round( 0, lane( chars, index ) );
+      hash = Long.rotateLeft( hash, 27 ) * PRIME_1 + PRIME_4;
+    }
+    if ( index + 2 <= length ) {
+      final long word = chars.charAt( index ) | ( (long) chars.charAt( index + 1 ) << 16 );
+      hash ^= word * PRIME_1;
+      hash = Long.rotateLeft( hash, 23 ) * PRIME_2 + PRIME_3;
+      index += 2;
+    }
+    if ( index < length ) {
+      final char last = chars.charAt( index );
+      hash = byteRound( hash, last & 0xFF );
+      hash = byteRound( hash, last >>> 8 );
+    }
+
+    return avalanche( hash );
+  }
+
+  /**
+   * @return four characters starting at the index, as a little-endian 64-bit value
+   */
+  private static long lane( final CharSequence chars, final int index ) {
+    return chars.charAt( index ) |
+           ( (long) chars.charAt( index + 1 ) << 16 ) |
+           ( (long) chars.charAt( index + 2 ) << 32 ) |
+           ( (long) chars.charAt( index + 3 ) << 48 );
+  }
+
+  private static long round( final long accumulator, final long input ) {
+    return Long.rotateLeft( accumulator + input * PRIME_2, 31 ) * PRIME_1;
+  }
+
+  private static long mergeRound( final long accumulator, final long value ) {
+    return ( accumulator ^ round( 0, value ) ) * PRIME_1 + PRIME_4;
+  }
+
+  private static long byteRound( final long hash, final int unsignedByte ) {
+    return Long.rotateLeft( hash ^ ( unsignedByte * PRIME_5 ), 11 ) * PRIME_1;
+  }
+
+  private static long avalanche( final long hash ) {
+    long result = hash;
+    result ^= result >>> 33;
+    result *= PRIME_2;
+    result ^= result >>> 29;
+    result *= PRIME_3;
+    result ^= result >>> 32;
+    return result;
+  }
+}
@@ -0,0 +1,99 @@
+package com.tguzik.value;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Canonical instances held in access-ordered {@link LinkedHashMap}s. Each segment is locked separately and evicts its own
+ * least recently used entry once it's full, so the total size never exceeds the maximum.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class BoundedInternTable<T> implements InternTable<T> {
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_SEGMENT_CAPACITY = 8;
+
+  private final Segment<T>[] segments;
+  private final int mask;
+
+  @SuppressWarnings( { "unchecked", "rawtypes" } )
+  BoundedInternTable( final int maximumSize, final Counters counters ) {
+    final int count = Integer.highestOneBit( Math.min( MAX_SEGMENTS, Math.max( 1, maximumSize / MIN_SEGMENT_CAPACITY ) ) );
+
+    this.segments = new Segment[ count ];
+    this.mask = count - 1;
+    for ( int i = 0; i < count; i++ ) {
+      final int capacity = maximumSize / count + ( i < maximumSize % count ? 1 : 0 );
+      segments[ i ] = new Segment<>( capacity, counters );
+    }
+  }
+
+  @Override
+  public T intern( final T value ) {
+    final int hash = value.hashCode();
+    return segments[ ( hash ^ ( hash >>> 16 ) ) & mask ].intern( value );
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for ( final Segment<T> segment : segments ) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  private static final class Segment<T> {
+    @SuppressWarnings( "PMD.UseConcurrentHashMap" )
+    private final Map<T, T> entries = new LinkedHashMap<>( 16, 0.75f, true );
+    private final Lock lock = new ReentrantLock();
+    private final int capacity;
+    private final Counters counters;
+
+    Segment( final int capacity, final Counters counters ) {
+      this.capacity = capacity;
+      this.counters = counters;
+    }
+
+    T intern( final T value ) {
+      lock.lock();
+      try {
+        final T existing = entries.get( value );
+        if ( existing != null ) {
+          counters.hits.increment();
+          return existing;
+        }
+
+        counters.misses.increment();
+        entries.put( value, value );
+        if ( entries.size() > capacity ) {
+          final Iterator<T> eldest = entries.keySet().iterator();
+          eldest.next();
+          eldest.remove();
+          counters.evictions.increment();
+        }
+        return value;
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+
+    int size() {
+      lock.lock();
+      try {
+        return entries.size();
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+  }
+}
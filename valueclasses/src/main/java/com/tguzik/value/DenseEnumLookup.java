@@ -0,0 +1,51 @@
+package com.tguzik.value;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link EnumLookup} for integral numbers from a small range, which finds the constants by indexing an array with the
+ * number.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.UseVarargs" } )
+final class DenseEnumLookup implements EnumLookup {
+  private final Class<?> numberType;
+  private final long min;
+  private final @Nullable Object[] constantsByNumber;
+
+  DenseEnumLookup( final Class<?> numberType, final long min, final long[] numbers, final Object[] constants ) {
+    this.numberType = numberType;
+    this.min = min;
+
+    long max = min;
+    for ( final long number : numbers ) {
+      max = Math.max( max, number );
+    }
+    this.constantsByNumber = new Object[ (int) ( max - min + 1 ) ];
+    for ( int i = 0; i < numbers.length; i++ ) {
+      final int index = (int) ( numbers[ i ] - min );
+      final Object existing = constantsByNumber[ index ];
+      if ( existing != null ) {
+        throw EnumLookup.duplicateValue( constants[ i ], existing );
+      }
+      constantsByNumber[ index ] = constants[ i ];
+    }
+  }
+
+  @Override
+  @Nullable
+  public Object find( final Object value ) {
+    return value.getClass() == numberType ? findLong( ( (Number) value ).longValue() ) : null;
+  }
+
+  @Override
+  @Nullable
+  public Object findLong( final long value ) {
+    final long index = value - min;
+    // The subtraction overflows for numbers far outside of the range
+    return value >= min && index >= 0 && index < constantsByNumber.length ? constantsByNumber[ (int) index ] : null;
+  }
+}
@@ -0,0 +1,62 @@
+package com.tguzik.value;
+
+import java.util.Objects;
+
+import com.tguzik.traits.HasDoubleValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract class to hold primitive {@code double} values. Unlike {@link Value} of {@link Double}, the value is stored unboxed,
+ * so each instance is a single object and {@link #getAsDouble()}, {@link #equals(Object)}, {@link #hashCode()} and
+ * {@link #compareTo(DoubleValue)} don't allocate.
+ * <p>
+ * Values are compared by their bits, same as {@link Double#equals(Object)} does: all NaNs are equal to each other, while
+ * {@code 0.0} and {@code -0.0} are not. {@link #compareTo(DoubleValue)} is consistent with that. Instances of different
+ * classes are never equal, same as with {@link Value}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+public abstract class DoubleValue implements HasDoubleValue, Comparable<DoubleValue> {
+  private final double encapsulatedValue;
+
+  protected DoubleValue( final double encapsulatedValue ) {
+    this.encapsulatedValue = encapsulatedValue;
+  }
+
+  @Override
+  public double getAsDouble() {
+    return encapsulatedValue;
+  }
+
+  @Override
+  public int compareTo( final DoubleValue other ) {
+    Objects.requireNonNull( other, "Parameter cannot be null." );
+
+    return Double.compare( encapsulatedValue, other.encapsulatedValue );
+  }
+
+  @Override
+  public int hashCode() {
+    return Double.hashCode( encapsulatedValue );
+  }
+
+  @Override
+  @SuppressWarnings( "EqualsGetClass" )
+  public boolean equals( @Nullable final Object obj ) {
+    if ( obj == this ) {
+      return true;
+    }
+    if ( obj == null || obj.getClass() != getClass() ) {
+      return false;
+    }
+
+    return Double.doubleToLongBits( encapsulatedValue ) == Double.doubleToLongBits( ( (DoubleValue) obj ).encapsulatedValue );
+  }
+
+  @Override
+  public String toString() {
+    return Double.toString( encapsulatedValue );
+  }
+}
@@ -0,0 +1,83 @@
+package com.tguzik.value;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable table that maps the values held by enum constants back to the constants.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.UseVarargs" )
+interface EnumLookup {
+  /**
+   * Classes of values that are looked up by their {@code long} representation. Their {@code equals} requires the same class,
+   * so a table holds values of one of these classes only.
+   */
+  Set<Class<?>> INTEGRAL_TYPES = Set.of( Long.class, Integer.class, Short.class, Byte.class );
+
+  /**
+   * Range of the numbers, relative to their count, up to which the table is a plain array indexed by the number.
+   */
+  int DENSE_SPREAD = 4;
+
+  /**
+   * Numbers ranging up to this value always get an array, no matter how few of them there are.
+   */
+  int MIN_DENSE_RANGE = 64;
+
+  /**
+   * @return the constant holding an equal value, or null if there is no such constant
+   */
+  @Nullable
+  Object find( Object value );
+
+  /**
+   * @return the constant holding an integral number equal to the given one, or null if there is no such constant
+   */
+  @Nullable
+  Object findLong( long value );
+
+  /**
+   * Picks the table for the values: an array for integral numbers from a small range, an open-addressing hash table of
+   * {@code long}s for other integral numbers, and an open-addressing hash table of objects for everything else.
+   *
+   * @param values    non-null values held by the constants, in the same order as the constants
+   * @param constants the constants
+   * @throws IllegalArgumentException if two constants hold equal values
+   */
+  static EnumLookup forValues( final Object[] values, final Object[] constants ) {
+    final Class<?> numberType = values.length == 0 ? Object.class : values[ 0 ].getClass();
+    final boolean integral = INTEGRAL_TYPES.contains( numberType )
+                             && Arrays.stream( values ).allMatch( value -> value.getClass() == numberType );
+    if ( !integral ) {
+      return new ObjectHashEnumLookup( values, constants );
+    }
+
+    final long[] numbers = Arrays.stream( values ).mapToLong( value -> ( (Number) value ).longValue() ).toArray();
+    final long min = Arrays.stream( numbers ).min().orElse( 0 );
+    final long max = Arrays.stream( numbers ).max().orElse( 0 );
+    final long spread = max - min;
+
+    // The difference overflows to a negative number when the range doesn't fit in a long
+    if ( spread >= 0 && spread < Math.max( MIN_DENSE_RANGE, (long) DENSE_SPREAD * numbers.length ) ) {
+      return new DenseEnumLookup( numberType, min, numbers, constants );
+    }
+    return new LongHashEnumLookup( numberType, numbers, constants );
+  }
+
+  /**
+   * @return power of two table length that keeps the load factor at or below one half, with at least two slots
+   */
+  static int tableLengthFor( final int count ) {
+    return Math.max( 2, Integer.highestOneBit( Math.max( 1, count ) ) << 2 );
+  }
+
+  static IllegalArgumentException duplicateValue( final Object constant, final Object other ) {
+    return new IllegalArgumentException( "Constants " + other + " and " + constant + " hold the same value" );
+  }
+}
@@ -0,0 +1,122 @@
+package com.tguzik.value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reverse lookup of enum constants by the values they hold, meant to replace the usual scan over {@code values()} in factory
+ * methods, {@code @JsonCreator}s and JAXB {@code XmlAdapter}s:
+ * <pre>{@code
+ * enum Currency implements HasStringValue {
+ *   EURO( "EUR" ), ZLOTY( "PLN" );
+ *   ...
+ *
+ *   @JsonCreator
+ *   static @Nullable Currency forCode( String code ) {
+ *     return EnumValueIndex.forEnum( Currency.class ).get( code );
+ *   }
+ * }
+ * }</pre>
+ * The index is built once per enum class, on first use, and cached for the lifetime of the class. Integral numbers from a
+ * range up to four times larger than the number of constants are looked up in a plain array. Other integral numbers are kept
+ * unboxed in an open-addressing hash table, and all other values, including strings, in an open-addressing hash table of
+ * objects.
+ * <p>
+ * The lookups follow {@link Object#equals(Object)} of the held values, so a constant holding {@code 5L} is not found for
+ * {@code 5} - with the exception of {@link #getByLong(long)}, which compares the numbers only. Instances of this class are
+ * immutable and thread-safe.
+ *
+ * @param <E> type of the enum
+ * @param <T> type of the values held by the constants
+ * @since 2.1.0
+ */
+@NullMarked
+public final class EnumValueIndex<E extends Enum<E> & HasValue<T>, T> {
+  private static final ClassValue<EnumValueIndex<?, ?>> INDEXES = new ClassValue<>() {
+    @Override
+    @SuppressWarnings( { "unchecked", "rawtypes" } )
+    protected EnumValueIndex<?, ?> computeValue( final Class<?> type ) {
+      return new EnumValueIndex( type );
+    }
+  };
+
+  private final Class<E> type;
+  private final EnumLookup lookup;
+  private final @Nullable E nullConstant;
+
+  private EnumValueIndex( final Class<E> type ) {
+    final E[] constants = type.getEnumConstants();
+    if ( constants == null ) {
+      throw new IllegalArgumentException( type.getName() + " is not an enum" );
+    }
+
+    final List<Object> values = new ArrayList<>( constants.length );
+    final List<Object> constantsWithValues = new ArrayList<>( constants.length );
+    E constantHoldingNull = null;
+    for ( final E constant : constants ) {
+      final @Nullable Object value = constant.get();
+      if ( value != null ) {
+        values.add( value );
+        constantsWithValues.add( constant );
+      }
+      else if ( constantHoldingNull == null ) {
+        constantHoldingNull = constant;
+      }
+      else {
+        throw EnumLookup.duplicateValue( constant, constantHoldingNull );
+      }
+    }
+
+    this.type = type;
+    this.lookup = EnumLookup.forValues( values.toArray(), constantsWithValues.toArray() );
+    this.nullConstant = constantHoldingNull;
+  }
+
+  /**
+   * @param type class of the enum
+   * @return index of the constants of the enum, built on the first call for the enum and cached afterwards
+   * @throws IllegalArgumentException if two constants hold equal values
+   */
+  @SuppressWarnings( "unchecked" )
+  public static <E extends Enum<E> & HasValue<T>, T> EnumValueIndex<E, T> forEnum( final Class<E> type ) {
+    return (EnumValueIndex<E, T>) INDEXES.get( Objects.requireNonNull( type, "Type parameter cannot be null!" ) );
+  }
+
+  /**
+   * @return class of the enum
+   */
+  public Class<E> getType() {
+    return type;
+  }
+
+  /**
+   * @return the constant holding a value equal to the given one, or null if there is no such constant
+   */
+  @Nullable
+  public E get( @Nullable final Object value ) {
+    return value == null ? nullConstant : type.cast( lookup.find( value ) );
+  }
+
+  /**
+   * @return the constant holding a value equal to the given one, or empty if there is no such constant
+   */
+  public Optional<E> find( @Nullable final T value ) {
+    return Optional.ofNullable( get( value ) );
+  }
+
+  /**
+   * Looks up constants holding {@link Long}s, {@link Integer}s, {@link Short}s or {@link Byte}s without boxing the number.
+   *
+   * @return the constant holding a number equal to the given one, or null if there is no such constant
+   */
+  @Nullable
+  public E getByLong( final long value ) {
+    return type.cast( lookup.findLong( value ) );
+  }
+}
@@ -0,0 +1,41 @@
+package com.tguzik.value;
+
+/**
+ * {@link Value} for values that never change after construction, including every object reachable from the held value. Caches
+ * its hash code the same way, and with the same caveats, as {@link com.tguzik.objects.ImmutableBaseObject}.
+ * <p>
+ * Only classes that extend {@link Value} directly can opt in. {@link StringValue} extends {@link Value} itself, so its
+ * subclasses cannot extend this class as well and always compute the hash code of the held string - which {@link String}
+ * caches anyway. {@link LongValue}, {@link IntValue} and {@link DoubleValue} don't extend {@link Value} at all, and hash
+ * the held primitive without boxing, which leaves little for a cache to save.
+ *
+ * @since 2.1.0
+ */
+public abstract class ImmutableValue<T> extends Value<T> {
+  private transient int cachedHashCode;
+  private transient boolean cachedHashCodeIsZero;
+
+  protected ImmutableValue( final T encapsulatedValue ) {
+    super( encapsulatedValue );
+  }
+
+  /**
+   * Same as {@link Value#hashCode()}, but computed only once per instance, like
+   * {@link com.tguzik.objects.ImmutableBaseObject#hashCode()}.
+   */
+  @Override
+  @SuppressWarnings( "PMD.OverrideBothEqualsAndHashcode" ) // The inherited equals() is consistent with the cached hash code
+  public int hashCode() {
+    int hash = cachedHashCode;
+    if ( hash == 0 && !cachedHashCodeIsZero ) {
+      hash = super.hashCode();
+      if ( hash == 0 ) {
+        cachedHashCodeIsZero = true;
+      }
+      else {
+        cachedHashCode = hash;
+      }
+    }
+    return hash;
+  }
+}
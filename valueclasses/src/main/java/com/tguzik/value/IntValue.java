@@ -0,0 +1,60 @@
+package com.tguzik.value;
+
+import java.util.Objects;
+
+import com.tguzik.traits.HasIntValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract class to hold primitive {@code int} values. Unlike {@link Value} of {@link Integer}, the value is stored unboxed, so
+ * each instance is a single object and {@link #getAsInt()}, {@link #equals(Object)}, {@link #hashCode()} and
+ * {@link #compareTo(IntValue)} don't allocate.
+ * <p>
+ * Instances of different classes are never equal, same as with {@link Value}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+public abstract class IntValue implements HasIntValue, Comparable<IntValue> {
+  private final int encapsulatedValue;
+
+  protected IntValue( final int encapsulatedValue ) {
+    this.encapsulatedValue = encapsulatedValue;
+  }
+
+  @Override
+  public int getAsInt() {
+    return encapsulatedValue;
+  }
+
+  @Override
+  public int compareTo( final IntValue other ) {
+    Objects.requireNonNull( other, "Parameter cannot be null." );
+
+    return Integer.compare( encapsulatedValue, other.encapsulatedValue );
+  }
+
+  @Override
+  public int hashCode() {
+    return Integer.hashCode( encapsulatedValue );
+  }
+
+  @Override
+  @SuppressWarnings( "EqualsGetClass" )
+  public boolean equals( @Nullable final Object obj ) {
+    if ( obj == this ) {
+      return true;
+    }
+    if ( obj == null || obj.getClass() != getClass() ) {
+      return false;
+    }
+
+    return encapsulatedValue == ( (IntValue) obj ).encapsulatedValue;
+  }
+
+  @Override
+  public String toString() {
+    return Integer.toString( encapsulatedValue );
+  }
+}
@@ -0,0 +1,34 @@
+package com.tguzik.value;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Storage of the canonical instances of a {@link ValueInterner}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+interface InternTable<T> {
+
+  /**
+   * @return instance equal to the parameter that was interned earlier, or the parameter itself after storing it
+   */
+  T intern( T value );
+
+  /**
+   * @return approximate number of canonical instances in the table
+   */
+  int size();
+
+  /**
+   * Statistics updated by the table and reported by {@link ValueInterner#stats()}.
+   */
+  @SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+  final class Counters {
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder evictions = new LongAdder();
+  }
+}
@@ -0,0 +1,65 @@
+package com.tguzik.value;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link EnumLookup} for sparse integral numbers. The numbers are kept unboxed in an open-addressing hash table with linear
+ * probing, at most half full.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.UseVarargs" } )
+final class LongHashEnumLookup implements EnumLookup {
+  private final Class<?> numberType;
+  private final int shift;
+  private final long[] numbers;
+  private final @Nullable Object[] constantsBySlot;
+
+  LongHashEnumLookup( final Class<?> numberType, final long[] numbers, final Object[] constants ) {
+    final int length = EnumLookup.tableLengthFor( numbers.length );
+    this.numberType = numberType;
+    this.shift = Long.SIZE - Integer.numberOfTrailingZeros( length );
+    this.numbers = new long[ length ];
+    this.constantsBySlot = new Object[ length ];
+
+    for ( int i = 0; i < numbers.length; i++ ) {
+      int slot = slotOf( numbers[ i ] );
+      while ( constantsBySlot[ slot ] != null ) {
+        if ( this.numbers[ slot ] == numbers[ i ] ) {
+          throw EnumLookup.duplicateValue( constants[ i ], constantsBySlot[ slot ] );
+        }
+        slot = ( slot + 1 ) & ( length - 1 );
+      }
+      this.numbers[ slot ] = numbers[ i ];
+      constantsBySlot[ slot ] = constants[ i ];
+    }
+  }
+
+  @Override
+  @Nullable
+  public Object find( final Object value ) {
+    return value.getClass() == numberType ? findLong( ( (Number) value ).longValue() ) : null;
+  }
+
+  @Override
+  @Nullable
+  public Object findLong( final long value ) {
+    int slot = slotOf( value );
+    while ( constantsBySlot[ slot ] != null ) {
+      if ( numbers[ slot ] == value ) {
+        return constantsBySlot[ slot ];
+      }
+      slot = ( slot + 1 ) & ( numbers.length - 1 );
+    }
+    return null;
+  }
+
+  /**
+   * Fibonacci hashing - the top bits of the product are the best mixed ones.
+   */
+  private int slotOf( final long value ) {
+    return (int) ( ( value * 0x9E37_79B9_7F4A_7C15L ) >>> shift );
+  }
+}
@@ -0,0 +1,60 @@
+package com.tguzik.value;
+
+import java.util.Objects;
+
+import com.tguzik.traits.HasLongValue;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Abstract class to hold primitive {@code long} values. Unlike {@link Value} of {@link Long}, the value is stored unboxed, so
+ * each instance is a single object and {@link #getAsLong()}, {@link #equals(Object)}, {@link #hashCode()} and
+ * {@link #compareTo(LongValue)} don't allocate.
+ * <p>
+ * Instances of different classes are never equal, same as with {@link Value}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+public abstract class LongValue implements HasLongValue, Comparable<LongValue> {
+  private final long encapsulatedValue;
+
+  protected LongValue( final long encapsulatedValue ) {
+    this.encapsulatedValue = encapsulatedValue;
+  }
+
+  @Override
+  public long getAsLong() {
+    return encapsulatedValue;
+  }
+
+  @Override
+  public int compareTo( final LongValue other ) {
+    Objects.requireNonNull( other, "Parameter cannot be null." );
+
+    return Long.compare( encapsulatedValue, other.encapsulatedValue );
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode( encapsulatedValue );
+  }
+
+  @Override
+  @SuppressWarnings( "EqualsGetClass" )
+  public boolean equals( @Nullable final Object obj ) {
+    if ( obj == this ) {
+      return true;
+    }
+    if ( obj == null || obj.getClass() != getClass() ) {
+      return false;
+    }
+
+    return encapsulatedValue == ( (LongValue) obj ).encapsulatedValue;
+  }
+
+  @Override
+  public String toString() {
+    return Long.toString( encapsulatedValue );
+  }
+}
@@ -0,0 +1,64 @@
+package com.tguzik.value;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link EnumLookup} for strings and any other values, in an open-addressing hash table with linear probing, at most half
+ * full. Lookups call {@link Object#hashCode()} of the looked up value once, which strings cache, and {@link Object#equals}
+ * usually once too.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( { "PMD.CommentDefaultAccessModifier", "PMD.UseVarargs" } )
+final class ObjectHashEnumLookup implements EnumLookup {
+  private final int shift;
+  private final @Nullable Object[] values;
+  private final @Nullable Object[] constantsBySlot;
+
+  ObjectHashEnumLookup( final Object[] values, final Object[] constants ) {
+    final int length = EnumLookup.tableLengthFor( values.length );
+    this.shift = Integer.SIZE - Integer.numberOfTrailingZeros( length );
+    this.values = new Object[ length ];
+    this.constantsBySlot = new Object[ length ];
+
+    for ( int i = 0; i < values.length; i++ ) {
+      int slot = slotOf( values[ i ] );
+      while ( constantsBySlot[ slot ] != null ) {
+        if ( values[ i ].equals( this.values[ slot ] ) ) {
+          throw EnumLookup.duplicateValue( constants[ i ], constantsBySlot[ slot ] );
+        }
+        slot = ( slot + 1 ) & ( length - 1 );
+      }
+      this.values[ slot ] = values[ i ];
+      constantsBySlot[ slot ] = constants[ i ];
+    }
+  }
+
+  @Override
+  @Nullable
+  public Object find( final Object value ) {
+    int slot = slotOf( value );
+    while ( constantsBySlot[ slot ] != null ) {
+      if ( value.equals( values[ slot ] ) ) {
+        return constantsBySlot[ slot ];
+      }
+      slot = ( slot + 1 ) & ( values.length - 1 );
+    }
+    return null;
+  }
+
+  @Override
+  @Nullable
+  public Object findLong( final long value ) {
+    return null;
+  }
+
+  /**
+   * Fibonacci hashing - the top bits of the product are the best mixed ones.
+   */
+  private int slotOf( final Object value ) {
+    return ( value.hashCode() * 0x9E37_79B9 ) >>> shift;
+  }
+}
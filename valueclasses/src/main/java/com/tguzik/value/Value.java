@@ -30,9 +30,12 @@ public abstract class Value<T> implements HasValue<T> {
     return encapsulatedValue;
   }
 
+  /**
+   * @see ImmutableValue
+   */
   @Override
   public int hashCode() {
-    return Optional.ofNullable( get() ).map( Object::hashCode ).orElse( 0 );
+    return Objects.hashCode( get() );
   }
 
   @Override
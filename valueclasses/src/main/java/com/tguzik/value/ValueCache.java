@@ -0,0 +1,133 @@
+package com.tguzik.value;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Table of canonical instances of a value class for a range of numbers, similar to what {@link Integer#valueOf(int)} does for
+ * {@link Integer}s. Meant for types that only ever hold a few hundred distinct values - status codes, shard numbers, small
+ * counts - so that creating them doesn't allocate:
+ * <pre>{@code
+ * record ShardNumber(int value) implements HasIntValue {
+ *   private static final ValueCache<ShardNumber> CACHE = ValueCache.forRange( 0, 255, n -> new ShardNumber( (int) n ) );
+ *
+ *   static ShardNumber of( int value ) {
+ *     return CACHE.valueOf( value );
+ *   }
+ *   ...
+ * }
+ * }</pre>
+ * All instances within the range are created up front. Values outside the range are created on every call, same as
+ * {@link Integer#valueOf(int)} does. Types that may hold null can also have a canonical instance for null, which is returned
+ * by {@link #valueOf(Long)} and {@link #valueOf(Integer)}.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ *
+ * @param <T> type of the cached values
+ * @since 2.1.0
+ */
+@NullMarked
+public final class ValueCache<T> {
+  /**
+   * Maximum number of instances in the range. The table is created eagerly, so it is meant for small ranges only.
+   */
+  public static final int MAX_SIZE = 1 << 16;
+
+  private final long low;
+  private final long high;
+  private final Object[] instances;
+  private final LongFunction<? extends T> factory;
+  private final @Nullable T nullInstance;
+
+  private ValueCache( final long low,
+                      final long high,
+                      final LongFunction<? extends T> factory,
+                      @Nullable final T nullInstance ) {
+    if ( high < low ) {
+      throw new IllegalArgumentException( "Range is empty: [" + low + ", " + high + "]" );
+    }
+    if ( high - low >= MAX_SIZE || high - low < 0 ) {
+      throw new IllegalArgumentException( "Range [" + low + ", " + high + "] is larger than " + MAX_SIZE );
+    }
+
+    this.low = low;
+    this.high = high;
+    this.factory = Objects.requireNonNull( factory, "Factory parameter cannot be null!" );
+    this.nullInstance = nullInstance;
+    this.instances = new Object[ (int) ( high - low + 1 ) ];
+    for ( int i = 0; i < instances.length; i++ ) {
+      instances[ i ] = Objects.requireNonNull( factory.apply( low + i ), "Factory cannot return null!" );
+    }
+  }
+
+  /**
+   * @param low     the smallest cached value, inclusive
+   * @param high    the largest cached value, inclusive
+   * @param factory creates instances for the given values
+   * @return cache of instances for values from {@code low} to {@code high}
+   * @throws IllegalArgumentException if the range is empty or has more than {@link #MAX_SIZE} values
+   */
+  public static <T> ValueCache<T> forRange( final long low, final long high, final LongFunction<? extends T> factory ) {
+    return new ValueCache<>( low, high, factory, null );
+  }
+
+  /**
+   * @param low          the smallest cached value, inclusive
+   * @param high         the largest cached value, inclusive
+   * @param factory      creates instances for the given values
+   * @param nullInstance canonical instance returned for null values
+   * @return cache of instances for values from {@code low} to {@code high} and for null
+   * @throws IllegalArgumentException if the range is empty or has more than {@link #MAX_SIZE} values
+   */
+  public static <T> ValueCache<T> forRange( final long low,
+                                            final long high,
+                                            final LongFunction<? extends T> factory,
+                                            final T nullInstance ) {
+    return new ValueCache<>( low, high, factory, Objects.requireNonNull( nullInstance, "Null instance cannot be null!" ) );
+  }
+
+  /**
+   * @return the canonical instance if the value is within the range, or a new instance otherwise
+   */
+  @SuppressWarnings( "unchecked" )
+  public T valueOf( final long value ) {
+    if ( isCached( value ) ) {
+      return (T) instances[ (int) ( value - low ) ];
+    }
+    return factory.apply( value );
+  }
+
+  /**
+   * @return same as {@link #valueOf(long)}, or the canonical null instance if the value is null
+   * @throws NullPointerException if the value is null and this cache has no null instance
+   */
+  public T valueOf( @Nullable final Long value ) {
+    return value == null ? getNullInstance() : valueOf( value.longValue() );
+  }
+
+  /**
+   * @return same as {@link #valueOf(long)}, or the canonical null instance if the value is null
+   * @throws NullPointerException if the value is null and this cache has no null instance
+   */
+  public T valueOf( @Nullable final Integer value ) {
+    return value == null ? getNullInstance() : valueOf( value.longValue() );
+  }
+
+  /**
+   * @return the canonical instance for null values
+   * @throws NullPointerException if this cache has no null instance
+   */
+  public T getNullInstance() {
+    return Objects.requireNonNull( nullInstance, "This cache has no instance for null values" );
+  }
+
+  /**
+   * @return true if {@link #valueOf(long)} returns the canonical instance for the value
+   */
+  public boolean isCached( final long value ) {
+    return value >= low && value <= high;
+  }
+}
@@ -0,0 +1,98 @@
+package com.tguzik.value;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Canonicalizes equal instances of value classes, so that the application keeps a single copy of values that repeat a lot -
+ * country codes, tenant identifiers, currency names and so on. Works with any class that implements
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} by value, including {@link Value}, {@link StringValue} and
+ * records implementing {@link com.tguzik.traits.HasValue}. Canonical instances also make equality checks cheaper, since
+ * comparing an instance with itself takes the {@code obj == this} shortcut.
+ * <p>
+ * Instances of different classes are never equal, so a single interner can hold several value types. It is still a good idea
+ * to have one interner per type, so that the statistics and the size limits are per type as well.
+ * <p>
+ * Two eviction policies are available:
+ * <ul>
+ *   <li>{@link #weak()} keeps the canonical instances only as long as something else refers to them. The lookups are
+ *   lock-free,</li>
+ *   <li>{@link #bounded(int)} keeps at most the specified number of canonical instances and evicts the least recently used
+ *   ones. The entries are spread over independently locked segments, and the recency is tracked per segment.</li>
+ * </ul>
+ * All methods are thread-safe.
+ *
+ * @param <T> type of the interned values
+ * @since 2.1.0
+ */
+@NullMarked
+public final class ValueInterner<T> {
+  private final InternTable.Counters counters = new InternTable.Counters();
+  private final InternTable<T> table;
+
+  private ValueInterner( final Function<InternTable.Counters, InternTable<T>> tableFactory ) {
+    this.table = tableFactory.apply( counters );
+  }
+
+  /**
+   * @return interner that holds the canonical instances through weak references
+   */
+  public static <T> ValueInterner<T> weak() {
+    return new ValueInterner<>( WeakInternTable::new );
+  }
+
+  /**
+   * @param maximumSize maximum number of canonical instances held by the interner
+   * @return interner that evicts the least recently used instances once it holds more than {@code maximumSize} of them
+   * @throws IllegalArgumentException if the maximum size is not positive
+   */
+  public static <T> ValueInterner<T> bounded( final int maximumSize ) {
+    if ( maximumSize <= 0 ) {
+      throw new IllegalArgumentException( "Maximum size has to be positive, got: " + maximumSize );
+    }
+    return new ValueInterner<>( counters -> new BoundedInternTable<>( maximumSize, counters ) );
+  }
+
+  /**
+   * @param value the value to canonicalize
+   * @return instance equal to the parameter that was interned earlier, or the parameter itself if there was no such instance
+   */
+  public T intern( final T value ) {
+    Objects.requireNonNull( value, "Value parameter cannot be null!" );
+
+    return table.intern( value );
+  }
+
+  /**
+   * @return approximate number of canonical instances held by this interner
+   */
+  public int size() {
+    return table.size();
+  }
+
+  /**
+   * @return snapshot of the statistics of this interner. Counters are updated concurrently, so they may be slightly off
+   */
+  public Stats stats() {
+    return new Stats( counters.hits.sum(), counters.misses.sum(), counters.evictions.sum() );
+  }
+
+  /**
+   * Statistics of a {@link ValueInterner}.
+   *
+   * @param hitCount      number of calls that returned a previously interned instance
+   * @param missCount     number of calls that interned the instance they were called with
+   * @param evictionCount number of canonical instances that were dropped by the interner or garbage collected
+   */
+  public record Stats(long hitCount, long missCount, long evictionCount) {
+    /**
+     * @return ratio of hits to all calls, or zero if the interner was not used yet
+     */
+    public double hitRate() {
+      final long requests = hitCount + missCount;
+      return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.tguzik.value;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Canonical instances held through weak references in a {@link ConcurrentHashMap}, so the lookups are lock-free. Cleared
+ * references are removed from the map on the next call to {@link #intern(Object)} or {@link #size()}.
+ *
+ * @since 2.1.0
+ */
+@NullMarked
+@SuppressWarnings( "PMD.CommentDefaultAccessModifier" )
+final class WeakInternTable<T> implements InternTable<T> {
+  private final Map<InternKey, WeakKey<T>> entries = new ConcurrentHashMap<>();
+  private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+  private final Counters counters;
+
+  WeakInternTable( final Counters counters ) {
+    this.counters = counters;
+  }
+
+  @Override
+  @SuppressWarnings( "PMD.AvoidInstantiatingObjectsInLoops" )
+  public T intern( final T value ) {
+    expungeClearedEntries();
+
+    final int hash = value.hashCode();
+    final StrongKey lookup = new StrongKey( value, hash );
+    while ( true ) {
+      final WeakKey<T> existing = entries.get( lookup );
+      final T canonical = existing == null ? null : existing.get();
+      if ( canonical != null ) {
+        counters.hits.increment();
+        return canonical;
+      }
+      if ( existing != null ) {
+        entries.remove( existing, existing );
+        continue;
+      }
+
+      final WeakKey<T> created = new WeakKey<>( value, hash, queue );
+      if ( entries.putIfAbsent( created, created ) == null ) {
+        counters.misses.increment();
+        return value;
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    expungeClearedEntries();
+    return entries.size();
+  }
+
+  private void expungeClearedEntries() {
+    for ( Reference<? extends T> cleared = queue.poll(); cleared != null; cleared = queue.poll() ) {
+      final WeakKey<?> key = (WeakKey<?>) cleared;
+      if ( entries.remove( key, key ) ) {
+        counters.evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Keys are equal if they refer to equal values. Cleared keys are equal only to themselves.
+   */
+  private sealed interface InternKey permits StrongKey, WeakKey {
+    @Nullable
+    Object referent();
+  }
+
+  private record StrongKey(Object referent, int hash) implements InternKey {
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals( @Nullable final Object obj ) {
+      return obj instanceof InternKey other && referent.equals( other.referent() );
+    }
+  }
+
+  private static final class WeakKey<T> extends WeakReference<T> implements InternKey {
+    private final int hash;
+
+    WeakKey( final T referent, final int hash, final ReferenceQueue<T> queue ) {
+      super( referent, queue );
+      this.hash = hash;
+    }
+
+    @Override
+    @Nullable
+    public Object referent() {
+      return get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals( @Nullable final Object obj ) {
+      if ( obj == this ) {
+        return true;
+      }
+      if ( !( obj instanceof InternKey other ) ) {
+        return false;
+      }
+
+      final T referent = get();
+      return referent != null && referent.equals( other.referent() );
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.tguzik.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.tguzik.traits.HasIntValue;
+import org.junit.jupiter.api.Test;
+
+class IntValueListTest {
+
+  @Test
+  void behaves_like_array_list() {
+    final IntValueList<ShardNumber> list = newList( 1, 2, 3, 4, 5 );
+    final List<ShardNumber> expected = new ArrayList<>( list );
+
+    list.add( 0, new ShardNumber( 0 ) );
+    expected.add( 0, new ShardNumber( 0 ) );
+    list.remove( 3 );
+    expected.remove( 3 );
+    list.set( 1, new ShardNumber( 42 ) );
+    expected.set( 1, new ShardNumber( 42 ) );
+
+    assertThat( list ).isEqualTo( expected ).hasSameHashCodeAs( expected );
+    assertThat( list.toIntArray() ).containsExactly( 0, 42, 2, 4, 5 );
+    assertThat( list.getInt( 1 ) ).isEqualTo( 42 );
+  }
+
+  @Test
+  void contains_and_indexOf_compare_values_of_the_same_type_only() {
+    final IntValueList<ShardNumber> list = newList( 7, 8, 7 );
+
+    assertThat( list.contains( new ShardNumber( 8 ) ) ).isTrue();
+    assertThat( list.contains( new StatusCode( 8 ) ) ).isFalse();
+    assertThat( list.lastIndexOf( new ShardNumber( 7 ) ) ).isEqualTo( 2 );
+    assertThat( list.indexOfInt( 8 ) ).isEqualTo( 1 );
+    assertThat( list.containsInt( 9 ) ).isFalse();
+  }
+
+  @Test
+  void supports_parallel_streams() {
+    final IntValueList<ShardNumber> list = ValueList.ofInts( ShardNumber.class, ShardNumber::new );
+    IntStream.range( 0, 10_000 ).forEach( list::addInt );
+
+    assertThat( list.parallelStream().mapToLong( ShardNumber::getAsInt ).sum() ).isEqualTo( 9999L * 10_000L / 2 );
+    assertThat( list.intStream().parallel().count() ).isEqualTo( 10_000 );
+  }
+
+  private static IntValueList<ShardNumber> newList( final int... values ) {
+    final IntValueList<ShardNumber> list = ValueList.ofInts( ShardNumber.class, ShardNumber::new );
+    list.addAllInts( values );
+    return list;
+  }
+
+  record ShardNumber(int value) implements HasIntValue {
+    @Override
+    public int getAsInt() {
+      return value;
+    }
+  }
+
+  record StatusCode(int value) implements HasIntValue {
+    @Override
+    public int getAsInt() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.tguzik.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.value.Value;
+import org.junit.jupiter.api.Test;
+
+class LongValueListTest {
+
+  @Test
+  void stores_values_and_creates_elements_on_read() {
+    final AtomicInteger created = new AtomicInteger();
+    final LongValueList<OrderId> list = ValueList.ofLongs( OrderId.class, value -> {
+      created.incrementAndGet();
+      return new OrderId( value );
+    } );
+
+    list.add( new OrderId( 1L ) );
+    list.addLong( 2L );
+    list.addAllLongs( 3L, 4L );
+
+    assertThat( created ).hasValue( 0 );
+    assertThat( list.getLong( 2 ) ).isEqualTo( 3L );
+    assertThat( created ).hasValue( 0 );
+    assertThat( list.get( 0 ) ).isEqualTo( new OrderId( 1L ) );
+    assertThat( created ).hasValue( 1 );
+    assertThat( list ).hasSize( 4 ).containsExactly( new OrderId( 1L ), new OrderId( 2L ), new OrderId( 3L ), new OrderId( 4L ) );
+  }
+
+  @Test
+  void stores_values_of_boxed_value_classes() {
+    final LongValueList<Distance> list = ValueList.ofLongs( Distance.class, Distance::get, Distance::new );
+
+    list.add( new Distance( 5L ) );
+    list.addLong( 7L );
+
+    assertThat( list.toLongArray() ).containsExactly( 5L, 7L );
+    assertThat( list ).containsExactly( new Distance( 5L ), new Distance( 7L ) );
+    assertThat( list.indexOf( new Distance( 7L ) ) ).isEqualTo( 1 );
+    assertThat( list.set( 0, new Distance( 6L ) ) ).isEqualTo( new Distance( 5L ) );
+    assertThat( list.getLong( 0 ) ).isEqualTo( 6L );
+  }
+
+  @Test
+  void behaves_like_array_list() {
+    final LongValueList<OrderId> list = newList( 1L, 2L, 3L, 4L, 5L );
+    final List<OrderId> expected = new ArrayList<>( list );
+
+    list.add( 0, new OrderId( 0L ) );
+    expected.add( 0, new OrderId( 0L ) );
+    list.remove( 3 );
+    expected.remove( 3 );
+    list.set( 1, new OrderId( 42L ) );
+    expected.set( 1, new OrderId( 42L ) );
+    list.subList( 1, 3 ).clear();
+    expected.subList( 1, 3 ).clear();
+
+    assertThat( list ).isEqualTo( expected ).hasSameHashCodeAs( expected );
+    assertThat( list.toLongArray() ).containsExactly( 0L, 4L, 5L );
+  }
+
+  @Test
+  void grows_beyond_initial_capacity() {
+    final LongValueList<OrderId> list = ValueList.ofLongs( OrderId.class, OrderId::new );
+
+    LongStream.range( 0, 1000 ).forEach( list::addLong );
+    list.trimToSize();
+
+    assertThat( list ).hasSize( 1000 );
+    assertThat( list.longStream().sum() ).isEqualTo( 999L * 1000L / 2 );
+  }
+
+  @Test
+  void contains_and_indexOf_compare_values_of_the_same_type_only() {
+    final LongValueList<OrderId> list = newList( 7L, 8L, 7L );
+
+    assertThat( list.contains( new OrderId( 8L ) ) ).isTrue();
+    assertThat( list.contains( new CustomerId( 8L ) ) ).isFalse();
+    assertThat( list.contains( null ) ).isFalse();
+    assertThat( list.indexOf( new OrderId( 7L ) ) ).isZero();
+    assertThat( list.lastIndexOf( new OrderId( 7L ) ) ).isEqualTo( 2 );
+    assertThat( list.indexOf( new OrderId( 9L ) ) ).isEqualTo( -1 );
+    assertThat( list.containsLong( 8L ) ).isTrue();
+    assertThat( list.indexOfLong( 9L ) ).isEqualTo( -1 );
+  }
+
+  @Test
+  void rejects_elements_of_other_types_and_nulls() {
+    final LongValueList<OrderId> list = newList( 1L );
+    @SuppressWarnings( { "unchecked", "rawtypes" } )
+    final List<Object> raw = (List) list;
+
+    assertThatThrownBy( () -> raw.add( new CustomerId( 1L ) ) ).isInstanceOf( ClassCastException.class );
+    assertThatThrownBy( () -> raw.add( null ) ).isInstanceOf( NullPointerException.class );
+    assertThat( list.getType() ).isEqualTo( OrderId.class );
+  }
+
+  @Test
+  void rejects_indexes_out_of_bounds() {
+    final LongValueList<OrderId> list = newList( 1L );
+
+    assertThatThrownBy( () -> list.get( 1 ) ).isInstanceOf( IndexOutOfBoundsException.class );
+    assertThatThrownBy( () -> list.getLong( -1 ) ).isInstanceOf( IndexOutOfBoundsException.class );
+    assertThatThrownBy( () -> list.addLong( 2, 5L ) ).isInstanceOf( IndexOutOfBoundsException.class );
+  }
+
+  @Test
+  void spliterator_splits_evenly_and_supports_parallel_streams() {
+    final LongValueList<OrderId> list = ValueList.ofLongs( OrderId.class, OrderId::new );
+    LongStream.range( 0, 10_000 ).forEach( list::addLong );
+
+    final Spliterator<OrderId> spliterator = list.spliterator();
+    final Spliterator<OrderId> prefix = spliterator.trySplit();
+
+    assertThat( prefix ).isNotNull();
+    assertThat( prefix.estimateSize() ).isEqualTo( 5000 );
+    assertThat( spliterator.estimateSize() ).isEqualTo( 5000 );
+    assertThat( spliterator.hasCharacteristics( Spliterator.SUBSIZED ) ).isTrue();
+    assertThat( list.parallelStream().mapToLong( OrderId::getAsLong ).sum() ).isEqualTo( 9999L * 10_000L / 2 );
+    assertThat( list.parallelStream().toList() ).isEqualTo( list );
+  }
+
+  @Test
+  void iteration_fails_fast_on_concurrent_modification() {
+    final LongValueList<OrderId> list = newList( 1L, 2L );
+    final Iterator<OrderId> iterator = list.iterator();
+    final Spliterator<OrderId> spliterator = list.spliterator();
+
+    list.addLong( 3L );
+
+    assertThatThrownBy( iterator::next ).isInstanceOf( ConcurrentModificationException.class );
+    assertThatThrownBy( () -> spliterator.tryAdvance( element -> { } ) ).isInstanceOf( ConcurrentModificationException.class );
+  }
+
+  private static LongValueList<OrderId> newList( final long... values ) {
+    final LongValueList<OrderId> list = ValueList.ofLongs( OrderId.class, OrderId::new );
+    list.addAllLongs( values );
+    return list;
+  }
+
+  record OrderId(long value) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+  }
+
+  record CustomerId(long value) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+  }
+
+  static final class Distance extends Value<Long> {
+    Distance( final long value ) {
+      super( value );
+    }
+  }
+}
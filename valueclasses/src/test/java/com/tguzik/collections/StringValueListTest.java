@@ -0,0 +1,75 @@
+package com.tguzik.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tguzik.traits.HasStringValue;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class StringValueListTest {
+
+  @Test
+  void behaves_like_array_list() {
+    final StringValueList<CountryCode> list = newList( "PL", "DE", null, "FR" );
+    final List<CountryCode> expected = new ArrayList<>( list );
+
+    list.add( 0, new CountryCode( "US" ) );
+    expected.add( 0, new CountryCode( "US" ) );
+    list.remove( 2 );
+    expected.remove( 2 );
+    list.subList( 0, 1 ).clear();
+    expected.subList( 0, 1 ).clear();
+
+    assertThat( list ).isEqualTo( expected ).hasSameHashCodeAs( expected );
+    assertThat( list.toStringArray() ).containsExactly( "PL", null, "FR" );
+    assertThat( list.getString( 1 ) ).isNull();
+  }
+
+  @Test
+  void contains_and_indexOf_compare_values_of_the_same_type_only() {
+    final StringValueList<CountryCode> list = newList( "PL", null, "PL" );
+
+    assertThat( list.contains( new CountryCode( "PL" ) ) ).isTrue();
+    assertThat( list.contains( new CountryCode( null ) ) ).isTrue();
+    assertThat( list.contains( new LanguageCode( "PL" ) ) ).isFalse();
+    assertThat( list.lastIndexOf( new CountryCode( "PL" ) ) ).isEqualTo( 2 );
+    assertThat( list.indexOfString( null ) ).isEqualTo( 1 );
+    assertThat( list.containsString( "DE" ) ).isFalse();
+  }
+
+  @Test
+  void clear_releases_values() {
+    final StringValueList<CountryCode> list = newList( "PL", "DE" );
+
+    list.clear();
+    list.ensureCapacity( 2 );
+
+    assertThat( list ).isEmpty();
+    assertThat( list.stringStream() ).isEmpty();
+  }
+
+  private static StringValueList<CountryCode> newList( final @Nullable String... values ) {
+    final StringValueList<CountryCode> list = ValueList.ofStrings( CountryCode.class, CountryCode::new );
+    list.addAllStrings( values );
+    return list;
+  }
+
+  record CountryCode(@Nullable String value) implements HasStringValue {
+    @Override
+    @Nullable
+    public String get() {
+      return value;
+    }
+  }
+
+  record LanguageCode(@Nullable String value) implements HasStringValue {
+    @Override
+    @Nullable
+    public String get() {
+      return value;
+    }
+  }
+}
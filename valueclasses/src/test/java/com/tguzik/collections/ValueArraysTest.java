@@ -0,0 +1,128 @@
+package com.tguzik.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import com.tguzik.traits.HasIntValue;
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import com.tguzik.value.Value;
+import com.tguzik.value.ValueCache;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+class ValueArraysTest {
+
+  @ParameterizedTest
+  @ValueSource( ints = { 0, 3, ValueArrays.PARALLEL_THRESHOLD + 1 } )
+  void wraps_and_unwraps_longs( final int count ) {
+    final long[] values = LongStream.range( -1, count - 1L ).toArray();
+
+    final List<OrderId> wrapped = ValueArrays.wrapLongs( values, OrderId::new );
+
+    assertThat( wrapped ).hasSize( count );
+    assertThat( wrapped ).isEqualTo( LongStream.of( values ).mapToObj( OrderId::new ).toList() );
+    assertThat( ValueArrays.unwrapLongs( wrapped ) ).containsExactly( values );
+    assertThat( ValueArrays.unwrapLongs( new ArrayDeque<>( wrapped ) ) ).containsExactly( values );
+  }
+
+  @ParameterizedTest
+  @ValueSource( ints = { 0, 3, ValueArrays.PARALLEL_THRESHOLD + 1 } )
+  void wraps_and_unwraps_ints( final int count ) {
+    final int[] values = IntStream.range( -1, count - 1 ).toArray();
+
+    final List<Quantity> wrapped = ValueArrays.wrapInts( values, Quantity::new );
+
+    assertThat( wrapped ).isEqualTo( IntStream.of( values ).mapToObj( Quantity::new ).toList() );
+    assertThat( ValueArrays.unwrapInts( wrapped ) ).containsExactly( values );
+    assertThat( ValueArrays.unwrapInts( new ArrayDeque<>( wrapped ) ) ).containsExactly( values );
+  }
+
+  @ParameterizedTest
+  @ValueSource( ints = { 0, 3, ValueArrays.PARALLEL_THRESHOLD + 1 } )
+  void wraps_and_unwraps_strings( final int count ) {
+    final @Nullable String[] values = IntStream.range( 0, count )
+                                               .mapToObj( i -> i % 3 == 0 ? null : "PL-" + i )
+                                               .toArray( String[]::new );
+
+    final List<CountryCode> wrapped = ValueArrays.wrapStrings( Arrays.asList( values ), CountryCode::new );
+
+    assertThat( wrapped ).isEqualTo( Arrays.stream( values ).map( CountryCode::new ).toList() );
+    assertThat( ValueArrays.unwrapStrings( wrapped ) ).containsExactly( values );
+    assertThat( ValueArrays.unwrapStrings( new ArrayDeque<>( wrapped ) ) ).containsExactly( values );
+  }
+
+  @Test
+  void wraps_streams() {
+    assertThat( ValueArrays.wrapLongs( LongStream.of( 1L, 2L ), OrderId::new ) ).containsExactly( new OrderId( 1L ),
+                                                                                                  new OrderId( 2L ) );
+    assertThat( ValueArrays.wrapInts( IntStream.of( 1, 2 ), Quantity::new ) ).containsExactly( new Quantity( 1 ),
+                                                                                               new Quantity( 2 ) );
+  }
+
+  @Test
+  void uses_registered_factories() {
+    final ValueCache<OrderId> cache = ValueCache.forRange( 0, 10, OrderId::new );
+
+    final List<OrderId> wrapped = ValueArrays.wrapLongs( new long[] { 3L, 3L }, cache::valueOf );
+
+    assertThat( wrapped.get( 0 ) ).isSameAs( wrapped.get( 1 ) ).isSameAs( cache.valueOf( 3L ) );
+  }
+
+  @Test
+  void unwraps_value_subclasses_with_extractors() {
+    final List<Speed> speeds = List.of( new Speed( 1L ), new Speed( 2L ) );
+
+    assertThat( ValueArrays.unwrapLongs( speeds, Speed::get ) ).containsExactly( 1L, 2L );
+    assertThat( ValueArrays.unwrapStrings( speeds, speed -> String.valueOf( speed.get() ) ) ).containsExactly( "1", "2" );
+  }
+
+  @Test
+  void wrapped_lists_are_unmodifiable() {
+    final List<OrderId> wrapped = ValueArrays.wrapLongs( new long[] { 1L }, OrderId::new );
+
+    assertThatThrownBy( () -> wrapped.set( 0, new OrderId( 2L ) ) ).isInstanceOf( UnsupportedOperationException.class );
+  }
+
+  @Test
+  void rejects_null_parameters() {
+    assertThatThrownBy( () -> ValueArrays.wrapLongs( (long[]) null, OrderId::new ) ).isInstanceOf( NullPointerException.class );
+    assertThatThrownBy( () -> ValueArrays.wrapInts( new int[ 0 ], null ) ).isInstanceOf( NullPointerException.class );
+    assertThatThrownBy( () -> ValueArrays.unwrapLongs( null ) ).isInstanceOf( NullPointerException.class );
+  }
+
+  record OrderId(long value) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+  }
+
+  record Quantity(int value) implements HasIntValue {
+    @Override
+    public int getAsInt() {
+      return value;
+    }
+  }
+
+  record CountryCode(@Nullable String value) implements HasStringValue {
+    @Override
+    public @Nullable String get() {
+      return value;
+    }
+  }
+
+  static class Speed extends Value<Long> {
+    Speed( final long value ) {
+      super( value );
+    }
+  }
+}
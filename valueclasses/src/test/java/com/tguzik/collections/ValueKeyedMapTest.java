@@ -0,0 +1,155 @@
+package com.tguzik.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.value.Value;
+import org.junit.jupiter.api.Test;
+
+class ValueKeyedMapTest {
+
+  @Test
+  void stores_and_finds_values_by_key_objects_and_numbers() {
+    final ValueKeyedMap<OrderId, String> map = ValueKeyedMap.forKeys( OrderId.class, OrderId::new );
+
+    assertThat( map.put( new OrderId( 1L ), "first" ) ).isNull();
+    assertThat( map.putLong( 0L, "zero" ) ).isNull();
+    assertThat( map.put( new OrderId( 1L ), "replaced" ) ).isEqualTo( "first" );
+
+    assertThat( map ).hasSize( 2 ).containsEntry( new OrderId( 1L ), "replaced" ).containsEntry( new OrderId( 0L ), "zero" );
+    assertThat( map.getByLong( 0L ) ).isEqualTo( "zero" );
+    assertThat( map.get( new OrderId( 2L ) ) ).isNull();
+    assertThat( map.containsLongKey( 1L ) ).isTrue();
+    assertThat( map.containsKey( new OrderId( 1L ) ) ).isTrue();
+    assertThat( map.toLongKeyArray() ).containsExactlyInAnyOrder( 0L, 1L );
+  }
+
+  @Test
+  void keys_of_other_types_are_never_found() {
+    final ValueKeyedMap<OrderId, String> map = ValueKeyedMap.forKeys( OrderId.class, OrderId::new );
+    map.putLong( 42L, "order" );
+
+    assertThat( map.containsKey( new CustomerId( 42L ) ) ).isFalse();
+    assertThat( map.get( new CustomerId( 42L ) ) ).isNull();
+    assertThat( map.remove( new CustomerId( 42L ) ) ).isNull();
+    assertThat( map.get( null ) ).isNull();
+    assertThat( map ).hasSize( 1 );
+  }
+
+  @Test
+  void rejects_keys_of_other_types_and_nulls() {
+    final ValueKeyedMap<OrderId, String> map = ValueKeyedMap.forKeys( OrderId.class, OrderId::new );
+    @SuppressWarnings( { "unchecked", "rawtypes" } )
+    final Map<Object, Object> raw = (Map) map;
+
+    assertThatThrownBy( () -> raw.put( new CustomerId( 1L ), "customer" ) ).isInstanceOf( ClassCastException.class );
+    assertThatThrownBy( () -> raw.put( null, "null" ) ).isInstanceOf( NullPointerException.class );
+    assertThatThrownBy( () -> map.putLong( 1L, null ) ).isInstanceOf( NullPointerException.class );
+  }
+
+  @Test
+  void supports_value_subclasses_through_key_extractor() {
+    final ValueKeyedMap<Speed, String> map = ValueKeyedMap.forKeys( Speed.class, Speed::get, Speed::new, 4 );
+
+    map.put( new Speed( 42L ), "fast" );
+
+    assertThat( map.get( new Speed( 42L ) ) ).isEqualTo( "fast" );
+    assertThat( map.get( new Temperature( 42L ) ) ).isNull();
+    assertThat( map.keySet() ).containsExactly( new Speed( 42L ) );
+  }
+
+  @Test
+  void behaves_like_hash_map_under_random_operations() {
+    final ValueKeyedMap<OrderId, Long> map = ValueKeyedMap.forKeys( OrderId.class, OrderId::new );
+    final Map<OrderId, Long> expected = new HashMap<>();
+    final Random random = new Random( 42L );
+
+    for ( int i = 0; i < 20_000; i++ ) {
+      final long key = random.nextInt( 512 ) - 256L;
+      if ( random.nextInt( 3 ) == 0 ) {
+        assertThat( map.removeLong( key ) ).isEqualTo( expected.remove( new OrderId( key ) ) );
+      }
+      else {
+        assertThat( map.putLong( key, (long) i ) ).isEqualTo( expected.put( new OrderId( key ), (long) i ) );
+      }
+    }
+
+    assertThat( map ).isEqualTo( expected ).hasSameHashCodeAs( expected );
+    for ( long key = -256; key < 256; key++ ) {
+      assertThat( map.getByLong( key ) ).isEqualTo( expected.get( new OrderId( key ) ) );
+    }
+  }
+
+  @Test
+  void grows_beyond_initial_capacity() {
+    final ValueKeyedMap<OrderId, Long> map = ValueKeyedMap.forKeys( OrderId.class, OrderId::new );
+
+    for ( long key = 0; key < 100_000; key++ ) {
+      map.putLong( key << 20, key );
+    }
+
+    assertThat( map ).hasSize( 100_000 );
+    assertThat( map.getByLong( 99_999L << 20 ) ).isEqualTo( 99_999L );
+  }
+
+  @Test
+  void clear_removes_all_entries() {
+    final ValueKeyedMap<OrderId, String> map = ValueKeyedMap.forKeys( OrderId.class, OrderId::new );
+    map.putLong( 1L, "first" );
+
+    map.clear();
+
+    assertThat( map ).isEmpty();
+    assertThat( map.containsLongKey( 1L ) ).isFalse();
+  }
+
+  @Test
+  void iteration_fails_fast_on_concurrent_modification() {
+    final ValueKeyedMap<OrderId, String> map = ValueKeyedMap.forKeys( OrderId.class, OrderId::new );
+    map.putLong( 1L, "first" );
+    final Iterator<Map.Entry<OrderId, String>> iterator = map.entrySet().iterator();
+
+    map.putLong( 2L, "second" );
+
+    assertThatThrownBy( iterator::next ).isInstanceOf( ConcurrentModificationException.class );
+  }
+
+  @Test
+  void expected_size_cannot_be_negative() {
+    assertThatThrownBy( () -> ValueKeyedMap.forKeys( Speed.class, Speed::get, Speed::new, -1 ) ).isInstanceOf(
+      IllegalArgumentException.class );
+  }
+
+  record OrderId(long value) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+  }
+
+  record CustomerId(long value) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+  }
+
+  static class Speed extends Value<Long> {
+    Speed( final long value ) {
+      super( value );
+    }
+  }
+
+  static class Temperature extends Value<Long> {
+    Temperature( final long value ) {
+      super( value );
+    }
+  }
+}
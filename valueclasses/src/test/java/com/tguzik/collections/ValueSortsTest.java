@@ -0,0 +1,196 @@
+package com.tguzik.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import com.tguzik.traits.HasIntValue;
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import com.tguzik.value.StringValue;
+import com.tguzik.value.Value;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ValueSortsTest {
+  private static final int LARGE = 3 * RadixSort.PARALLEL_CHUNK + 17;
+
+  @ParameterizedTest
+  @ValueSource( ints = { 0, 1, 15, 1000, LARGE } )
+  void sorts_strings_like_compare_to( final int size ) {
+    final Code[] array = randomCodes( new Random( size ), size );
+    final Code[] expected = stableSortByString( array );
+
+    ValueSorts.sortStrings( array );
+
+    assertThat( array ).containsExactly( expected );
+  }
+
+  @ParameterizedTest
+  @ValueSource( ints = { 0, 1, 15, 1000, LARGE } )
+  void sorts_strings_in_parallel( final int size ) {
+    final Code[] array = randomCodes( new Random( size ), size );
+    final Code[] expected = stableSortByString( array );
+
+    ValueSorts.parallelSortStrings( array );
+
+    assertThat( array ).containsExactly( expected );
+  }
+
+  @Test
+  void sorts_strings_with_long_common_prefixes() {
+    final String prefix = "x".repeat( 50_000 );
+    final Code[] array = IntStream.range( 0, 100 ).mapToObj( i -> new Code( prefix + ( 99 - i ) ) ).toArray( Code[]::new );
+    final Code[] expected = stableSortByString( array );
+
+    ValueSorts.sortStrings( array );
+
+    assertThat( array ).containsExactly( expected );
+  }
+
+  @Test
+  void moves_null_strings_to_the_front_in_original_order() {
+    final Name nullA = new Name( null );
+    final Name nullB = new Name( null );
+    final Name[] array = { new Name( "b" ), nullA, new Name( "a" ), nullB };
+
+    ValueSorts.sortStrings( array );
+
+    assertThat( array ).containsExactly( nullA, nullB, new Name( "a" ), new Name( "b" ) );
+    assertThat( array ).isSortedAccordingTo( Comparator.naturalOrder() );
+  }
+
+  @ParameterizedTest
+  @ValueSource( ints = { 0, 1, 1000, LARGE } )
+  void sorts_longs( final int size ) {
+    final Random random = new Random( size );
+    final OrderId[] array = IntStream.range( 0, size )
+                                     .mapToObj( i -> new OrderId( i % 3 == 0 ? random.nextLong() : random.nextInt( 100 ) - 50L ) )
+                                     .toArray( OrderId[]::new );
+    final OrderId[] parallel = array.clone();
+    final OrderId[] expected = array.clone();
+    Arrays.sort( expected, Comparator.comparingLong( OrderId::getAsLong ) );
+
+    ValueSorts.sortLongs( array );
+    ValueSorts.parallelSortLongs( parallel );
+
+    assertThat( array ).containsExactly( expected );
+    assertThat( parallel ).containsExactly( expected );
+  }
+
+  @ParameterizedTest
+  @ValueSource( ints = { 0, 1, 1000, LARGE } )
+  void sorts_ints( final int size ) {
+    final Random random = new Random( size );
+    final Quantity[] array = IntStream.range( 0, size )
+                                      .mapToObj( i -> new Quantity( i % 2 == 0 ? random.nextInt() : random.nextInt( 10 ) ) )
+                                      .toArray( Quantity[]::new );
+    final Quantity[] parallel = array.clone();
+    final Quantity[] expected = array.clone();
+    Arrays.sort( expected, Comparator.comparingInt( Quantity::getAsInt ) );
+
+    ValueSorts.sortInts( array );
+    ValueSorts.parallelSortInts( parallel );
+
+    assertThat( array ).containsExactly( expected );
+    assertThat( parallel ).containsExactly( expected );
+  }
+
+  @Test
+  void sorts_value_subclasses_and_moves_nulls_to_the_front() {
+    final Speed nullSpeed = new Speed( null );
+    final Speed[] speeds = { new Speed( Long.MAX_VALUE ), nullSpeed, new Speed( Long.MIN_VALUE ), new Speed( 0L ) };
+    final Count nullCount = new Count( null );
+    final Count[] counts = { new Count( 1 ), nullCount, new Count( Integer.MIN_VALUE ), new Count( Integer.MAX_VALUE ) };
+
+    ValueSorts.sortLongs( speeds );
+    ValueSorts.sortInts( counts );
+
+    assertThat( speeds ).containsExactly( nullSpeed, new Speed( Long.MIN_VALUE ), new Speed( 0L ), new Speed( Long.MAX_VALUE ) );
+    assertThat( counts ).containsExactly( nullCount,
+                                          new Count( Integer.MIN_VALUE ),
+                                          new Count( 1 ),
+                                          new Count( Integer.MAX_VALUE ) );
+  }
+
+  @Test
+  void keeps_equal_elements_in_original_order() {
+    final OrderId first = new OrderId( 1L );
+    final OrderId second = new OrderId( 1L );
+    final OrderId[] array = { first, new OrderId( 0L ), second };
+
+    ValueSorts.sortLongs( array );
+
+    assertThat( array[ 1 ] ).isSameAs( first );
+    assertThat( array[ 2 ] ).isSameAs( second );
+  }
+
+  @Test
+  void rejects_null_elements() {
+    assertThatThrownBy( () -> ValueSorts.sortLongs( new OrderId[] { new OrderId( 1L ), null } ) ).isInstanceOf(
+      NullPointerException.class );
+    assertThatThrownBy( () -> ValueSorts.sortStrings( (Code[]) null ) ).isInstanceOf( NullPointerException.class );
+  }
+
+  private static Code[] randomCodes( final Random random, final int size ) {
+    final String alphabet = "aabéŁ中😀";
+    return IntStream.range( 0, size ).mapToObj( i -> {
+      final char[] chars = new char[ random.nextInt( 6 ) ];
+      for ( int c = 0; c < chars.length; c++ ) {
+        chars[ c ] = alphabet.charAt( random.nextInt( alphabet.length() ) );
+      }
+      return new Code( new String( chars ) );
+    } ).toArray( Code[]::new );
+  }
+
+  private static Code[] stableSortByString( final Code[] array ) {
+    final Code[] sorted = array.clone();
+    Arrays.sort( sorted, Comparator.comparing( Code::get ) );
+    return sorted;
+  }
+
+  record Code(String value) implements HasStringValue {
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+
+  record OrderId(long value) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+  }
+
+  record Quantity(int value) implements HasIntValue {
+    @Override
+    public int getAsInt() {
+      return value;
+    }
+  }
+
+  static class Name extends StringValue {
+    Name( @Nullable final String value ) {
+      super( value );
+    }
+  }
+
+  static class Speed extends Value<Long> {
+    Speed( @Nullable final Long value ) {
+      super( value );
+    }
+  }
+
+  static class Count extends Value<Integer> {
+    Count( @Nullable final Integer value ) {
+      super( value );
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.tguzik.constraints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AsciiPatternTest {
+  private static final List<String> INPUTS = List.of( "", "A", "AB", "ab", "AB12", "AB-1234", "AB-123456", "AB-1234567",
+                                                      "ABC-1234", "A1", "1", "12345", "a_b", "x.y", "x-y",
+                                                      "PL61109010140000071219812874", "GB82WEST12345698765432", "ZAŻÓŁĆ",
+                                                      "Aé1", " ", "\t", "ab cd", "--", "-" );
+
+  @ParameterizedTest
+  @ValueSource( strings = { "[A-Z]{2}-\\d{4,6}", "^[A-Z]{2}\\d{2}[A-Z0-9]{1,30}$", "[a-z_]+", "\\w*", "[A-Z]?[0-9]+",
+                            "x\\.y", "x-y", "[\\-]+", "[]a]", "AB\\d{2}", "[A-Z]{1}", "[0-9]{3,}", "[ab][cd]?[ef]*",
+                            "\\s", "[A-Z0-9]{0,2}-?" } )
+  void matches_agrees_with_java_regex( final String regex ) {
+    final AsciiPattern compiled = AsciiPattern.compile( regex ).orElseThrow();
+    final Pattern expected = Pattern.compile( regex );
+
+    for ( final String input : INPUTS ) {
+      assertThat( compiled.matches( input ) ).as( "%s matching %s", regex, input )
+                                             .isEqualTo( expected.matcher( input ).matches() );
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource( strings = { "[A-Z]+[A-Z0-9]", "\\d*1", "[a-z]?a", "a|b", "(ab)+", "[^a]", "a.c", "[a-z&&[^e]]", "\\p{L}+",
+                            "[ą-ż]+", "a+?", "a++", "\\bA", "[A-Z]{2", "[a-z" } )
+  void compile_returns_empty_for_patterns_outside_the_subset( final String regex ) {
+    assertThat( AsciiPattern.compile( regex ) ).isEmpty();
+  }
+}
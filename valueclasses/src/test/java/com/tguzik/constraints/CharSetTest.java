@@ -0,0 +1,82 @@
+package com.tguzik.constraints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CharSetTest {
+
+  @Test
+  void contains_returns_true_only_for_characters_in_the_ranges() {
+    final CharSet set = CharSet.parse( "A-Z_\\-" );
+
+    assertThat( set.contains( 'A' ) ).isTrue();
+    assertThat( set.contains( 'Q' ) ).isTrue();
+    assertThat( set.contains( 'Z' ) ).isTrue();
+    assertThat( set.contains( '_' ) ).isTrue();
+    assertThat( set.contains( '-' ) ).isTrue();
+    assertThat( set.contains( 'a' ) ).isFalse();
+    assertThat( set.contains( '@' ) ).isFalse();
+    assertThat( set.contains( '[' ) ).isFalse();
+    assertThat( set.contains( 'Ą' ) ).isFalse();
+  }
+
+  @Test
+  void contains_handles_both_halves_of_the_ascii_mask() {
+    final CharSet set = CharSet.parse( "\u0000-\u007F" );
+
+    for ( char character = 0; character < 128; character++ ) {
+      assertThat( set.contains( character ) ).as( "character %d", (int) character ).isTrue();
+    }
+    assertThat( set.contains( (char) 128 ) ).isFalse();
+  }
+
+  @Test
+  void contains_looks_up_non_ascii_ranges() {
+    final CharSet set = CharSet.parse( "a-zą-żĄ-Ż" );
+
+    assertThat( set.isAscii() ).isFalse();
+    assertThat( set.contains( 'ą' ) ).isTrue();
+    assertThat( set.contains( 'Ż' ) ).isTrue();
+    assertThat( set.contains( 'k' ) ).isTrue();
+    assertThat( set.contains( 'é' ) ).isFalse();
+    assertThat( set.contains( '€' ) ).isFalse();
+  }
+
+  @Test
+  void parse_supports_shorthands() {
+    final CharSet set = CharSet.parse( "\\d\\s" );
+
+    assertThat( set.contains( '7' ) ).isTrue();
+    assertThat( set.contains( ' ' ) ).isTrue();
+    assertThat( set.contains( '\n' ) ).isTrue();
+    assertThat( set.contains( 'd' ) ).isFalse();
+    assertThat( set.contains( 's' ) ).isFalse();
+  }
+
+  @Test
+  void parse_treats_trailing_dash_as_a_character() {
+    final CharSet set = CharSet.parse( "a-" );
+
+    assertThat( set.contains( 'a' ) ).isTrue();
+    assertThat( set.contains( '-' ) ).isTrue();
+    assertThat( set.contains( 'b' ) ).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource( strings = { "", "z-a", "\\", "\\q", "a-\\d" } )
+  void parse_rejects_malformed_specifications( final String specification ) {
+    assertThatThrownBy( () -> CharSet.parse( specification ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+
+  @Test
+  void isDisjoint_compares_ascii_and_non_ascii_parts() {
+    assertThat( CharSet.parse( "a-z" ).isDisjoint( CharSet.parse( "A-Z" ) ) ).isTrue();
+    assertThat( CharSet.parse( "a-z" ).isDisjoint( CharSet.parse( "x" ) ) ).isFalse();
+    assertThat( CharSet.parse( "ą-ć" ).isDisjoint( CharSet.parse( "ć-ę" ) ) ).isFalse();
+    assertThat( CharSet.parse( "ą" ).isDisjoint( CharSet.parse( "ę" ) ) ).isTrue();
+  }
+}
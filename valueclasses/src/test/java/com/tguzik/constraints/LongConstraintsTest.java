@@ -0,0 +1,67 @@
+package com.tguzik.constraints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import com.tguzik.traits.HasIntValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LongConstraintsTest {
+
+  record Quantity(int value) implements HasIntValue {
+    static final LongConstraints CONSTRAINTS = LongConstraints.forType( Quantity.class ).range( 1, 100 ).build();
+
+    Quantity {
+      CONSTRAINTS.check( value );
+    }
+
+    @Override
+    public int getAsInt() {
+      return value;
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource( ints = { 1, 42, 100 } )
+  void check_accepts_values_within_the_range( final int value ) {
+    assertThat( new Quantity( value ).getAsInt() ).isEqualTo( value );
+  }
+
+  @ParameterizedTest
+  @ValueSource( ints = { Integer.MIN_VALUE, 0, 101, Integer.MAX_VALUE } )
+  void check_rejects_values_out_of_the_range( final int value ) {
+    assertThatThrownBy( () -> new Quantity( value ) ).isInstanceOf( IllegalArgumentException.class )
+                                                     .hasMessage( "Quantity has to be between 1 and 100, got: " + value );
+  }
+
+  @Test
+  void check_of_long_returns_the_value() {
+    final LongConstraints constraints = LongConstraints.forType( Quantity.class ).range( Long.MIN_VALUE, 0 ).build();
+
+    assertThat( constraints.check( Long.MIN_VALUE ) ).isEqualTo( Long.MIN_VALUE );
+    assertThat( constraints.isValid( 1L ) ).isFalse();
+  }
+
+  @Test
+  void validateAll_reports_every_invalid_value() {
+    final List<Violation> ints = Quantity.CONSTRAINTS.validateAll( new int[] { 0, 1, 100, 101, 50 } );
+    final List<Violation> longs = Quantity.CONSTRAINTS.validateAll( new long[] { 5, -5, 500 } );
+
+    assertThat( ints ).containsExactly( new Violation( 0, "Quantity has to be between 1 and 100, got: 0" ),
+                                        new Violation( 3, "Quantity has to be between 1 and 100, got: 101" ) );
+    assertThat( longs ).extracting( Violation::index ).containsExactly( 1, 2 );
+    assertThatThrownBy( () -> longs.remove( 0 ) ).isInstanceOf( UnsupportedOperationException.class );
+    assertThat( Quantity.CONSTRAINTS.validateAll( new int[] { 1, 2, 3 } ) ).isEmpty();
+  }
+
+  @Test
+  void builder_rejects_empty_range() {
+    final LongConstraints.Builder builder = LongConstraints.forType( Quantity.class );
+
+    assertThatThrownBy( () -> builder.range( 2, 1 ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+}
@@ -0,0 +1,115 @@
+package com.tguzik.constraints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.tguzik.traits.HasStringValue;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StringConstraintsTest {
+
+  record CountryCode(String value) implements HasStringValue {
+    static final StringConstraints CONSTRAINTS = StringConstraints.forType( CountryCode.class )
+                                                                  .length( 2, 2 )
+                                                                  .allowedCharacters( "A-Z" )
+                                                                  .build();
+
+    CountryCode {
+      CONSTRAINTS.check( value );
+    }
+
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+
+  @Test
+  void check_returns_valid_value() {
+    assertThat( new CountryCode( "PL" ).get() ).isEqualTo( "PL" );
+  }
+
+  @ParameterizedTest
+  @ValueSource( strings = { "", "P", "POL" } )
+  void check_rejects_value_of_wrong_length( final String value ) {
+    assertThatThrownBy( () -> new CountryCode( value ) ).isInstanceOf( IllegalArgumentException.class )
+                                                        .hasMessage( "CountryCode has to be between 2 and 2 characters long, got "
+                                                                     + value.length() + ": \"" + value + "\"" );
+  }
+
+  @Test
+  void check_reports_first_disallowed_character() {
+    assertThatThrownBy( () -> new CountryCode( "Pl" ) ).isInstanceOf( IllegalArgumentException.class )
+                                                       .hasMessage( "CountryCode cannot contain 'l' at index 1, got: \"Pl\"" );
+  }
+
+  @Test
+  void check_rejects_null_unless_allowed() {
+    final StringConstraints required = StringConstraints.forType( CountryCode.class ).build();
+    final StringConstraints optional = StringConstraints.forType( CountryCode.class ).allowNull().length( 2, 2 ).build();
+
+    assertThatThrownBy( () -> required.check( null ) ).isInstanceOf( IllegalArgumentException.class )
+                                                      .hasMessage( "CountryCode cannot hold null" );
+    assertThat( optional.isValid( null ) ).isTrue();
+  }
+
+  @Test
+  void check_applies_pattern_after_other_constraints() {
+    final StringConstraints constraints = StringConstraints.forType( CountryCode.class )
+                                                           .length( 4, 8 )
+                                                           .pattern( "[A-Z]{2}-\\d+" )
+                                                           .build();
+
+    assertThat( constraints.isRegexFree() ).isTrue();
+    assertThat( constraints.isValid( "AB-1" ) ).isTrue();
+    assertThat( constraints.isValid( "AB-12345" ) ).isTrue();
+    assertThat( constraints.isValid( "AB-123456" ) ).isFalse();
+    assertThat( constraints.isValid( "AB-" ) ).isFalse();
+    assertThat( constraints.isValid( "ab-12" ) ).isFalse();
+    assertThatThrownBy( () -> constraints.check( "ABC-1" ) ).isInstanceOf( IllegalArgumentException.class )
+                                                             .hasMessage( "CountryCode has to match the required format, got: "
+                                                                          + "\"ABC-1\"" );
+  }
+
+  @Test
+  void check_falls_back_to_java_regex_for_other_patterns() {
+    final StringConstraints constraints = StringConstraints.forType( CountryCode.class ).pattern( "(ab)+|c" ).build();
+
+    assertThat( constraints.isRegexFree() ).isFalse();
+    assertThat( constraints.isValid( "abab" ) ).isTrue();
+    assertThat( constraints.isValid( "c" ) ).isTrue();
+    assertThat( constraints.isValid( "aba" ) ).isFalse();
+  }
+
+  @Test
+  void validateAll_reports_every_invalid_value() {
+    final List<@Nullable String> column = Arrays.asList( "PL", "pl", null, "DE", "DEU", "US" );
+
+    final List<Violation> actual = CountryCode.CONSTRAINTS.validateAll( column );
+
+    assertThat( actual ).extracting( Violation::index ).containsExactly( 1, 2, 4 );
+    assertThat( actual.get( 1 ).message() ).isEqualTo( "CountryCode cannot hold null" );
+    assertThatThrownBy( () -> actual.add( actual.get( 0 ) ) ).isInstanceOf( UnsupportedOperationException.class );
+  }
+
+  @Test
+  void validateAll_returns_empty_list_when_all_values_are_valid() {
+    final String[] column = { "PL", "DE", "US" };
+
+    assertThat( CountryCode.CONSTRAINTS.validateAll( column ) ).isEmpty();
+  }
+
+  @Test
+  void builder_rejects_invalid_length_bounds() {
+    final StringConstraints.Builder builder = StringConstraints.forType( CountryCode.class );
+
+    assertThatThrownBy( () -> builder.length( -1, 2 ) ).isInstanceOf( IllegalArgumentException.class );
+    assertThatThrownBy( () -> builder.length( 3, 2 ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+}
@@ -2,7 +2,11 @@ package com.tguzik.objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import com.google.common.testing.EqualsTester;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -208,6 +212,109 @@ class BaseObjectTest {
     assertThat( value.hashCode() ).isEqualTo( other.hashCode() );
   }
 
+  @Test
+  void appendTo_appends_same_characters_as_toString() {
+    final StringBuilder target = new StringBuilder( "prefix " );
+
+    final StringBuilder actual = value.appendTo( target );
+
+    assertThat( actual ).isSameAs( target );
+    assertThat( actual.toString() ).isEqualTo( "prefix " + value );
+  }
+
+  @Test
+  void appendTo_with_style_appends_same_characters_as_toString_with_style() {
+    final StringBuilder actual = differentInstanceField.appendTo( new StringBuilder(), ToStringStyle.SIMPLE_STYLE );
+
+    assertThat( actual.toString() ).isEqualTo( differentInstanceField.toString( ToStringStyle.SIMPLE_STYLE ) );
+  }
+
+  @Test
+  void static_appendTo_writes_into_any_appendable() throws IOException {
+    final StringWriter target = new StringWriter();
+
+    BaseObject.appendTo( target, value, ToStringStyle.SHORT_PREFIX_STYLE ).append( ';' );
+    BaseObject.appendTo( target, valueContainingNull, ToStringStyle.SHORT_PREFIX_STYLE );
+
+    assertThat( target.toString() ).isEqualTo( value + ";" + valueContainingNull );
+  }
+
+  @Test
+  void static_appendTo_leaves_target_unchanged_on_null_object() throws IOException {
+    final StringBuilder builder = new StringBuilder( "unchanged" );
+    final StringWriter writer = new StringWriter();
+
+    BaseObject.appendTo( builder, null, ToStringStyle.SHORT_PREFIX_STYLE );
+    BaseObject.appendTo( writer, null, ToStringStyle.SHORT_PREFIX_STYLE );
+
+    assertThat( builder.toString() ).isEqualTo( "unchanged" );
+    assertThat( writer.toString() ).isEmpty();
+  }
+
+  @Test
+  void toString_with_budget_matches_toString_when_within_budget() {
+    assertThat( value.toString( ToStringBudget.ofLength( 1000 ) ) ).isEqualTo( value.toString() );
+  }
+
+  @Test
+  void toString_with_budget_truncates_output_exceeding_budget() {
+    final String actual = value.toString( ToStringBudget.ofLength( 25 ) );
+
+    assertThat( actual ).isEqualTo( value.toString().substring( 0, 25 ) + ToStringBudget.TRUNCATION_MARKER );
+  }
+
+  @Test
+  void hashCode_is_computed_once_for_immutable_classes() {
+    final ImmutableObject immutable = new ImmutableObject();
+
+    assertThat( immutable.hashCode() ).isEqualTo( HashCodeBuilder.reflectionHashCode( immutable, false ) );
+    final int callsAfterFirstHash = immutable.counter.calls;
+
+    assertThat( immutable.hashCode() ).isEqualTo( immutable.hashCode() );
+    assertThat( immutable.counter.calls ).isEqualTo( callsAfterFirstHash );
+  }
+
+  @Test
+  void hashCode_is_not_recomputed_for_immutable_classes() {
+    final ImmutableObject immutable = new ImmutableObject();
+
+    final int first = immutable.hashCode();
+    immutable.counter.hashCode = 42;
+
+    assertThat( immutable.hashCode() ).isEqualTo( first );
+  }
+
+  @Test
+  void hashCode_is_computed_on_every_call_for_other_classes() {
+    final MutableObject mutable = new MutableObject();
+
+    final int first = mutable.hashCode();
+    mutable.counter.hashCode = 42;
+
+    assertThat( mutable.hashCode() ).isNotEqualTo( first );
+    assertThat( mutable.counter.calls ).isEqualTo( 2 );
+  }
+
+  static class CountingHashCode {
+    int hashCode = 7;
+    int calls;
+
+    @Override
+    public int hashCode() {
+      calls++;
+      return hashCode;
+    }
+  }
+
+  static class ImmutableObject extends ImmutableBaseObject {
+    final CountingHashCode counter = new CountingHashCode();
+    final String name = "immutable";
+  }
+
+  static class MutableObject extends BaseObject {
+    final CountingHashCode counter = new CountingHashCode();
+  }
+
   @SuppressWarnings( "unused" )
   static class FakeObject extends BaseObject {
     private static final String PRIVATE_STATIC = "private static string";
@@ -0,0 +1,189 @@
+package com.tguzik.objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ToStringSummary;
+import org.junit.jupiter.api.Test;
+
+class BoundedToStringTest {
+  private static final ToStringBudget UNLIMITED = new ToStringBudget( Integer.MAX_VALUE, Integer.MAX_VALUE );
+
+  @Test
+  void output_within_budget_matches_toString() {
+    final Order order = new Order();
+
+    assertThat( render( order, UNLIMITED ) ).isEqualTo( order.toString() );
+  }
+
+  @Test
+  void output_within_budget_matches_toString_for_cyclic_references() {
+    final Order order = new Order();
+    order.parent = order;
+
+    assertThat( render( order, UNLIMITED ) ).isEqualTo( order.toString() );
+  }
+
+  @Test
+  void output_exceeding_budget_is_prefix_of_toString_followed_by_marker() {
+    final Order order = new Order();
+    final String expected = order.toString();
+
+    for ( int maxLength = 0; maxLength < expected.length(); maxLength++ ) {
+      final String actual = render( order, ToStringBudget.ofLength( maxLength ) );
+
+      assertThat( actual ).isEqualTo( expected.substring( 0, maxLength ) + ToStringBudget.TRUNCATION_MARKER );
+    }
+    assertThat( render( order, ToStringBudget.ofLength( expected.length() ) ) ).isEqualTo( expected );
+  }
+
+  @Test
+  void rendering_stops_once_budget_is_exhausted() {
+    final EndlessCollection endless = new EndlessCollection();
+    final Holder holder = new Holder( endless );
+
+    final String actual = render( holder, ToStringBudget.ofLength( 64 ) );
+
+    assertThat( actual ).hasSize( 64 + ToStringBudget.TRUNCATION_MARKER.length() )
+                        .startsWith( "BoundedToStringTest.Holder[value=[element, element, " )
+                        .endsWith( ToStringBudget.TRUNCATION_MARKER );
+    assertThat( endless.produced ).isLessThan( 16 );
+  }
+
+  @Test
+  void classes_without_plans_are_rendered_within_budget_through_reflection() {
+    final Order order = new Order();
+    assertThat( renderReflectively( order, UNLIMITED ) ).isEqualTo( order.toString() );
+
+    final EndlessCollection endless = new EndlessCollection();
+    final String actual = renderReflectively( new Holder( endless ), ToStringBudget.ofLength( 64 ) );
+
+    assertThat( actual ).hasSize( 64 + ToStringBudget.TRUNCATION_MARKER.length() )
+                        .startsWith( "BoundedToStringTest.Holder[value=[element, element, " );
+    assertThat( endless.produced ).isLessThan( 16 );
+  }
+
+  @Test
+  void rendering_through_reflection_does_not_affect_later_renders() {
+    final Holder holder = new Holder( "text" );
+    renderReflectively( holder, UNLIMITED );
+
+    assertThat( new Holder( holder ).toString() ).isEqualTo(
+      "BoundedToStringTest.Holder[value=BoundedToStringTest.Holder[value=text]]" );
+  }
+
+  @Test
+  void values_nested_deeper_than_budget_are_replaced_with_marker() {
+    final Holder nested = new Holder( new Holder( new Holder( List.of( "deep" ) ) ) );
+
+    assertThat( render( nested, new ToStringBudget( 1000, 0 ) ) ).isEqualTo( "BoundedToStringTest.Holder[value=...]" );
+    assertThat( render( nested, new ToStringBudget( 1000, 1 ) ) ).isEqualTo(
+      "BoundedToStringTest.Holder[value=BoundedToStringTest.Holder[value=...]]" );
+    assertThat( render( nested, new ToStringBudget( 1000, 3 ) ) ).isEqualTo( nested.toString() );
+  }
+
+  @Test
+  void scalar_values_are_rendered_regardless_of_depth() {
+    final Holder holder = new Holder( "text" );
+
+    assertThat( render( holder, new ToStringBudget( 1000, 0 ) ) ).isEqualTo( holder.toString() );
+  }
+
+  @Test
+  void appendTo_keeps_existing_content_outside_of_budget() {
+    final StringBuilder target = new StringBuilder( "existing content: " );
+
+    BoundedToString.appendTo( target, new Holder( "value" ), ToStringBudget.ofLength( 10 ) );
+
+    assertThat( target.toString() ).isEqualTo( "existing content: BoundedToS..." );
+  }
+
+  private static String render( final BaseObject object, final ToStringBudget budget ) {
+    return BoundedToString.appendTo( new StringBuilder(), object, budget ).toString();
+  }
+
+  private static String renderReflectively( final BaseObject object, final ToStringBudget budget ) {
+    return BoundedToString.appendTo( new StringBuilder(), object, budget, null ).toString();
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Order extends BaseObject {
+    final String name = "order";
+    final int quantity = 3;
+    final long[] ids = { 1L, 2L };
+    final Object[] mixed = { "a", null, new int[] { 1 }, List.of( "x" ) };
+    final List<Object> lines = new ArrayList<>( List.of( new Line( "first" ), new Line( "second" ) ) );
+    final Map<String, Object> attributes = new LinkedHashMap<>();
+    final Holder holder = new Holder( null );
+    final Overridden overridden = new Overridden();
+
+    @ToStringSummary
+    final List<String> summarized = List.of( "a", "b" );
+
+    Order parent;
+
+    Order() {
+      attributes.put( "key", new Line( "value" ) );
+      attributes.put( "empty", List.of() );
+    }
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Line extends BaseObject {
+    final String name;
+
+    Line( final String name ) {
+      this.name = name;
+    }
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Holder extends BaseObject {
+    final Object value;
+
+    Holder( final Object value ) {
+      this.value = value;
+    }
+  }
+
+  static class Overridden extends BaseObject {
+    @Override
+    public String toString() {
+      return "custom";
+    }
+  }
+
+  /**
+   * Collection that would never finish rendering if it was rendered in full.
+   */
+  static class EndlessCollection extends AbstractCollection<String> {
+    int produced;
+
+    @Override
+    public Iterator<String> iterator() {
+      return new Iterator<>() {
+        @Override
+        public boolean hasNext() {
+          return true;
+        }
+
+        @Override
+        public String next() {
+          produced++;
+          return "element";
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return Integer.MAX_VALUE;
+    }
+  }
+}
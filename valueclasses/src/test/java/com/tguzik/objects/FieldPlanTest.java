@@ -0,0 +1,168 @@
+package com.tguzik.objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.EqualsExclude;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.HashCodeExclude;
+import org.junit.jupiter.api.Test;
+
+class FieldPlanTest {
+
+  @Test
+  void hashCode_matches_reflection_builder_for_primitive_fields() {
+    final var value = new Primitives();
+
+    assertThat( FieldPlan.forClass( Primitives.class ).hashCodeOf( value ) )
+      .isEqualTo( HashCodeBuilder.reflectionHashCode( value, false ) );
+  }
+
+  @Test
+  void hashCode_matches_reflection_builder_for_special_floating_point_values() {
+    final var value = new Primitives();
+    value.doubleValue = Double.NaN;
+    value.floatValue = -0.0f;
+
+    assertThat( FieldPlan.forClass( Primitives.class ).hashCodeOf( value ) )
+      .isEqualTo( HashCodeBuilder.reflectionHashCode( value, false ) );
+  }
+
+  @Test
+  void hashCode_matches_reflection_builder_for_arrays_and_nulls() {
+    final var value = new Arrays();
+    final var valueWithNulls = new Arrays();
+    valueWithNulls.longs = null;
+    valueWithNulls.nested = new Object[] { null, new boolean[] { true }, "x" };
+
+    assertThat( FieldPlan.forClass( Arrays.class ).hashCodeOf( value ) ).isEqualTo( HashCodeBuilder.reflectionHashCode( value,
+                                                                                                                       false ) );
+    assertThat( FieldPlan.forClass( Arrays.class ).hashCodeOf( valueWithNulls ) ).isEqualTo( HashCodeBuilder.reflectionHashCode(
+      valueWithNulls,
+      false ) );
+  }
+
+  @Test
+  void hashCode_matches_reflection_builder_for_class_hierarchy() {
+    final var value = new Child();
+
+    assertThat( FieldPlan.forClass( Child.class ).hashCodeOf( value ) ).isEqualTo( HashCodeBuilder.reflectionHashCode( value,
+                                                                                                                      false ) );
+  }
+
+  @Test
+  void hashCode_respects_exclusion_annotations() {
+    final var value = new Excluded();
+    final var other = new Excluded();
+    other.notHashed = "different";
+
+    assertThat( FieldPlan.forClass( Excluded.class ).hashCodeOf( value ) ).isEqualTo( FieldPlan.forClass( Excluded.class )
+                                                                                             .hashCodeOf( other ) );
+    assertThat( FieldPlan.forClass( Excluded.class ).areEqual( value, other ) ).isFalse();
+  }
+
+  @Test
+  void equals_respects_exclusion_annotations() {
+    final var value = new Excluded();
+    final var other = new Excluded();
+    other.notCompared = "different";
+
+    assertThat( FieldPlan.forClass( Excluded.class ).areEqual( value, other ) ).isTrue();
+    assertThat( EqualsBuilder.reflectionEquals( value, other, false ) ).isTrue();
+  }
+
+  @Test
+  void equals_uses_bitwise_comparison_for_floating_point_values() {
+    final var nan = new Primitives();
+    nan.doubleValue = Double.NaN;
+    final var otherNan = new Primitives();
+    otherNan.doubleValue = Double.NaN;
+
+    final var negativeZero = new Primitives();
+    negativeZero.floatValue = -0.0f;
+    final var positiveZero = new Primitives();
+    positiveZero.floatValue = 0.0f;
+
+    assertThat( FieldPlan.forClass( Primitives.class ).areEqual( nan, otherNan ) ).isTrue();
+    assertThat( FieldPlan.forClass( Primitives.class ).areEqual( negativeZero, positiveZero ) ).isFalse();
+  }
+
+  @Test
+  void equals_compares_arrays_by_contents() {
+    final var value = new Arrays();
+    final var equal = new Arrays();
+    final var different = new Arrays();
+    different.nested = new Object[] { "a", new int[] { 1, 3 } };
+
+    assertThat( FieldPlan.forClass( Arrays.class ).areEqual( value, equal ) ).isTrue();
+    assertThat( FieldPlan.forClass( Arrays.class ).areEqual( value, different ) ).isFalse();
+  }
+
+  @Test
+  void equals_and_hashCode_tolerate_cyclic_references() {
+    final var first = new Cyclic();
+    final var second = new Cyclic();
+    first.other = first;
+    second.other = second;
+
+    // The nested reference contributes the initial value of the hash, same as it did with the reflection builder
+    final int expectedHashCode = ( 17 * 37 + "cyclic".hashCode() ) * 37 + 17;
+
+    assertThat( first ).isEqualTo( second );
+    assertThat( first.hashCode() ).isEqualTo( second.hashCode() ).isEqualTo( expectedHashCode );
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Primitives {
+    int intValue = 42;
+    long longValue = -1234567890123L;
+    double doubleValue = 3.14;
+    float floatValue = 2.71f;
+    boolean booleanValue = true;
+    char charValue = 'x';
+    short shortValue = 12;
+    byte byteValue = -3;
+    String stringValue = "string";
+    Object nullValue;
+    transient int transientValue = 5;
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Arrays {
+    long[] longs = { 1L, -1L, Long.MAX_VALUE };
+    double[] doubles = { 0.5, Double.NaN };
+    boolean[] booleans = { true, false };
+    char[] chars = { 'a', 'b' };
+    Object[] nested = { "a", new int[] { 1, 2 } };
+    List<String> list = List.of( "x", "y" );
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Parent {
+    private final String zulu = "parent field";
+    private final int alpha = 1;
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Child extends Parent {
+    private final String beta = "child field";
+    private final long aardvark = 2L;
+  }
+
+  static class Excluded {
+    String common = "common";
+
+    @HashCodeExclude
+    String notHashed = "not hashed";
+
+    @EqualsExclude
+    String notCompared = "not compared";
+  }
+
+  static class Cyclic extends BaseObject {
+    String name = "cyclic";
+    Object other;
+  }
+}
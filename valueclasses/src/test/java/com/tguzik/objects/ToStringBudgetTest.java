@@ -0,0 +1,24 @@
+package com.tguzik.objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ToStringBudgetTest {
+
+  @Test
+  void ofLength_does_not_limit_depth() {
+    assertThat( ToStringBudget.ofLength( 100 ) ).isEqualTo( new ToStringBudget( 100, Integer.MAX_VALUE ) );
+  }
+
+  @Test
+  void constructor_rejects_negative_length() {
+    assertThatThrownBy( () -> new ToStringBudget( -1, 1 ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+
+  @Test
+  void constructor_rejects_negative_depth() {
+    assertThatThrownBy( () -> new ToStringBudget( 1, -1 ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+}
@@ -0,0 +1,72 @@
+package com.tguzik.objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.junit.jupiter.api.Test;
+
+class ToStringBuffersTest {
+
+  @Test
+  void render_matches_reflection_builder() {
+    final Child child = new Child();
+
+    final String actual = ToStringBuffers.render( child, ToStringStyle.SHORT_PREFIX_STYLE );
+
+    assertThat( actual ).isEqualTo( ReflectionToStringBuilder.toString( child, ToStringStyle.SHORT_PREFIX_STYLE, false, false ) )
+                        .isEqualTo( "ToStringBuffersTest.Child[inner=ToStringBuffersTest.Leaf[name=leaf],values={1,2}," +
+                                    "label=parent]" );
+  }
+
+  @Test
+  void render_supports_nested_rendering_on_the_same_thread() {
+    final Child child = new Child();
+    final String expected = ReflectionToStringBuilder.toString( child, ToStringStyle.SHORT_PREFIX_STYLE, false, false );
+
+    // Leaf#toString() renders through the same thread-local buffer while the outer object is still being rendered
+    assertThat( ToStringBuffers.render( child, ToStringStyle.SHORT_PREFIX_STYLE ) ).isEqualTo( expected );
+    assertThat( ToStringBuffers.render( child, ToStringStyle.SHORT_PREFIX_STYLE ) ).isEqualTo( expected );
+  }
+
+  @Test
+  void render_handles_output_larger_than_retained_buffer() {
+    final Leaf large = new Leaf( "x".repeat( 20_000 ) );
+    final Leaf small = new Leaf( "small" );
+
+    final String renderedLarge = ToStringBuffers.render( large, ToStringStyle.SHORT_PREFIX_STYLE );
+    final String renderedSmall = ToStringBuffers.render( small, ToStringStyle.SHORT_PREFIX_STYLE );
+
+    assertThat( renderedLarge ).hasSize( 20_000 + "ToStringBuffersTest.Leaf[name=]".length() );
+    assertThat( renderedSmall ).isEqualTo( "ToStringBuffersTest.Leaf[name=small]" );
+  }
+
+  @Test
+  void appendTo_appends_after_existing_content() {
+    final StringBuilder target = new StringBuilder( "leaf: " );
+
+    ToStringBuffers.appendTo( target, new Leaf( "leaf" ), ToStringStyle.SHORT_PREFIX_STYLE );
+
+    assertThat( target.toString() ).isEqualTo( "leaf: ToStringBuffersTest.Leaf[name=leaf]" );
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Parent extends BaseObject {
+    final String label = "parent";
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Child extends Parent {
+    final Leaf inner = new Leaf( "leaf" );
+    final int[] values = { 1, 2 };
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Leaf extends BaseObject {
+    final String name;
+
+    Leaf( final String name ) {
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.tguzik.objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serial;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringExclude;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apache.commons.lang3.builder.ToStringSummary;
+import org.junit.jupiter.api.Test;
+
+class ToStringPlanTest {
+  private static final List<ToStringStyle> STYLES = List.of( ToStringStyle.DEFAULT_STYLE,
+                                                             ToStringStyle.SHORT_PREFIX_STYLE,
+                                                             ToStringStyle.MULTI_LINE_STYLE,
+                                                             ToStringStyle.NO_FIELD_NAMES_STYLE,
+                                                             ToStringStyle.NO_CLASS_NAME_STYLE,
+                                                             ToStringStyle.SIMPLE_STYLE,
+                                                             new MultilineStyle() );
+
+  @Test
+  void output_matches_reflection_builder_for_primitive_fields() {
+    assertMatchesReflectionBuilder( new Primitives() );
+  }
+
+  @Test
+  void output_matches_reflection_builder_for_arrays_collections_and_nulls() {
+    final var withNulls = new Containers();
+    withNulls.longs = null;
+    withNulls.names = List.of();
+    withNulls.nested = new Object[] { null, new boolean[] { true }, "x" };
+
+    assertMatchesReflectionBuilder( new Containers() );
+    assertMatchesReflectionBuilder( withNulls );
+  }
+
+  @Test
+  void output_matches_reflection_builder_for_inherited_fields() {
+    assertMatchesReflectionBuilder( new Child() );
+  }
+
+  @Test
+  void output_matches_reflection_builder_for_annotated_fields() {
+    assertMatchesReflectionBuilder( new Annotated() );
+  }
+
+  @Test
+  void output_matches_reflection_builder_for_cyclic_references() {
+    final var cyclic = new Cyclic();
+    cyclic.self = cyclic;
+
+    assertMatchesReflectionBuilder( cyclic );
+  }
+
+  @Test
+  void output_matches_reflection_builder_for_arrays() {
+    assertMatchesReflectionBuilder( new int[] { 1, 2, 3 } );
+    assertMatchesReflectionBuilder( new Object[] { "a", null, new Primitives() } );
+  }
+
+  @Test
+  void plan_is_cached_per_class() {
+    assertThat( ToStringPlan.forClass( Child.class ) ).isSameAs( ToStringPlan.forClass( Child.class ) )
+                                                      .isNotSameAs( ToStringPlan.forClass( Parent.class ) );
+  }
+
+  @SuppressWarnings( "JdkObsolete" )
+  private static void assertMatchesReflectionBuilder( final Object object ) {
+    for ( final ToStringStyle style : STYLES ) {
+      final StringBuffer actual = new StringBuffer();
+
+      ToStringPlan.forClass( object.getClass() ).appendTo( actual, object, style );
+
+      assertThat( actual.toString() ).isEqualTo( ReflectionToStringBuilder.toString( object, style, false, false ) );
+    }
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Primitives {
+    private static final String STATIC_FIELD = "static";
+    int intValue = -42;
+    long longValue = Long.MIN_VALUE;
+    double doubleValue = Double.NaN;
+    float floatValue = -0.0f;
+    boolean booleanValue = true;
+    char charValue = 'c';
+    short shortValue = 7;
+    byte byteValue = -1;
+    transient String transientValue = "transient";
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Containers {
+    long[] longs = { 1L, 2L };
+    Object[] nested = { "a", new int[] { 1 } };
+    List<String> names = List.of( "first", "second" );
+    String missing;
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Parent extends BaseObject {
+    private final String zeta = "parent";
+    protected final int alpha = 1;
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Child extends Parent {
+    private final String zeta = "child";
+    final Primitives primitives = new Primitives();
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Annotated {
+    @ToStringExclude
+    String excluded = "excluded";
+
+    @ToStringSummary
+    int[] summarized = { 1, 2, 3 };
+
+    String included = "included";
+  }
+
+  @SuppressWarnings( "unused" )
+  static class Cyclic {
+    Cyclic self;
+    String name = "cyclic";
+  }
+
+  /**
+   * Same configuration as MultilineNoAddressStyle from the legacy module.
+   */
+  static final class MultilineStyle extends ToStringStyle {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    MultilineStyle() {
+      final String separator = System.lineSeparator();
+
+      this.setContentStart( "[" + separator + "  " );
+      this.setUseShortClassName( true );
+      this.setUseIdentityHashCode( false );
+      this.setFieldSeparator( "," + separator + "  " );
+      this.setFieldSeparatorAtStart( false );
+      this.setContentEnd( separator + "]" );
+    }
+  }
+}
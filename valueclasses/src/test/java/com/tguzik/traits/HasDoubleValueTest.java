@@ -0,0 +1,39 @@
+package com.tguzik.traits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.DoubleSupplier;
+
+import org.junit.jupiter.api.Test;
+
+class HasDoubleValueTest {
+
+  record FakeValue(double value) implements HasDoubleValue {
+    @Override
+    public double getAsDouble() {
+      return value;
+    }
+  }
+
+  @Test
+  void get_returns_boxed_contained_value() {
+    assertThat( new FakeValue( 1.5 ).get() ).isEqualTo( 1.5 );
+    assertThat( new FakeValue( Double.NaN ).get() ).isNaN();
+  }
+
+  @Test
+  void can_be_used_as_double_supplier() {
+    final DoubleSupplier supplier = new FakeValue( -0.25 );
+
+    assertThat( supplier.getAsDouble() ).isEqualTo( -0.25 );
+  }
+
+  @Test
+  void hash64_is_the_hash_of_the_bits_of_the_value() {
+    final double otherNaN = Double.longBitsToDouble( 0x7ff8_0000_0000_0001L );
+
+    assertThat( new FakeValue( 1.5 ).hash64() ).isEqualTo( HasHash64.hashLong( 0L, Double.doubleToLongBits( 1.5 ) ) );
+    assertThat( new FakeValue( Double.NaN ).hash64() ).isEqualTo( new FakeValue( otherNaN ).hash64() );
+    assertThat( new FakeValue( 0.0 ).hash64() ).isNotEqualTo( new FakeValue( -0.0 ).hash64() );
+  }
+}
@@ -0,0 +1,152 @@
+package com.tguzik.traits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.CharBuffer;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class HasHash64Test {
+
+  /**
+   * Expected values were computed with the reference XXH64 implementation over the little-endian bytes of the value.
+   */
+  static Stream<Arguments> longVectors() {
+    return Stream.of( Arguments.of( 0L, 0L, 3803688792395291579L ),
+                      Arguments.of( 0L, 42L, -5379971487550586029L ),
+                      Arguments.of( 123L, -1L, 9062497539133841697L ),
+                      Arguments.of( 0L, Long.MAX_VALUE, -40307683044198644L ),
+                      Arguments.of( -7L, -42L, 8527215051739822879L ) );
+  }
+
+  /**
+   * Expected values were computed with the reference XXH64 implementation over the UTF-16LE bytes of the string. The strings
+   * cover every branch of the algorithm: stripes of 16 characters, lanes of 4, pairs, and a single remaining character.
+   */
+  static Stream<Arguments> charVectors() {
+    return Stream.of( Arguments.of( 0L, "", -1205034819632174695L ),
+                      Arguments.of( 7L, "", -7642500336903896055L ),
+                      Arguments.of( 0L, "a", -1939960532314980458L ),
+                      Arguments.of( 0L, "ab", 3120167476638198242L ),
+                      Arguments.of( 0L, "abc", -5768844340890491087L ),
+                      Arguments.of( 0L, "abcd", -5939341141368757055L ),
+                      Arguments.of( 0L, "Zażółć gęślą jaźń", -50943869649848632L ),
+                      Arguments.of( 0L, "0123456789abcdef", 7318733240692953839L ),
+                      Arguments.of( -1L, "The quick brown fox jumps over the lazy dog", -4865016722002889901L ),
+                      Arguments.of( 42L, "😀 emoji", -4785121237757102489L ) );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "longVectors" )
+  void hashLong_matches_reference_implementation( final long seed, final long value, final long expected ) {
+    assertThat( HasHash64.hashLong( seed, value ) ).isEqualTo( expected );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "charVectors" )
+  void hashChars_matches_reference_implementation( final long seed, final String value, final long expected ) {
+    assertThat( HasHash64.hashChars( seed, value ) ).isEqualTo( expected );
+    assertThat( HasHash64.hashChars( seed, CharBuffer.wrap( value ) ) ).isEqualTo( expected );
+  }
+
+  @Test
+  void hashChars_treats_null_as_empty_sequence() {
+    assertThat( HasHash64.hashChars( 7L, null ) ).isEqualTo( HasHash64.hashChars( 7L, "" ) );
+  }
+
+  @Test
+  void hash64_of_long_and_integer_values_is_the_hash_of_the_number() {
+    assertThat( new LongValue( 42L ).hash64() ).isEqualTo( -5379971487550586029L );
+    assertThat( new IntegerValue( 42 ).hash64() ).isEqualTo( -5379971487550586029L );
+    assertThat( new IntegerValue( -42 ).hash64( -7L ) ).isEqualTo( 8527215051739822879L );
+  }
+
+  @Test
+  void hash64_of_double_values_is_the_hash_of_their_bits() {
+    final double otherNaN = Double.longBitsToDouble( 0x7ff8_0000_0000_0001L );
+
+    assertThat( new DoubleValue( 1.5 ).hash64() ).isEqualTo( HasHash64.hashLong( 0L, Double.doubleToLongBits( 1.5 ) ) );
+    assertThat( new DoubleValue( Double.NaN ).hash64() ).isEqualTo( new DoubleValue( otherNaN ).hash64() );
+    assertThat( new DoubleValue( 0.0 ).hash64() ).isNotEqualTo( new DoubleValue( -0.0 ).hash64() );
+  }
+
+  @Test
+  void hash64_of_string_values_is_the_hash_of_the_characters() {
+    assertThat( new StringValue( "abc" ).hash64() ).isEqualTo( -5768844340890491087L );
+    assertThat( new StringValue( null ).hash64( 7L ) ).isEqualTo( -7642500336903896055L );
+  }
+
+  @Test
+  void hash64_of_enums_is_the_hash_of_the_constant_name() {
+    assertThat( new EnumValue( Constant.SECOND ).hash64() ).isEqualTo( 6815583706631979785L );
+    assertThat( Constant.SECOND.hash64() ).isEqualTo( 6815583706631979785L );
+  }
+
+  @Test
+  void hash64_depends_on_the_seed() {
+    final LongValue value = new LongValue( 42L );
+
+    assertThat( value.hash64( 1L ) ).isNotEqualTo( value.hash64( 2L ) ).isEqualTo( value.hash64( 1L ) );
+  }
+
+  @Test
+  void hash64_rejects_unsupported_value_types() {
+    final UuidValue value = new UuidValue( UUID.randomUUID() );
+
+    assertThatThrownBy( value::hash64 ).isInstanceOf( UnsupportedOperationException.class ).hasMessageContaining( "UUID" );
+  }
+
+  enum Constant implements HasHash64 {
+    FIRST, SECOND
+  }
+
+  record LongValue(Long value) implements HasValue<Long>, HasHash64 {
+    @Override
+    public Long get() {
+      return value;
+    }
+  }
+
+  record IntegerValue(Integer value) implements HasValue<Integer>, HasHash64 {
+    @Override
+    public Integer get() {
+      return value;
+    }
+  }
+
+  record DoubleValue(Double value) implements HasValue<Double>, HasHash64 {
+    @Override
+    public Double get() {
+      return value;
+    }
+  }
+
+  record StringValue(@Nullable String value) implements HasValue<String>, HasHash64 {
+    @Override
+    @Nullable
+    public String get() {
+      return value;
+    }
+  }
+
+  record EnumValue(Constant value) implements HasValue<Constant>, HasHash64 {
+    @Override
+    public Constant get() {
+      return value;
+    }
+  }
+
+  record UuidValue(UUID value) implements HasValue<UUID>, HasHash64 {
+    @Override
+    public UUID get() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.tguzik.traits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.Test;
+
+class HasIntValueTest {
+
+  record FakeValue(int value) implements HasIntValue {
+    @Override
+    public int getAsInt() {
+      return value;
+    }
+  }
+
+  @Test
+  void get_returns_boxed_contained_value() {
+    assertThat( new FakeValue( 42 ).get() ).isEqualTo( 42 );
+    assertThat( new FakeValue( Integer.MIN_VALUE ).get() ).isEqualTo( Integer.MIN_VALUE );
+  }
+
+  @Test
+  void can_be_used_as_int_supplier() {
+    final IntSupplier supplier = new FakeValue( -1 );
+
+    assertThat( supplier.getAsInt() ).isEqualTo( -1 );
+  }
+
+  @Test
+  void hash64_is_the_same_as_for_long_values() {
+    assertThat( new FakeValue( 42 ).hash64() ).isEqualTo( -5379971487550586029L );
+    assertThat( new FakeValue( -42 ).hash64( -7L ) ).isEqualTo( 8527215051739822879L );
+  }
+}
@@ -0,0 +1,43 @@
+package com.tguzik.traits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Test;
+
+class HasLongValueTest {
+
+  record FakeValue(long value) implements HasLongValue {
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+  }
+
+  @Test
+  void get_returns_boxed_contained_value() {
+    assertThat( new FakeValue( 42L ).get() ).isEqualTo( 42L );
+    assertThat( new FakeValue( Long.MIN_VALUE ).get() ).isEqualTo( Long.MIN_VALUE );
+  }
+
+  @Test
+  void can_be_used_as_long_supplier() {
+    final LongSupplier supplier = new FakeValue( -1L );
+
+    assertThat( supplier.getAsLong() ).isEqualTo( -1L );
+  }
+
+  @Test
+  void can_be_implemented_with_lambda() {
+    final HasLongValue value = () -> 7L;
+
+    assertThat( value.get() ).isEqualTo( 7L );
+  }
+
+  @Test
+  void hash64_is_the_hash_of_the_number() {
+    assertThat( new FakeValue( 42L ).hash64() ).isEqualTo( -5379971487550586029L );
+    assertThat( new FakeValue( -42L ).hash64( -7L ) ).isEqualTo( 8527215051739822879L );
+  }
+}
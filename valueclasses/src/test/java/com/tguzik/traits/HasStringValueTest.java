@@ -1,10 +1,13 @@
 package com.tguzik.traits;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.CharBuffer;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -83,4 +86,67 @@ class HasStringValueTest {
 
     assertThat( actual ).isFalse();
   }
+
+  @ParameterizedTest
+  @MethodSource( { "emptyStrings", "blankNonEmptyStrings", "nonBlankStrings" } )
+  void hash64_returns_the_hash_of_the_contained_string( @Nullable final String value ) {
+    final var instance = new FakeValue( value );
+
+    assertThat( instance.hash64() ).isEqualTo( HasHash64.hashChars( HasHash64.DEFAULT_SEED, value ) );
+    assertThat( instance.hash64( 42L ) ).isEqualTo( HasHash64.hashChars( 42L, value ) );
+  }
+
+  @Test
+  void charAt_returns_characters_of_the_contained_string() {
+    final var instance = new FakeValue( "abc" );
+
+    assertThat( instance.charAt( 0 ) ).isEqualTo( 'a' );
+    assertThat( instance.charAt( 2 ) ).isEqualTo( 'c' );
+    assertThatThrownBy( () -> instance.charAt( 3 ) ).isInstanceOf( IndexOutOfBoundsException.class );
+    assertThatThrownBy( () -> new FakeValue( null ).charAt( 0 ) ).isInstanceOf( IndexOutOfBoundsException.class );
+  }
+
+  @Test
+  void subSequence_returns_range_of_the_contained_string() {
+    assertThat( new FakeValue( "abcd" ).subSequence( 1, 3 ) ).hasToString( "bc" );
+    assertThat( new FakeValue( null ).subSequence( 0, 0 ) ).isEmpty();
+    assertThatThrownBy( () -> new FakeValue( null ).subSequence( 0, 1 ) ).isInstanceOf( IndexOutOfBoundsException.class );
+  }
+
+  @Test
+  void startsWith_treats_null_as_empty_string() {
+    assertThat( new FakeValue( "PL-123" ).startsWith( "PL-" ) ).isTrue();
+    assertThat( new FakeValue( "PL-123" ).startsWith( "DE-" ) ).isFalse();
+    assertThat( new FakeValue( null ).startsWith( "" ) ).isTrue();
+    assertThat( new FakeValue( null ).startsWith( "PL" ) ).isFalse();
+  }
+
+  @Test
+  void regionMatches_compares_regions_of_the_contained_string() {
+    final var instance = new FakeValue( "order-ABC" );
+
+    assertThat( instance.regionMatches( 6, "xABC", 1, 3 ) ).isTrue();
+    assertThat( instance.regionMatches( 6, "abc", 0, 3 ) ).isFalse();
+    assertThat( instance.regionMatches( true, 6, "abc", 0, 3 ) ).isTrue();
+    assertThat( new FakeValue( null ).regionMatches( 0, "abc", 0, 0 ) ).isTrue();
+    assertThat( new FakeValue( null ).regionMatches( true, 0, "abc", 0, 1 ) ).isFalse();
+  }
+
+  @Test
+  void contentEquals_compares_characters_and_nulls() {
+    assertThat( new FakeValue( "abc" ).contentEquals( CharBuffer.wrap( "abc" ) ) ).isTrue();
+    assertThat( new FakeValue( "abc" ).contentEquals( "abd" ) ).isFalse();
+    assertThat( new FakeValue( "abc" ).contentEquals( null ) ).isFalse();
+    assertThat( new FakeValue( null ).contentEquals( null ) ).isTrue();
+    assertThat( new FakeValue( null ).contentEquals( "" ) ).isFalse();
+  }
+
+  @Test
+  void equalsIgnoreCase_compares_strings_and_nulls() {
+    assertThat( new FakeValue( "abc" ).equalsIgnoreCase( "ABC" ) ).isTrue();
+    assertThat( new FakeValue( "abc" ).equalsIgnoreCase( "abd" ) ).isFalse();
+    assertThat( new FakeValue( "abc" ).equalsIgnoreCase( null ) ).isFalse();
+    assertThat( new FakeValue( null ).equalsIgnoreCase( null ) ).isTrue();
+    assertThat( new FakeValue( null ).equalsIgnoreCase( "" ) ).isFalse();
+  }
 }
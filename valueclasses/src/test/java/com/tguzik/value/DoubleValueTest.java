@@ -0,0 +1,85 @@
+package com.tguzik.value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.google.common.testing.EqualsTester;
+import org.junit.jupiter.api.Test;
+
+class DoubleValueTest {
+  private static final double OTHER_NAN = Double.longBitsToDouble( 0x7ff8_0000_0000_0001L );
+
+  @Test
+  void getAsDouble_returns_contained_value() {
+    assertThat( new FakeDoubleValue( -0.25 ).getAsDouble() ).isEqualTo( -0.25 );
+    assertThat( new FakeDoubleValue( 1.5 ).get() ).isEqualTo( 1.5 );
+  }
+
+  @Test
+  void toString_returns_the_number() {
+    assertThat( new FakeDoubleValue( -1.5 ) ).hasToString( "-1.5" );
+    assertThat( new FakeDoubleValue( Double.NaN ) ).hasToString( "NaN" );
+  }
+
+  @Test
+  void equals_considers_only_values_of_the_same_class() {
+    new EqualsTester().addEqualityGroup( new FakeDoubleValue( 1.5 ), new FakeDoubleValue( 1.5 ) )
+                      .addEqualityGroup( new FakeDoubleValue( -1.5 ) )
+                      .addEqualityGroup( new ChildOfFakeDoubleValue( 1.5 ), new ChildOfFakeDoubleValue( 1.5 ) )
+                      .addEqualityGroup( new SiblingOfFakeDoubleValue( 1.5 ) )
+                      .testEquals();
+  }
+
+  @Test
+  void equals_and_hashCode_compare_bits_of_the_values() {
+    new EqualsTester().addEqualityGroup( new FakeDoubleValue( Double.NaN ), new FakeDoubleValue( OTHER_NAN ) )
+                      .addEqualityGroup( new FakeDoubleValue( 0.0 ) )
+                      .addEqualityGroup( new FakeDoubleValue( -0.0 ) )
+                      .testEquals();
+  }
+
+  @Test
+  void hashCode_is_the_same_as_for_boxed_value() {
+    assertThat( new FakeDoubleValue( -1.5 ).hashCode() ).isEqualTo( Double.valueOf( -1.5 ).hashCode() );
+  }
+
+  @Test
+  void compareTo_is_consistent_with_equals() {
+    final List<FakeDoubleValue> sorted = Stream.of( Double.NaN, 1.5, 0.0, Double.NEGATIVE_INFINITY, -0.0 )
+                                               .map( FakeDoubleValue::new )
+                                               .sorted()
+                                               .toList();
+
+    assertThat( sorted ).extracting( DoubleValue::getAsDouble )
+                        .containsExactly( Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.5, Double.NaN );
+    assertThat( new FakeDoubleValue( Double.NaN ).compareTo( new FakeDoubleValue( OTHER_NAN ) ) ).isZero();
+  }
+
+  @Test
+  void compareTo_throws_on_null() {
+    final var value = new FakeDoubleValue( 1.0 );
+
+    assertThrows( NullPointerException.class, () -> value.compareTo( null ) );
+  }
+
+  static class FakeDoubleValue extends DoubleValue {
+    FakeDoubleValue( final double value ) {
+      super( value );
+    }
+  }
+
+  static class ChildOfFakeDoubleValue extends FakeDoubleValue {
+    ChildOfFakeDoubleValue( final double value ) {
+      super( value );
+    }
+  }
+
+  static class SiblingOfFakeDoubleValue extends DoubleValue {
+    SiblingOfFakeDoubleValue( final double value ) {
+      super( value );
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package com.tguzik.value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tguzik.traits.HasIntValue;
+import com.tguzik.traits.HasLongValue;
+import com.tguzik.traits.HasStringValue;
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class EnumValueIndexTest {
+
+  @Test
+  void index_is_built_once_per_enum() {
+    assertThat( EnumValueIndex.forEnum( Currency.class ) ).isSameAs( EnumValueIndex.forEnum( Currency.class ) );
+    assertThat( EnumValueIndex.forEnum( Currency.class ).getType() ).isEqualTo( Currency.class );
+  }
+
+  @Test
+  void finds_constants_by_strings() {
+    final EnumValueIndex<Currency, String> index = EnumValueIndex.forEnum( Currency.class );
+
+    assertThat( index.get( "EUR" ) ).isEqualTo( Currency.EURO );
+    assertThat( index.get( String.valueOf( new char[] { 'P', 'L', 'N' } ) ) ).isEqualTo( Currency.ZLOTY );
+    assertThat( index.find( "USD" ) ).contains( Currency.DOLLAR );
+    assertThat( index.find( "eur" ) ).isEmpty();
+    assertThat( index.get( null ) ).isNull();
+    assertThat( index.getByLong( 1L ) ).isNull();
+  }
+
+  @Test
+  void finds_constants_by_small_numbers() {
+    final EnumValueIndex<Status, Integer> index = EnumValueIndex.forEnum( Status.class );
+
+    assertThat( index.get( 200 ) ).isEqualTo( Status.OK );
+    assertThat( index.get( 404 ) ).isEqualTo( Status.NOT_FOUND );
+    assertThat( index.getByLong( 201L ) ).isEqualTo( Status.CREATED );
+    assertThat( index.get( 200L ) ).isNull();
+    assertThat( index.get( 199 ) ).isNull();
+    assertThat( index.getByLong( 405L ) ).isNull();
+    assertThat( index.getByLong( Long.MIN_VALUE ) ).isNull();
+    assertThat( index.getByLong( Long.MAX_VALUE ) ).isNull();
+  }
+
+  @Test
+  void finds_constants_by_sparse_numbers() {
+    final EnumValueIndex<Limit, Long> index = EnumValueIndex.forEnum( Limit.class );
+
+    assertThat( index.get( Long.MIN_VALUE ) ).isEqualTo( Limit.LOWEST );
+    assertThat( index.getByLong( 0L ) ).isEqualTo( Limit.ZERO );
+    assertThat( index.getByLong( Long.MAX_VALUE ) ).isEqualTo( Limit.HIGHEST );
+    assertThat( index.find( 1_000_000_000_000L ) ).contains( Limit.TRILLION );
+    assertThat( index.getByLong( 1L ) ).isNull();
+    assertThat( index.get( 0 ) ).isNull();
+  }
+
+  @Test
+  void finds_constant_holding_null() {
+    final EnumValueIndex<Size, @Nullable String> index = EnumValueIndex.forEnum( Size.class );
+
+    assertThat( index.get( null ) ).isEqualTo( Size.UNKNOWN );
+    assertThat( index.get( "S" ) ).isEqualTo( Size.SMALL );
+  }
+
+  @Test
+  void finds_nothing_in_empty_enums() {
+    final EnumValueIndex<Empty, Long> index = EnumValueIndex.forEnum( Empty.class );
+
+    assertThat( index.getByLong( 0L ) ).isNull();
+    assertThat( index.get( 0L ) ).isNull();
+  }
+
+  @Test
+  void rejects_constants_holding_equal_values() {
+    assertThatThrownBy( () -> EnumValueIndex.forEnum( Duplicated.class ) ).isInstanceOf( IllegalArgumentException.class )
+                                                                          .hasMessageContaining( "FIRST" )
+                                                                          .hasMessageContaining( "SECOND" );
+    assertThatThrownBy( () -> EnumValueIndex.forEnum( null ) ).isInstanceOf( NullPointerException.class );
+  }
+
+  enum Currency implements HasStringValue {
+    EURO( "EUR" ),
+    ZLOTY( "PLN" ),
+    DOLLAR( "USD" );
+
+    private final String value;
+
+    Currency( final String value ) {
+      this.value = value;
+    }
+
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+
+  enum Status implements HasIntValue {
+    OK( 200 ),
+    CREATED( 201 ),
+    NOT_FOUND( 404 );
+
+    private final int value;
+
+    Status( final int value ) {
+      this.value = value;
+    }
+
+    @Override
+    public int getAsInt() {
+      return value;
+    }
+  }
+
+  enum Limit implements HasLongValue {
+    LOWEST( Long.MIN_VALUE ),
+    ZERO( 0L ),
+    TRILLION( 1_000_000_000_000L ),
+    HIGHEST( Long.MAX_VALUE );
+
+    private final long value;
+
+    Limit( final long value ) {
+      this.value = value;
+    }
+
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+  }
+
+  enum Size implements HasValue<@Nullable String> {
+    UNKNOWN( null ),
+    SMALL( "S" );
+
+    private final @Nullable String value;
+
+    Size( @Nullable final String value ) {
+      this.value = value;
+    }
+
+    @Override
+    public @Nullable String get() {
+      return value;
+    }
+  }
+
+  enum Empty implements HasLongValue {
+    ;
+
+    @Override
+    public long getAsLong() {
+      return 0L;
+    }
+  }
+
+  enum Duplicated implements HasLongValue {
+    FIRST,
+    SECOND;
+
+    @Override
+    public long getAsLong() {
+      return 7L;
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.tguzik.value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.google.common.testing.EqualsTester;
+import org.junit.jupiter.api.Test;
+
+class IntValueTest {
+
+  @Test
+  void getAsInt_returns_contained_value() {
+    assertThat( new FakeIntValue( Integer.MIN_VALUE ).getAsInt() ).isEqualTo( Integer.MIN_VALUE );
+    assertThat( new FakeIntValue( 42 ).get() ).isEqualTo( 42 );
+  }
+
+  @Test
+  void toString_returns_the_number() {
+    assertThat( new FakeIntValue( -42 ) ).hasToString( "-42" );
+  }
+
+  @Test
+  void equals_considers_only_values_of_the_same_class() {
+    new EqualsTester().addEqualityGroup( new FakeIntValue( 42 ), new FakeIntValue( 42 ) )
+                      .addEqualityGroup( new FakeIntValue( -42 ) )
+                      .addEqualityGroup( new ChildOfFakeIntValue( 42 ), new ChildOfFakeIntValue( 42 ) )
+                      .addEqualityGroup( new SiblingOfFakeIntValue( 42 ) )
+                      .testEquals();
+  }
+
+  @Test
+  void hashCode_is_the_same_as_for_boxed_value() {
+    assertThat( new FakeIntValue( Integer.MIN_VALUE ).hashCode() ).isEqualTo( Integer.valueOf( Integer.MIN_VALUE ).hashCode() );
+  }
+
+  @Test
+  void compareTo_orders_by_contained_value() {
+    final List<FakeIntValue> sorted = Stream.of( 3, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -3 )
+                                            .map( FakeIntValue::new )
+                                            .sorted()
+                                            .toList();
+
+    assertThat( sorted ).extracting( IntValue::getAsInt ).containsExactly( Integer.MIN_VALUE, -3, 0, 3, Integer.MAX_VALUE );
+    assertThat( new FakeIntValue( 1 ).compareTo( new FakeIntValue( 1 ) ) ).isZero();
+  }
+
+  @Test
+  void compareTo_throws_on_null() {
+    final var value = new FakeIntValue( 1 );
+
+    assertThrows( NullPointerException.class, () -> value.compareTo( null ) );
+  }
+
+  static class FakeIntValue extends IntValue {
+    FakeIntValue( final int value ) {
+      super( value );
+    }
+  }
+
+  static class ChildOfFakeIntValue extends FakeIntValue {
+    ChildOfFakeIntValue( final int value ) {
+      super( value );
+    }
+  }
+
+  static class SiblingOfFakeIntValue extends IntValue {
+    SiblingOfFakeIntValue( final int value ) {
+      super( value );
+    }
+  }
+}
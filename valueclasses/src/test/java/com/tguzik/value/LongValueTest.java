@@ -0,0 +1,74 @@
+package com.tguzik.value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.google.common.testing.EqualsTester;
+import org.junit.jupiter.api.Test;
+
+class LongValueTest {
+
+  @Test
+  void getAsLong_returns_contained_value() {
+    assertThat( new FakeLongValue( Long.MIN_VALUE ).getAsLong() ).isEqualTo( Long.MIN_VALUE );
+    assertThat( new FakeLongValue( 42L ).get() ).isEqualTo( 42L );
+  }
+
+  @Test
+  void toString_returns_the_number() {
+    assertThat( new FakeLongValue( -42L ) ).hasToString( "-42" );
+  }
+
+  @Test
+  void equals_considers_only_values_of_the_same_class() {
+    new EqualsTester().addEqualityGroup( new FakeLongValue( 42L ), new FakeLongValue( 42L ) )
+                      .addEqualityGroup( new FakeLongValue( -42L ) )
+                      .addEqualityGroup( new ChildOfFakeLongValue( 42L ), new ChildOfFakeLongValue( 42L ) )
+                      .addEqualityGroup( new SiblingOfFakeLongValue( 42L ) )
+                      .testEquals();
+  }
+
+  @Test
+  void hashCode_is_the_same_as_for_boxed_value() {
+    assertThat( new FakeLongValue( Long.MIN_VALUE ).hashCode() ).isEqualTo( Long.valueOf( Long.MIN_VALUE ).hashCode() );
+  }
+
+  @Test
+  void compareTo_orders_by_contained_value() {
+    final List<FakeLongValue> sorted = Stream.of( 3L, Long.MIN_VALUE, 0L, Long.MAX_VALUE, -3L )
+                                             .map( FakeLongValue::new )
+                                             .sorted()
+                                             .toList();
+
+    assertThat( sorted ).extracting( LongValue::getAsLong ).containsExactly( Long.MIN_VALUE, -3L, 0L, 3L, Long.MAX_VALUE );
+    assertThat( new FakeLongValue( 1L ).compareTo( new FakeLongValue( 1L ) ) ).isZero();
+  }
+
+  @Test
+  void compareTo_throws_on_null() {
+    final var value = new FakeLongValue( 1L );
+
+    assertThrows( NullPointerException.class, () -> value.compareTo( null ) );
+  }
+
+  static class FakeLongValue extends LongValue {
+    FakeLongValue( final long value ) {
+      super( value );
+    }
+  }
+
+  static class ChildOfFakeLongValue extends FakeLongValue {
+    ChildOfFakeLongValue( final long value ) {
+      super( value );
+    }
+  }
+
+  static class SiblingOfFakeLongValue extends LongValue {
+    SiblingOfFakeLongValue( final long value ) {
+      super( value );
+    }
+  }
+}
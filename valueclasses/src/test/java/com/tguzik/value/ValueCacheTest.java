@@ -0,0 +1,91 @@
+package com.tguzik.value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tguzik.traits.HasValue;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class ValueCacheTest {
+  private static final NullableShard NULL_SHARD = new NullableShard( null );
+
+  @Test
+  void valueOf_returns_the_same_instance_for_values_within_range() {
+    final ValueCache<ShardNumber> cache = ValueCache.forRange( -1, 255, ShardNumber::new );
+
+    assertThat( cache.valueOf( 42 ) ).isSameAs( cache.valueOf( 42L ) )
+                                     .isSameAs( cache.valueOf( Integer.valueOf( 42 ) ) )
+                                     .isEqualTo( new ShardNumber( 42 ) );
+    assertThat( cache.valueOf( -1 ) ).isSameAs( cache.valueOf( -1 ) ).isEqualTo( new ShardNumber( -1 ) );
+    assertThat( cache.valueOf( 255 ) ).isSameAs( cache.valueOf( 255 ) ).isEqualTo( new ShardNumber( 255 ) );
+  }
+
+  @Test
+  void valueOf_creates_new_instances_for_values_outside_of_range() {
+    final ValueCache<ShardNumber> cache = ValueCache.forRange( 0, 255, ShardNumber::new );
+
+    assertThat( cache.valueOf( 256 ) ).isNotSameAs( cache.valueOf( 256 ) ).isEqualTo( new ShardNumber( 256 ) );
+    assertThat( cache.valueOf( -1 ) ).isNotSameAs( cache.valueOf( -1 ) ).isEqualTo( new ShardNumber( -1 ) );
+    assertThat( cache.valueOf( Long.MIN_VALUE ) ).isEqualTo( new ShardNumber( Long.MIN_VALUE ) );
+    assertThat( cache.isCached( 255 ) ).isTrue();
+    assertThat( cache.isCached( 256 ) ).isFalse();
+  }
+
+  @Test
+  void instances_within_range_are_created_up_front() {
+    final AtomicInteger created = new AtomicInteger();
+    final ValueCache<ShardNumber> cache = ValueCache.forRange( 10, 19, value -> {
+      created.incrementAndGet();
+      return new ShardNumber( value );
+    } );
+
+    assertThat( created ).hasValue( 10 );
+    cache.valueOf( 15 );
+    assertThat( created ).hasValue( 10 );
+  }
+
+  @Test
+  void valueOf_returns_null_instance_for_null_values() {
+    final ValueCache<NullableShard> cache = ValueCache.forRange( 0, 15, NullableShard::new, NULL_SHARD );
+
+    assertThat( cache.valueOf( (Long) null ) ).isSameAs( NULL_SHARD );
+    assertThat( cache.valueOf( (Integer) null ) ).isSameAs( NULL_SHARD );
+    assertThat( cache.getNullInstance() ).isSameAs( NULL_SHARD );
+    assertThat( cache.valueOf( Long.valueOf( 3L ) ) ).isSameAs( cache.valueOf( 3 ) );
+  }
+
+  @Test
+  void valueOf_rejects_null_values_without_null_instance() {
+    final ValueCache<ShardNumber> cache = ValueCache.forRange( 0, 15, ShardNumber::new );
+
+    assertThatThrownBy( () -> cache.valueOf( (Long) null ) ).isInstanceOf( NullPointerException.class );
+    assertThatThrownBy( cache::getNullInstance ).isInstanceOf( NullPointerException.class );
+  }
+
+  @Test
+  void range_has_to_be_non_empty_and_small() {
+    assertThatThrownBy( () -> ValueCache.forRange( 1, 0, ShardNumber::new ) ).isInstanceOf( IllegalArgumentException.class );
+    assertThatThrownBy( () -> ValueCache.forRange( 0, ValueCache.MAX_SIZE, ShardNumber::new ) ).isInstanceOf(
+      IllegalArgumentException.class );
+    assertThatThrownBy( () -> ValueCache.forRange( Long.MIN_VALUE, Long.MAX_VALUE, ShardNumber::new ) ).isInstanceOf(
+      IllegalArgumentException.class );
+    assertThat( ValueCache.forRange( 1, ValueCache.MAX_SIZE, ShardNumber::new ).isCached( ValueCache.MAX_SIZE ) ).isTrue();
+  }
+
+  static class ShardNumber extends LongValue {
+    ShardNumber( final long value ) {
+      super( value );
+    }
+  }
+
+  record NullableShard(@Nullable Long value) implements HasValue<Long> {
+    @Override
+    @Nullable
+    public Long get() {
+      return value;
+    }
+  }
+}
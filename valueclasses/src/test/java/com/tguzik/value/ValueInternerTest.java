@@ -0,0 +1,155 @@
+package com.tguzik.value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.tguzik.traits.HasStringValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ValueInternerTest {
+
+  static Stream<ValueInterner<Object>> interners() {
+    return Stream.of( ValueInterner.weak(), ValueInterner.bounded( 100 ) );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "interners" )
+  void intern_returns_first_interned_instance_for_equal_values( final ValueInterner<Object> interner ) {
+    final CountryCode first = new CountryCode( "PL" );
+    final CountryCode second = new CountryCode( "PL" );
+
+    assertThat( interner.intern( first ) ).isSameAs( first );
+    assertThat( interner.intern( second ) ).isSameAs( first );
+    assertThat( interner.intern( first ) ).isSameAs( first );
+    assertThat( interner.size() ).isEqualTo( 1 );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "interners" )
+  void intern_keeps_values_of_different_types_apart( final ValueInterner<Object> interner ) {
+    final CountryCode countryCode = new CountryCode( "PL" );
+    final TenantId tenantId = new TenantId( "PL" );
+    final RecordCode recordCode = new RecordCode( "PL" );
+
+    assertThat( interner.intern( countryCode ) ).isSameAs( countryCode );
+    assertThat( interner.intern( tenantId ) ).isSameAs( tenantId );
+    assertThat( interner.intern( recordCode ) ).isSameAs( recordCode );
+    assertThat( interner.intern( new RecordCode( "PL" ) ) ).isSameAs( recordCode );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "interners" )
+  void stats_count_hits_and_misses( final ValueInterner<Object> interner ) {
+    interner.intern( new CountryCode( "PL" ) );
+    interner.intern( new CountryCode( "PL" ) );
+    interner.intern( new CountryCode( "PL" ) );
+    interner.intern( new CountryCode( "DE" ) );
+
+    final ValueInterner.Stats stats = interner.stats();
+    assertThat( stats.hitCount() ).isEqualTo( 2 );
+    assertThat( stats.missCount() ).isEqualTo( 2 );
+    assertThat( stats.evictionCount() ).isZero();
+    assertThat( stats.hitRate() ).isEqualTo( 0.5 );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "interners" )
+  void intern_rejects_null( final ValueInterner<Object> interner ) {
+    assertThatThrownBy( () -> interner.intern( null ) ).isInstanceOf( NullPointerException.class );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "interners" )
+  void concurrent_callers_receive_the_same_canonical_instance( final ValueInterner<Object> interner ) throws Exception {
+    final int threads = 8;
+    final CountDownLatch start = new CountDownLatch( 1 );
+    final ExecutorService executor = Executors.newFixedThreadPool( threads );
+    try {
+      final List<Future<List<Object>>> results = new ArrayList<>();
+      for ( int i = 0; i < threads; i++ ) {
+        results.add( executor.submit( () -> {
+          start.await();
+          return IntStream.range( 0, 50 ).mapToObj( n -> interner.intern( new CountryCode( "C" + n ) ) ).toList();
+        } ) );
+      }
+      start.countDown();
+
+      final List<Object> expected = results.get( 0 ).get();
+      for ( final Future<List<Object>> result : results ) {
+        final List<Object> actual = result.get();
+        for ( int n = 0; n < expected.size(); n++ ) {
+          assertThat( actual.get( n ) ).isSameAs( expected.get( n ) );
+        }
+      }
+      assertThat( interner.stats().missCount() ).isEqualTo( 50 );
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void bounded_interner_evicts_least_recently_used_value() {
+    final ValueInterner<CountryCode> interner = ValueInterner.bounded( 2 );
+    final CountryCode poland = interner.intern( new CountryCode( "PL" ) );
+    final CountryCode germany = interner.intern( new CountryCode( "DE" ) );
+
+    interner.intern( new CountryCode( "PL" ) );
+    interner.intern( new CountryCode( "FR" ) );
+
+    assertThat( interner.size() ).isEqualTo( 2 );
+    assertThat( interner.stats().evictionCount() ).isEqualTo( 1 );
+    assertThat( interner.intern( new CountryCode( "PL" ) ) ).isSameAs( poland );
+    assertThat( interner.intern( new CountryCode( "DE" ) ) ).isNotSameAs( germany );
+  }
+
+  @Test
+  void bounded_interner_never_exceeds_maximum_size() {
+    final ValueInterner<CountryCode> interner = ValueInterner.bounded( 100 );
+
+    IntStream.range( 0, 1000 ).forEach( n -> interner.intern( new CountryCode( "C" + n ) ) );
+
+    assertThat( interner.size() ).isLessThanOrEqualTo( 100 );
+    assertThat( interner.stats().evictionCount() ).isEqualTo( 1000 - interner.size() );
+  }
+
+  @Test
+  void bounded_interner_requires_positive_size() {
+    assertThatThrownBy( () -> ValueInterner.bounded( 0 ) ).isInstanceOf( IllegalArgumentException.class );
+  }
+
+  @Test
+  void hitRate_is_zero_for_unused_interner() {
+    assertThat( ValueInterner.weak().stats().hitRate() ).isZero();
+  }
+
+  static class CountryCode extends StringValue {
+    CountryCode( final String value ) {
+      super( value );
+    }
+  }
+
+  static class TenantId extends StringValue {
+    TenantId( final String value ) {
+      super( value );
+    }
+  }
+
+  record RecordCode(String value) implements HasStringValue {
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+}
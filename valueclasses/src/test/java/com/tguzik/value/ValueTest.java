@@ -128,6 +128,57 @@ class ValueTest {
     assertThat( value.hashCode() ).isNotEqualTo( differentValue.hashCode() );
   }
 
+  @Test
+  void hashCode_is_computed_once_for_immutable_classes() {
+    final CountingHashCode counter = new CountingHashCode( 123 );
+    final Value<?> immutable = new ImmutableFakeValue( counter );
+
+    assertThat( immutable.hashCode() ).isEqualTo( 123 );
+    assertThat( immutable.hashCode() ).isEqualTo( 123 );
+    assertThat( counter.calls ).isEqualTo( 1 );
+  }
+
+  @Test
+  void hashCode_is_computed_once_for_immutable_classes_with_zero_hash() {
+    final CountingHashCode counter = new CountingHashCode( 0 );
+    final Value<?> immutable = new ImmutableFakeValue( counter );
+
+    assertThat( immutable.hashCode() ).isZero();
+    assertThat( immutable.hashCode() ).isZero();
+    assertThat( counter.calls ).isEqualTo( 1 );
+  }
+
+  @Test
+  void hashCode_is_computed_on_every_call_for_other_classes() {
+    final CountingHashCode counter = new CountingHashCode( 123 );
+    final Value<?> regular = new FakeValue( counter );
+
+    assertThat( regular.hashCode() ).isEqualTo( 123 );
+    assertThat( regular.hashCode() ).isEqualTo( 123 );
+    assertThat( counter.calls ).isEqualTo( 2 );
+  }
+
+  static class CountingHashCode {
+    private final int hashCode;
+    int calls;
+
+    CountingHashCode( final int hashCode ) {
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public int hashCode() {
+      calls++;
+      return hashCode;
+    }
+  }
+
+  static class ImmutableFakeValue extends ImmutableValue<Object> {
+    public ImmutableFakeValue( Object obj ) {
+      super( obj );
+    }
+  }
+
   static class FakeValue extends Value<Object> {
     public FakeValue( Object obj ) {
       super( obj );
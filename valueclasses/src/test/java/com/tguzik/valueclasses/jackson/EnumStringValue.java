@@ -6,6 +6,7 @@ import java.util.Optional;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.tguzik.traits.HasStringValue;
+import com.tguzik.value.EnumValueIndex;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -30,12 +31,7 @@ enum EnumStringValue implements HasStringValue {
 
   public static Optional<EnumStringValue> fromString( @Nullable final String input ) {
     final String trimmed = StringUtils.trimToEmpty( input ).toUpperCase( Locale.ROOT );
-    for ( final EnumStringValue entry : values() ) {
-      if ( entry.value.equals( trimmed ) ) {
-        return Optional.of( entry );
-      }
-    }
-    return Optional.empty();
+    return EnumValueIndex.forEnum( EnumStringValue.class ).find( trimmed );
   }
 
   @Nullable
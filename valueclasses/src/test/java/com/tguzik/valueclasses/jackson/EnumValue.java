@@ -5,6 +5,7 @@ import java.util.Optional;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.tguzik.traits.HasValue;
+import com.tguzik.value.EnumValueIndex;
 import org.jspecify.annotations.Nullable;
 
 enum EnumValue implements HasValue<Long> {
@@ -25,12 +26,7 @@ enum EnumValue implements HasValue<Long> {
   }
 
   public static Optional<EnumValue> fromLong( final long input ) {
-    for ( final var entry : values() ) {
-      if ( entry.value == input ) {
-        return Optional.of( entry );
-      }
-    }
-    return Optional.empty();
+    return Optional.ofNullable( EnumValueIndex.forEnum( EnumValue.class ).getByLong( input ) );
   }
 
   @Nullable